@@ -14,6 +14,7 @@ package com.fortify.cli.app;
 
 import com.fortify.cli.app.runner.DefaultFortifyCLIRunner;
 import com.fortify.cli.common.util.ConsoleHelper;
+import com.fortify.cli.util.daemon.helper.DaemonHelper;
 
 /**
  * <p>This class provides the {@link #main(String[])} entrypoint into the application,
@@ -32,6 +33,12 @@ public class FortifyCLI {
     }
 
     private static final int execute(String[] args) {
+        // If an fcli daemon is configured and running, have it execute
+        // the command, to avoid fcli initialization overhead.
+        var daemonExitCode = DaemonHelper.forward(args);
+        if ( daemonExitCode!=null ) {
+            return daemonExitCode;
+        }
         try {
             ConsoleHelper.installAnsiConsole();
             return DefaultFortifyCLIRunner.run(args);
@@ -12,11 +12,7 @@
  */
 package com.fortify.cli.app._main.cli.cmd;
 
-import com.fortify.cli.app.FortifyCLIVersionProvider;
 import com.fortify.cli.aviator._main.cli.cmd.AviatorCommands;
-import com.fortify.cli.common.cli.cmd.AbstractContainerCommand;
-import com.fortify.cli.common.util.DisableTest;
-import com.fortify.cli.common.util.DisableTest.TestType;
 import com.fortify.cli.config._main.cli.cmd.ConfigCommands;
 import com.fortify.cli.fod._main.cli.cmd.FoDCommands;
 import com.fortify.cli.generic_action._main.cli.cmd.GenericActionCommands;
@@ -28,22 +24,19 @@ import com.fortify.cli.tool._main.cli.cmd.ToolCommands;
 import com.fortify.cli.util._main.cli.cmd.UtilCommands;
 
 import picocli.CommandLine.Command;
-import picocli.CommandLine.Option;
-import picocli.CommandLine.ScopeType;
 
 /**
- * This is the root command for the fcli application, defining common properties
- * like help options mixin and help footer that will be inherited by all
- * sub-commands. Other than that, it also includes the {@link LoggingMixin}
- * to avoid picocli from complaining about not recognizing those options.
- * Actual logging setup will already have been completed before this command
- * is even loaded, so the logging options themselves are not being processed here. 
+ * This is the root command for the fcli application, registering all fcli module
+ * commands. Common properties like help options mixin and help footer that will
+ * be inherited by all sub-commands are defined in {@link FCLIRootCommandsBase}.
+ * Other than that, it also includes the {@link LoggingMixin} to avoid picocli 
+ * from complaining about not recognizing those options. Actual logging setup 
+ * will already have been completed before this command is even loaded, so the 
+ * logging options themselves are not being processed here. 
  * 
  * @author Ruud Senden
  */
-@Command(name = "fcli", 
-    resourceBundle = "com.fortify.cli.common.i18n.FortifyCLIMessages",
-    versionProvider = FortifyCLIVersionProvider.class,
+@Command(
     subcommands = {
             GenericActionCommands.class,
             AviatorCommands.class,
@@ -57,9 +50,11 @@ import picocli.CommandLine.ScopeType;
             UtilCommands.class
     }
 )
-public class FCLIRootCommands extends AbstractContainerCommand {    
-    // We only want to have the --version option on the top-level fcli command,
-    @Option(names = {"-V", "--version"}, versionHelp = true, scope = ScopeType.LOCAL, order = -1002)
-    @DisableTest(TestType.OPT_SHORT_NAME)
-    boolean versionInfoRequested;
-}
+public class FCLIRootCommands extends FCLIRootCommandsBase {
+    /**
+     * @return Module command classes as declared in the {@link Command} annotation on this class
+     */
+    public static final Class<?>[] getModuleCommandClasses() {
+        return FCLIRootCommands.class.getAnnotation(Command.class).subcommands();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.app._main.cli.cmd;
+
+import com.fortify.cli.app.FortifyCLIVersionProvider;
+import com.fortify.cli.common.cli.cmd.AbstractContainerCommand;
+import com.fortify.cli.common.util.DisableTest;
+import com.fortify.cli.common.util.DisableTest.TestType;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ScopeType;
+
+/**
+ * This class defines the fcli root command properties, but doesn't register any
+ * module subcommands. It's used by {@link FCLIRootCommands} to define the full 
+ * fcli command tree, and by {@link com.fortify.cli.app.runner.DefaultFortifyCLIRunner}
+ * to create a root command for which the module subcommands are registered lazily, 
+ * avoiding picocli from instantiating all module commands on every fcli invocation.
+ * 
+ * @author Ruud Senden
+ */
+@Command(name = "fcli", 
+    resourceBundle = "com.fortify.cli.common.i18n.FortifyCLIMessages",
+    versionProvider = FortifyCLIVersionProvider.class
+)
+public class FCLIRootCommandsBase extends AbstractContainerCommand {    
+    // We only want to have the --version option on the top-level fcli command,
+    @Option(names = {"-V", "--version"}, versionHelp = true, scope = ScopeType.LOCAL, order = -1002)
+    @DisableTest(TestType.OPT_SHORT_NAME)
+    boolean versionInfoRequested;
+}
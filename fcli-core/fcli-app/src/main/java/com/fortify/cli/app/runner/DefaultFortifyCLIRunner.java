@@ -15,11 +15,13 @@ package com.fortify.cli.app.runner;
 import java.util.Arrays;
 
 import com.fortify.cli.app._main.cli.cmd.FCLIRootCommands;
+import com.fortify.cli.app._main.cli.cmd.FCLIRootCommandsBase;
 import com.fortify.cli.app.runner.util.FortifyCLIDefaultValueProvider;
 import com.fortify.cli.app.runner.util.FortifyCLIDynamicInitializer;
 import com.fortify.cli.app.runner.util.FortifyCLIStaticInitializer;
 import com.fortify.cli.common.cli.util.FcliCommandSpecHelper;
 import com.fortify.cli.common.cli.util.FcliExecutionStrategyFactory;
+import com.fortify.cli.common.cli.util.FcliLazySubcommands;
 import com.fortify.cli.common.exception.FcliExecutionExceptionHandler;
 import com.fortify.cli.common.variable.FcliVariableHelper;
 
@@ -33,17 +35,28 @@ public final class DefaultFortifyCLIRunner {
     //@Getter(value = AccessLevel.PRIVATE, lazy = true)
     //private final CommandLine commandLine = createCommandLine();
     
-    private static final CommandLine createCommandLine() {
+    private static final CommandLine createCommandLine(String[] args) {
         FortifyCLIStaticInitializer.getInstance().initialize();
-        CommandLine cl = new CommandLine(FCLIRootCommands.class);
-        FcliCommandSpecHelper.setRootCommandLine(cl);
+        // Module commands are registered lazily, such that picocli only needs to instantiate
+        // the module command tree that is actually being invoked. All module commands will
+        // be registered if the module cannot be determined from the first argument, for 
+        // example for 'fcli -h', or if any code asks for the full command tree through
+        // FcliCommandSpecHelper.
+        var subcommands = new FcliLazySubcommands(new CommandLine(new FCLIRootCommandsBase()), 
+                DefaultFortifyCLIRunner::configureCommandLine, FCLIRootCommands.getModuleCommandClasses());
+        FcliCommandSpecHelper.setLazyRootCommandLine(subcommands);
+        if ( !subcommands.register(args) ) { subcommands.registerAll(); }
+        return subcommands.getCommandLine();
+    }
+    
+    private static final void configureCommandLine(CommandLine cl) {
         // Custom parameter exception handler is disabled for now as it causes https://github.com/fortify/fcli/issues/434.
         // See comments in I18nParameterExceptionHandler for more detail.
         //cl.setParameterExceptionHandler(new I18nParameterExceptionHandler(cl.getParameterExceptionHandler()));
         cl.setExecutionExceptionHandler(FcliExecutionExceptionHandler.INSTANCE);
         cl.setDefaultValueProvider(FortifyCLIDefaultValueProvider.getInstance());
         cl.setHelpFactory((commandSpec, colorScheme)->new FcliHelp(commandSpec, colorScheme));
-        return cl;
+        FcliExecutionStrategyFactory.configureCommandLine(cl);
     }
     
     public static final int run(String... args) {
@@ -55,8 +68,7 @@ public final class DefaultFortifyCLIRunner {
         String[] resolvedArgs = FcliVariableHelper.resolveVariables(args);
         FortifyCLIDynamicInitializer.getInstance().initialize(resolvedArgs);
         //CommandLine cl = getCommandLine(); // TODO See https://github.com/remkop/picocli/issues/2066
-        CommandLine cl = createCommandLine();
-        FcliExecutionStrategyFactory.configureCommandLine(cl);
+        CommandLine cl = createCommandLine(resolvedArgs);
         cl.clearExecutionResults();
         return cl.execute(resolvedArgs);
     }
@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import com.fortify.cli.common.http.ssl.truststore.helper.TrustStoreConfigDescriptor;
 import com.fortify.cli.common.http.ssl.truststore.helper.TrustStoreConfigHelper;
 import com.fortify.cli.common.i18n.helper.LanguageHelper;
+import com.fortify.cli.common.util.EnvHelper;
 import com.fortify.cli.tool._common.helper.ToolUninstaller;
 
 import lombok.AccessLevel;
@@ -72,13 +73,13 @@ public final class FortifyCLIStaticInitializer {
 
     private void initializeTrustStoreFromEnv(String trustStorePropertyKey, String trustStoreTypePropertyKey,
             String trustStorePasswordPropertyKey) {
-        String trustStorePath = System.getenv("FCLI_TRUSTSTORE");
+        String trustStorePath = EnvHelper.env("FCLI_TRUSTSTORE");
         if (null != trustStorePath && Files.exists(Path.of(trustStorePath))) {
             System.setProperty(trustStorePropertyKey, trustStorePath);
             
             String trustStoreType = "jks";
-            if (null != System.getenv("FCLI_TRUSTSTORE_TYPE")) {
-                trustStoreType = System.getenv("FCLI_TRUSTSTORE_TYPE");
+            if (null != EnvHelper.env("FCLI_TRUSTSTORE_TYPE")) {
+                trustStoreType = EnvHelper.env("FCLI_TRUSTSTORE_TYPE");
             } else {
                 String fileName = Paths.get(trustStorePath).getFileName().toString();
                 String fileExtension = StringUtils.substringAfterLast(fileName, ".");
@@ -89,8 +90,8 @@ public final class FortifyCLIStaticInitializer {
             System.setProperty(trustStoreTypePropertyKey, trustStoreType);
 
             String trustStorePwd = "changeit";
-            if (null != System.getenv("FCLI_TRUSTSTORE_PWD")) {
-                trustStorePwd = System.getenv("FCLI_TRUSTSTORE_PWD");
+            if (null != EnvHelper.env("FCLI_TRUSTSTORE_PWD")) {
+                trustStorePwd = EnvHelper.env("FCLI_TRUSTSTORE_PWD");
             }
             System.setProperty(trustStorePasswordPropertyKey, trustStorePwd);
         }
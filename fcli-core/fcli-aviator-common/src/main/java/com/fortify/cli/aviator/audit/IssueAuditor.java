@@ -46,6 +46,7 @@ import com.fortify.cli.aviator.fpr.filter.FilterSet;
 import com.fortify.cli.aviator.fpr.filter.FolderDefinition;
 import com.fortify.cli.aviator.fpr.filter.SearchTree;
 import com.fortify.cli.aviator.fpr.filter.TagDefinition;
+import com.fortify.cli.aviator.fpr.filter.engine.CompiledFilterSet;
 import com.fortify.cli.aviator.fpr.model.AuditIssue;
 import com.fortify.cli.aviator.fpr.model.FPRInfo;
 import com.fortify.cli.aviator.fpr.processor.AuditProcessor;
@@ -287,33 +288,43 @@ public class IssueAuditor {
         List<Filter> hideFilters = fs.getFilters().stream()
                 .filter(f -> "hide".equalsIgnoreCase(f.getAction())).collect(Collectors.toList());
 
-        Map<Filter, SearchTree> parsedQueries = new HashMap<>();
-        // Use a stream to populate the map
+        List<SearchTree> parsedQueries = new ArrayList<>();
         Stream.concat(folderFilters.stream(), hideFilters.stream()).forEach(f -> {
             try {
-                parsedQueries.put(f, com.fortify.cli.aviator.fpr.filter.engine.FilterParser.parse(f.getQuery()));
+                parsedQueries.add(com.fortify.cli.aviator.fpr.filter.engine.FilterParser.parse(f.getQuery()));
             } catch (Exception e) {
                 LOG.error("Failed to parse filter query: '{}'. This filter will be skipped.", f.getQuery(), e);
-                parsedQueries.put(f, new com.fortify.cli.aviator.fpr.filter.SearchTree(null));
+                parsedQueries.add(new com.fortify.cli.aviator.fpr.filter.SearchTree(null));
             }
         });
+        CompiledFilterSet compiledFilters = CompiledFilterSet.compile(parsedQueries);
+
+        // Evaluate folder and hide filters for all vulnerabilities in parallel; folder contents
+        // are collected afterwards to retain the original vulnerability order.
+        List<FolderMatch> folderMatches = compiledFilters.evaluateAll(allVulnerabilities, evaluation -> {
+            for (int i = 0; i < folderFilters.size(); i++) {
+                if (evaluation.matches(i)) {
+                    boolean hidden = false;
+                    for (int j = 0; !hidden && j < hideFilters.size(); j++) {
+                        hidden = evaluation.matches(folderFilters.size() + j);
+                    }
+                    return new FolderMatch(folderFilters.get(i).getActionParam(), hidden);
+                }
+            }
+            return null;
+        });
 
         Map<String, List<Vulnerability>> folderContents = new HashMap<>();
-        for (Vulnerability vuln : allVulnerabilities) {
-            for (Filter folderFilter : folderFilters) {
-                if (com.fortify.cli.aviator.fpr.filter.engine.VulnerabilityEvaluator.evaluate(parsedQueries.get(folderFilter), vuln)) {
-                    folderContents.computeIfAbsent(folderFilter.getActionParam(), k -> new ArrayList<>()).add(vuln);
-                    break;
+        for (int i = 0; i < allVulnerabilities.size(); i++) {
+            FolderMatch folderMatch = folderMatches.get(i);
+            if (folderMatch != null) {
+                List<Vulnerability> vulnList = folderContents.computeIfAbsent(folderMatch.folderId(), k -> new ArrayList<>());
+                if (!folderMatch.hidden()) {
+                    vulnList.add(allVulnerabilities.get(i));
                 }
             }
         }
 
-        folderContents.values().forEach(vulnList ->
-                vulnList.removeIf(vuln -> hideFilters.stream().anyMatch(
-                        hideFilter -> com.fortify.cli.aviator.fpr.filter.engine.VulnerabilityEvaluator.evaluate(parsedQueries.get(hideFilter), vuln)
-                ))
-        );
-
         if (!filterSelection.isFilteringByFolder()) {
             List<Vulnerability> result = folderContents.values().stream().flatMap(List::stream).collect(Collectors.toList());
             logger.info("FilterSet '{}' applied. {} of {} total vulnerabilities remain.", fs.getTitle(), result.size(), allVulnerabilities.size());
@@ -381,4 +392,6 @@ public class IssueAuditor {
             }
         }
     }
+
+    private record FolderMatch(String folderId, boolean hidden) {}
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ package com.fortify.cli.aviator.fpr;
 
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -91,6 +92,8 @@ public class Vulnerability implements Searchable {
     private String lastComment;
 
     private static final Logger filterLogger = LoggerFactory.getLogger(Vulnerability.class.getName() + ".Filter");
+    private static final Pattern NUMERIC_PATTERN = Pattern.compile("^-?[0-9.]+$");
+    private static final Map<String, Function<Vulnerability, Object>> DIRECT_ATTRIBUTE_ACCESSORS = createDirectAttributeAccessors();
 
     // --- Searchable Implementation ---
 
@@ -166,41 +169,30 @@ public class Vulnerability implements Searchable {
         if (attributeName == null) {
             return null;
         }
+        return getAttributeAccessor(attributeName).apply(this);
+    }
 
-        Object valueToReturn = null;
+    /**
+     * Resolves the given attribute name to an accessor that returns the same value as
+     * {@link #getAttributeValue(String)}. Filter engines evaluating the same attribute
+     * against many vulnerabilities should resolve the accessor once, rather than having
+     * every invocation look up the attribute by name.
+     *
+     * @param attributeName The case-insensitive name of the attribute to retrieve.
+     * @return Accessor for the given attribute.
+     */
+    public static Function<Vulnerability, Object> getAttributeAccessor(String attributeName) {
         String lowerAttributeName = attributeName.toLowerCase();
+        Function<Vulnerability, Object> directAccessor = DIRECT_ATTRIBUTE_ACCESSORS.get(lowerAttributeName);
+        return vuln -> vuln.getAttributeValue(attributeName, lowerAttributeName, directAccessor);
+    }
 
+    private Object getAttributeValue(String attributeName, String lowerAttributeName, Function<Vulnerability, Object> directAccessor) {
+        Object valueToReturn = null;
         try {
             // --- Strategy 1: Check direct, derived, or instance-specific fields first ---
-            switch (lowerAttributeName) {
-                // --- Direct Numeric Fields ---
-                case "impact": valueToReturn = this.getImpact(); break;
-                case "likelihood": valueToReturn = (this.getLikelihood() != null && !this.getLikelihood().isEmpty()) ? Double.parseDouble(this.getLikelihood()) : null; break;
-                case "confidence": valueToReturn = this.getConfidence(); break;
-                case "instanceseverity": valueToReturn = this.getInstanceSeverity(); break;
-                case "linenumber": valueToReturn = (double) (this.getSource() != null ? this.getSource().getLine() : 0); break;
-                case "sourceline": valueToReturn = (this.getSource() != null) ? (double) this.getSource().getLine() : 0.0; break;
-
-                // --- Direct String Fields ---
-                case "priority": valueToReturn = this.getPriority(); break;
-                case "category": valueToReturn = this.getCategory(); break;
-                case "analyzer": valueToReturn = this.getAnalyzerName(); break;
-                case "instanceid": valueToReturn = this.getInstanceID(); break;
-                case "package": valueToReturn = this.getProjectName(); break;
-                case "filetype": valueToReturn = this.getFiletype(); break;
-                case "issuestatus": valueToReturn = this.getIssueStatus(); break;
-                case "audience": valueToReturn = this.getAudience(); break;
-
-                // --- Complex / Aggregated Fields ---
-                case "filename": valueToReturn = this.getFiles().stream().map(File::getName).collect(Collectors.joining(" ")); break;
-                case "taintflags": valueToReturn = String.join(" ", this.getTaintFlags()); break;
-                case "tracenode": valueToReturn = getFullTraceAsText(this.getStackTrace()); break;
-                case "sourcefile": valueToReturn = (this.getSource() != null) ? this.getSource().getFilename() : ""; break;
-                case "shortfilename": valueToReturn = (this.getSource() != null && this.getSource().getFilename() != null) ? new java.io.File(this.getSource().getFilename()).getName() : ""; break;
-
-                // --- Boolean Fields ---
-                case "suppressed": valueToReturn = this.isSuppressed(); break;
-                case "audited": valueToReturn = this.isAudited(); break;
+            if (directAccessor != null) {
+                valueToReturn = directAccessor.apply(this);
             }
 
             // --- Strategy 2: If not found above, fall back to the knowledge map ---
@@ -210,7 +202,7 @@ public class Vulnerability implements Searchable {
                     if (entry.getKey() != null &&  entry.getKey().equalsIgnoreCase(lowerAttributeName)) {
                         String stringValue = entry.getValue();
                         // Attempt to convert to a number if it looks like one, for numeric comparisons.
-                        if (stringValue != null && stringValue.matches("^-?[0-9.]+$")) {
+                        if (stringValue != null && NUMERIC_PATTERN.matcher(stringValue).matches()) {
                             try {
                                 valueToReturn = Double.parseDouble(stringValue);
                             } catch (NumberFormatException e) {
@@ -237,6 +229,40 @@ public class Vulnerability implements Searchable {
 
         return valueToReturn;
     }
+
+    private static Map<String, Function<Vulnerability, Object>> createDirectAttributeAccessors() {
+        Map<String, Function<Vulnerability, Object>> result = new HashMap<>();
+        // --- Direct Numeric Fields ---
+        result.put("impact", Vulnerability::getImpact);
+        result.put("likelihood", v -> (v.getLikelihood() != null && !v.getLikelihood().isEmpty()) ? Double.parseDouble(v.getLikelihood()) : null);
+        result.put("confidence", Vulnerability::getConfidence);
+        result.put("instanceseverity", Vulnerability::getInstanceSeverity);
+        result.put("linenumber", v -> (double) (v.getSource() != null ? v.getSource().getLine() : 0));
+        result.put("sourceline", v -> (v.getSource() != null) ? (double) v.getSource().getLine() : 0.0);
+
+        // --- Direct String Fields ---
+        result.put("priority", Vulnerability::getPriority);
+        result.put("category", Vulnerability::getCategory);
+        result.put("analyzer", Vulnerability::getAnalyzerName);
+        result.put("instanceid", Vulnerability::getInstanceID);
+        result.put("package", Vulnerability::getProjectName);
+        result.put("filetype", Vulnerability::getFiletype);
+        result.put("issuestatus", Vulnerability::getIssueStatus);
+        result.put("audience", Vulnerability::getAudience);
+
+        // --- Complex / Aggregated Fields ---
+        result.put("filename", v -> v.getFiles().stream().map(File::getName).collect(Collectors.joining(" ")));
+        result.put("taintflags", v -> String.join(" ", v.getTaintFlags()));
+        result.put("tracenode", v -> v.getFullTraceAsText(v.getStackTrace()));
+        result.put("sourcefile", v -> (v.getSource() != null) ? v.getSource().getFilename() : "");
+        result.put("shortfilename", v -> (v.getSource() != null && v.getSource().getFilename() != null) ? new java.io.File(v.getSource().getFilename()).getName() : "");
+
+        // --- Boolean Fields ---
+        result.put("suppressed", Vulnerability::isSuppressed);
+        result.put("audited", Vulnerability::isAudited);
+        return Map.copyOf(result);
+    }
+
     private String getFullTraceAsText(List<List<StackTraceElement>> traces) {
         if (traces == null || traces.isEmpty()) return "";
         StringBuilder sb = new StringBuilder();
@@ -13,18 +13,15 @@
 package com.fortify.cli.aviator.fpr.filter;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fortify.cli.aviator.fpr.Vulnerability;
+import com.fortify.cli.aviator.fpr.filter.engine.CompiledFilterSet;
 import com.fortify.cli.aviator.fpr.filter.engine.FilterParser;
-import com.fortify.cli.aviator.fpr.filter.engine.VulnerabilityEvaluator;
 
 public class VulnerabilityFilterer {
     private static final Logger logger = LoggerFactory.getLogger(VulnerabilityFilterer.class);
@@ -49,9 +46,7 @@ public class VulnerabilityFilterer {
                 searchTree = FilterParser.parseLegacy(queryString);
             }
 
-            return vulnerabilities.stream()
-                    .filter(vuln -> VulnerabilityEvaluator.evaluate(searchTree, vuln))
-                    .collect(Collectors.toList());
+            return CompiledFilterSet.compile(List.of(searchTree)).filter(vulnerabilities, evaluation -> evaluation.matches(0));
 
         } catch (Exception e) {
             logger.error("Failed to parse or apply filter query '{}'. Returning no results for this filter.", queryString, e);
@@ -66,32 +61,33 @@ public class VulnerabilityFilterer {
             return vulnerabilities;
         }
 
-        // Start with all
-        List<Vulnerability> current = new ArrayList<>(vulnerabilities);
-        boolean hasFolderFilters = false;
-        Set<Vulnerability> inFolder = new HashSet<>();
-
-        for (Filter f : fs.getFilters()) {
-            String action = f.getAction().toLowerCase();
+        // Compile all filters once, evaluating them per vulnerability in filter order: a
+        // vulnerability is hidden by the first matching hide filter, after which subsequent
+        // filters no longer apply, and if folder filters are present, a vulnerability is
+        // only kept if it matches a folder filter before being hidden.
+        List<Filter> filters = fs.getFilters();
+        List<String> actions = new ArrayList<>(filters.size());
+        List<SearchTree> trees = new ArrayList<>(filters.size());
+        for (Filter f : filters) {
             String query = f.getQuery();
-            SearchTree tree = MODERN_SYNTAX_DETECTOR.matcher(query).find() ? FilterParser.parse(query) : FilterParser.parseLegacy(query);
-
-            List<Vulnerability> matching = current.stream()
-                    .filter(v -> VulnerabilityEvaluator.evaluate(tree, v))
-                    .collect(Collectors.toList());
-
-            if ("setfolder".equals(action)) {
-                hasFolderFilters = true;
-                inFolder.addAll(matching); // Assign to folder (mark as inFolder)
-            } else if ("hide".equals(action)) {
-                current.removeAll(matching); // Hide (remove from current)
-            }
+            actions.add(f.getAction().toLowerCase());
+            trees.add(MODERN_SYNTAX_DETECTOR.matcher(query).find() ? FilterParser.parse(query) : FilterParser.parseLegacy(query));
         }
+        boolean hasFolderFilters = actions.contains("setfolder");
 
-        // Final kept: from current (not hidden), and if folders present, only those inFolder
-        if (hasFolderFilters) {
-            current = current.stream().filter(inFolder::contains).collect(Collectors.toList());
-        }
+        List<Vulnerability> current = CompiledFilterSet.compile(trees).filter(vulnerabilities, evaluation -> {
+            boolean inFolder = false;
+            for (int i = 0; i < actions.size(); i++) {
+                String action = actions.get(i);
+                if ("setfolder".equals(action)) {
+                    inFolder = inFolder || evaluation.matches(i); // Assign to folder (mark as inFolder)
+                } else if ("hide".equals(action) && evaluation.matches(i)) {
+                    return false; // Hide (remove from current)
+                }
+            }
+            // Final kept: not hidden, and if folders present, only those inFolder
+            return !hasFolderFilters || inFolder;
+        });
 
         logger.info("FilterSet '{}' applied. {} of {} vulnerabilities remain.", fs.getTitle(), current.size(), vulnerabilities.size());
         return current;
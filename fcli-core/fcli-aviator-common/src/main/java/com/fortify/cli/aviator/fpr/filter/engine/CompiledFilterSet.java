@@ -0,0 +1,320 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.aviator.fpr.filter.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fortify.cli.aviator.fpr.Vulnerability;
+import com.fortify.cli.aviator.fpr.filter.SearchTree;
+import com.fortify.cli.aviator.fpr.filter.comparer.ExactMatchComparer;
+import com.fortify.cli.aviator.fpr.filter.comparer.SearchComparer;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.common.util.OrderedParallelProcessor;
+
+/**
+ * A set of parsed filter queries, compiled for evaluation against many vulnerabilities.
+ * Results are identical to evaluating each {@link SearchTree} through {@link VulnerabilityEvaluator},
+ * but:
+ * <ul>
+ *  <li>Attribute names are resolved to accessors once, at compile time.</li>
+ *  <li>Each attribute value is retrieved at most once per vulnerability, independent of
+ *      the number of filters or terms referencing that attribute.</li>
+ *  <li>Within OR-expressions, all exact-match terms on a single attribute are combined into
+ *      a single hash lookup.</li>
+ *  <li>Results for string-valued attributes are cached by attribute value, such that for
+ *      example category or rule id terms are evaluated only once per distinct value.</li>
+ * </ul>
+ * The {@link #evaluateAll(List, Function)} and {@link #filter(List, Predicate)} methods evaluate
+ * vulnerabilities in parallel, returning results in vulnerability order. The number of threads
+ * defaults to the number of available processors, and can be configured through the
+ * FCLI_AVIATOR_FILTER_PARALLELISM environment variable.
+ */
+public final class CompiledFilterSet {
+    private static final Logger logger = LoggerFactory.getLogger(CompiledFilterSet.class);
+    private static final String ENV_PARALLELISM = "FCLI_AVIATOR_FILTER_PARALLELISM";
+    // Number of vulnerabilities evaluated by a single task
+    private static final int CHUNK_SIZE = 256;
+    // Maximum number of distinct attribute values for which results are cached per condition
+    private static final int MAX_CACHED_VALUES = 1024;
+    private static final Object UNRESOLVED = new Object();
+    private final List<Function<Vulnerability, Object>> accessors;
+    private final List<Condition> conditions;
+    private final int parallelism;
+
+    private CompiledFilterSet(List<Function<Vulnerability, Object>> accessors, List<Condition> conditions, int parallelism) {
+        this.accessors = accessors;
+        this.conditions = conditions;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Compile the given search trees, using the configured parallelism for evaluation.
+     * Filter indexes passed to {@link Evaluation#matches(int)} correspond to the indexes
+     * of the given search trees.
+     */
+    public static CompiledFilterSet compile(List<SearchTree> trees) {
+        return compile(trees, EnvHelper.envAsInt(ENV_PARALLELISM, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Compile the given search trees, using the given parallelism for evaluation.
+     */
+    public static CompiledFilterSet compile(List<SearchTree> trees, int parallelism) {
+        var compiler = new Compiler();
+        List<Condition> conditions = new ArrayList<>(trees.size());
+        for (SearchTree tree : trees) {
+            conditions.add(compiler.compile(tree));
+        }
+        logger.debug("Compiled {} filter(s) referencing {} distinct attribute(s)", conditions.size(), compiler.accessors.size());
+        return new CompiledFilterSet(List.copyOf(compiler.accessors), List.copyOf(conditions), parallelism);
+    }
+
+    public int size() {
+        return conditions.size();
+    }
+
+    /**
+     * Create an {@link Evaluation} for evaluating filters against the given vulnerability.
+     */
+    public Evaluation evaluate(Vulnerability vuln) {
+        return new Evaluation(vuln);
+    }
+
+    /**
+     * Apply the given function to an {@link Evaluation} for each of the given vulnerabilities,
+     * returning the function results in vulnerability order. The given function may be invoked
+     * concurrently on multiple threads.
+     */
+    public <R> List<R> evaluateAll(List<Vulnerability> vulns, Function<Evaluation, R> f) {
+        List<R> result = new ArrayList<>(vulns.size());
+        int concurrency = vulns.size() > CHUNK_SIZE ? parallelism : 1;
+        try (var processor = new OrderedParallelProcessor("fcli-aviator-filter", concurrency)) {
+            processor.process(chunks(vulns), chunk -> evaluateChunk(chunk, f), (chunk, chunkResults) -> result.addAll(chunkResults));
+        }
+        return result;
+    }
+
+    /**
+     * Return the vulnerabilities for which the given predicate returns true, in their original order.
+     */
+    public List<Vulnerability> filter(List<Vulnerability> vulns, Predicate<Evaluation> predicate) {
+        List<Boolean> matches = evaluateAll(vulns, predicate::test);
+        List<Vulnerability> result = new ArrayList<>();
+        for (int i = 0; i < vulns.size(); i++) {
+            if (matches.get(i)) {
+                result.add(vulns.get(i));
+            }
+        }
+        return result;
+    }
+
+    private <R> List<R> evaluateChunk(List<Vulnerability> chunk, Function<Evaluation, R> f) {
+        List<R> result = new ArrayList<>(chunk.size());
+        for (Vulnerability vuln : chunk) {
+            result.add(f.apply(new Evaluation(vuln)));
+        }
+        return result;
+    }
+
+    private static List<List<Vulnerability>> chunks(List<Vulnerability> vulns) {
+        List<List<Vulnerability>> result = new ArrayList<>();
+        for (int i = 0; i < vulns.size(); i += CHUNK_SIZE) {
+            result.add(vulns.subList(i, Math.min(i + CHUNK_SIZE, vulns.size())));
+        }
+        return result;
+    }
+
+    /**
+     * Case-folds the given string such that two strings are equal after folding if and only if
+     * they are equal according to {@link String#equalsIgnoreCase(String)}.
+     */
+    private static String foldCase(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        s.codePoints().forEach(cp -> sb.appendCodePoint(Character.toLowerCase(Character.toUpperCase(cp))));
+        return sb.toString();
+    }
+
+    /**
+     * Evaluates the compiled filters against a single vulnerability, memoizing attribute
+     * values across filters. Instances are not thread-safe.
+     */
+    public final class Evaluation {
+        private final Vulnerability vulnerability;
+        private final Object[] values;
+
+        private Evaluation(Vulnerability vulnerability) {
+            this.vulnerability = vulnerability;
+            this.values = new Object[accessors.size()];
+            Arrays.fill(values, UNRESOLVED);
+        }
+
+        public Vulnerability getVulnerability() {
+            return vulnerability;
+        }
+
+        /**
+         * Evaluate the filter with the given index; empty filters match every vulnerability.
+         */
+        public boolean matches(int filterIndex) {
+            return conditions.get(filterIndex).matches(this);
+        }
+
+        private Object getAttributeValue(int slot) {
+            Object value = values[slot];
+            if (value == UNRESOLVED) {
+                value = accessors.get(slot).apply(vulnerability);
+                values[slot] = value;
+            }
+            return value;
+        }
+    }
+
+    private interface Condition {
+        boolean matches(Evaluation evaluation);
+    }
+
+    /**
+     * Compiles search tree nodes into conditions, assigning a memoization slot to every
+     * distinct attribute name.
+     */
+    private static final class Compiler {
+        private final Map<String, Integer> slots = new HashMap<>();
+        private final List<Function<Vulnerability, Object>> accessors = new ArrayList<>();
+
+        private Condition compile(SearchTree tree) {
+            if (tree == null || tree.getRoot() == null) {
+                return evaluation -> true; // An empty filter matches everything
+            }
+            return compile(tree.getRoot());
+        }
+
+        private Condition compile(SearchTree.Node node) {
+            if (node.isLeaf()) {
+                var query = node.getQuery();
+                return new AttributeCondition(getSlot(query.getAttributeName()), List.of(query.getSearchComparer()));
+            }
+            List<SearchTree.Node> operands = new ArrayList<>();
+            collectOperands(node, node.getOperator(), operands);
+            if (node.getOperator() == SearchTree.LogicalOperator.AND) {
+                Condition[] conditions = operands.stream().map(this::compile).toArray(Condition[]::new);
+                return evaluation -> {
+                    for (Condition condition : conditions) {
+                        if (!condition.matches(evaluation)) { return false; }
+                    }
+                    return true;
+                };
+            }
+            // Combine all OR-ed terms on the same attribute into a single condition; as
+            // conditions don't have side effects, evaluation order doesn't affect the result.
+            Map<Integer, List<SearchComparer>> comparersBySlot = new LinkedHashMap<>();
+            List<Condition> nestedConditions = new ArrayList<>();
+            for (SearchTree.Node operand : operands) {
+                if (operand.isLeaf()) {
+                    var query = operand.getQuery();
+                    comparersBySlot.computeIfAbsent(getSlot(query.getAttributeName()), k -> new ArrayList<>()).add(query.getSearchComparer());
+                } else {
+                    nestedConditions.add(compile(operand));
+                }
+            }
+            List<Condition> conditions = new ArrayList<>();
+            comparersBySlot.forEach((slot, comparers) -> conditions.add(new AttributeCondition(slot, comparers)));
+            conditions.addAll(nestedConditions);
+            Condition[] allConditions = conditions.toArray(Condition[]::new);
+            return evaluation -> {
+                for (Condition condition : allConditions) {
+                    if (condition.matches(evaluation)) { return true; }
+                }
+                return false;
+            };
+        }
+
+        /**
+         * Flatten nested nodes with the same operator into a single list of operands.
+         */
+        private static void collectOperands(SearchTree.Node node, SearchTree.LogicalOperator operator, List<SearchTree.Node> operands) {
+            if (!node.isLeaf() && node.getOperator() == operator) {
+                collectOperands(node.getLeftChild(), operator, operands);
+                collectOperands(node.getRightChild(), operator, operands);
+            } else {
+                operands.add(node);
+            }
+        }
+
+        private int getSlot(String attributeName) {
+            return slots.computeIfAbsent(attributeName.toLowerCase(), k -> {
+                accessors.add(Vulnerability.getAttributeAccessor(attributeName));
+                return accessors.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Condition that matches if any of the given comparers matches the value of a single
+     * attribute. Exact-match terms are combined into a case-folded hash set, and for
+     * string values, results are cached by attribute value.
+     */
+    private static final class AttributeCondition implements Condition {
+        private final int slot;
+        private final Set<String> exactMatchTerms = new HashSet<>();
+        private final List<SearchComparer> comparers = new ArrayList<>();
+        private final Map<String, Boolean> resultsByValue = new ConcurrentHashMap<>();
+
+        private AttributeCondition(int slot, List<SearchComparer> comparers) {
+            this.slot = slot;
+            for (SearchComparer comparer : comparers) {
+                if (comparer instanceof ExactMatchComparer exact && exact.getSearchTerm() != null) {
+                    exactMatchTerms.add(foldCase(exact.getSearchTerm()));
+                } else {
+                    this.comparers.add(comparer);
+                }
+            }
+        }
+
+        @Override
+        public boolean matches(Evaluation evaluation) {
+            Object value = evaluation.getAttributeValue(slot);
+            if (!(value instanceof String stringValue)) {
+                // Exact-match terms only match string values
+                return matchesAnyComparer(value);
+            }
+            Boolean result = resultsByValue.get(stringValue);
+            if (result == null) {
+                result = (!exactMatchTerms.isEmpty() && exactMatchTerms.contains(foldCase(stringValue))) || matchesAnyComparer(stringValue);
+                if (resultsByValue.size() < MAX_CACHED_VALUES) {
+                    resultsByValue.put(stringValue, result);
+                }
+            }
+            return result;
+        }
+
+        private boolean matchesAnyComparer(Object value) {
+            for (SearchComparer comparer : comparers) {
+                if (comparer.matches(value)) { return true; }
+            }
+            return false;
+        }
+    }
+}
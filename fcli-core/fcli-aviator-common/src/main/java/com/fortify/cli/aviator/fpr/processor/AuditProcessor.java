@@ -79,6 +79,8 @@ public class AuditProcessor {
     private Document remediationsDoc;
 
     private final Map<String, AuditIssue> auditIssueMap = new HashMap<>();
+    // Index of audit.xml Issue elements by instance id, kept in sync with auditDoc
+    private final Map<String, Element> issueElementIndex = new HashMap<>();
     private final FprHandle fprHandle;
 
     public AuditProcessor(FprHandle fprHandle) {
@@ -112,6 +114,7 @@ public class AuditProcessor {
                 Element issueElement = (Element) issueNodes.item(i);
                 AuditIssue auditIssue = processAuditIssue(issueElement);
                 auditIssueMap.put(auditIssue.getInstanceId(), auditIssue);
+                indexIssueElement(issueElement);
             }
         } catch (ParserConfigurationException | SAXException | IOException e) {
             logger.error("Error parsing audit.xml file: {}", auditPath, e);
@@ -284,14 +287,12 @@ public class AuditProcessor {
         return remediationCommentTimestamps;
     }
     public Element findIssueElement(String instanceId) {
-        NodeList issueNodes = auditDoc.getElementsByTagNameNS(AUDIT_NAMESPACE_URI, "Issue");
-        for (int i = 0; i < issueNodes.getLength(); i++) {
-            Element issueElement = (Element) issueNodes.item(i);
-            if (issueElement.getAttribute("instanceId").equals(instanceId)) {
-                return issueElement;
-            }
-        }
-        return null;
+        return issueElementIndex.get(instanceId);
+    }
+
+    private void indexIssueElement(Element issueElement) {
+        // Keep first element for duplicate instance id's, consistent with document order
+        issueElementIndex.putIfAbsent(issueElement.getAttribute("instanceId"), issueElement);
     }
 
     public String updateIssueElement(Element issueElement, AuditResponse response, TagMappingConfig tagMappingConfig) {
@@ -524,6 +525,7 @@ public class AuditProcessor {
         updateClientAuditTrail(newIssue, response, tagMappingConfig);
 
         issueList.appendChild(newIssue);
+        indexIssueElement(newIssue);
         return commentTimestamp;
     }
 
@@ -576,6 +578,7 @@ public class AuditProcessor {
         addCommentToIssueElement(newIssue, comment, Constants.USER_NAME);
 
         issueList.appendChild(newIssue);
+        indexIssueElement(newIssue);
         logger.debug("Added skipped issue element to audit.xml for instance ID: {}", instanceId);
 
         if (!auditIssueMap.containsKey(instanceId)) {
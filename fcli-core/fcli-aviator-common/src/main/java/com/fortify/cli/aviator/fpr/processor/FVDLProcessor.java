@@ -13,7 +13,6 @@
 package com.fortify.cli.aviator.fpr.processor;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -35,7 +34,6 @@ import com.fortify.cli.aviator.audit.model.File;
 import com.fortify.cli.aviator.audit.model.StackTraceElement;
 import com.fortify.cli.aviator.fpr.Vulnerability;
 import com.fortify.cli.aviator.fpr.VulnerabilityMapper;
-import com.fortify.cli.aviator.fpr.jaxb.FVDL;
 import com.fortify.cli.aviator.fpr.jaxb.MetaInfo;
 import com.fortify.cli.aviator.fpr.jaxb.UnifiedNode;
 import com.fortify.cli.aviator.fpr.jaxb.UnifiedTrace;
@@ -45,10 +43,10 @@ import com.fortify.cli.aviator.fpr.utils.FileUtils;
 import com.fortify.cli.aviator.fpr.utils.XmlUtils;
 import com.fortify.cli.aviator.util.FprHandle;
 import com.fortify.cli.aviator.util.StringUtil;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.common.util.OrderedParallelProcessor;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Unmarshaller;
 import lombok.Getter;
 
 /**
@@ -56,6 +54,7 @@ import lombok.Getter;
  */
 public class FVDLProcessor {
     private static final Logger logger = LoggerFactory.getLogger(FVDLProcessor.class);
+    private static final String ENV_PARALLELISM = "FCLI_AVIATOR_FVDL_PARALLELISM";
     private final NodeProcessor nodeProcessor;
     private final TraceProcessor traceProcessor;
     private final SnippetProcessor snippetProcessor;
@@ -84,7 +83,12 @@ public class FVDLProcessor {
     }
 
     /**
-     * Processes an FVDL file and returns a list of vulnerabilities.
+     * Processes an FVDL file and returns a list of vulnerabilities. The FVDL file is
+     * streamed rather than fully loaded into memory; individual vulnerabilities are
+     * processed on a bounded worker pool, with results collected in document order.
+     * The number of worker threads defaults to the number of available processors,
+     * and can be configured through the FCLI_AVIATOR_FVDL_PARALLELISM environment
+     * variable.
      *
      * @return List of processed Vulnerability objects
      * @throws JAXBException If XML unmarshalling fails
@@ -92,53 +96,32 @@ public class FVDLProcessor {
      */
     public List<Vulnerability> processXML() throws Exception {
         Path fvdlFilePath = fprHandle.getPath("/audit.fvdl");
-
-        List<Vulnerability> vulnerabilities = new ArrayList<>();
-        FVDL fvdl = unmarshalFVDL(fvdlFilePath);
-        if (fvdl == null) {
-            logger.error("Failed to unmarshal FVDL file: {}", fvdlFilePath);
-            return vulnerabilities;
-        }
+        FVDLStreamReader fvdlReader = new FVDLStreamReader(fvdlFilePath);
 
         // Process global sections
-        metaInfoProcessor.process(fvdl.getEngineData());
-        nodeProcessor.process(fvdl.getUnifiedNodePool());
-        traceProcessor.process(fvdl.getUnifiedTracePool());
-        snippetProcessor.process(fvdl.getSnippets());
-        descriptionProcessor.process(fvdl.getDescription());
-
-        for (com.fortify.cli.aviator.fpr.jaxb.Vulnerability vulnJAXB : fvdl.getVulnerabilities().getVulnerability()) {
-            Vulnerability vulnCustom = processVulnerability(vulnJAXB);
-            if (vulnCustom != null) {
-                vulnerabilities.add(vulnCustom);
-            }
+        FVDLStreamReader.GlobalSections globalSections = fvdlReader.readGlobalSections();
+        metaInfoProcessor.process(globalSections.getEngineData());
+        nodeProcessor.process(globalSections.getUnifiedNodePool());
+        traceProcessor.process(globalSections.getUnifiedTracePool());
+        snippetProcessor.process(globalSections.getSnippets());
+        descriptionProcessor.process(globalSections.getDescriptions());
+
+        List<Vulnerability> vulnerabilities = new ArrayList<>();
+        int parallelism = EnvHelper.envAsInt(ENV_PARALLELISM, Runtime.getRuntime().availableProcessors());
+        try (var vulnIterator = fvdlReader.vulnerabilities();
+             var processor = new OrderedParallelProcessor("fcli-aviator-fvdl", parallelism)) {
+            processor.process(vulnIterator, processor.getConcurrency() * 4, this::processVulnerability,
+                (vulnJAXB, vulnCustom) -> {
+                    if (vulnCustom != null) {
+                        vulnerabilities.add(vulnCustom);
+                    }
+                });
         }
+        logger.debug("Processed {} vulnerabilities from {} using {} thread(s)", vulnerabilities.size(), fvdlFilePath, parallelism);
         this.vulnerabilities = vulnerabilities;
         return vulnerabilities;
     }
 
-    /**
-     * Unmarshals the FVDL file into a JAXB object.
-     *
-     * @param fvdlFilePath Path to the FVDL file
-     * @return FVDL object or null if unmarshalling fails
-     * @throws JAXBException If unmarshalling fails
-     * @throws IOException   If file access fails
-     */
-    private FVDL unmarshalFVDL(Path fvdlFilePath) throws JAXBException, IOException {
-        try (InputStream fis = Files.newInputStream(fvdlFilePath)) {
-            JAXBContext jaxbContext = JAXBContext.newInstance(FVDL.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            javax.xml.stream.XMLInputFactory xmlInputFactory = javax.xml.stream.XMLInputFactory.newInstance();
-            xmlInputFactory.setProperty(javax.xml.stream.XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-            xmlInputFactory.setProperty(javax.xml.stream.XMLInputFactory.SUPPORT_DTD, false);
-            javax.xml.stream.XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(fis);
-            return (FVDL) unmarshaller.unmarshal(xmlStreamReader);
-        } catch (javax.xml.stream.XMLStreamException e) {
-            throw new JAXBException("Error creating secure XML stream reader", e);
-        }
-    }
-
     public Optional<String> getSourceFileContent(String relativePath) {
         String internalPath = fprHandle.getSourceFileMap().get(relativePath);
         if (internalPath == null) {
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.aviator.fpr.processor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.fortify.cli.aviator._common.exception.AviatorTechnicalException;
+import com.fortify.cli.aviator.fpr.jaxb.Description;
+import com.fortify.cli.aviator.fpr.jaxb.EngineData;
+import com.fortify.cli.aviator.fpr.jaxb.Snippets;
+import com.fortify.cli.aviator.fpr.jaxb.UnifiedNodePoolType;
+import com.fortify.cli.aviator.fpr.jaxb.UnifiedTracePool;
+import com.fortify.cli.aviator.fpr.jaxb.Vulnerability;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import lombok.Getter;
+
+/**
+ * Streaming FVDL reader that unmarshals individual top-level sections and 
+ * {@code Vulnerability} elements using StAX, rather than unmarshalling the
+ * full FVDL document into a single JAXB tree.
+ * <p>
+ * As FVDL documents list the {@code Vulnerabilities} element before the global
+ * sections (node pool, trace pool, snippets, descriptions, engine data) that are
+ * needed to process those vulnerabilities, the FVDL file is read in two passes:
+ * {@link #readGlobalSections()} reads the global sections while skipping
+ * vulnerabilities, and {@link #vulnerabilities()} returns an iterator that
+ * unmarshals one {@code Vulnerability} element at a time.
+ */
+final class FVDLStreamReader {
+    private static final JAXBContext JAXB_CONTEXT = createJAXBContext();
+    private final Path fvdlFilePath;
+
+    FVDLStreamReader(Path fvdlFilePath) {
+        this.fvdlFilePath = fvdlFilePath;
+    }
+
+    /**
+     * Read all global FVDL sections, skipping the {@code Vulnerabilities} element
+     * and any other sections not needed for vulnerability processing.
+     */
+    GlobalSections readGlobalSections() throws IOException, JAXBException {
+        var result = new GlobalSections();
+        try ( var cursor = new Cursor(fvdlFilePath) ) {
+            var reader = cursor.getReader();
+            if ( !cursor.moveToFirstChild() ) { return result; } // Empty FVDL root element
+            while ( reader.isStartElement() ) {
+                switch ( reader.getLocalName() ) {
+                case "UnifiedNodePool": result.unifiedNodePool = cursor.unmarshal(UnifiedNodePoolType.class); break;
+                case "UnifiedTracePool": result.unifiedTracePool = cursor.unmarshal(UnifiedTracePool.class); break;
+                case "Snippets": result.snippets = cursor.unmarshal(Snippets.class); break;
+                case "Description": result.descriptions.add(cursor.unmarshal(Description.class)); break;
+                case "EngineData": result.engineData = cursor.unmarshal(EngineData.class); break;
+                default: cursor.skipElement(); break;
+                }
+                cursor.moveToNextTag();
+            }
+            return result;
+        } catch ( XMLStreamException e ) {
+            throw new JAXBException("Error reading FVDL file "+fvdlFilePath, e);
+        }
+    }
+
+    /**
+     * Return an iterator that lazily unmarshals the {@code Vulnerability} elements
+     * from the FVDL file, one element at a time. The iterator must be closed after
+     * use to release the underlying file handle; it's automatically closed once 
+     * all vulnerabilities have been read. 
+     */
+    VulnerabilityIterator vulnerabilities() throws IOException, JAXBException {
+        try {
+            return new VulnerabilityIterator(new Cursor(fvdlFilePath));
+        } catch ( XMLStreamException e ) {
+            throw new JAXBException("Error reading FVDL file "+fvdlFilePath, e);
+        }
+    }
+
+    private static JAXBContext createJAXBContext() {
+        try {
+            return JAXBContext.newInstance(Vulnerability.class, UnifiedNodePoolType.class, 
+                    UnifiedTracePool.class, Snippets.class, Description.class, EngineData.class);
+        } catch ( JAXBException e ) {
+            throw new AviatorTechnicalException("Error initializing FVDL JAXB context", e);
+        }
+    }
+
+    /**
+     * Global FVDL sections required for processing individual vulnerabilities.
+     */
+    @Getter
+    static final class GlobalSections {
+        private UnifiedNodePoolType unifiedNodePool;
+        private UnifiedTracePool unifiedTracePool;
+        private Snippets snippets;
+        private final List<Description> descriptions = new ArrayList<>();
+        private EngineData engineData;
+    }
+
+    /**
+     * Iterator over the {@code Vulnerability} elements contained in the FVDL 
+     * {@code Vulnerabilities} element. This iterator should only be accessed
+     * from a single thread.
+     */
+    static final class VulnerabilityIterator implements Iterator<Vulnerability>, Closeable {
+        private final Cursor cursor;
+        private Vulnerability next;
+        private boolean done;
+
+        private VulnerabilityIterator(Cursor cursor) throws XMLStreamException, JAXBException, IOException {
+            this.cursor = cursor;
+            try {
+                if ( moveToVulnerabilities() ) {
+                    advance();
+                } else {
+                    close();
+                }
+            } catch ( XMLStreamException | JAXBException | RuntimeException e ) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next!=null;
+        }
+
+        @Override
+        public Vulnerability next() {
+            if ( next==null ) { throw new NoSuchElementException(); }
+            var result = next;
+            try {
+                advance();
+            } catch ( XMLStreamException | JAXBException e ) {
+                close();
+                throw new AviatorTechnicalException("Error reading vulnerability from FVDL file", e);
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            done = true;
+            next = null;
+            cursor.close();
+        }
+
+        private boolean moveToVulnerabilities() throws XMLStreamException {
+            var reader = cursor.getReader();
+            if ( !cursor.moveToFirstChild() ) { return false; }
+            while ( reader.isStartElement() ) {
+                if ( "Vulnerabilities".equals(reader.getLocalName()) ) {
+                    return cursor.moveToFirstChild();
+                }
+                cursor.skipElement();
+                cursor.moveToNextTag();
+            }
+            return false;
+        }
+
+        private void advance() throws XMLStreamException, JAXBException {
+            next = null;
+            var reader = cursor.getReader();
+            while ( !done && next==null ) {
+                if ( !reader.isStartElement() ) {
+                    close(); // End of Vulnerabilities element
+                } else {
+                    if ( "Vulnerability".equals(reader.getLocalName()) ) {
+                        next = cursor.unmarshal(Vulnerability.class);
+                    } else {
+                        cursor.skipElement();
+                    }
+                    cursor.moveToNextTag();
+                }
+            }
+        }
+    }
+
+    /**
+     * Wrapper around a secure {@link XMLStreamReader} and JAXB {@link Unmarshaller}
+     * for the FVDL file, providing utility methods for navigating sibling elements.
+     */
+    private static final class Cursor implements Closeable {
+        private final InputStream is;
+        @Getter private final XMLStreamReader reader;
+        private final Unmarshaller unmarshaller;
+
+        Cursor(Path fvdlFilePath) throws IOException, XMLStreamException, JAXBException {
+            this.is = Files.newInputStream(fvdlFilePath);
+            try {
+                XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+                xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+                xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+                this.reader = xmlInputFactory.createXMLStreamReader(is);
+                this.unmarshaller = JAXB_CONTEXT.createUnmarshaller();
+                reader.nextTag(); // Move to FVDL root element
+            } catch ( XMLStreamException | JAXBException | RuntimeException e ) {
+                is.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Move from the current start element to its first child element. Returns
+         * false, with the reader positioned at the corresponding end element, if 
+         * the current element doesn't have any child elements.
+         */
+        boolean moveToFirstChild() throws XMLStreamException {
+            reader.next();
+            return moveToNextTag();
+        }
+
+        /**
+         * Move to the next start or end element, unless the reader is already 
+         * positioned at a start or end element. Returns true if the reader is
+         * positioned at a start element.
+         */
+        boolean moveToNextTag() throws XMLStreamException {
+            while ( !reader.isStartElement() && !reader.isEndElement() && reader.hasNext() ) {
+                reader.next();
+            }
+            return reader.isStartElement();
+        }
+
+        /**
+         * Skip the current element including all of its children, leaving the
+         * reader positioned at the event following the corresponding end element.
+         */
+        void skipElement() throws XMLStreamException {
+            int depth = 0;
+            do {
+                int event = reader.next();
+                if ( event==XMLStreamConstants.START_ELEMENT ) { depth++; }
+                else if ( event==XMLStreamConstants.END_ELEMENT ) { depth--; }
+            } while ( depth>=0 );
+            reader.next();
+        }
+
+        /**
+         * Unmarshal the current element, leaving the reader positioned at the
+         * event following the corresponding end element.
+         */
+        <T> T unmarshal(Class<T> type) throws JAXBException {
+            return unmarshaller.unmarshal(reader, type).getValue();
+        }
+
+        @Override
+        public void close() {
+            try {
+                reader.close();
+            } catch ( XMLStreamException e ) {
+                // Ignore, input stream is closed below
+            }
+            try {
+                is.close();
+            } catch ( IOException e ) {
+                // Ignore
+            }
+        }
+    }
+}
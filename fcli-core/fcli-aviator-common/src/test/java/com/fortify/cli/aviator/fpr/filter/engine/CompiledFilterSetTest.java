@@ -0,0 +1,260 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.aviator.fpr.filter.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.fortify.cli.aviator.audit.model.File;
+import com.fortify.cli.aviator.fpr.Vulnerability;
+import com.fortify.cli.aviator.fpr.filter.Filter;
+import com.fortify.cli.aviator.fpr.filter.FilterSet;
+import com.fortify.cli.aviator.fpr.filter.SearchQuery;
+import com.fortify.cli.aviator.fpr.filter.SearchTree;
+import com.fortify.cli.aviator.fpr.filter.SearchTree.LogicalOperator;
+import com.fortify.cli.aviator.fpr.filter.SearchTree.Node;
+import com.fortify.cli.aviator.fpr.filter.VulnerabilityFilterer;
+import com.fortify.cli.aviator.fpr.filter.comparer.ContainsSearchComparer;
+import com.fortify.cli.aviator.fpr.filter.comparer.ExactMatchComparer;
+import com.fortify.cli.aviator.fpr.filter.comparer.IsNotSearchComparer;
+import com.fortify.cli.aviator.fpr.filter.comparer.NumberRangeComparer;
+import com.fortify.cli.aviator.fpr.filter.comparer.RegexComparer;
+
+/**
+ * Tests that {@link CompiledFilterSet} produces the same results as evaluating each
+ * {@link SearchTree} through {@link VulnerabilityEvaluator}, both for sequential and
+ * parallel evaluation. The number of vulnerabilities exceeds a single evaluation chunk,
+ * such that parallel evaluation is actually split across multiple tasks.
+ *
+ * @author Ruud Senden
+ */
+public class CompiledFilterSetTest {
+    private static final int VULNERABILITY_COUNT = 1500;
+    private static final int[] PARALLELISMS = {1, 4};
+    private static final String[] CATEGORIES = {"SQL Injection", "Cross-Site Scripting: Reflected", "Command Injection", "Path Manipulation", "Poor Error Handling: Empty Catch Block", null};
+    private static final String[] PRIORITIES = {"Critical", "High", "Medium", "Low", null};
+    private static final String[] ANALYZERS = {"dataflow", "controlflow", "structural", "semantic"};
+    private static final List<Vulnerability> VULNERABILITIES = createVulnerabilities();
+    
+    @Test
+    public void parsedQueriesMatchEvaluator() {
+        assertEquivalent(parse(
+            "category:injection",
+            "category:\"SQL Injection\"",
+            "category:/.*error.*/",
+            "!category:injection",
+            "confidence:[0,2]",
+            "confidence:(2.5,5]",
+            "category:injection AND priority:critical OR analyzer:structural",
+            "analyzer:dataflow OR category:\"Path Manipulation\" AND confidence:[3,5]",
+            "priority:\"High\" OR priority:\"Critical\" OR priority:\"Low\"",
+            "category:\"SQL Injection\" OR category:\"Command Injection\" AND !priority:low",
+            "category:/.*Injection/ OR confidence:[4,5] OR analyzer:semantic",
+            "priority:<none> OR category:<none>",
+            "injection",
+            "category:injection priority:high priority:critical"));
+    }
+    
+    @Test
+    public void nestedTreesMatchEvaluator() {
+        // The parser doesn't support grouping, so build more deeply nested trees directly
+        var exactCategories = or(exact("category", "SQL Injection"), exact("category", "Command Injection"), exact("category", "Path Manipulation"));
+        var highOrCritical = or(exact("priority", "high"), exact("priority", "CRITICAL"));
+        assertEquivalent(List.of(
+            tree(and(exactCategories, highOrCritical)),
+            tree(or(and(exactCategories, range("confidence", "[0,2]")), and(highOrCritical, not(contains("category", "injection"))))),
+            tree(or(exact("category", "SQL Injection"), and(regex("analyzer", "data.*"), or(exact("category", "SQL Injection"), exact("priority", "Low"))))),
+            tree(and(or(contains("category", "scripting"), regex("category", ".*Catch.*")), or(range("instanceseverity", "[1,3]"), exact("analyzer", "semantic")))),
+            tree(or(or(exact("priority", "Medium"), contains("analyzer", "flow")), or(exact("priority", "Low"), exact("category", "Path Manipulation"))))));
+    }
+    
+    @Test
+    public void exactMatchOnNullAndNonStringValuesMatchesEvaluator() {
+        assertEquivalent(List.of(
+            // Exact match against null only matches null values, also when combined with other exact terms
+            tree(exact("priority", null)),
+            tree(or(exact("priority", null), exact("priority", "High"))),
+            tree(or(exact("category", "SQL Injection"), or(exact("category", null), exact("priority", null)))),
+            tree(and(not(exact("category", null)), exact("priority", "medium"))),
+            // Exact match never matches non-string values like confidence, instance severity
+            // or numeric knowledge values, even if the string representation is identical
+            tree(exact("confidence", "2.5")),
+            tree(or(exact("instanceseverity", "3.0"), exact("instanceseverity", "3"))),
+            tree(or(exact("Accuracy", "4.0"), exact("Rule", "Taint"))),
+            tree(or(range("Accuracy", "[3,4]"), contains("Rule", "structural")))));
+    }
+    
+    @Test
+    public void filterVulnerabilitiesMatchesSequentialHideAndSetFolderOrdering() {
+        var filterSets = List.of(
+            filterSet(
+                filter("setfolder", "priority:critical"),
+                filter("hide", "category:injection"),
+                filter("setfolder", "analyzer:structural"),
+                filter("hide", "confidence:[0,1]")),
+            filterSet(
+                filter("hide", "category:\"Path Manipulation\""),
+                filter("hide", "priority:low AND analyzer:semantic")),
+            filterSet(
+                filter("hide", "priority:<none>"),
+                filter("setfolder", "category:/.*Injection/ OR confidence:[4,5]"),
+                filter("setfolder", "priority:high"),
+                filter("hide", "analyzer:controlflow OR category:scripting")));
+        for ( var filterSet : filterSets ) {
+            var expected = filterSequentially(VULNERABILITIES, filterSet);
+            var actual = VulnerabilityFilterer.filterVulnerabilities(VULNERABILITIES, filterSet);
+            assertEquals(instanceIds(expected), instanceIds(actual));
+        }
+    }
+    
+    private static final void assertEquivalent(List<SearchTree> trees) {
+        List<List<Boolean>> expected = VULNERABILITIES.stream()
+                .map(vuln->trees.stream().map(tree->VulnerabilityEvaluator.evaluate(tree, vuln)).toList())
+                .toList();
+        for ( int parallelism : PARALLELISMS ) {
+            var filterSet = CompiledFilterSet.compile(trees, parallelism);
+            assertEquals(trees.size(), filterSet.size());
+            List<List<Boolean>> actual = filterSet.evaluateAll(VULNERABILITIES, evaluation->{
+                var results = new ArrayList<Boolean>(trees.size());
+                for ( int i=0 ; i<trees.size() ; i++ ) { results.add(evaluation.matches(i)); }
+                return results;
+            });
+            assertEquals(expected.size(), actual.size());
+            for ( int i=0 ; i<expected.size() ; i++ ) {
+                assertEquals(expected.get(i), actual.get(i), "Parallelism "+parallelism+", vulnerability "+i);
+            }
+            for ( int i=0 ; i<trees.size() ; i++ ) {
+                var tree = trees.get(i);
+                int index = i;
+                var expectedFiltered = VULNERABILITIES.stream().filter(vuln->VulnerabilityEvaluator.evaluate(tree, vuln)).toList();
+                assertEquals(instanceIds(expectedFiltered), instanceIds(filterSet.filter(VULNERABILITIES, evaluation->evaluation.matches(index))));
+            }
+        }
+    }
+    
+    /**
+     * Reference implementation, applying each filter in order to the remaining
+     * vulnerabilities through {@link VulnerabilityEvaluator}.
+     */
+    private static final List<Vulnerability> filterSequentially(List<Vulnerability> vulnerabilities, FilterSet filterSet) {
+        List<Vulnerability> current = new ArrayList<>(vulnerabilities);
+        boolean hasFolderFilters = false;
+        Set<Vulnerability> inFolder = new HashSet<>();
+        for ( var filter : filterSet.getFilters() ) {
+            var tree = parse(filter.getQuery()).get(0);
+            var matching = current.stream().filter(v->VulnerabilityEvaluator.evaluate(tree, v)).toList();
+            if ( "setfolder".equals(filter.getAction()) ) {
+                hasFolderFilters = true;
+                inFolder.addAll(matching);
+            } else {
+                current.removeAll(matching);
+            }
+        }
+        return hasFolderFilters ? current.stream().filter(inFolder::contains).toList() : current;
+    }
+    
+    private static final List<SearchTree> parse(String... queries) {
+        var result = new ArrayList<SearchTree>(queries.length);
+        for ( var query : queries ) {
+            result.add(query.matches("(?i).*\\b(AND|OR)\\b.*") ? FilterParser.parse(query) : FilterParser.parseLegacy(query));
+        }
+        return result;
+    }
+    
+    private static final List<String> instanceIds(List<Vulnerability> vulnerabilities) {
+        return vulnerabilities.stream().map(Vulnerability::getInstanceID).collect(Collectors.toList());
+    }
+    
+    private static final FilterSet filterSet(Filter... filters) {
+        var filterSet = new FilterSet();
+        filterSet.setTitle("Test");
+        filterSet.setFilters(List.of(filters));
+        return filterSet;
+    }
+    
+    private static final Filter filter(String action, String query) {
+        var filter = new Filter();
+        filter.setAction(action);
+        filter.setQuery(query);
+        return filter;
+    }
+    
+    private static final SearchTree tree(Node root) {
+        return new SearchTree(root);
+    }
+    
+    private static final Node and(Node left, Node right) {
+        return new Node(LogicalOperator.AND, left, right);
+    }
+    
+    private static final Node or(Node... nodes) {
+        var result = nodes[0];
+        for ( int i=1 ; i<nodes.length ; i++ ) { result = new Node(LogicalOperator.OR, result, nodes[i]); }
+        return result;
+    }
+    
+    private static final Node exact(String attributeName, String value) {
+        return new Node(new SearchQuery(attributeName, new ExactMatchComparer(value)));
+    }
+    
+    private static final Node contains(String attributeName, String value) {
+        return new Node(new SearchQuery(attributeName, new ContainsSearchComparer(value)));
+    }
+    
+    private static final Node regex(String attributeName, String regex) {
+        return new Node(new SearchQuery(attributeName, new RegexComparer(regex)));
+    }
+    
+    private static final Node range(String attributeName, String range) {
+        return new Node(new SearchQuery(attributeName, new NumberRangeComparer(range)));
+    }
+    
+    private static final Node not(Node node) {
+        var query = node.getQuery();
+        return new Node(new SearchQuery(query.getAttributeName(), new IsNotSearchComparer(query.getSearchComparer())));
+    }
+    
+    private static final List<Vulnerability> createVulnerabilities() {
+        var random = new Random(42);
+        var result = new ArrayList<Vulnerability>(VULNERABILITY_COUNT);
+        for ( int i=0 ; i<VULNERABILITY_COUNT ; i++ ) {
+            var analyzer = ANALYZERS[random.nextInt(ANALYZERS.length)];
+            var file = new File();
+            file.setName("src/File"+random.nextInt(20)+".java");
+            var knowledge = new HashMap<String, String>();
+            knowledge.put("Accuracy", random.nextInt(5)+".0");
+            knowledge.put("Rule", random.nextBoolean() ? "Taint" : analyzer);
+            result.add(Vulnerability.builder()
+                    .instanceID(String.format("%032X", i))
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                    .analyzerName(analyzer)
+                    .confidence(random.nextInt(11)/2.0)
+                    .instanceSeverity(random.nextInt(6))
+                    .files(new ArrayList<>(List.of(file)))
+                    .knowledge(Map.copyOf(knowledge))
+                    .build());
+        }
+        return List.copyOf(result);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.aviator.fpr.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fortify.cli.aviator.util.FprHandle;
+
+/**
+ * Tests for looking up audit.xml issue elements by instance id through
+ * {@link AuditProcessor#findIssueElement(String)}.
+ *
+ * @author Ruud Senden
+ */
+public class AuditProcessorTest {
+    @TempDir Path tempDir;
+    
+    @Test
+    public void findIssueElementReturnsElementForInstanceId() throws Exception {
+        try ( var fprHandle = createFpr(issue("id-1", 1), issue("id-2", 2), issue("id-3", 3)) ) {
+            var processor = new AuditProcessor(fprHandle);
+            assertEquals(3, processor.processAuditXML().size());
+            for ( int i=1 ; i<=3 ; i++ ) {
+                var element = processor.findIssueElement("id-"+i);
+                assertNotNull(element);
+                assertEquals("id-"+i, element.getAttribute("instanceId"));
+                assertEquals(String.valueOf(i), element.getAttribute("revision"));
+            }
+            assertNull(processor.findIssueElement("unknown"));
+        }
+    }
+    
+    @Test
+    public void findIssueElementReturnsFirstElementForDuplicateInstanceId() throws Exception {
+        try ( var fprHandle = createFpr(issue("id-1", 1), issue("dup", 2), issue("dup", 3)) ) {
+            var processor = new AuditProcessor(fprHandle);
+            processor.processAuditXML();
+            assertEquals("2", processor.findIssueElement("dup").getAttribute("revision"));
+        }
+    }
+    
+    @Test
+    public void findIssueElementReturnsAddedElements() throws Exception {
+        try ( var fprHandle = createFpr(issue("id-1", 1)) ) {
+            var processor = new AuditProcessor(fprHandle);
+            processor.processAuditXML();
+            var existing = processor.findIssueElement("id-1");
+            processor.addSkippedIssueElement("id-1", "Existing issue");
+            assertSame(existing, processor.findIssueElement("id-1"));
+            
+            processor.addSkippedIssueElement("id-2", "Skipped issue");
+            var added = processor.findIssueElement("id-2");
+            assertNotNull(added);
+            assertEquals("id-2", added.getAttribute("instanceId"));
+            assertSame(added.getParentNode().getLastChild(), added);
+        }
+    }
+    
+    private FprHandle createFpr(String... issues) throws IOException {
+        var auditXml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<ns2:Audit xmlns:ns2=\"xmlns://www.fortify.com/schema/audit\" version=\"4.4\">"
+                + "<ns2:IssueList>"+String.join("", issues)+"</ns2:IssueList>"
+                + "</ns2:Audit>";
+        var fprPath = tempDir.resolve("test.fpr");
+        try ( var zos = new ZipOutputStream(Files.newOutputStream(fprPath)) ) {
+            zos.putNextEntry(new ZipEntry("audit.xml"));
+            zos.write(auditXml.getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+        }
+        return new FprHandle(fprPath);
+    }
+    
+    private static final String issue(String instanceId, int revision) {
+        return String.format("<ns2:Issue instanceId=\"%s\" revision=\"%d\" suppressed=\"false\">"
+                + "<ns2:Tag id=\"87f2364f-dcd4-49e6-861d-f8d3f351686b\"><ns2:Value>Not an Issue</ns2:Value></ns2:Tag>"
+                + "</ns2:Issue>", instanceId, revision);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.aviator.fpr.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fortify.cli.aviator.audit.model.StackTraceElement;
+import com.fortify.cli.aviator.fpr.Vulnerability;
+import com.fortify.cli.aviator.util.FprHandle;
+import com.fortify.cli.common.util.EnvHelper;
+
+/**
+ * Tests that {@link FVDLProcessor} produces the same vulnerabilities, in FVDL document
+ * order, independent of the number of threads used for processing vulnerabilities.
+ *
+ * @author Ruud Senden
+ */
+public class FVDLProcessorTest {
+    private static final String ENV_PARALLELISM = "FCLI_AVIATOR_FVDL_PARALLELISM";
+    private static final int VULNERABILITY_COUNT = 150;
+    private static final int CLASS_COUNT = 4;
+    private static final int NODE_COUNT = 4;
+    @TempDir Path tempDir;
+    
+    @AfterEach
+    public void clearParallelism() {
+        System.clearProperty(EnvHelper.envSystemPropertyName(ENV_PARALLELISM));
+    }
+    
+    @Test
+    public void parallelProcessingMatchesSequentialProcessing() throws Exception {
+        var fprPath = createFpr();
+        var sequential = process(fprPath, 1);
+        var expectedInstanceIds = IntStream.range(0, VULNERABILITY_COUNT).mapToObj(FVDLProcessorTest::instanceId).toList();
+        assertEquals(expectedInstanceIds, sequential.stream().map(Vulnerability::getInstanceID).toList());
+        
+        var expected = describe(sequential);
+        for ( int parallelism : new int[] {2, 4, 8} ) {
+            assertEquals(expected, describe(process(fprPath, parallelism)), "Parallelism "+parallelism);
+        }
+    }
+    
+    private static final List<Vulnerability> process(Path fprPath, int parallelism) throws Exception {
+        System.setProperty(EnvHelper.envSystemPropertyName(ENV_PARALLELISM), String.valueOf(parallelism));
+        try ( var fprHandle = new FprHandle(fprPath) ) {
+            return new FVDLProcessor(fprHandle).processXML();
+        }
+    }
+    
+    private static final List<String> describe(List<Vulnerability> vulnerabilities) {
+        return vulnerabilities.stream().map(FVDLProcessorTest::describe).toList();
+    }
+    
+    private static final String describe(Vulnerability v) {
+        return String.join("\n",
+            "id="+v.getInstanceID()+", class="+v.getClassID()+", analyzer="+v.getAnalyzerName(),
+            "category="+v.getCategory()+", priority="+v.getPriority()+", likelihood="+v.getLikelihood(),
+            "severity="+v.getInstanceSeverity()+", confidence="+v.getConfidence()+", accuracy="+v.getAccuracy()
+                +", impact="+v.getImpact()+", probability="+v.getProbability(),
+            "audience="+v.getAudience()+", filetype="+v.getFiletype()+", taintFlags="+v.getTaintFlags(),
+            "knowledge="+new TreeMap<>(v.getKnowledge()),
+            "shortDescription="+v.getShortDescription(),
+            "explanation="+v.getExplanation(),
+            "files="+v.getFiles().stream().map(f->f.getName()+":"+f.getEndLine()+":"+f.getContent()).toList(),
+            "source="+describe(v.getSource())+", sink="+describe(v.getSink()),
+            "stackTrace="+v.getStackTrace().stream().map(FVDLProcessorTest::describe).toList(),
+            "longestStackTrace="+describe(v.getLongestStackTrace()));
+    }
+    
+    private static final String describe(List<StackTraceElement> trace) {
+        return trace==null ? "null" : trace.stream().map(FVDLProcessorTest::describe).collect(Collectors.joining(", ", "[", "]"));
+    }
+    
+    private static final String describe(StackTraceElement e) {
+        if ( e==null ) { return "null"; }
+        var fragment = e.getFragment();
+        return String.format("%s:%d:%s:%s:%s:%s:%s:%s:%s:%s:%s", e.getFilename(), e.getLine(), e.getCode(), 
+                e.getNodeType(), e.getAdditionalInfo(), e.getTaintflags(), e.isDefault(), e.getReason(),
+                new TreeMap<>(e.getKnowledge()), 
+                fragment==null ? "null" : fragment.getStartLine()+"-"+fragment.getEndLine()+":"+fragment.getContent(),
+                describe(e.getInnerStackTrace()));
+    }
+    
+    private Path createFpr() throws IOException {
+        var fprPath = tempDir.resolve("test.fpr");
+        try ( var zos = new ZipOutputStream(Files.newOutputStream(fprPath)) ) {
+            addEntry(zos, "audit.fvdl", fvdl());
+            addEntry(zos, "src-archive/index.xml", "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<properties>\n"
+                    + "<entry key=\"src/A.java\">src-archive/0</entry>\n"
+                    + "<entry key=\"src/B.java\">src-archive/1</entry>\n"
+                    + "</properties>\n");
+            addEntry(zos, "src-archive/0", source("A"));
+            addEntry(zos, "src-archive/1", source("B"));
+        }
+        return fprPath;
+    }
+    
+    private static final void addEntry(ZipOutputStream zos, String name, String contents) throws IOException {
+        zos.putNextEntry(new ZipEntry(name));
+        zos.write(contents.getBytes(StandardCharsets.UTF_8));
+        zos.closeEntry();
+    }
+    
+    private static final String source(String name) {
+        return IntStream.rangeClosed(1, 30).mapToObj(i->"    String s"+i+" = \""+name+" line "+i+"\";").collect(Collectors.joining("\n", "class "+name+" {\n", "\n}\n"));
+    }
+    
+    private static final String fvdl() {
+        var sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<FVDL xmlns=\"xmlns://www.fortifysoftware.com/schema/fvdl\" version=\"1.12\">\n")
+                .append("<UUID>00000000-0000-0000-0000-000000000000</UUID>\n")
+                .append("<Vulnerabilities>\n");
+        IntStream.range(0, VULNERABILITY_COUNT).forEach(i->sb.append(vulnerability(i)));
+        sb.append("</Vulnerabilities>\n<UnifiedNodePool>\n");
+        for ( int i=0 ; i<NODE_COUNT ; i++ ) {
+            sb.append(String.format("<Node id=\"%d\"><SourceLocation path=\"src/A.java\" line=\"%d\" lineEnd=\"%d\" colStart=\"4\" colEnd=\"0\" contextId=\"1\"/>"
+                    + "<Action type=\"InCall\">call%d(0)</Action><Reason><Rule ruleID=\"RULE-%d\"/></Reason>"
+                    + "<Knowledge><Fact primary=\"false\" type=\"Call\">Direct : call%d</Fact></Knowledge></Node>\n", i, 2+i*5, 2+i*5, i, i, i));
+        }
+        sb.append("</UnifiedNodePool>\n");
+        for ( int i=0 ; i<CLASS_COUNT ; i++ ) {
+            sb.append(String.format("<Description contentType=\"preformatted\" classID=\"%s\">"
+                    + "<Abstract>&lt;Content&gt;&lt;Paragraph&gt;Issue %d at &lt;Replace key=\"PrimaryLocation.file\"/&gt; line &lt;Replace key=\"PrimaryLocation.line\"/&gt;&lt;/Paragraph&gt;&lt;/Content&gt;</Abstract>"
+                    + "<Explanation>&lt;Content&gt;Explanation for &lt;Replace key=\"EnclosingClass.name\"/&gt;&lt;/Content&gt;</Explanation>"
+                    + "</Description>\n", classId(i), i));
+        }
+        sb.append("<EngineData><RuleInfo>\n");
+        for ( int i=0 ; i<CLASS_COUNT ; i++ ) {
+            sb.append(String.format("<Rule id=\"%s\"><MetaInfo><Group name=\"Accuracy\">%d.0</Group><Group name=\"Impact\">%d.0</Group>"
+                    + "<Group name=\"Probability\">%d.0</Group><Group name=\"audience\">targeted,medium,broad</Group></MetaInfo></Rule>\n", classId(i), 1+i, 5-i, 1+i%3));
+        }
+        return sb.append("</RuleInfo></EngineData>\n</FVDL>\n").toString();
+    }
+    
+    private static final String vulnerability(int i) {
+        var metaInfo = i%3==0 ? "<MetaInfo><Group name=\"Accuracy\">0.5</Group></MetaInfo>" : "";
+        return String.format("<Vulnerability>"
+                + "<ClassInfo><ClassID>%s</ClassID><Kingdom>Input Validation and Representation</Kingdom><Type>Type %d</Type><Subtype>Subtype %d</Subtype>"
+                + "<AnalyzerName>%s</AnalyzerName><DefaultSeverity>%d.0</DefaultSeverity></ClassInfo>"
+                + "<InstanceInfo><InstanceID>%s</InstanceID><InstanceSeverity>%d.0</InstanceSeverity><Confidence>%d.0</Confidence>%s</InstanceInfo>"
+                + "<AnalysisInfo><Unified>"
+                + "<Context><Function name=\"method%d\" enclosingClass=\"Class%d\"/></Context>"
+                + "<ReplacementDefinitions><Def key=\"EnclosingClass.name\" value=\"Class%d\"/><Def key=\"PrimaryLocation.file\" value=\"B.java\"/><Def key=\"PrimaryLocation.line\" value=\"%d\"/></ReplacementDefinitions>"
+                + "<Trace><Primary>"
+                + "<Entry><NodeRef id=\"%d\"/></Entry>"
+                + "<Entry><Node label=\"sink%d\" isDefault=\"true\"><SourceLocation path=\"src/B.java\" line=\"%d\" lineEnd=\"%d\" colStart=\"8\" colEnd=\"0\"/>"
+                + "<Action type=\"Assign\">Assignment %d</Action><Knowledge><Fact primary=\"false\" type=\"TaintFlags\">WEB, XSS</Fact></Knowledge></Node></Entry>"
+                + "</Primary></Trace>"
+                + "</Unified></AnalysisInfo>"
+                + "</Vulnerability>\n",
+                classId(i%CLASS_COUNT), i%CLASS_COUNT, i%CLASS_COUNT, i%2==0 ? "dataflow" : "structural", 1+i%5,
+                instanceId(i), i%6, 1+i%5, metaInfo,
+                i, i%7, i%7, 1+i%30,
+                i%NODE_COUNT, i, 1+i%30, 1+i%30, i);
+    }
+    
+    private static final String classId(int i) {
+        return String.format("00000000-0000-4000-8000-%012X", i);
+    }
+    
+    private static final String instanceId(int i) {
+        return String.format("%032X", i);
+    }
+}
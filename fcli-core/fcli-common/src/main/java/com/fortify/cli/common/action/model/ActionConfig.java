@@ -34,6 +34,7 @@ import lombok.NoArgsConstructor;
 @SampleYamlSnippets("""
         config:
           rest.target.default: fod
+          rest.concurrency.default: 4
           output: immediate
         """)
 public final class ActionConfig implements IActionElement {
@@ -42,6 +43,14 @@ public final class ActionConfig implements IActionElement {
         """)
     @JsonProperty(value = "rest.target.default", required = false) private String restTargetDefault;
     
+    @JsonPropertyDescription("""
+        Optional integer: Default maximum number of concurrent requests for rest.call steps, applicable to \
+        all rest targets that don't explicitly configure a concurrency level. This applies to simple \
+        requests and to embed requests executed for forEach records; paged requests are always \
+        executed sequentially. Responses are always processed in request order. Default value: 1    
+        """)
+    @JsonProperty(value = "rest.concurrency.default", required = false) private Integer restConcurrencyDefault;
+    
     @JsonPropertyDescription("""
         (PREVIEW) Optional boolean: Default value for 'status.check' in 'run.fcli' instructions.
         
@@ -88,7 +97,10 @@ public final class ActionConfig implements IActionElement {
     @JsonProperty(value = "mask.env-vars", required = false) private LinkedHashMap<String, ActionInputMask> envVarMasks;
     
     @Override
-    public void postLoad(Action action) {}
+    public void postLoad(Action action) {
+        Action.throwIf(restConcurrencyDefault!=null && restConcurrencyDefault<1, this, 
+                ()->"Action config property rest.concurrency.default must be at least 1");
+    }
     
     public enum ActionConfigOutput {
         immediate, delayed
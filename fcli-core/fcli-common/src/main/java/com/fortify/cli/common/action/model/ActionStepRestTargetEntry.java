@@ -43,6 +43,7 @@ import lombok.NoArgsConstructor;
                 baseUrl: https://example.com/my-app
                 headers:
                   Authorization: ${exampleAuth}
+                concurrency: 4
         """)
 public final class ActionStepRestTargetEntry extends AbstractActionElementIf {
     @JsonPropertyDescription("""
@@ -55,10 +56,19 @@ public final class ActionStepRestTargetEntry extends AbstractActionElementIf {
         """)
     @JsonProperty(value = "headers", required = false) private LinkedHashMap<String, TemplateExpression> headers;
     
+    @JsonPropertyDescription("""
+        Optional integer: Maximum number of concurrent requests to this request target for simple \
+        rest.call requests and forEach embed requests. Responses are always processed in request order. \
+        If not specified, the value of 'rest.concurrency.default' in the action configuration is used, \
+        or 1 if not configured. 
+        """)
+    @JsonProperty(value = "concurrency", required = false) private Integer concurrency;
+    
     // TODO Add support for next page URL producer
     // TODO ? Add proxy support ?
     
     public final void postLoad(Action action) {
         Action.checkNotNull("request target base URL", baseUrl, this);
+        Action.throwIf(concurrency!=null && concurrency<1, this, ()->"Request target concurrency must be at least 1");
     }
 }
\ No newline at end of file
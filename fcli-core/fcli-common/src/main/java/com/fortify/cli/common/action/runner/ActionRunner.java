@@ -33,6 +33,7 @@ import com.fortify.cli.common.output.writer.record.RecordWriterFactory;
 import com.fortify.cli.common.output.writer.record.RecordWriterStyle;
 import com.fortify.cli.common.output.writer.record.RecordWriterStyle.RecordWriterStyleElement;
 import com.fortify.cli.common.progress.helper.IProgressWriterI18n;
+import com.fortify.cli.common.util.EnvHelper;
 import com.fortify.cli.common.util.NonClosingPrintStream;
 
 import lombok.RequiredArgsConstructor;
@@ -139,7 +140,7 @@ public class ActionRunner {
     }
 
     private void maskEnvVar(String envVar, ActionInputMask maskConfig) {
-        var value = System.getenv(envVar);
+        var value = EnvHelper.env(envVar);
         if ( StringUtils.isNotBlank(value) ) {
             var description = maskConfig.getDescription();
             if ( StringUtils.isBlank(description)) {
@@ -58,6 +58,8 @@ public class ActionRunnerContext implements AutoCloseable {
     
     /** Modifiable map with Request helpers; may be added during context configuration phase or action execution */
     private final Map<String, IActionRequestHelper> requestHelpers = new HashMap<>();
+    /** Modifiable map with explicit request concurrency levels, indexed by request helper name */
+    @Getter(AccessLevel.NONE) private final Map<String, Integer> requestConcurrencyLevels = new HashMap<>();
     /** Modifyable map with IActionStepWriter instances indexed by writer id */
     @Getter private final Map<String, IRecordWriter> writers = new HashMap<>();
     /** Factory for creating the single {@link ISpelEvaluator} instance. By using a factory, we can
@@ -73,6 +75,26 @@ public class ActionRunnerContext implements AutoCloseable {
         getRequestHelpers().put(name, requestHelper);
     }
     
+    public final void addRequestHelper(String name, IActionRequestHelper requestHelper, Integer concurrency) {
+        addRequestHelper(name, requestHelper);
+        if ( concurrency!=null ) { requestConcurrencyLevels.put(name, concurrency); }
+    }
+    
+    /**
+     * Get the maximum number of concurrent requests for the request helper with the given name,
+     * based on the concurrency level configured when adding the request helper, falling back
+     * to the action-wide default, or 1 if neither has been configured.
+     */
+    public final int getRequestConcurrency(String name) {
+        var requestHelpers = getRequestHelpers();
+        var effectiveName = StringUtils.isBlank(name) && requestHelpers.size()==1 
+                ? requestHelpers.keySet().iterator().next() 
+                : name;
+        var result = requestConcurrencyLevels.get(effectiveName);
+        if ( result==null ) { result = config.getAction().getConfig().getRestConcurrencyDefault(); }
+        return result==null ? 1 : Math.max(1, result);
+    }
+    
     public final IActionRequestHelper getRequestHelper(String name) {
         var requestHelpers = getRequestHelpers();
         if ( StringUtils.isBlank(name) ) {
@@ -75,12 +75,14 @@ public final class ActionRunnerVars {
      */
     private ActionRunnerVars(ActionRunnerVars parent) {
         this.spelEvaluator = parent.spelEvaluator;
-        this.values = JsonHelper.shallowCopy(parent.values);
+        this.values = new LayeredObjectNode(objectMapper.getNodeFactory(), parent.values);
         this.parent = parent;
     }
     
     /**
-     * Create a child of the current {@link ActionRunnerVars} instance
+     * Create a child of the current {@link ActionRunnerVars} instance. The child only
+     * stores its own variables, resolving any other variables through the parent, so 
+     * creating a child doesn't depend on the number of variables in scope.
      */
     public final ActionRunnerVars createChild() {
         return new ActionRunnerVars(this);
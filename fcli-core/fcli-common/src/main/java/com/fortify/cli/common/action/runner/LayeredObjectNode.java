@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.action.runner;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link ObjectNode} implementation used by {@link ActionRunnerVars} for child variable
+ * scopes. Instead of copying all parent properties, this node only stores properties that 
+ * were explicitly set on this node, resolving any other properties through the parent node.
+ * This makes creating child scopes a constant-time operation, independent of the number of
+ * variables in scope.
+ * <p>
+ * Property lookups through {@link #get(String)}, {@link #has(String)} and {@link #path(String)}
+ * don't require any copying; other read operations like iteration and serialization operate on
+ * a merged view, with properties defined on this node overriding parent properties. Write 
+ * operations like {@link #set(String, JsonNode)} and {@link #remove(String)} only affect this
+ * node; {@link ActionRunnerVars} takes care of propagating changes to parent scopes.
+ */
+final class LayeredObjectNode extends ObjectNode {
+    private static final long serialVersionUID = 1L;
+    private final ObjectNode parent;
+    
+    LayeredObjectNode(JsonNodeFactory nodeFactory, ObjectNode parent) {
+        super(nodeFactory);
+        this.parent = parent;
+    }
+    
+    @Override
+    public JsonNode get(String propertyName) {
+        var result = _children.get(propertyName);
+        return result!=null ? result : parent.get(propertyName);
+    }
+    
+    @Override
+    public JsonNode path(String propertyName) {
+        var result = get(propertyName);
+        return result!=null ? result : MissingNode.getInstance();
+    }
+    
+    @Override
+    public boolean has(String propertyName) {
+        return get(propertyName)!=null;
+    }
+    
+    @Override
+    public boolean hasNonNull(String propertyName) {
+        var result = get(propertyName);
+        return result!=null && !result.isNull();
+    }
+    
+    @Override
+    public int size() {
+        return merged().size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return _children.isEmpty() && parent.isEmpty();
+    }
+    
+    @Override
+    public boolean isEmpty(SerializerProvider serializers) {
+        return isEmpty();
+    }
+    
+    @Override
+    public Iterator<String> fieldNames() {
+        return merged().keySet().iterator();
+    }
+    
+    @Override
+    public Iterator<JsonNode> elements() {
+        return merged().values().iterator();
+    }
+    
+    @Override
+    public Iterator<Map.Entry<String, JsonNode>> fields() {
+        return merged().entrySet().iterator();
+    }
+    
+    @Override
+    public Set<Map.Entry<String, JsonNode>> properties() {
+        return merged().entrySet();
+    }
+    
+    @Override
+    public ObjectNode deepCopy() {
+        return materialize().deepCopy();
+    }
+    
+    @Override
+    public void serialize(JsonGenerator g, SerializerProvider provider) throws IOException {
+        materialize().serialize(g, provider);
+    }
+    
+    @Override
+    public void serializeWithType(JsonGenerator g, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        materialize().serializeWithType(g, provider, typeSer);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if ( o==this ) { return true; }
+        return o instanceof ObjectNode && materialize().equals(o);
+    }
+    
+    @Override
+    public int hashCode() {
+        return materialize().hashCode();
+    }
+    
+    /**
+     * Get a merged view of parent and local properties, preserving parent property order
+     * and adding any local-only properties at the end.
+     */
+    private Map<String, JsonNode> merged() {
+        var result = new LinkedHashMap<String, JsonNode>();
+        parent.properties().forEach(e->result.put(e.getKey(), e.getValue()));
+        result.putAll(_children);
+        return result;
+    }
+    
+    /** Create a regular, shallow {@link ObjectNode} copy of the merged view */
+    private ObjectNode materialize() {
+        return new ObjectNode(_nodeFactory, merged());
+    }
+}
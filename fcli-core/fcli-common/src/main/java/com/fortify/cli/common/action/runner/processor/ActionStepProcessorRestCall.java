@@ -218,7 +218,7 @@ public class ActionStepProcessorRestCall extends AbstractActionStepProcessor {
             if ( isPaged ) {
                 requests.forEach(r->requestHelper.executePagedRequest(r));
             } else {
-                requestHelper.executeSimpleRequests(requests);
+                requestHelper.executeSimpleRequests(requests, ctx.getRequestConcurrency(target));
             }
         }
     }
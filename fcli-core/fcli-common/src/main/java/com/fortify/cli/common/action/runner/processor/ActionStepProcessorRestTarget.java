@@ -35,7 +35,7 @@ public class ActionStepProcessorRestTarget extends AbstractActionStepProcessorMa
     
     @Override
     protected final void process(String name, ActionStepRestTargetEntry entry) {
-        ctx.addRequestHelper(name, createBasicRequestHelper(name, entry));
+        ctx.addRequestHelper(name, createBasicRequestHelper(name, entry), entry.getConcurrency());
     }
     
     private IActionRequestHelper createBasicRequestHelper(String name, ActionStepRestTargetEntry entry) {
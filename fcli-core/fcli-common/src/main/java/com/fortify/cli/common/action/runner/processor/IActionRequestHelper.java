@@ -24,6 +24,7 @@ import com.fortify.cli.common.rest.paging.INextPageUrlProducerSupplier;
 import com.fortify.cli.common.rest.paging.PagingHelper;
 import com.fortify.cli.common.rest.unirest.IUnirestInstanceSupplier;
 import com.fortify.cli.common.util.JavaHelper;
+import com.fortify.cli.common.util.OrderedParallelProcessor;
 
 import kong.unirest.HttpRequest;
 import kong.unirest.UnirestException;
@@ -36,6 +37,14 @@ public interface IActionRequestHelper extends AutoCloseable {
     public JsonNode transformInput(JsonNode input);
     public void executePagedRequest(ActionRequestDescriptor requestDescriptor);
     public void executeSimpleRequests(List<ActionRequestDescriptor> requestDescriptor);
+    /**
+     * Execute the given simple requests, allowing for up to the given number of requests to be 
+     * executed concurrently. Implementations must invoke response and failure consumers on the 
+     * calling thread, in request order. By default, this simply calls {@link #executeSimpleRequests(List)}.
+     */
+    public default void executeSimpleRequests(List<ActionRequestDescriptor> requestDescriptors, int concurrency) {
+        executeSimpleRequests(requestDescriptors);
+    }
     public void close();
     
     @Data
@@ -108,6 +117,42 @@ public interface IActionRequestHelper extends AutoCloseable {
             var unirest = getUnirestInstance();
             requestDescriptors.forEach(r->executeSimpleRequest(unirest, r));
         }
+        @Override
+        public void executeSimpleRequests(List<ActionRequestDescriptor> requestDescriptors, int concurrency) {
+            if ( concurrency<=1 || requestDescriptors.size()<=1 ) {
+                executeSimpleRequests(requestDescriptors);
+            } else {
+                var unirest = getUnirestInstance();
+                // Only HTTP requests are executed concurrently; response and failure consumers are
+                // invoked on the current thread, in request order, as they may update action state.
+                try ( var processor = new OrderedParallelProcessor("fcli-action-rest", Math.min(concurrency, requestDescriptors.size())) ) {
+                    processor.process(requestDescriptors, r->executeSimpleRequestAsync(unirest, r), (r,result)->result.run());
+                }
+            }
+        }
+        
+        /**
+         * Execute the given request, returning a {@link Runnable} that passes the response
+         * or failure to the appropriate consumer of the given request descriptor. Similar to
+         * {@link #executeSimpleRequest(UnirestInstance, ActionRequestDescriptor)}, any 
+         * {@link UnirestException} thrown by the response consumer is passed to the failure 
+         * consumer.
+         */
+        private Runnable executeSimpleRequestAsync(UnirestInstance unirest, ActionRequestDescriptor requestDescriptor) {
+            try {
+                var response = createRequest(unirest, requestDescriptor).asObject(JsonNode.class);
+                return ()->{
+                    try {
+                        response.ifSuccess(r->requestDescriptor.getResponseConsumer().accept(r.getBody()));
+                    } catch ( UnirestException e ) {
+                        requestDescriptor.getFailureConsumer().accept(e);
+                    }
+                };
+            } catch ( UnirestException e ) {
+                return ()->requestDescriptor.getFailureConsumer().accept(e);
+            }
+        }
+        
         private void executeSimpleRequest(UnirestInstance unirest, ActionRequestDescriptor requestDescriptor) {
             try {
                 createRequest(unirest, requestDescriptor)
@@ -157,7 +157,7 @@ public class CommonOptionMixins {
             }
             
             private static final String resolveEnv(String envName) {
-                return System.getenv(envName);
+                return EnvHelper.env(envName);
             }
         }
         
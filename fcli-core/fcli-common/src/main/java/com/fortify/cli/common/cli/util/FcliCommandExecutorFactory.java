@@ -56,8 +56,8 @@ public final class FcliCommandExecutorFactory {
     public final String progressOptionValueIfNotPresent; // TODO Should we integrate this into defaultOptionsIfNotPresent?
     public final Map<String, String> defaultOptionsIfNotPresent;
     
-    private static final CommandLine getRootCommandLine() {
-        return FcliCommandSpecHelper.getRootCommandLine();
+    private static final CommandLine getRootCommandLine(String[] resolvedArgs) {
+        return FcliCommandSpecHelper.getRootCommandLine(resolvedArgs);
     }
     
     public final FcliCommandExecutor create() {
@@ -75,12 +75,23 @@ public final class FcliCommandExecutorFactory {
         
         public FcliCommandExecutor() {
             this.resolvedArgs = FcliVariableHelper.resolveVariables(parseArgs(cmd));
-            this.replicatedLeafCommandSpec = replicateLeafCommandSpecWithParents(parseArgs(resolvedArgs));
+            this.replicatedLeafCommandSpec = replicateLeafCommandSpec(resolvedArgs);
+        }
+        
+        private CommandSpec replicateLeafCommandSpec(String[] resolvedArgs) {
+            // If the leading arguments identify a leaf command, we can replicate that command
+            // without parsing the full argument list through the root command line; options
+            // and parameters will be parsed and validated when executing the replicated command.
+            // Otherwise, we parse the arguments to have picocli report the appropriate error.
+            var leafCommandSpec = FcliCommandSpecHelper.findLeafCommandSpec(resolvedArgs);
+            return leafCommandSpec!=null
+                    ? FcliCommandSpecHelper.replicateLeafCommandSpecWithParents(leafCommandSpec)
+                    : FcliCommandSpecHelper.replicateLeafCommandSpecWithParents(parseArgs(resolvedArgs));
         }
 
         private ParseResult parseArgs(String[] resolvedArgs) {
             try {
-                return getRootCommandLine().parseArgs(resolvedArgs);
+                return getRootCommandLine(resolvedArgs).parseArgs(resolvedArgs);
             } catch ( ParameterException e ) {
                 this.parseErrorResult = call(()->handleParseException(resolvedArgs, e));
                 return null;
@@ -89,9 +100,9 @@ public final class FcliCommandExecutorFactory {
 
         private int handleParseException(String[] resolvedArgs, ParameterException e) {
             try {
-                return getRootCommandLine().getParameterExceptionHandler().handleParseException(e, resolvedArgs);
+                return getRootCommandLine(resolvedArgs).getParameterExceptionHandler().handleParseException(e, resolvedArgs);
             } catch ( Exception e2 ) {
-                return FcliExecutionExceptionHandler.INSTANCE.handleException(e2, getRootCommandLine());
+                return FcliExecutionExceptionHandler.INSTANCE.handleException(e2, getRootCommandLine(resolvedArgs));
             }
         }
 
@@ -195,44 +206,6 @@ public final class FcliCommandExecutorFactory {
             throw new FcliSimpleException("Fcli command terminated with non-zero exit code "+r.getExitCode());
         }
         
-        // We want to replicate the CommandSpec with new command instances, at least for the 
-        // leaf command, to make sure that each invocation uses a separate instance of the 
-        // leaf command. Otherwise, instance variables might have the wrong values, somewhat
-        // similar to similar to https://vulncat.fortify.com/en/detail?category=Race%20Condition&subcategory=Singleton%20Member%20Field#Java%2fJS
-        private static final CommandSpec replicateLeafCommandSpecWithParents(ParseResult parseResult) {
-            if ( parseResult==null ) { return null; }
-            // This is the safest approach, but causes picocli to recreate the
-            // full command tree through reflection, which is far from optimal
-            // as we already know which command to execute.
-            //return CommandSpec.forAnnotatedObject(parseResult.commandSpec().userObject().getClass());
-            
-            // More optimized approach, just walking the requested command tree 
-            CommandSpec replicatedSpec = null;
-            for ( var pr = parseResult ; pr!=null ; pr = pr.subcommand() ) {
-                var newSpec = replicateSpecForSubcommand(pr);
-                if ( replicatedSpec!=null ) {
-                    replicatedSpec.addSubcommand(newSpec.name(), newSpec);
-                }
-                replicatedSpec = newSpec;
-            }
-            return replicatedSpec;
-        }
-
-        private static CommandSpec replicateSpecForSubcommand(ParseResult pr) {
-            var orgSpec = pr.commandSpec();
-            if ( !pr.hasSubcommand() ) {
-                // Create new spec from leaf command class
-                return CommandSpec.forAnnotatedObject(orgSpec.userObject().getClass());
-            } else {
-                // Create shallow copy of container command spec
-                var newSpec = CommandSpec.wrapWithoutInspection(orgSpec.userObject());
-                newSpec.name(orgSpec.name());
-                newSpec.aliases(orgSpec.aliases());
-                newSpec.resourceBundle(orgSpec.resourceBundle());
-                return newSpec;
-            }
-        }
-        
         private static final String[] parseArgs(String args) {
             var argsWithoutFcli = args.replaceFirst("^fcli\s+", "");
             List<String> argsList = new ArrayList<String>();
@@ -14,6 +14,7 @@ package com.fortify.cli.common.cli.util;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
+import java.util.ArrayDeque;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ResourceBundle;
@@ -35,17 +36,52 @@ import com.fortify.cli.common.spel.query.QueryExpressionComposite;
 import com.fortify.cli.common.util.JavaHelper;
 import com.fortify.cli.common.util.ReflectionHelper;
 
-import lombok.Setter;
 import picocli.CommandLine;
 import picocli.CommandLine.Model.ArgSpec;
 import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Model.Messages;
+import picocli.CommandLine.ParseResult;
 
 public class FcliCommandSpecHelper {
-    @Setter // Injected by DefaultFortifyCLIRunner
+    // Injected by DefaultFortifyCLIRunner
     private static CommandLine rootCommandLine;
+    private static FcliLazySubcommands rootSubcommands;
     
+    public static final synchronized void setRootCommandLine(CommandLine commandLine) {
+        rootCommandLine = commandLine;
+        rootSubcommands = null;
+    }
+    
+    /**
+     * Configure a root command line for which the subcommands are registered lazily;
+     * see {@link #getRootCommandLine()} and {@link #getRootCommandLine(String[])}. 
+     */
+    public static final synchronized void setLazyRootCommandLine(FcliLazySubcommands subcommands) {
+        rootCommandLine = subcommands==null ? null : subcommands.getCommandLine();
+        rootSubcommands = subcommands;
+    }
+    
+    /**
+     * @return Root command line, with all subcommands registered
+     */
     public static final CommandLine getRootCommandLine() {
+        var result = getRootCommandLineWithoutRegistration();
+        if ( rootSubcommands!=null ) { rootSubcommands.registerAll(); }
+        return result;
+    }
+    
+    /**
+     * @return Root command line, with at least the subcommand needed for processing the
+     *         given arguments being registered. All subcommands will be registered if the
+     *         subcommand cannot be determined from the given arguments.
+     */
+    public static final CommandLine getRootCommandLine(String[] args) {
+        var result = getRootCommandLineWithoutRegistration();
+        if ( rootSubcommands!=null && !rootSubcommands.register(args) ) { rootSubcommands.registerAll(); }
+        return result;
+    }
+    
+    private static final synchronized CommandLine getRootCommandLineWithoutRegistration() {
         if ( rootCommandLine==null ) {
             throw new FcliBugException("Root command line hasn't been configured upon fcli initialization");
         }
@@ -57,9 +93,10 @@ public class FcliCommandSpecHelper {
     }
     
     public static final CommandSpec getCommandSpec(String cmd) {
-        var currentSpec = getRootCommandSpec();
-        if ( StringUtils.isBlank(cmd) ) { return currentSpec; }
-        for ( var elt : cmd.replaceAll("^fcli\\s+", "").split("\\s+") ) {
+        if ( StringUtils.isBlank(cmd) ) { return getRootCommandSpec(); }
+        var elts = cmd.replaceAll("^fcli\\s+", "").split("\\s+");
+        var currentSpec = getRootCommandLine(elts).getCommandSpec();
+        for ( var elt : elts ) {
             var cl = currentSpec.subcommands().get(elt);
             if ( cl==null ) { return null; }
             currentSpec = cl.getCommandSpec();
@@ -67,6 +104,25 @@ public class FcliCommandSpecHelper {
         return currentSpec;
     }
     
+    /**
+     * Get the leaf command spec identified by the given arguments, by matching the
+     * leading arguments against subcommand names. Contrary to parsing the arguments 
+     * through the root command line, this doesn't process any options or positional
+     * parameters, allowing for cheap lookup of the command to be executed. Returns 
+     * null if the leading arguments don't identify a leaf command.
+     */
+    public static final CommandSpec findLeafCommandSpec(String[] args) {
+        var currentSpec = getRootCommandLine(args).getCommandSpec();
+        var subcommands = currentSpec.subcommands();
+        for ( int i=0 ; i<args.length && !subcommands.isEmpty() ; i++ ) {
+            var cl = subcommands.get(args[i]);
+            if ( cl==null ) { return null; }
+            currentSpec = cl.getCommandSpec();
+            subcommands = currentSpec.subcommands();
+        }
+        return subcommands.isEmpty() ? currentSpec : null;
+    }
+    
     public static final Stream<CommandSpec> rootCommandTreeStream() {
         return commandTreeStream(getRootCommandSpec());
     } 
@@ -257,4 +313,52 @@ public class FcliCommandSpecHelper {
         if ( expressions.size()==1 ) { return Optional.of(expressions.get(0)); }
         return Optional.of(QueryExpressionComposite.and(expressions));
     }
-}
\ No newline at end of file
+    
+    // We want to replicate the CommandSpec with new command instances, at least for the 
+    // leaf command, to make sure that each invocation uses a separate instance of the 
+    // leaf command. Otherwise, instance variables might have the wrong values, somewhat
+    // similar to similar to https://vulncat.fortify.com/en/detail?category=Race%20Condition&subcategory=Singleton%20Member%20Field#Java%2fJS
+    public static final CommandSpec replicateLeafCommandSpecWithParents(ParseResult parseResult) {
+        if ( parseResult==null ) { return null; }
+        var pr = parseResult;
+        while ( pr.hasSubcommand() ) { pr = pr.subcommand(); }
+        return replicateLeafCommandSpecWithParents(pr.commandSpec());
+    }
+    
+    public static final CommandSpec replicateLeafCommandSpecWithParents(CommandSpec leafCommandSpec) {
+        if ( leafCommandSpec==null ) { return null; }
+        // This is the safest approach, but causes picocli to recreate the
+        // full command tree through reflection, which is far from optimal
+        // as we already know which command to execute.
+        //return CommandSpec.forAnnotatedObject(leafCommandSpec.userObject().getClass());
+        
+        // More optimized approach, just walking the requested command tree 
+        var orgSpecs = new ArrayDeque<CommandSpec>();
+        for ( var spec = leafCommandSpec ; spec!=null ; spec = spec.parent() ) {
+            orgSpecs.push(spec);
+        }
+        CommandSpec replicatedSpec = null;
+        for ( var orgSpec : orgSpecs ) {
+            var newSpec = replicateSpec(orgSpec, orgSpec==leafCommandSpec);
+            if ( replicatedSpec!=null ) {
+                replicatedSpec.addSubcommand(newSpec.name(), newSpec);
+            }
+            replicatedSpec = newSpec;
+        }
+        return replicatedSpec;
+    }
+
+    private static CommandSpec replicateSpec(CommandSpec orgSpec, boolean isLeaf) {
+        if ( isLeaf ) {
+            // Create new spec from leaf command class
+            return CommandSpec.forAnnotatedObject(orgSpec.userObject().getClass());
+        } else {
+            // Create shallow copy of container command spec
+            var newSpec = CommandSpec.wrapWithoutInspection(orgSpec.userObject());
+            newSpec.name(orgSpec.name());
+            newSpec.aliases(orgSpec.aliases());
+            newSpec.resourceBundle(orgSpec.resourceBundle());
+            return newSpec;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.cli.util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.fortify.cli.common.exception.FcliBugException;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+
+/**
+ * <p>This class allows for lazily registering the subcommands of a given {@link CommandLine}.
+ * Creating a {@link CommandLine} instance for a command class causes picocli to instantiate
+ * and inspect all (nested) subcommands and mixins, which is quite expensive for the fcli root
+ * command, given that a single fcli invocation only executes a single leaf command. With this
+ * class, only the subcommand identified by the first argument is registered, with the other
+ * subcommands being registered only if the full command tree is needed, for example for
+ * displaying root command help or for listing all fcli commands.</p>
+ *
+ * <p>As picocli only applies settings like default value provider or help factory to the
+ * subcommands that are registered at the time the setting is configured, the given
+ * configurer is invoked on the {@link CommandLine} instance whenever new subcommands
+ * have been registered.</p>
+ *
+ * @author Ruud Senden
+ */
+public final class FcliLazySubcommands {
+    private final CommandLine commandLine;
+    private final Consumer<CommandLine> configurer;
+    private final List<Class<?>> subcommandClasses;
+    private final Map<String, Class<?>> subcommandClassesByName = new HashMap<>();
+    private final Map<Class<?>, CommandLine> registeredSubcommands = new LinkedHashMap<>();
+    private boolean allRegistered = false;
+
+    public FcliLazySubcommands(CommandLine commandLine, Consumer<CommandLine> configurer, Class<?>... subcommandClasses) {
+        this.commandLine = commandLine;
+        this.configurer = configurer;
+        this.subcommandClasses = List.of(subcommandClasses);
+        for ( var subcommandClass : subcommandClasses ) {
+            var annotation = subcommandClass.getAnnotation(Command.class);
+            if ( annotation==null ) {
+                throw new FcliBugException("Subcommand class doesn't have @Command annotation: "+subcommandClass.getName());
+            }
+            subcommandClassesByName.put(annotation.name(), subcommandClass);
+            for ( var alias : annotation.aliases() ) { subcommandClassesByName.put(alias, subcommandClass); }
+        }
+    }
+
+    public final CommandLine getCommandLine() {
+        return commandLine;
+    }
+
+    /**
+     * Register the subcommand identified by the first argument, if not yet registered.
+     * @return true if the first argument identifies a subcommand or if all subcommands
+     *         have already been registered, false otherwise
+     */
+    public final synchronized boolean register(String... args) {
+        if ( allRegistered ) { return true; }
+        var subcommandClass = args==null || args.length==0 ? null : subcommandClassesByName.get(args[0]);
+        if ( subcommandClass==null ) { return false; }
+        if ( !registeredSubcommands.containsKey(subcommandClass) ) {
+            commandLine.addSubcommand(subcommandClass);
+            registeredSubcommands.put(subcommandClass, commandLine.getSubcommands().get(args[0]));
+            configurer.accept(commandLine);
+        }
+        return true;
+    }
+
+    /**
+     * Register all subcommands that haven't been registered yet. To have picocli list
+     * subcommands in their declaration order, any previously registered subcommands are
+     * removed and re-added in between the newly registered subcommands; the existing
+     * {@link CommandLine} instances for these subcommands are preserved.
+     */
+    public final synchronized void registerAll() {
+        if ( allRegistered ) { return; }
+        var spec = commandLine.getCommandSpec();
+        registeredSubcommands.values().forEach(cl->spec.removeSubcommand(cl.getCommandName()));
+        for ( var subcommandClass : subcommandClasses ) {
+            var existing = registeredSubcommands.get(subcommandClass);
+            commandLine.addSubcommand(existing!=null ? existing : subcommandClass);
+        }
+        allRegistered = true;
+        configurer.accept(commandLine);
+    }
+}
@@ -12,20 +12,25 @@
  */
 package com.fortify.cli.common.crypto.helper;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.StringWriter;
-import java.io.Writer;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
 import org.jasypt.iv.RandomIvGenerator;
 
+import com.fortify.cli.common.crypto.helper.impl.ChunkedDecryptingInputStream;
+import com.fortify.cli.common.crypto.helper.impl.ChunkedEncryptingOutputStream;
+import com.fortify.cli.common.crypto.helper.impl.ChunkedEncryption;
 import com.fortify.cli.common.util.EnvHelper;
 
-import lombok.RequiredArgsConstructor;
-
 public class EncryptionHelper {
     private static final StandardPBEStringEncryptor encryptor = createAES256TextEncryptor();
+    private static final char[] streamPassword = getEncryptPassword().toCharArray();
     public static final String encrypt(String source) {
         if ( source==null ) { return null; }
         return encryptor.encrypt(source);
@@ -50,16 +55,33 @@ public class EncryptionHelper {
         return userPassword+"ds$%YTjdwaf#$47672dfdsGVFDa";
     }
     
-    @RequiredArgsConstructor
-    // TODO Can we optimize this to not buffer the full contents before encrypting and writing the output?
-    public static final class EncryptWriter extends StringWriter {
-        private final Writer originalWriter;
-        
-        @Override
-        public void close() throws IOException {
-            originalWriter.write(encrypt(getBuffer().toString()));
-            originalWriter.flush();
-            originalWriter.close();
+    /**
+     * Wrap the given {@link OutputStream} to encrypt all data written to it, using
+     * a chunked, authenticated encryption format that allows for encrypting large
+     * contents without buffering the full contents in memory. Contents are only 
+     * complete once the returned stream has been closed.
+     */
+    public static final OutputStream encryptingOutputStream(OutputStream out) throws IOException {
+        return new ChunkedEncryptingOutputStream(out, streamPassword);
+    }
+    
+    /**
+     * Wrap the given {@link InputStream} to decrypt contents written through 
+     * {@link #encryptingOutputStream(OutputStream)}. For backward compatibility,
+     * this method also supports contents encrypted through {@link #encrypt(String)};
+     * as the legacy format doesn't support streaming, such contents are fully 
+     * decrypted in memory.
+     */
+    public static final InputStream decryptingInputStream(InputStream in) throws IOException {
+        var bin = in.markSupported() ? in : new BufferedInputStream(in);
+        bin.mark(ChunkedEncryption.getMagicLength());
+        if ( ChunkedEncryption.isMagic(bin.readNBytes(ChunkedEncryption.getMagicLength())) ) {
+            return new ChunkedDecryptingInputStream(bin, streamPassword);
+        }
+        bin.reset();
+        try ( bin ) {
+            var contents = decrypt(new String(bin.readAllBytes(), StandardCharsets.UTF_8));
+            return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
         }
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.crypto.helper.impl;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+
+/**
+ * {@link InputStream} that decrypts data in the format described by {@link ChunkedEncryption},
+ * buffering at most a single chunk in memory. An {@link IOException} is thrown if the data
+ * cannot be authenticated, for example because it was modified or truncated, or because
+ * it was encrypted using a different encryption password. Note that data from a chunk is
+ * only returned after the full chunk has been authenticated.
+ */
+public final class ChunkedDecryptingInputStream extends FilterInputStream {
+    private final DataInputStream dataIn;
+    private final Cipher cipher = ChunkedEncryption.createCipher();
+    private final SecretKey key;
+    private final byte[] noncePrefix = new byte[ChunkedEncryption.NONCE_PREFIX_LENGTH];
+    private final byte[] buffer = new byte[ChunkedEncryption.CHUNK_SIZE];
+    private final byte[] encrypted = new byte[ChunkedEncryption.CHUNK_SIZE+ChunkedEncryption.TAG_LENGTH];
+    private int pos = 0;
+    private int limit = 0;
+    private int chunkIndex = 0;
+    private boolean finalChunkRead = false;
+    
+    /**
+     * Create a new instance for the given {@link InputStream}, which must be
+     * positioned directly after the {@link ChunkedEncryption} magic header.
+     */
+    public ChunkedDecryptingInputStream(InputStream in, char[] password) throws IOException {
+        super(in);
+        this.dataIn = new DataInputStream(in);
+        var salt = new byte[ChunkedEncryption.SALT_LENGTH];
+        dataIn.readFully(salt);
+        dataIn.readFully(noncePrefix);
+        this.key = ChunkedEncryption.getKey(password, salt);
+    }
+    
+    @Override
+    public int read() throws IOException {
+        if ( !fill() ) { return -1; }
+        return buffer[pos++] & 0xff;
+    }
+    
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if ( len==0 ) { return 0; }
+        if ( !fill() ) { return -1; }
+        int n = Math.min(len, limit-pos);
+        System.arraycopy(buffer, pos, b, off, n);
+        pos += n;
+        return n;
+    }
+    
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while ( skipped<n && fill() ) {
+            int s = (int)Math.min(n-skipped, limit-pos);
+            pos += s;
+            skipped += s;
+        }
+        return skipped;
+    }
+    
+    @Override
+    public int available() throws IOException {
+        return limit-pos;
+    }
+    
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+    
+    @Override
+    public synchronized void mark(int readlimit) {}
+    
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+    
+    /**
+     * Make sure that the buffer contains unread data, returning false
+     * if all data has been read. 
+     */
+    private boolean fill() throws IOException {
+        while ( pos==limit ) {
+            if ( finalChunkRead ) { return false; }
+            readChunk();
+        }
+        return true;
+    }
+    
+    private void readChunk() throws IOException {
+        try {
+            var isFinal = dataIn.readByte()==1;
+            int length = dataIn.readInt();
+            if ( length<ChunkedEncryption.TAG_LENGTH || length>encrypted.length ) {
+                throw new IOException("Invalid encrypted chunk length: "+length);
+            }
+            dataIn.readFully(encrypted, 0, length);
+            ChunkedEncryption.init(cipher, Cipher.DECRYPT_MODE, key, noncePrefix, chunkIndex++, isFinal);
+            limit = cipher.doFinal(encrypted, 0, length, buffer, 0);
+            pos = 0;
+            if ( isFinal ) {
+                finalChunkRead = true;
+                if ( dataIn.read()!=-1 ) { throw new IOException("Unexpected data after final encrypted chunk"); }
+            }
+        } catch ( EOFException e ) {
+            throw new IOException("Encrypted data is truncated", e);
+        } catch ( GeneralSecurityException e ) {
+            throw new IOException("Error decrypting data; data may have been modified or encrypted with a different key", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.crypto.helper.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+
+/**
+ * {@link OutputStream} that encrypts all data written to it in the format described
+ * by {@link ChunkedEncryption}, buffering at most a single chunk in memory. The final
+ * chunk is written when this stream is closed, so contents are incomplete and cannot
+ * be decrypted until {@link #close()} has been called. 
+ */
+public final class ChunkedEncryptingOutputStream extends FilterOutputStream {
+    private final DataOutputStream dataOut;
+    private final Cipher cipher = ChunkedEncryption.createCipher();
+    private final SecretKey key;
+    private final byte[] noncePrefix = ChunkedEncryption.randomBytes(ChunkedEncryption.NONCE_PREFIX_LENGTH);
+    private final byte[] buffer = new byte[ChunkedEncryption.CHUNK_SIZE];
+    private final byte[] encrypted = new byte[ChunkedEncryption.CHUNK_SIZE+ChunkedEncryption.TAG_LENGTH];
+    private int count = 0;
+    private int chunkIndex = 0;
+    private boolean closed = false;
+    
+    public ChunkedEncryptingOutputStream(OutputStream out, char[] password) throws IOException {
+        super(out);
+        this.dataOut = new DataOutputStream(new BufferedOutputStream(out));
+        var salt = ChunkedEncryption.getProcessSalt();
+        this.key = ChunkedEncryption.getKey(password, salt);
+        dataOut.write(ChunkedEncryption.MAGIC);
+        dataOut.write(salt);
+        dataOut.write(noncePrefix);
+    }
+    
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte)b}, 0, 1);
+    }
+    
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if ( closed ) { throw new IOException("Stream closed"); }
+        while ( len>0 ) {
+            // Full chunks are only written once we know that more data follows,
+            // as the last chunk needs to be marked as final
+            if ( count==buffer.length ) { writeChunk(false); }
+            int n = Math.min(len, buffer.length-count);
+            System.arraycopy(b, off, buffer, count, n);
+            count += n; off += n; len -= n;
+        }
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        dataOut.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if ( closed ) { return; }
+        closed = true;
+        try {
+            writeChunk(true);
+        } finally {
+            dataOut.close();
+        }
+    }
+    
+    private void writeChunk(boolean isFinal) throws IOException {
+        ChunkedEncryption.init(cipher, Cipher.ENCRYPT_MODE, key, noncePrefix, chunkIndex++, isFinal);
+        try {
+            int length = cipher.doFinal(buffer, 0, count, encrypted, 0);
+            dataOut.writeByte(isFinal ? 1 : 0);
+            dataOut.writeInt(length);
+            dataOut.write(encrypted, 0, length);
+            count = 0;
+        } catch ( GeneralSecurityException e ) {
+            throw new IOException("Error encrypting data", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.crypto.helper.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.fortify.cli.common.exception.FcliTechnicalException;
+
+/**
+ * <p>This class defines the chunked, authenticated encryption format used by 
+ * {@link ChunkedEncryptingOutputStream} and {@link ChunkedDecryptingInputStream}. 
+ * Contrary to the jasypt-based string encryption provided by {@code EncryptionHelper},
+ * this format allows for encrypting and decrypting arbitrarily large contents using
+ * a constant-size buffer. The format looks as follows:</p>
+ * 
+ * <pre>
+ * header: MAGIC | salt (16 bytes) | nonce prefix (8 bytes)
+ * chunk:  final flag (1 byte) | ciphertext length (4 bytes) | AES-GCM ciphertext incl. tag
+ * </pre>
+ * 
+ * <p>The AES-256 key is derived from the encryption password and salt using PBKDF2. Each
+ * chunk is encrypted with a nonce consisting of the nonce prefix and the chunk index,
+ * with the final flag used as associated data, such that reordering, removing, modifying 
+ * or truncating chunks results in a decryption error. The magic header contains characters
+ * that never appear in Base64-encoded jasypt output, allowing for reliable detection of 
+ * contents encrypted in the legacy format.</p>
+ * 
+ * <p>As key derivation is relatively expensive, derived keys are cached per salt, and a
+ * single salt is used for all contents encrypted by the current process.</p>
+ *
+ * @author Ruud Senden
+ */
+public final class ChunkedEncryption {
+    static final byte[] MAGIC = "fcli-enc:v1\n".getBytes(StandardCharsets.US_ASCII);
+    static final int CHUNK_SIZE = 64*1024;
+    static final int TAG_LENGTH = 16;
+    static final int SALT_LENGTH = 16;
+    static final int NONCE_PREFIX_LENGTH = 8;
+    private static final int KEY_LENGTH_BITS = 256;
+    private static final int KEY_ITERATIONS = 10_000;
+    private static final String KEY_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Map<String, SecretKey> KEYS = new ConcurrentHashMap<>();
+    private static volatile byte[] processSalt;
+    
+    private ChunkedEncryption() {}
+    
+    /**
+     * @return true if the given bytes represent the header of the chunked encryption format
+     */
+    public static final boolean isMagic(byte[] bytes) {
+        return Arrays.equals(bytes, MAGIC);
+    }
+    
+    public static final int getMagicLength() {
+        return MAGIC.length;
+    }
+    
+    static final byte[] getProcessSalt() {
+        var result = processSalt;
+        if ( result==null ) {
+            synchronized (ChunkedEncryption.class) {
+                if ( processSalt==null ) { processSalt = randomBytes(SALT_LENGTH); }
+                result = processSalt;
+            }
+        }
+        return result;
+    }
+    
+    static final byte[] randomBytes(int length) {
+        var result = new byte[length];
+        RANDOM.nextBytes(result);
+        return result;
+    }
+    
+    static final SecretKey getKey(char[] password, byte[] salt) {
+        // The password is constant for the lifetime of the process, so caching by salt is sufficient
+        return KEYS.computeIfAbsent(Base64.getEncoder().encodeToString(salt), s->deriveKey(password, salt));
+    }
+    
+    private static final SecretKey deriveKey(char[] password, byte[] salt) {
+        try {
+            var spec = new PBEKeySpec(password, salt, KEY_ITERATIONS, KEY_LENGTH_BITS);
+            var key = SecretKeyFactory.getInstance(KEY_ALGORITHM).generateSecret(spec).getEncoded();
+            return new SecretKeySpec(key, "AES");
+        } catch ( GeneralSecurityException e ) {
+            throw new FcliTechnicalException("Error deriving encryption key", e);
+        }
+    }
+    
+    static final Cipher createCipher() {
+        try {
+            return Cipher.getInstance(CIPHER_ALGORITHM);
+        } catch ( GeneralSecurityException e ) {
+            throw new FcliTechnicalException("Error initializing cipher", e);
+        }
+    }
+    
+    /**
+     * Initialize the given cipher for processing the chunk with the given index.
+     */
+    static final void init(Cipher cipher, int mode, SecretKey key, byte[] noncePrefix, int chunkIndex, boolean isFinal) throws IOException {
+        if ( chunkIndex<0 ) { throw new IOException("Maximum number of encrypted chunks exceeded"); }
+        var nonce = ByteBuffer.allocate(NONCE_PREFIX_LENGTH+4).put(noncePrefix).putInt(chunkIndex).array();
+        try {
+            cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH*8, nonce));
+            cipher.updateAAD(new byte[] {(byte)(isFinal ? 1 : 0)});
+        } catch ( GeneralSecurityException e ) {
+            throw new IOException("Error initializing cipher", e);
+        }
+    }
+}
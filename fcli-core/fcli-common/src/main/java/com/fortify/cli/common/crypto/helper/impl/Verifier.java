@@ -13,6 +13,7 @@
 package com.fortify.cli.common.crypto.helper.impl;
 
 import java.io.File;
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.security.MessageDigest;
@@ -60,6 +61,16 @@ public final class Verifier {
         return verify(new DataSignatureUpdater(data, charset), expectedSignature);
     }
     
+    /**
+     * Wrap the given {@link InputStream} in a {@link VerifyingInputStream}, allowing the
+     * signature of the stream contents to be verified after (or while) the stream has been
+     * consumed, through {@link VerifyingInputStream#verify()}.
+     */
+    public final VerifyingInputStream verifyingInputStream(InputStream in, String expectedSignature) {
+        var signature = publicKey()==null ? null : createSignature();
+        return new VerifyingInputStream(in, signature, s->verifySignature(s, expectedSignature));
+    }
+    
     @SneakyThrows
     private final SignatureStatus verify(ISignatureUpdater updater, String expectedSignature) {
         if ( publicKey()==null ) { return SignatureStatus.NO_PUBLIC_KEY; }
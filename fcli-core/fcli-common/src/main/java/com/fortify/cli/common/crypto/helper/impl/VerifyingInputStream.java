@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.crypto.helper.impl;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.function.Function;
+
+import com.fortify.cli.common.crypto.helper.SignatureHelper.SignatureStatus;
+
+/**
+ * {@link InputStream} wrapper that updates a {@link Signature} with all bytes being read,
+ * allowing for signature verification while the stream is being consumed, for example 
+ * while extracting a downloaded archive, rather than having to read the data twice. 
+ * Instances can be created through {@link Verifier#verifyingInputStream(InputStream, String)}.
+ */
+public final class VerifyingInputStream extends FilterInputStream {
+    private final Signature signature;
+    private final Function<Signature, SignatureStatus> verifier;
+    
+    VerifyingInputStream(InputStream in, Signature signature, Function<Signature, SignatureStatus> verifier) {
+        super(in);
+        this.signature = signature;
+        this.verifier = verifier;
+    }
+    
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if ( b!=-1 ) { update(new byte[] {(byte)b}, 0, 1); }
+        return b;
+    }
+    
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if ( read>0 ) { update(b, off, read); }
+        return read;
+    }
+    
+    /**
+     * Skipped bytes must be included in the signature, so we read rather than skip them.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        var buffer = new byte[(int)Math.min(n, 8192)];
+        long skipped = 0;
+        while ( skipped<n ) {
+            int read = read(buffer, 0, (int)Math.min(buffer.length, n-skipped));
+            if ( read<0 ) { break; }
+            skipped += read;
+        }
+        return skipped;
+    }
+    
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+    
+    @Override
+    public synchronized void mark(int readlimit) {}
+    
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+    
+    /**
+     * Read any remaining bytes from the underlying stream, as consumers like
+     * {@link java.util.zip.ZipInputStream} may not read all data, and verify 
+     * the signature over all bytes read from the underlying stream. 
+     */
+    public final SignatureStatus verify() throws IOException {
+        if ( signature==null ) { return SignatureStatus.NO_PUBLIC_KEY; }
+        var buffer = new byte[8192];
+        while ( read(buffer, 0, buffer.length)>=0 ) {}
+        return verifier.apply(signature);
+    }
+    
+    private void update(byte[] b, int off, int len) throws IOException {
+        if ( signature!=null ) {
+            try {
+                signature.update(b, off, len);
+            } catch ( SignatureException e ) {
+                throw new IOException("Error updating signature", e);
+            }
+        }
+    }
+}
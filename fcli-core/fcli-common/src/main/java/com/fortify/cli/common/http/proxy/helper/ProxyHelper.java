@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.util.EnvHelper;
 import com.fortify.cli.common.util.FcliDataHelper;
 
 import kong.unirest.UnirestInstance;
@@ -47,7 +48,7 @@ public final class ProxyHelper {
             var targetUrl = new URL(targetUrlString);
             if ( !matchesNoProxyEnv(targetUrl) ) {
                 Stream.of("http_proxy", "HTTP_PROXY", "https_proxy", "HTTPS_PROXY", "all_proxy", "ALL_PROXY")
-                .filter(e->StringUtils.isNotBlank(System.getenv(e))).findFirst()
+                .filter(e->StringUtils.isNotBlank(EnvHelper.env(e))).findFirst()
                 .ifPresent(envVar->configureProxyFromEnvVar(unirest, envVar));
             }
         } catch (Exception e) {
@@ -58,7 +59,7 @@ public final class ProxyHelper {
     }
 
     private static final void configureProxyFromEnvVar(UnirestInstance unirest, String envVarName) {
-        var proxyString = System.getenv(envVarName);
+        var proxyString = EnvHelper.env(envVarName);
         try {
             configureProxyFromUrlEnvVar(unirest, envVarName, new URL(proxyString));
         } catch ( MalformedURLException e ) {
@@ -95,8 +96,8 @@ public final class ProxyHelper {
 
     private static final boolean matchesNoProxyEnv(URL url) {
         var targetHost = url.getHost();
-        var env = System.getenv();
-        var noProxyEnv = env.getOrDefault("no_proxy", env.get("NO_PROXY"));
+        var noProxyEnv = EnvHelper.env("no_proxy");
+        if ( noProxyEnv==null ) { noProxyEnv = EnvHelper.env("NO_PROXY"); }
         var noProxyHosts = noProxyEnv==null ? null : noProxyEnv.split(",");
         return noProxyHosts==null 
                 ? false 
@@ -12,21 +12,27 @@
  */
 package com.fortify.cli.common.json.producer;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.function.UnaryOperator;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.cli.mixin.ICommandHelper;
 import com.fortify.cli.common.cli.util.FcliCommandSpecHelper;
 import com.fortify.cli.common.exception.FcliBugException;
+import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.json.transform.fields.AddFieldsTransformer;
 import com.fortify.cli.common.output.product.IProductHelper;
 import com.fortify.cli.common.output.transform.IActionCommandResultSupplier;
 import com.fortify.cli.common.output.transform.IInputTransformer;
 import com.fortify.cli.common.output.transform.IRecordTransformer;
+import com.fortify.cli.common.output.transform.IRecordsPropertyInputTransformer;
+import com.fortify.cli.common.output.transform.IWindowedRecordTransformer;
 import com.fortify.cli.common.spel.query.QueryExpression;
 import com.fortify.cli.common.util.Break;
 
@@ -41,15 +47,20 @@ import picocli.CommandLine.Model.CommandSpec;
  * <ul>
  *   <li>Input transformations: applied once to the full input node (request response or provided JsonNode)</li>
  *   <li>Record transformations: applied for each record node before passing to consumer</li>
- *   <li>Query filtering: optional {@link QueryExpression} applied as last record stage</li>
+ *   <li>Query filtering: optional {@link QueryExpression} applied as soon as all properties referenced 
+ *       by the query are available, as determined by {@link RecordProcessingPlan}</li>
  * </ul>
- * Subclasses only need to provide the raw input JsonNode(s) by invoking {@link #process(JsonNode, IObjectNodeConsumer)}.
+ * Subclasses only need to provide the raw input JsonNode(s) by invoking {@link #process(JsonNode, IObjectNodeConsumer)},
+ * and invoke {@link #processPendingRecords(IObjectNodeConsumer)} and {@link #logRecordProcessingStatistics()} once all 
+ * input has been processed.
  */
 @SuperBuilder
 public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer {
     @Getter @Singular private final List<UnaryOperator<JsonNode>> inputTransformers;
     @Getter @Singular private final List<UnaryOperator<JsonNode>> recordTransformers;
     @Getter private final QueryExpression queryExpression;
+    @Getter(value = AccessLevel.PRIVATE, lazy = true) 
+    private final RecordProcessingPlan recordProcessingPlan = RecordProcessingPlan.create(recordTransformers, queryExpression);
 
     /**
      * Template method used by subclasses to feed input JSON to this base class for processing.
@@ -77,6 +88,74 @@ public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer
         }
     }
 
+    /**
+     * Indicates whether input can be processed using {@link #processStreaming(JsonParser, IObjectNodeConsumer)},
+     * which is the case if no input transformers have been configured, or if the only 
+     * input transformer is a {@link RecordsPropertyInputTransformer}.
+     */
+    protected final boolean isStreamingInputSupported() {
+        return inputTransformers.isEmpty() 
+                || (inputTransformers.size()==1 && inputTransformers.get(0) instanceof RecordsPropertyInputTransformer);
+    }
+    
+    /**
+     * Streaming alternative to {@link #process(JsonNode, IObjectNodeConsumer)}, which may 
+     * only be invoked if {@link #isStreamingInputSupported()} returns true. If the input
+     * is an array, or an object containing an array in the configured records property,
+     * array elements are parsed and passed to the consumer one by one, rather than first
+     * parsing the full input. Other input is parsed fully and passed to
+     * {@link #process(JsonNode, IObjectNodeConsumer)}.
+     * @return Parsed input with any streamed records array replaced by an empty array, 
+     *         for example allowing paging data to be read from the input; null if the
+     *         input was empty
+     */
+    protected final JsonNode processStreaming(JsonParser parser, IObjectNodeConsumer consumer) throws IOException {
+        var token = parser.nextToken();
+        if ( token==null ) { return null; }
+        if ( token==JsonToken.START_ARRAY ) {
+            processStreamingArray(parser, consumer);
+            return JsonHelper.getObjectMapper().createArrayNode();
+        }
+        var recordsProperty = inputTransformers.isEmpty() ? null 
+                : ((RecordsPropertyInputTransformer)inputTransformers.get(0)).getRecordsProperty();
+        if ( token!=JsonToken.START_OBJECT || recordsProperty==null ) {
+            JsonNode input = parser.readValueAsTree();
+            process(input, consumer);
+            return input;
+        }
+        var result = JsonHelper.getObjectMapper().createObjectNode();
+        var recordsStreamed = false;
+        while ( parser.nextToken()==JsonToken.FIELD_NAME ) {
+            var name = parser.currentName();
+            if ( parser.nextToken()==JsonToken.START_ARRAY && !recordsStreamed && name.equals(recordsProperty) ) {
+                processStreamingArray(parser, consumer);
+                result.putArray(name);
+                recordsStreamed = true;
+            } else {
+                result.set(name, parser.readValueAsTree());
+            }
+        }
+        // If records weren't streamed, the result contains the full input, which we process as usual
+        if ( !recordsStreamed ) { process(result, consumer); }
+        return result;
+    }
+    
+    private void processStreamingArray(JsonParser parser, IObjectNodeConsumer consumer) throws IOException {
+        var done = false;
+        while ( parser.nextToken()!=JsonToken.END_ARRAY ) {
+            if ( done ) {
+                // Consumer requested break; skip remaining elements but allow caller to read remaining input
+                parser.skipChildren();
+            } else if ( parser.currentToken()==JsonToken.START_OBJECT ) {
+                done = Break.TRUE == processSingleRecord(parser.readValueAsTree(), consumer);
+            } else if ( parser.currentToken()!=JsonToken.VALUE_NULL ) {
+                JsonNode n = parser.readValueAsTree();
+                // We only allow object elements; any other non-null element is unexpected
+                throw new FcliBugException("Unsupported record node type in array: "+n.getNodeType());
+            }
+        }
+    }
+
     private JsonNode applyInputTransformers(JsonNode input) {
         JsonNode current = input;
         for ( var t : inputTransformers ) { current = t.apply(current); if ( current==null ) { break; } }
@@ -84,18 +163,23 @@ public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer
     }
 
     protected Break processSingleRecord(ObjectNode node, IObjectNodeConsumer consumer) {
-        ObjectNode current = node;
-        for ( var t : recordTransformers ) {
-            var transformed = t.apply(current);
-            if ( transformed==null || transformed.isNull() ) { return Break.FALSE; }
-            if ( transformed.isObject() ) {
-                current = (ObjectNode)transformed;
-            } else { // If transformer changed type we ignore & keep original
-                continue;
-            }
-        }
-        if ( queryExpression!=null && !queryExpression.matches(current) ) { return Break.FALSE; }
-        return Objects.requireNonNullElse(consumer.accept(current), Break.FALSE);
+        return getRecordProcessingPlan().process(node, consumer);
+    }
+    
+    /**
+     * Pass any records that are still pending in a {@link WindowedRecordTransformer} window
+     * to the given consumer; this must be invoked once all input has been processed.
+     */
+    protected final Break processPendingRecords(IObjectNodeConsumer consumer) {
+        return getRecordProcessingPlan().flush(consumer);
+    }
+    
+    /**
+     * Log (at debug level) how many records were rejected by the query and each
+     * of the record transformers since the previous invocation of this method.
+     */
+    protected final void logRecordProcessingStatistics() {
+        getRecordProcessingPlan().logStatistics(getClass());
     }
 
     // Convenience builder customizations ------------------------------------------------------
@@ -140,7 +224,8 @@ public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer
         }
         private void applyActionCommandResultSupplierFrom(ObjectNodeProducerApplyFrom applyFrom) {
             if ( applyFrom!=ObjectNodeProducerApplyFrom.NONE && getRequiredCommandHelper().getCommand() instanceof IActionCommandResultSupplier s ) {
-                recordTransformer(n -> new AddFieldsTransformer(IActionCommandResultSupplier.actionFieldName, s.getActionCommandResult()).transform(n));
+                recordTransformer(PropertyModifyingRecordTransformer.of(Set.of(IActionCommandResultSupplier.actionFieldName), 
+                        n -> new AddFieldsTransformer(IActionCommandResultSupplier.actionFieldName, s.getActionCommandResult()).transform(n)));
             }
         }
         public B applyInputTransformationsFrom(ObjectNodeProducerApplyFrom applyFrom) {
@@ -168,10 +253,18 @@ public abstract class AbstractObjectNodeProducer implements IObjectNodeProducer
             return getRequiredCommandHelper().getCommandSpec();
         }
         private void addInputTransformersFromObject(Object o) {
-            if ( o instanceof IInputTransformer it ) { inputTransformer(it::transformInput); }
+            if ( o instanceof IRecordsPropertyInputTransformer rt ) {
+                inputTransformer(RecordsPropertyInputTransformer.of(rt.getRecordsProperty(), rt::transformInput));
+            } else if ( o instanceof IInputTransformer it ) {
+                inputTransformer(it::transformInput);
+            }
         }
         private void addRecordTransformersFromObject(Object o) {
-            if ( o instanceof IRecordTransformer rt ) { recordTransformer(n->rt.transformRecord(n)); }
+            if ( o instanceof IWindowedRecordTransformer wt ) {
+                recordTransformer(WindowedRecordTransformer.of(wt.getWindowSize(), wt::transformRecords));
+            } else if ( o instanceof IRecordTransformer rt ) { 
+                recordTransformer(n->rt.transformRecord(n)); 
+            }
         }
     }
 }
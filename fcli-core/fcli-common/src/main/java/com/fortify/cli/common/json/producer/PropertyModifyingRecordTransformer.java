@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json.producer;
+
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Record transformer that declares which top-level record properties it may add, 
+ * update or remove; all other properties must be left untouched. This allows
+ * {@link AbstractObjectNodeProducer} to evaluate the query expression before this
+ * transformer if the query doesn't reference any of the declared properties, such 
+ * that the transformer is only invoked for records matching the query. Record 
+ * transformers that are not wrapped in this class are assumed to potentially 
+ * modify any property.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class PropertyModifyingRecordTransformer implements UnaryOperator<JsonNode> {
+    @Getter private final Set<String> modifiedProperties;
+    private final UnaryOperator<JsonNode> transformer;
+    
+    @Override
+    public JsonNode apply(JsonNode record) {
+        return transformer.apply(record);
+    }
+}
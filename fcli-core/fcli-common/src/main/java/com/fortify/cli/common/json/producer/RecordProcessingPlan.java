@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json.producer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.producer.IObjectNodeProducer.IObjectNodeConsumer;
+import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.util.Break;
+
+/**
+ * This class determines and executes the order in which record transformers and the
+ * (optional) query expression are applied to individual records. Rather than always 
+ * evaluating the query after all record transformers, the query is evaluated as soon 
+ * as all properties referenced by the query are available, i.e., directly after the
+ * last transformer that may modify any of these properties. Any remaining transformers
+ * are only applied to records that match the query, avoiding potentially expensive 
+ * transformations like embedding additional data for records that will be discarded.
+ * <p>
+ * See {@link QueryExpression#getReferencedProperties()} and {@link PropertyModifyingRecordTransformer}
+ * for details on how referenced and modified properties are determined. If referenced
+ * properties cannot be determined, the query is evaluated after all transformers.
+ * <p>
+ * For {@link WindowedRecordTransformer} instances, records are collected in a window 
+ * until the window is full, after which the transformer is applied to all records in
+ * the window, and the transformed records are passed to the remaining stages in their 
+ * original order. As such, the consumer may be invoked for a record only while processing
+ * one of the next records; {@link #flush(IObjectNodeConsumer)} must be invoked once all
+ * input has been processed, to pass any records still pending in a window to the consumer. 
+ * <p>
+ * This class also keeps track of how many records were rejected at each stage, which
+ * is logged at debug level through {@link #logStatistics(Class)}.
+ */
+final class RecordProcessingPlan {
+    private static final Logger LOG = LoggerFactory.getLogger(RecordProcessingPlan.class);
+    private final List<UnaryOperator<JsonNode>> transformers;
+    private final QueryExpression queryExpression;
+    /** Index of the transformer before which the query is evaluated */
+    private final int queryStage;
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder rejectedByQuery = new LongAdder();
+    private final LongAdder[] rejectedByTransformer;
+    /** Pending records for each windowed transformer; null for regular transformers */
+    private final List<List<ObjectNode>> windows;
+    /** Set once the consumer has requested a break, until {@link #flush(IObjectNodeConsumer)} is invoked */
+    private boolean broken = false;
+    
+    private RecordProcessingPlan(List<UnaryOperator<JsonNode>> transformers, QueryExpression queryExpression) {
+        this.transformers = transformers==null ? Collections.emptyList() : transformers;
+        this.queryExpression = queryExpression;
+        this.queryStage = determineQueryStage(this.transformers, queryExpression);
+        this.rejectedByTransformer = IntStream.range(0, this.transformers.size())
+                .mapToObj(i->new LongAdder()).toArray(LongAdder[]::new);
+        this.windows = this.transformers.stream()
+                .map(t->t instanceof WindowedRecordTransformer ? new ArrayList<ObjectNode>() : null)
+                .collect(Collectors.toList());
+    }
+    
+    static final RecordProcessingPlan create(List<UnaryOperator<JsonNode>> transformers, QueryExpression queryExpression) {
+        return new RecordProcessingPlan(transformers, queryExpression);
+    }
+    
+    final Break process(ObjectNode node, IObjectNodeConsumer consumer) {
+        if ( broken ) { return Break.TRUE; }
+        processed.increment();
+        return process(0, node, consumer);
+    }
+    
+    /**
+     * Pass any records still pending in windowed transformers through the remaining
+     * processing stages, and reset this plan for processing new input. 
+     */
+    final Break flush(IObjectNodeConsumer consumer) {
+        try {
+            for ( int i=0 ; i<windows.size() && !broken ; i++ ) {
+                if ( windows.get(i)!=null ) { flushWindow(i, consumer); }
+            }
+            return broken ? Break.TRUE : Break.FALSE;
+        } finally {
+            broken = false;
+            windows.stream().filter(Objects::nonNull).forEach(List::clear);
+        }
+    }
+    
+    private Break process(int stage, ObjectNode node, IObjectNodeConsumer consumer) {
+        ObjectNode current = node;
+        var size = transformers.size();
+        for ( int i=stage ; i<=size ; i++ ) {
+            if ( i==queryStage && queryExpression!=null && !queryExpression.matches(current) ) {
+                rejectedByQuery.increment();
+                return Break.FALSE;
+            }
+            if ( i==size ) { break; }
+            var transformer = transformers.get(i);
+            if ( transformer instanceof WindowedRecordTransformer windowed ) {
+                var window = windows.get(i);
+                window.add(current);
+                return window.size()<windowed.getWindowSize() ? Break.FALSE : flushWindow(i, consumer);
+            }
+            var transformed = transformer.apply(current);
+            if ( transformed==null || transformed.isNull() ) { 
+                rejectedByTransformer[i].increment();
+                return Break.FALSE; 
+            }
+            // If transformer changed type we ignore & keep original
+            if ( transformed.isObject() ) { current = (ObjectNode)transformed; }
+        }
+        var result = Objects.requireNonNullElse(consumer.accept(current), Break.FALSE);
+        if ( result==Break.TRUE ) { broken = true; }
+        return result;
+    }
+    
+    private Break flushWindow(int stage, IObjectNodeConsumer consumer) {
+        var window = windows.get(stage);
+        if ( window.isEmpty() ) { return Break.FALSE; }
+        var records = new ArrayList<JsonNode>(window);
+        window.clear();
+        var transformed = ((WindowedRecordTransformer)transformers.get(stage)).applyAll(records);
+        for ( int i=0 ; i<records.size() ; i++ ) {
+            var t = transformed.get(i);
+            if ( t==null || t.isNull() ) {
+                rejectedByTransformer[stage].increment();
+                continue;
+            }
+            // If transformer changed type we ignore & keep original
+            var current = t.isObject() ? (ObjectNode)t : (ObjectNode)records.get(i);
+            if ( Break.TRUE==process(stage+1, current, consumer) ) { return Break.TRUE; }
+        }
+        return Break.FALSE;
+    }
+    
+    final void logStatistics(Class<?> producerClass) {
+        var processedCount = processed.sumThenReset();
+        var rejectedByQueryCount = rejectedByQuery.sumThenReset();
+        var rejectedByTransformerCounts = IntStream.range(0, rejectedByTransformer.length)
+                .mapToObj(i->String.format("#%d: %d", i, rejectedByTransformer[i].sumThenReset()))
+                .collect(Collectors.joining(", "));
+        if ( LOG.isDebugEnabled() && processedCount>0 ) {
+            LOG.debug("{} processed {} records; query evaluated before transformer #{} of {}; rejected by query: {}; rejected by transformers: [{}]",
+                    producerClass.getSimpleName(), processedCount, queryStage, transformers.size(), 
+                    rejectedByQueryCount, rejectedByTransformerCounts);
+        }
+    }
+    
+    private static final int determineQueryStage(List<UnaryOperator<JsonNode>> transformers, QueryExpression queryExpression) {
+        var size = transformers.size();
+        if ( queryExpression==null ) { return size; }
+        var referencedProperties = queryExpression.getReferencedProperties().orElse(null);
+        if ( referencedProperties==null ) { return size; }
+        int result = 0;
+        for ( int i=0 ; i<size ; i++ ) {
+            if ( !(transformers.get(i) instanceof PropertyModifyingRecordTransformer t) 
+                    || !Collections.disjoint(t.getModifiedProperties(), referencedProperties) ) {
+                result = i+1;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json.producer;
+
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.output.transform.IRecordsPropertyInputTransformer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Input transformer that returns the value of the given top-level records property 
+ * if present, or the input itself otherwise, as described in {@link IRecordsPropertyInputTransformer}.
+ * If this is the only configured input transformer, {@link RequestObjectNodeProducer} 
+ * can process records while the response is still being parsed.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class RecordsPropertyInputTransformer implements UnaryOperator<JsonNode> {
+    @Getter private final String recordsProperty;
+    private final UnaryOperator<JsonNode> transformer;
+    
+    @Override
+    public JsonNode apply(JsonNode input) {
+        return transformer.apply(input);
+    }
+}
@@ -12,18 +12,24 @@
  */
 package com.fortify.cli.common.json.producer;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.rest.paging.INextPageRequestProducer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducerSupplier;
 import com.fortify.cli.common.rest.paging.PagingHelper;
+import com.fortify.cli.common.rest.paging.PagingPipelineConfig;
 import com.fortify.cli.common.rest.unirest.IHttpRequestUpdater;
 import com.fortify.cli.common.rest.unirest.IfFailureHandler;
 
 import kong.unirest.HttpRequest;
 import kong.unirest.HttpResponse;
+import kong.unirest.RawResponse;
 import lombok.Getter;
 import lombok.Singular;
 import lombok.experimental.SuperBuilder;
@@ -45,6 +51,15 @@ public class RequestObjectNodeProducer extends AbstractObjectNodeProducer {
 
     @Override
     public void forEach(IObjectNodeConsumer consumer) {
+        try {
+            processRequest(consumer);
+            processPendingRecords(consumer);
+        } finally {
+            logRecordProcessingStatistics();
+        }
+    }
+    
+    private void processRequest(IObjectNodeConsumer consumer) {
         // Test-mode shortcut: simulate paging if testPageBodies configured
         if ( testPageBodies!=null && !testPageBodies.isEmpty() ) {
             for ( var body : testPageBodies ) { process(body, consumer); }
@@ -55,14 +70,53 @@ public class RequestObjectNodeProducer extends AbstractObjectNodeProducer {
         if ( effectiveNextPageRequestProducer==null && nextPageUrlProducer!=null && unirestInstance!=null ) {
             effectiveNextPageRequestProducer = PagingHelper.asNextPageRequestProducer(unirestInstance, nextPageUrlProducer);
         }
+        var pipelineConfig = PagingPipelineConfig.fromEnv();
         if ( effectiveNextPageRequestProducer!=null ) {
-            PagingHelper.processPages(request, effectiveNextPageRequestProducer, r->handleResponse(r, consumer));
+            // Pipelined paging loads pages on background threads, so we can only
+            // stream page contents to the consumer if pipelining is disabled.
+            if ( isStreamingInputSupported() && !pipelineConfig.isEnabled() ) {
+                PagingHelper.processPages(request, effectiveNextPageRequestProducer, r->executeStreaming(r, consumer), r->{});
+            } else {
+                PagingHelper.processPages(request, effectiveNextPageRequestProducer, r->handleResponse(r, consumer), pipelineConfig);
+            }
         } else if ( nextPageUrlProducer!=null ) {
             PagingHelper.pagedRequest(request, nextPageUrlProducer).ifSuccess(r->handleResponse(r, consumer)).ifFailure(IfFailureHandler::handle);
+        } else if ( isStreamingInputSupported() ) {
+            executeStreaming(request, consumer).ifFailure(IfFailureHandler::handle);
         } else {
             request.asObject(JsonNode.class).ifSuccess(r->handleResponse(r, consumer)).ifFailure(IfFailureHandler::handle);
         }
     }
+    
+    /**
+     * Execute the given request, passing records to the given consumer while the response
+     * body is being parsed, such that only a single record needs to be kept in memory rather
+     * than the full response. The body of the returned response contains all data except for
+     * the streamed records, allowing for paging data to be read from the response. Exceptions
+     * thrown while processing records are rethrown after the request has completed, rather 
+     * than being reported by Unirest as a response parsing error.
+     */
+    private HttpResponse<JsonNode> executeStreaming(HttpRequest<?> request, IObjectNodeConsumer consumer) {
+        var processingException = new AtomicReference<RuntimeException>();
+        HttpResponse<JsonNode> response = request.asObject(raw->parseStreaming(raw, consumer, processingException));
+        if ( processingException.get()!=null ) { throw processingException.get(); }
+        return response;
+    }
+    
+    private JsonNode parseStreaming(RawResponse raw, IObjectNodeConsumer consumer, AtomicReference<RuntimeException> processingException) {
+        if ( raw.getStatus()<200 || raw.getStatus()>=300 ) {
+            // Parse error responses as usual, for reporting by IfFailureHandler or interceptors
+            return raw.getConfig().getObjectMapper().readValue(raw.getContentAsString(), JsonNode.class);
+        }
+        try ( var parser = JsonHelper.getObjectMapper().createParser(raw.getContent()) ) {
+            return processStreaming(parser, consumer);
+        } catch ( IOException e ) {
+            throw new UncheckedIOException(e);
+        } catch ( RuntimeException e ) {
+            processingException.set(e);
+            return null;
+        }
+    }
 
     private HttpRequest<?> applyRequestUpdaters(HttpRequest<?> base) {
         if ( requestUpdaters==null ) { return base; }
@@ -23,7 +23,17 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class SimpleObjectNodeProducer extends AbstractObjectNodeProducer {
     private final JsonNode source;
-    @Override public void forEach(IObjectNodeConsumer consumer) { process(source, consumer); }
+    
+    @Override
+    public void forEach(IObjectNodeConsumer consumer) {
+        try {
+            process(source, consumer);
+            processPendingRecords(consumer);
+        } finally {
+            logRecordProcessingStatistics();
+        }
+    }
+    
     public static class SimpleObjectNodeProducerBuilderImpl extends SimpleObjectNodeProducerBuilder<SimpleObjectNodeProducer, SimpleObjectNodeProducerBuilderImpl> {
     }
 }
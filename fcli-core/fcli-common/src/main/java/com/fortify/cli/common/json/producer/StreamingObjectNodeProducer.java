@@ -39,6 +39,9 @@ public class StreamingObjectNodeProducer extends AbstractObjectNodeProducer {
                 var node = it.next();
                 if ( node!=null && Break.TRUE == processSingleRecord(node, consumer) ) { break; }
             }
+            processPendingRecords(consumer);
+        } finally {
+            logRecordProcessingStatistics();
         }
     }
 }
\ No newline at end of file
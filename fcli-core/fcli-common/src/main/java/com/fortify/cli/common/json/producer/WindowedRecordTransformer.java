@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json.producer;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.exception.FcliBugException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Record transformer that transforms records in windows of up to {@link #getWindowSize()}
+ * records rather than one by one. {@link RecordProcessingPlan} collects records in a window
+ * until either the window is full or all input has been processed, and then passes the 
+ * transformed records to subsequent processing stages in their original order. The wrapped
+ * transformer must return a list of the same size as the given list, containing the transformed
+ * record (or null to discard the record) at the same position as the corresponding input record.
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class WindowedRecordTransformer implements UnaryOperator<JsonNode> {
+    @Getter private final int windowSize;
+    private final UnaryOperator<List<JsonNode>> transformer;
+    
+    /**
+     * Transform all records in the given window.
+     */
+    public List<JsonNode> applyAll(List<JsonNode> records) {
+        var result = transformer.apply(records);
+        if ( result==null || result.size()!=records.size() ) {
+            throw new FcliBugException("Windowed record transformer must return a single result for every input record");
+        }
+        return result;
+    }
+    
+    @Override
+    public JsonNode apply(JsonNode record) {
+        return applyAll(List.of(record)).get(0);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.output.transform;
+
+/**
+ * {@link IInputTransformer} that returns the value of a single top-level property,
+ * usually an array of records, if the input contains this property, or the input 
+ * itself otherwise. Knowing the property name allows for records to be processed 
+ * while the input is still being parsed, rather than first parsing the full input.
+ */
+public interface IRecordsPropertyInputTransformer extends IInputTransformer {
+    String getRecordsProperty();
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.output.transform;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * {@link IRecordTransformer} that transforms records in windows of up to {@link #getWindowSize()}
+ * records rather than one by one, for example to perform expensive lookups for all records in a 
+ * window concurrently, or only once for multiple records. Implementations must return a list of 
+ * the same size as the given list, containing the transformed record (or null to discard the 
+ * record) at the same position as the corresponding input record.
+ */
+public interface IWindowedRecordTransformer extends IRecordTransformer {
+    int getWindowSize();
+    List<JsonNode> transformRecords(List<JsonNode> records);
+    
+    @Override
+    default JsonNode transformRecord(JsonNode record) {
+        return transformRecords(List.of(record)).get(0);
+    }
+}
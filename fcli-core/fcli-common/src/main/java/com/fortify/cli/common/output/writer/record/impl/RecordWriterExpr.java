@@ -29,6 +29,7 @@ import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.output.writer.record.RecordWriterConfig;
 import com.fortify.cli.common.output.writer.record.impl.RecordWriterExpr.ExpressionWriter;
+import com.fortify.cli.common.spel.SpelHelper;
 import com.fortify.cli.common.spel.validator.AbstractSimpleSpelNodeValidator;
 
 import lombok.Getter;
@@ -36,7 +37,7 @@ import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class RecordWriterExpr extends AbstractRecordWriter<ExpressionWriter> {
-    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    private static final SpelExpressionParser PARSER = SpelHelper.getParser();
     @Getter private final RecordWriterConfig config;
     
     @Override
@@ -15,7 +15,6 @@ package com.fortify.cli.common.output.writer.record.impl;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Writer;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
@@ -26,6 +25,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.output.writer.record.RecordWriterConfig;
 import com.fortify.cli.common.util.ConsoleHelper;
+import com.fortify.cli.common.util.EnvHelper;
 import com.github.freva.asciitable.AsciiTable;
 import com.github.freva.asciitable.Column;
 import com.github.freva.asciitable.HorizontalAlign;
@@ -38,6 +38,12 @@ import lombok.RequiredArgsConstructor;
 public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.TableWriter> {
     @Getter private final RecordWriterConfig config;
     private static final int BATCH_SIZE = 100; // Row batch size for fast-output streaming
+    /** Environment variable for configuring number of rows used to calculate column widths in fast-output mode */
+    public static final String ENV_WIDTH_SAMPLE_SIZE = "FCLI_TABLE_WIDTH_SAMPLE_SIZE";
+    /** Environment variable for configuring maximum memory (in MB) used for buffering rows before spilling to disk */
+    public static final String ENV_MEMORY_LIMIT_MB = "FCLI_TABLE_MEMORY_LIMIT_MB";
+    private static final int DEFAULT_WIDTH_SAMPLE_SIZE = BATCH_SIZE;
+    private static final int DEFAULT_MEMORY_LIMIT_MB = 64;
 
     @Override
     protected void append(TableWriter out, ObjectNode formattedRecord) throws IOException { out.append(formattedRecord); }
@@ -60,31 +66,51 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
         return new TableWriter(writer, headers);
     }
 
-    @RequiredArgsConstructor
+    /**
+     * Writes rows as a table. Rows are buffered in a {@link TableRowBuffer} until column widths
+     * are known, spilling to a temporary file if the buffered rows exceed the configured memory 
+     * limit. With fast-output style, column widths are calculated from the first rows (sample 
+     * size configurable through {@value #ENV_WIDTH_SAMPLE_SIZE}), after which rows are written 
+     * in batches, so heap usage is bounded by the sample and batch size. Without fast-output 
+     * style, column widths are calculated from all rows, and rows are written on close. 
+     */
     protected final class TableWriter implements Closeable {
         private final Writer writer;
         private final List<String> headers;
-        private final List<String[]> rows = new ArrayList<>();
+        private final TableRowBuffer rows;
+        private final int widthSampleSize;
+        private final int[] dataWidths; // Maximum data widths for all rows seen so far
         private int[] columnWidths; // Computed content widths (excluding padding)
         private long totalRowCount = 0;
+        private int segmentCount = 0;
         private Character[] firstAndOnlySegmentBorders;
         private Character[] firstOfMultiSegmentBorders;
         private Character[] intermediateSegmentBorders;
         private Character[] lastSegmentBorders;
+        
+        public TableWriter(Writer writer, List<String> headers) {
+            this.writer = writer;
+            this.headers = headers;
+            this.rows = new TableRowBuffer(headers.size(), 1024L*1024L*Math.max(1, EnvHelper.envAsInt(ENV_MEMORY_LIMIT_MB, DEFAULT_MEMORY_LIMIT_MB)));
+            this.widthSampleSize = Math.max(1, EnvHelper.envAsInt(ENV_WIDTH_SAMPLE_SIZE, DEFAULT_WIDTH_SAMPLE_SIZE));
+            this.dataWidths = new int[headers.size()];
+        }
 
         public void append(ObjectNode formattedRecord) {
-            rows.add(asColumnArray(formattedRecord));
-            totalRowCount++;
             if ( config.getStyle().isFastOutput() ) {
-                if ( columnWidths==null && rows.size()==BATCH_SIZE ) { // First batch triggers width calculation & output
-                    columnWidths = calculateColumnWidths(rows);
-                    outputSegment(false);
-                    rows.clear();
-                } else if ( columnWidths!=null && rows.size()==BATCH_SIZE ) { // Subsequent full batch
-                    outputSegment(false);
-                    rows.clear();
+                if ( columnWidths==null && rows.size()>=widthSampleSize ) { // Sample complete; freeze widths
+                    columnWidths = calculateColumnWidths();
+                }
+                // Output full batches only once we know there's at least one more row, to make
+                // sure that the final segment (with bottom border) is output by close()
+                if ( columnWidths!=null && rows.size()>=BATCH_SIZE ) {
+                    rows.drain(BATCH_SIZE, (batch, isLastBatch)->outputSegment(batch, false));
                 }
             }
+            var row = asColumnArray(formattedRecord);
+            updateDataWidths(row);
+            rows.add(row);
+            totalRowCount++;
         }
 
         private String[] asColumnArray(ObjectNode formattedRecord) {
@@ -99,24 +125,35 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
             }
             return node.asText();
         }
+        
+        private void updateDataWidths(String[] row) {
+            for ( int i=0;i<row.length;i++ ) {
+                int w = maxLineLength(row[i]); if ( w>dataWidths[i] ) { dataWidths[i]=w; }
+            }
+        }
 
         @Override
         public void close() throws IOException {
-            if ( columnWidths==null && !rows.isEmpty() ) { // no-fast-output or trailing partial batch
-                columnWidths = calculateColumnWidths(rows);
-            }
-            if ( rows.isEmpty() && totalRowCount==0 ) {
-                writer.write("No data\n");
-            } else if ( !rows.isEmpty() ) {
-                outputSegment(true);
+            try {
+                if ( totalRowCount==0 ) {
+                    writer.write("No data\n");
+                } else if ( !rows.isEmpty() ) {
+                    if ( columnWidths==null ) { columnWidths = calculateColumnWidths(); } // no-fast-output or less than sample size
+                    // Output in a single segment if possible, to avoid any differences in table layout
+                    var batchSize = config.getStyle().isFastOutput() || rows.isSpilled() ? BATCH_SIZE : Integer.MAX_VALUE;
+                    rows.drain(batchSize, this::outputSegment);
+                }
+                writer.flush();
+                writer.close();
+            } finally {
+                rows.close();
             }
-            writer.flush();
-            writer.close();
         }
 
-        private void outputSegment(boolean finalSegment) {
+        private void outputSegment(List<String[]> segmentRows, boolean finalSegment) {
             Character[] borders = determineSegmentBorders(finalSegment);
-            String table = asTable(borders, shouldIncludeHeadersForCurrentSegment());
+            String table = asTable(segmentRows, borders, segmentCount==0);
+            segmentCount++;
             if ( table.isEmpty() ) { return; }
             try {
                 writer.write(table);
@@ -127,8 +164,8 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
             }
         }
 
-        private String asTable(Character[] borders, boolean includeHeaders) {
-            if ( rows.isEmpty() ) { return ""; }
+        private String asTable(List<String[]> segmentRows, Character[] borders, boolean includeHeaders) {
+            if ( segmentRows.isEmpty() ) { return ""; }
             Column[] columns = headers.stream().map(h -> {
                 Column col = new Column().dataAlign(HorizontalAlign.LEFT).headerAlign(HorizontalAlign.LEFT);
                 if ( includeHeaders && config.getStyle().withHeaders() ) { col.header(formatHeader(h)); }
@@ -139,20 +176,13 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
                 }
                 return col;
             }).toArray(Column[]::new);
-            String result = AsciiTable.getTable(borders, columns, rows.toArray(String[][]::new));
+            String result = AsciiTable.getTable(borders, columns, segmentRows.toArray(String[][]::new));
             if ( config.getStyle().isMarkdownBorder() ) {
                 result = result.replaceAll("(?m)^\\s+$", "").replaceAll("(?m)^\\n", "");
             }
             return result;
         }
 
-        private boolean shouldIncludeHeadersForCurrentSegment() {
-            // In no-fast-output mode we output only once at close(), so always include headers.
-            if ( !config.getStyle().isFastOutput() ) { return true; }
-            // In fast-output mode, only include headers in the first segment (<= first batch size)
-            return totalRowCount <= BATCH_SIZE;
-        }
-
         private Character[] determineSegmentBorders(boolean finalSegment) {
             if ( firstAndOnlySegmentBorders==null ) {
                 firstAndOnlySegmentBorders = getBorders();
@@ -160,9 +190,7 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
                 intermediateSegmentBorders = createContinuationBorders(firstAndOnlySegmentBorders);
                 lastSegmentBorders = createFinalMultiSegmentBorders(firstAndOnlySegmentBorders);
             }
-            // For no-fast-output we always output a single segment, regardless of row count
-            if ( !config.getStyle().isFastOutput() ) { return firstAndOnlySegmentBorders; }
-            if ( totalRowCount <= BATCH_SIZE ) { return finalSegment ? firstAndOnlySegmentBorders : firstOfMultiSegmentBorders; }
+            if ( segmentCount==0 ) { return finalSegment ? firstAndOnlySegmentBorders : firstOfMultiSegmentBorders; }
             return finalSegment ? lastSegmentBorders : intermediateSegmentBorders;
         }
 
@@ -185,14 +213,8 @@ public class RecordWriterTable extends AbstractRecordWriter<RecordWriterTable.Ta
             return modified;
         }
 
-        private int[] calculateColumnWidths(List<String[]> sampleRows) {
+        private int[] calculateColumnWidths() {
             int cols = headers.size();
-            int[] dataWidths = new int[cols];
-            for ( var row : sampleRows ) {
-                for ( int i=0;i<row.length;i++ ) {
-                    int w = maxLineLength(row[i]); if ( w>dataWidths[i] ) { dataWidths[i]=w; }
-                }
-            }
             int[] headerWidths = headers.stream().mapToInt(h->maxLineLength(formatHeader(h))).toArray();
             int[] minWidths = new int[cols];
             int[] maxWidths = new int[cols];
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.output.writer.record.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fortify.cli.common.exception.FcliTechnicalException;
+
+/**
+ * Buffer for table rows, used by {@link RecordWriterTable} to hold rows until column widths
+ * are known. Rows are kept in memory until their estimated size exceeds the configured 
+ * memory limit, after which all buffered and subsequent rows are spilled to a temporary
+ * file. Buffered rows are read back in fixed-size batches, so heap usage is bounded by the
+ * memory limit and batch size, independent of the number of rows.
+ */
+final class TableRowBuffer implements Closeable {
+    private final int columnCount;
+    private final long memoryLimitBytes;
+    private final List<String[]> rows = new ArrayList<>();
+    private long estimatedBytes = 0;
+    private long size = 0;
+    private Path spillFile;
+    private DataOutputStream spillOut;
+    
+    TableRowBuffer(int columnCount, long memoryLimitBytes) {
+        this.columnCount = columnCount;
+        this.memoryLimitBytes = memoryLimitBytes;
+    }
+    
+    public void add(String[] row) {
+        size++;
+        if ( spillOut!=null ) {
+            write(row);
+        } else {
+            rows.add(row);
+            estimatedBytes += estimateSize(row);
+            if ( estimatedBytes>memoryLimitBytes ) { spill(); }
+        }
+    }
+    
+    public long size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size==0;
+    }
+    
+    public boolean isSpilled() {
+        return spillFile!=null;
+    }
+    
+    /**
+     * Pass all buffered rows to the given consumer in batches of (at most) the given 
+     * size, in the order in which the rows were added, and clear this buffer afterwards.
+     */
+    public void drain(int batchSize, IBatchConsumer consumer) {
+        try {
+            if ( spillOut==null ) {
+                drainMemory(batchSize, consumer);
+            } else {
+                drainSpillFile(batchSize, consumer);
+            }
+        } finally {
+            clear();
+        }
+    }
+    
+    private void drainMemory(int batchSize, IBatchConsumer consumer) {
+        for ( int start=0, end; start<rows.size(); start=end ) {
+            end = (int)Math.min((long)start+batchSize, rows.size());
+            consumer.accept(rows.subList(start, end), end==rows.size());
+        }
+    }
+    
+    private void drainSpillFile(int batchSize, IBatchConsumer consumer) {
+        try {
+            spillOut.close();
+            spillOut = null;
+            try ( var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile))) ) {
+                var batch = new ArrayList<String[]>(Math.min(batchSize, 1024));
+                for ( long remaining=size; remaining>0; remaining-- ) {
+                    batch.add(read(in));
+                    if ( batch.size()==batchSize || remaining==1 ) {
+                        consumer.accept(batch, remaining==1);
+                        batch.clear();
+                    }
+                }
+            }
+        } catch ( IOException e ) {
+            throw new FcliTechnicalException("Error reading table rows from temporary file "+spillFile, e);
+        }
+    }
+    
+    private void clear() {
+        rows.clear();
+        estimatedBytes = 0;
+        size = 0;
+        closeSpillFile();
+    }
+
+    @Override
+    public void close() {
+        clear();
+    }
+    
+    private void spill() {
+        try {
+            spillFile = Files.createTempFile("fcli-table-", ".tmp");
+            spillFile.toFile().deleteOnExit();
+            spillOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)));
+        } catch ( IOException e ) {
+            throw new FcliTechnicalException("Error creating temporary file for table rows", e);
+        }
+        rows.forEach(this::write);
+        rows.clear();
+        estimatedBytes = 0;
+    }
+    
+    private void write(String[] row) {
+        try {
+            for ( var value : row ) {
+                var bytes = value.getBytes(StandardCharsets.UTF_8);
+                spillOut.writeInt(bytes.length);
+                spillOut.write(bytes);
+            }
+        } catch ( IOException e ) {
+            throw new FcliTechnicalException("Error writing table rows to temporary file "+spillFile, e);
+        }
+    }
+    
+    private String[] read(DataInputStream in) throws IOException {
+        var row = new String[columnCount];
+        for ( int i=0; i<columnCount; i++ ) {
+            var bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            row[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return row;
+    }
+    
+    private void closeSpillFile() {
+        if ( spillFile!=null ) {
+            try {
+                if ( spillOut!=null ) { spillOut.close(); }
+                Files.deleteIfExists(spillFile);
+            } catch ( IOException e ) {
+                // Ignore; file is also scheduled for deletion on exit
+            } finally {
+                spillOut = null;
+                spillFile = null;
+            }
+        }
+    }
+    
+    private static long estimateSize(String[] row) {
+        long result = 16L + 4L*row.length; // Array header & references
+        for ( var value : row ) { result += 40L + 2L*value.length(); } // String header & contents
+        return result;
+    }
+    
+    @FunctionalInterface
+    interface IBatchConsumer {
+        void accept(List<String[]> batch, boolean isLastBatch);
+    }
+}
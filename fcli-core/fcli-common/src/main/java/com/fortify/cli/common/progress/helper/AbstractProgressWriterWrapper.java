@@ -30,31 +30,31 @@ public abstract class AbstractProgressWriterWrapper implements IProgressWriter {
     }
     
     @Override
-    public final void writeProgress(String message, Object... args) {
+    public final synchronized void writeProgress(String message, Object... args) {
         getProgressWriter().writeProgress(message, args);
     }
     
     @Override
-    public final void writeInfo(String message, Object... args) {
+    public final synchronized void writeInfo(String message, Object... args) {
         getProgressWriter().writeInfo(message, args);
     }
     
     @Override
-    public final void writeWarning(String message, Object... args) {
+    public final synchronized void writeWarning(String message, Object... args) {
         getProgressWriter().writeWarning(message, args);
     }
     
     @Override
-    public final void clearProgress() {
+    public final synchronized void clearProgress() {
         getProgressWriter().clearProgress();
     }
     
     @Override
-    public void close() {
+    public synchronized void close() {
         getProgressWriter().close();
     }
     
-    private final IProgressWriter getProgressWriter() {
+    private final synchronized IProgressWriter getProgressWriter() {
         if ( progressWriter==null ) {
             progressWriter = createProgressWriter();
         }
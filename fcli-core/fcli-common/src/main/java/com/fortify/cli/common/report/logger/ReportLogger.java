@@ -73,7 +73,7 @@ public final class ReportLogger implements IReportLogger {
     }
     
     @SneakyThrows
-    private void write(String level, Counter counter, String msg, Exception e, Object[] msgArgs) {
+    private synchronized void write(String level, Counter counter, String msg, Exception e, Object[] msgArgs) {
         counter.increase();
         var fullMsg = msgArgs==null ? msg : String.format(msg, msgArgs);
         if ( e!=null ) {
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.paging;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import kong.unirest.HttpRequest;
+import kong.unirest.HttpResponse;
+
+/**
+ * Request-based equivalent of {@link IRemainingPageUrlsProducer}, optionally implemented by
+ * {@link INextPageRequestProducer} instances. 
+ */
+public interface IRemainingPageRequestsProducer {
+    /**
+     * Get the requests for all pages following the given first page response, in page order.
+     * @return Requests for all remaining pages, or null if these cannot be determined 
+     */
+    List<HttpRequest<?>> getRemainingPageRequests(HttpRequest<?> originalRequest, HttpResponse<? extends JsonNode> firstResponse);
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.paging;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import kong.unirest.HttpRequest;
+import kong.unirest.HttpResponse;
+
+/**
+ * Optional capability for {@link INextPageUrlProducer} implementations that handle offset-based
+ * paging, allowing the URLs for all remaining pages to be calculated from the first page response
+ * (which usually contains the total record count). This allows {@link PagingHelper} to load these 
+ * pages in parallel if pipelined paging has been enabled through {@link PagingPipelineConfig}. 
+ */
+public interface IRemainingPageUrlsProducer {
+    /**
+     * Get the URLs for all pages following the given first page response, in page order.
+     * @param originalRequest Original request that produced the first page
+     * @param firstResponse Response for the first page
+     * @return URLs for all remaining pages (empty if there are no more pages), or null if 
+     *         remaining pages cannot be determined from the given response, in which case
+     *         callers should fall back to sequential next-page processing.
+     */
+    List<String> getRemainingPageUrls(HttpRequest<?> originalRequest, HttpResponse<? extends JsonNode> firstResponse);
+}
@@ -12,7 +12,9 @@
  */
 package com.fortify.cli.common.rest.paging;
 
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fortify.cli.common.exception.FcliTechnicalException;
@@ -65,24 +67,70 @@ public class PagingHelper {
     }
     
     public static final void processPages(UnirestInstance unirest, HttpRequest<?> initialRequest, INextPageUrlProducer nextPageUrlProducer, Consumer<HttpResponse<JsonNode>> consumer) {
+        processPages(unirest, initialRequest, nextPageUrlProducer, consumer, PagingPipelineConfig.DISABLED);
+    }
+    
+    /**
+     * Same as {@link #processPages(UnirestInstance, HttpRequest, INextPageUrlProducer, Consumer)}, but
+     * optionally loading pages in a pipelined fashion as configured through the given {@link PagingPipelineConfig}.
+     * If the given {@link INextPageUrlProducer} also implements {@link IRemainingPageUrlsProducer}, remaining
+     * pages may be loaded in parallel.
+     */
+    public static final void processPages(UnirestInstance unirest, HttpRequest<?> initialRequest, INextPageUrlProducer nextPageUrlProducer, Consumer<HttpResponse<JsonNode>> consumer, PagingPipelineConfig pipelineConfig) {
         var nextPageRequestProducer = asNextPageRequestProducer(unirest, nextPageUrlProducer);
         if ( nextPageRequestProducer==null ) {
             throw new FcliTechnicalException("Cannot process pages without a valid NextPageRequestProducer");
         }
-        processPages(initialRequest, nextPageRequestProducer, consumer);
+        processPages(initialRequest, nextPageRequestProducer, consumer, pipelineConfig);
     }
 
     public static final void processPages(HttpRequest<?> initialRequest, INextPageRequestProducer nextPageRequestProducer, Consumer<HttpResponse<JsonNode>> consumer) {
+        processPages(initialRequest, nextPageRequestProducer, r->r.asObject(JsonNode.class), consumer);
+    }
+    
+    /**
+     * Same as {@link #processPages(HttpRequest, INextPageRequestProducer, Consumer)}, but using the
+     * given page loader to execute each page request. This allows callers to process page contents
+     * while the response is being parsed, in which case the response returned by the page loader
+     * only needs to contain the data required by the {@link INextPageRequestProducer}.
+     */
+    public static final void processPages(HttpRequest<?> initialRequest, INextPageRequestProducer nextPageRequestProducer, Function<HttpRequest<?>, HttpResponse<JsonNode>> pageLoader, Consumer<HttpResponse<JsonNode>> consumer) {
         var currentRequest = initialRequest;
         while ( currentRequest!=null ) {
-        HttpResponse<JsonNode> response = currentRequest.asObject(JsonNode.class);
-        consumer.accept(response);
-        currentRequest = nextPageRequestProducer.getNextPageRequest(initialRequest, response);
+            HttpResponse<JsonNode> response = pageLoader.apply(currentRequest);
+            consumer.accept(response);
+            currentRequest = nextPageRequestProducer.getNextPageRequest(initialRequest, response);
+        }
+    }
+    
+    /**
+     * Same as {@link #processPages(HttpRequest, INextPageRequestProducer, Consumer)}, but optionally loading
+     * pages in a pipelined fashion as configured through the given {@link PagingPipelineConfig}. The consumer
+     * is always invoked on the calling thread, in page order, but next pages may already be loading on
+     * background threads while the consumer is processing the current page. As such, next page requests
+     * may only depend on previous page responses, not on any state updated by the consumer. If the given
+     * {@link INextPageRequestProducer} also implements {@link IRemainingPageRequestsProducer}, remaining
+     * pages may be loaded in parallel.
+     */
+    public static final void processPages(HttpRequest<?> initialRequest, INextPageRequestProducer nextPageRequestProducer, Consumer<HttpResponse<JsonNode>> consumer, PagingPipelineConfig pipelineConfig) {
+        if ( pipelineConfig==null || !pipelineConfig.isEnabled() ) {
+            processPages(initialRequest, nextPageRequestProducer, consumer);
+        } else {
+            Function<HttpResponse<JsonNode>, List<HttpRequest<?>>> remainingPageRequestsFunction = 
+                nextPageRequestProducer instanceof IRemainingPageRequestsProducer p 
+                    ? r->p.getRemainingPageRequests(initialRequest, r)
+                    : null;
+            new PipelinedPageProcessor<HttpRequest<?>, HttpResponse<JsonNode>>(
+                    pipelineConfig,
+                    r->r.asObject(JsonNode.class),
+                    r->nextPageRequestProducer.getNextPageRequest(initialRequest, r),
+                    remainingPageRequestsFunction
+            ).process(initialRequest, consumer);
         }
     }
     
     @RequiredArgsConstructor
-    private static final class NextPageRequestProducer implements INextPageRequestProducer {
+    private static final class NextPageRequestProducer implements INextPageRequestProducer, IRemainingPageRequestsProducer {
         private final UnirestInstance unirest;
         private final INextPageUrlProducer nextPageUrlProducer;
         
@@ -92,6 +140,15 @@ public class PagingHelper {
             // TODO Any more request attributes to be copied from original request?
             return nextPageUrl==null ? null : nextPageRequest(request, nextPageUrl); 
         }
+        
+        @Override
+        public List<HttpRequest<?>> getRemainingPageRequests(HttpRequest<?> request, HttpResponse<? extends JsonNode> firstResponse) {
+            if ( !(nextPageUrlProducer instanceof IRemainingPageUrlsProducer remainingPageUrlsProducer) ) { return null; }
+            var remainingPageUrls = remainingPageUrlsProducer.getRemainingPageUrls(request, firstResponse);
+            return remainingPageUrls==null ? null : remainingPageUrls.stream()
+                    .<HttpRequest<?>>map(url->nextPageRequest(request, url))
+                    .toList();
+        }
 
         private HttpRequest<?> nextPageRequest(HttpRequest<?> originalRequest, String nextPageUrl) {
             HttpRequest<?> result = unirest.request(originalRequest.getHttpMethod().name(), nextPageUrl)
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.paging;
+
+import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.util.EnvHelper;
+
+/**
+ * Configuration for pipelined paging as implemented by {@link PagingHelper}. Pipelined paging
+ * loads next pages on background threads while the consumer is still processing the current
+ * page.
+ * <ul>
+ *  <li>{@link #lookahead()}: Maximum number of pages that may be loaded ahead of the page
+ *      currently being consumed. Loading of further pages blocks until the consumer catches up,
+ *      limiting memory usage for large result sets. A value of 0 disables pipelined paging.</li>
+ *  <li>{@link #parallelism()}: Maximum number of page requests executed concurrently for
+ *      offset-based paging, once the remaining pages are known from the first page response
+ *      (see {@link IRemainingPageUrlsProducer}). A value of 1 loads pages one by one.</li>
+ * </ul>
+ * Pipelined paging is opt-in; {@link #fromEnv()} returns a disabled configuration unless the
+ * {@value #ENV_LOOKAHEAD} environment variable is set to a positive value. 
+ */
+public record PagingPipelineConfig(int lookahead, int parallelism) {
+    public static final String ENV_LOOKAHEAD = "FCLI_PAGING_LOOKAHEAD";
+    public static final String ENV_PARALLELISM = "FCLI_PAGING_PARALLELISM";
+    public static final PagingPipelineConfig DISABLED = new PagingPipelineConfig(0, 1);
+    
+    public PagingPipelineConfig {
+        if ( lookahead<0 ) { throw new FcliSimpleException("Paging lookahead must be >= 0, got "+lookahead); }
+        if ( parallelism<1 ) { throw new FcliSimpleException("Paging parallelism must be >= 1, got "+parallelism); }
+    }
+    
+    public boolean isEnabled() {
+        return lookahead>0;
+    }
+    
+    public boolean isParallel() {
+        return isEnabled() && parallelism>1;
+    }
+    
+    /**
+     * Create a {@link PagingPipelineConfig} instance based on the {@value #ENV_LOOKAHEAD} and
+     * {@value #ENV_PARALLELISM} environment variables.
+     */
+    public static final PagingPipelineConfig fromEnv() {
+        var lookahead = EnvHelper.envAsInt(ENV_LOOKAHEAD, 0);
+        if ( lookahead<=0 ) { return DISABLED; }
+        return new PagingPipelineConfig(lookahead, EnvHelper.envAsInt(ENV_PARALLELISM, 1));
+    }
+}
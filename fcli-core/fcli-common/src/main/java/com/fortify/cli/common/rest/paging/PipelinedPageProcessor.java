@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.paging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.fortify.cli.common.exception.FcliTechnicalException;
+import com.fortify.cli.common.util.OrderedParallelProcessor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Generic engine for pipelined page processing, decoupled from Unirest types to allow for
+ * unit testing. Pages are always passed to the consumer on the calling thread, in page
+ * order; only page loading and next-page calculation take place on background threads.
+ * <ul>
+ *  <li>If remaining pages can be determined from the first page, up to 
+ *      {@link PagingPipelineConfig#parallelism()} pages are loaded concurrently, with at most
+ *      max(lookahead, parallelism) pages being loaded or buffered ahead of the consumer.</li>
+ *  <li>Otherwise, a single background thread follows the next-page chain, blocking once
+ *      {@link PagingPipelineConfig#lookahead()} loaded pages are waiting to be consumed.</li>
+ * </ul>
+ * If the consumer throws an exception, background loading is cancelled and the exception 
+ * is propagated. Page loading failures are propagated to the caller once the consumer reaches
+ * the failed page.
+ *
+ * @param <Q> Page request type
+ * @param <P> Page response type
+ */
+@RequiredArgsConstructor
+final class PipelinedPageProcessor<Q,P> {
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private final PagingPipelineConfig config;
+    private final Function<Q,P> pageLoader;
+    /** Returns the next page request for the given page, or null if there are no more pages */
+    private final Function<P,Q> nextPageRequestFunction;
+    /** Optional; returns all remaining page requests for the given first page, or null if unknown */ 
+    private final Function<P,List<Q>> remainingPageRequestsFunction;
+    
+    public void process(Q initialRequest, Consumer<P> consumer) {
+        var firstPage = pageLoader.apply(initialRequest);
+        var remainingPageRequests = getRemainingPageRequests(firstPage);
+        if ( remainingPageRequests!=null ) {
+            processParallel(firstPage, remainingPageRequests, consumer);
+        } else {
+            processSequential(firstPage, consumer);
+        }
+    }
+
+    private List<Q> getRemainingPageRequests(P firstPage) {
+        return config.isParallel() && remainingPageRequestsFunction!=null 
+                ? remainingPageRequestsFunction.apply(firstPage)
+                : null;
+    }
+    
+    private void processParallel(P firstPage, List<Q> remainingPageRequests, Consumer<P> consumer) {
+        var pageSuppliers = new ArrayList<Supplier<P>>(remainingPageRequests.size()+1);
+        pageSuppliers.add(()->firstPage);
+        remainingPageRequests.forEach(r->pageSuppliers.add(()->pageLoader.apply(r)));
+        var threads = Math.min(config.parallelism(), remainingPageRequests.size());
+        try ( var processor = new OrderedParallelProcessor("fcli-paging", threads) ) {
+            processor.process(pageSuppliers.iterator(), config.lookahead(), Supplier::get, (s,page)->consumer.accept(page));
+        }
+    }
+    
+    private void processSequential(P firstPage, Consumer<P> consumer) {
+        BlockingQueue<PageResult<P>> queue = new ArrayBlockingQueue<>(config.lookahead());
+        var loader = new Thread(()->loadSequential(firstPage, queue), "fcli-paging-"+THREAD_COUNTER.incrementAndGet());
+        loader.setDaemon(true); // Allow JVM exit
+        loader.start();
+        try {
+            consumer.accept(firstPage);
+            for ( var result=take(queue); !result.isEnd(); result=take(queue) ) {
+                consumer.accept(result.getPage());
+            }
+        } finally {
+            loader.interrupt();
+        }
+    }
+    
+    private void loadSequential(P firstPage, BlockingQueue<PageResult<P>> queue) {
+        try {
+            var page = firstPage;
+            for ( var request=nextPageRequestFunction.apply(page); request!=null; request=nextPageRequestFunction.apply(page) ) {
+                page = pageLoader.apply(request);
+                queue.put(new PageResult<>(page, null));
+            }
+            queue.put(new PageResult<>(null, null));
+        } catch ( InterruptedException e ) {
+            // Consumer has finished or failed; no one is interested in more pages
+            Thread.currentThread().interrupt();
+        } catch ( RuntimeException | Error e ) {
+            try {
+                queue.put(new PageResult<>(null, e));
+            } catch ( InterruptedException ie ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private static <T> T take(BlockingQueue<T> queue) {
+        try {
+            return queue.take();
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new FcliTechnicalException("Interrupted while waiting for next page", e);
+        }
+    }
+    
+    private static RuntimeException rethrow(Throwable t) {
+        if ( t instanceof RuntimeException re ) { throw re; }
+        if ( t instanceof Error err ) { throw err; }
+        throw new FcliTechnicalException("Error loading page", t);
+    }
+    
+    /** Either a loaded page, a page loading failure, or end-of-pages marker if both are null */
+    private record PageResult<P>(P page, Throwable failure) {
+        boolean isEnd() { return failure==null && page==null; }
+        P getPage() { 
+            if ( failure!=null ) { throw rethrow(failure); }
+            return page;
+        }
+    }
+}
@@ -13,6 +13,7 @@
 package com.fortify.cli.common.rest.unirest;
 
 import java.net.URI;
+import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 
@@ -46,5 +47,22 @@ public class URIHelper {
         return new URI(uri.getScheme(), uri.getUserInfo(), uri.getHost(), uri.getPort(),
                 uri.getPath(), query, uri.getFragment());
     }
+    
+    /**
+     * Get the (decoded) value of the first occurrence of the given query parameter in the given URI,
+     * or null if the URI doesn't contain the given query parameter.
+     */
+    @SneakyThrows
+    public static final String getParam(String uriString, String param) {
+        var query = new URI(uriString).getRawQuery();
+        if ( StringUtils.isBlank(query) ) { return null; }
+        for ( var paramAndValue : query.split("&") ) {
+            var parts = paramAndValue.split("=", 2);
+            if ( param.equals(URLDecoder.decode(parts[0], StandardCharsets.UTF_8)) ) {
+                return parts.length==1 ? "" : URLDecoder.decode(parts[1], StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
 
 }
@@ -13,9 +13,13 @@
 package com.fortify.cli.common.rest.unirest;
 
 import java.io.File;
+import java.io.InputStream;
 import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
+import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.http.proxy.helper.ProxyHelper;
 import com.fortify.cli.common.json.JsonHelper;
 
@@ -35,6 +39,34 @@ public class UnirestHelper {
         }
     }
 
+    /**
+     * Download the given URL, passing the response body to the given processor while it's 
+     * being downloaded, rather than storing the response body in a file first. The processor
+     * doesn't need to close the given {@link InputStream}. As Unirest converts any exception
+     * thrown while processing the response into a parsing error, we capture such exceptions
+     * (including the exception thrown for error responses) and rethrow them once the request
+     * has completed.
+     */
+    public static final <T> T download(String fcliModule, String url, Function<InputStream, T> processor) {
+        try (var unirest = createUnirestInstance()) {
+            ProxyHelper.configureProxy(unirest, fcliModule, url);
+            var processingException = new AtomicReference<RuntimeException>();
+            T result = unirest.get(url).asObject(r->{
+                try {
+                    if ( r.getStatus()>=400 ) {
+                        throw new FcliSimpleException(String.format("Error downloading %s: %s %s", url, r.getStatus(), r.getStatusText()));
+                    }
+                    return processor.apply(r.getContent());
+                } catch ( RuntimeException e ) {
+                    processingException.set(e);
+                    return null;
+                }
+            }).getBody();
+            if ( processingException.get()!=null ) { throw processingException.get(); }
+            return result;
+        }
+    }
+
     /**
      * Create a new Unirest instance, configured with the standard FCLI JSON object mapper.
      * Callers are responsible for closing the returned instance.
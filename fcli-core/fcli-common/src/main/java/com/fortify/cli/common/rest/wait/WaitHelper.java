@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -36,19 +37,40 @@ import com.fortify.cli.common.rest.wait.WaitType.AnyOrAll;
 import com.fortify.cli.common.rest.wait.WaitType.LoopType;
 import com.fortify.cli.common.util.DateTimePeriodHelper;
 import com.fortify.cli.common.util.DateTimePeriodHelper.Period;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.common.util.OrderedParallelProcessor;
 
 import kong.unirest.UnirestInstance;
 import lombok.Builder;
 import lombok.Getter;
 
+/**
+ * <p>This class allows for waiting until one or more records reach (or leave) a given
+ * set of states. Records can either be loaded through a single {@link #recordsSupplier}
+ * that loads all records at once, or through a list of {@link #recordSuppliers} that 
+ * each load a single record. In the latter case, records that have reached one of the
+ * configured {@link #terminalStates} are no longer polled, and the remaining records 
+ * are polled concurrently. The maximum number of concurrent requests can be configured 
+ * through the {@value #ENV_PARALLELISM} environment variable.</p>
+ * 
+ * <p>The polling interval starts at the number of milliseconds specified through the
+ * {@value #ENV_INITIAL_INTERVAL_MILLIS} environment variable, doubling after every poll
+ * until reaching the configured interval period.</p>
+ */
 @Builder
 public class WaitHelper {
+    public static final String ENV_PARALLELISM = "FCLI_WAIT_PARALLELISM";
+    public static final String ENV_INITIAL_INTERVAL_MILLIS = "FCLI_WAIT_INITIAL_INTERVAL_MS";
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final int DEFAULT_INITIAL_INTERVAL_MILLIS = 1000;
     private static final DateTimePeriodHelper periodHelper = DateTimePeriodHelper.byRange(Period.SECONDS, Period.DAYS);
     private final Function<UnirestInstance, Collection<JsonNode>> recordsSupplier;
+    private final List<Function<UnirestInstance, JsonNode>> recordSuppliers;
     private final Function<JsonNode, String> currentState;
     private final Function<JsonNode, JsonNode> recordTransformer;
     private final String[] knownStates;
     private final String[] failureStates;
+    private final String[] terminalStates;
     private final Set<String> matchStates;
     @Builder.Default private final WaitUnknownStateRequestedAction onUnknownStateRequested = WaitUnknownStateRequestedAction.fail;
     @Builder.Default private final WaitUnknownOrFailureStateAction onFailureState = WaitUnknownOrFailureStateAction.fail;
@@ -83,10 +105,16 @@ public class WaitHelper {
         if ( result.size()>0 ) {
             throw new FcliBugException("Only one of the public wait methods may be invoked with a non-empty set of states");
         }
-        long intervalMillis = periodHelper.parsePeriodToMillis(intervalPeriod);
+        try ( var poller = new RecordsPoller() ) {
+            wait(unirest, poller, evaluator, anyOrAll);
+        }
+    }
+    
+    private final void wait(UnirestInstance unirest, RecordsPoller poller, StateEvaluator evaluator, AnyOrAll anyOrAll) {
+        long maxIntervalMillis = periodHelper.parsePeriodToMillis(intervalPeriod);
+        long intervalMillis = getInitialIntervalMillis(maxIntervalMillis);
         OffsetDateTime timeout = periodHelper.getCurrentOffsetDateTimePlusPeriod(timeoutPeriod);
-        Map<ObjectNode, String> recordsWithCurrentState = getRecordsWithCurrentState(unirest);
-        Map<ObjectNode, WaitStatus> recordsWithWaitStatus = evaluator.getWaitStatuses(recordsWithCurrentState);
+        Map<ObjectNode, WaitStatus> recordsWithWaitStatus = evaluator.getWaitStatuses(poller.poll(unirest));
         updateProgress(recordsWithWaitStatus);
         try {
             boolean continueWait = true;
@@ -96,8 +124,8 @@ public class WaitHelper {
                 } catch (InterruptedException e) {
                     throw new FcliTechnicalException("Wait operation interrupted", e);
                 }
-                recordsWithCurrentState = getRecordsWithCurrentState(unirest);
-                recordsWithWaitStatus = evaluator.getWaitStatuses(recordsWithCurrentState);
+                intervalMillis = Math.min(maxIntervalMillis, intervalMillis*2);
+                recordsWithWaitStatus = evaluator.getWaitStatuses(poller.poll(unirest));
                 updateProgress(recordsWithWaitStatus);
             }
             if ( continueWait && onTimeout==WaitTimeoutAction.fail ) {
@@ -113,6 +141,11 @@ public class WaitHelper {
         }
     }
     
+    private static final long getInitialIntervalMillis(long maxIntervalMillis) {
+        long initialIntervalMillis = EnvHelper.envAsInt(ENV_INITIAL_INTERVAL_MILLIS, DEFAULT_INITIAL_INTERVAL_MILLIS);
+        return initialIntervalMillis<=0 ? maxIntervalMillis : Math.min(initialIntervalMillis, maxIntervalMillis);
+    }
+    
     public <T> T getResult(Function<Map<ObjectNode, WaitStatus>, T> f) {
         return f.apply(result);
     }
@@ -157,14 +190,18 @@ public class WaitHelper {
     }
 
     private final void addNodeWithStatus(Map<ObjectNode, String> nodesWithStatus, JsonNode node) {
+        var objectNode = transformRecord(node);
+        nodesWithStatus.put(objectNode, currentState.apply(objectNode));
+    }
+    
+    private final ObjectNode transformRecord(JsonNode node) {
         if ( recordTransformer!=null ) {
             node = recordTransformer.apply(node);
         }
         if ( !(node instanceof ObjectNode) ) {
             throw new FcliBugException("Cannot process node of type "+node.getClass().getName()+"; please report a bug");
         }
-        String status = currentState.apply(node);
-        nodesWithStatus.put((ObjectNode)node, status);
+        return (ObjectNode)node;
     }
     
     private final void updateProgress(Map<ObjectNode, WaitStatus> recordsWithWaitStatus) {
@@ -183,6 +220,54 @@ public class WaitHelper {
         WAITING, WAIT_COMPLETE, UNKNOWN_STATE_DETECTED, FAILURE_STATE_DETECTED, TIMEOUT 
     }
     
+    /**
+     * Poll the current records and their states. If {@link #recordSuppliers} have been
+     * configured, records in a terminal state are no longer polled; the last known record 
+     * and state are returned instead. Remaining records are polled concurrently. Otherwise,
+     * all records are loaded through the configured {@link #recordsSupplier}.
+     */
+    private final class RecordsPoller implements AutoCloseable {
+        private final Set<String> terminalStatesSet = terminalStates==null ? new HashSet<>() : new HashSet<>(Set.of(terminalStates));
+        private final ObjectNode[] records;
+        private final String[] states;
+        private final OrderedParallelProcessor processor;
+        
+        private RecordsPoller() {
+            int size = recordSuppliers==null ? 0 : recordSuppliers.size(); 
+            this.records = new ObjectNode[size];
+            this.states = new String[size];
+            this.processor = new OrderedParallelProcessor("fcli-wait", Math.min(size, EnvHelper.envAsInt(ENV_PARALLELISM, DEFAULT_PARALLELISM)));
+        }
+        
+        public Map<ObjectNode, String> poll(UnirestInstance unirest) {
+            if ( recordSuppliers==null ) {
+                return getRecordsWithCurrentState(unirest);
+            }
+            var pending = new ArrayList<Integer>(records.length);
+            for ( int i=0 ; i<records.length ; i++ ) {
+                if ( records[i]==null || !terminalStatesSet.contains(states[i]) ) {
+                    pending.add(i);
+                }
+            }
+            processor.process(pending, i->transformRecord(recordSuppliers.get(i).apply(unirest)), this::updateRecord);
+            Map<ObjectNode, String> nodesWithStatus = new LinkedHashMap<>(records.length);
+            for ( int i=0 ; i<records.length ; i++ ) {
+                nodesWithStatus.put(records[i], states[i]);
+            }
+            return nodesWithStatus;
+        }
+        
+        @Override
+        public void close() {
+            processor.close();
+        }
+
+        private void updateRecord(int index, ObjectNode record) {
+            records[index] = record;
+            states[index] = currentState.apply(record);
+        }
+    }
+    
     private final class StateEvaluator {
         private final Set<String> statesSet;
         private final Set<String> knownStatesSet;
@@ -265,6 +350,16 @@ public class WaitHelper {
             return this;
         }
         
+        /**
+         * Specify the states from which records will never transition to another state.
+         * Only used if records are loaded through {@link #recordSuppliers(List)}; records
+         * that have reached any of these states will no longer be polled. 
+         */
+        public WaitHelperBuilder terminalStates(String... terminalStates) {
+            this.terminalStates = terminalStates;
+            return this;
+        }
+        
         public WaitHelperBuilder knownStates(String... knownStates) {
             this.knownStates = knownStates;
             return this;
@@ -25,7 +25,6 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.expression.AccessException;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.format.datetime.standard.DateTimeFormatterRegistrar;
 import org.springframework.format.support.DefaultFormattingConversionService;
@@ -47,7 +46,7 @@ public enum SpelEvaluator implements ISpelEvaluator {
     JSON_QUERY(SpelEvaluator::createJsonQueryContext);
     
     private static final Logger LOG = LoggerFactory.getLogger(SpelEvaluator.class);
-    private static final SpelExpressionParser SPEL_PARSER = new SpelExpressionParser();
+    private final SpelExpressionCache expressionCache = new SpelExpressionCache();
     private EvaluationContext context;
     private final Supplier<SimpleEvaluationContext> contextSupplier;
     
@@ -66,7 +65,7 @@ public enum SpelEvaluator implements ISpelEvaluator {
 
     public final <R> R evaluate(String expression, Object input, Class<R> returnClass) {
         try {
-            return evaluate(SPEL_PARSER.parseExpression(expression), input, returnClass);
+            return evaluate(expressionCache.getExpression(expression), input, returnClass);
         } catch (RuntimeException e) {
             throw handleException(e);
         }
@@ -78,6 +77,7 @@ public enum SpelEvaluator implements ISpelEvaluator {
     
     @RequiredArgsConstructor
     private static final class ConfigurableSpelEvaluator implements IConfigurableSpelEvaluator {
+        private final SpelExpressionCache expressionCache = new SpelExpressionCache();
         private final SimpleEvaluationContext context;
         
         public final <R> R evaluate(Expression expression, Object input, Class<R> returnClass) {
@@ -85,7 +85,7 @@ public enum SpelEvaluator implements ISpelEvaluator {
         }
 
         public final <R> R evaluate(String expression, Object input, Class<R> returnClass) {
-            return evaluate(SPEL_PARSER.parseExpression(expression), input, returnClass);
+            return evaluate(expressionCache.getExpression(expression), input, returnClass);
         }
         
         @Override
@@ -189,5 +189,10 @@ public enum SpelEvaluator implements ISpelEvaluator {
         public boolean canRead(EvaluationContext context, Object target, String name) throws AccessException {
             return super.canRead(context, target, name) && (!(target instanceof ObjectNode) || ((ObjectNode)target).has(name));
         }
+        
+        @Override
+        protected boolean isExistingPropertyRequired() {
+            return true;
+        }
     }
 }
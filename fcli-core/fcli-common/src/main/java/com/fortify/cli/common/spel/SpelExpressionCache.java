@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Bounded, thread-safe cache of parsed SpEL {@link Expression} instances, keyed by
+ * expression text and parser context (plain or template with given prefix/suffix).
+ * This avoids re-parsing the same expression string over and over again when
+ * expressions are evaluated for every record in a potentially large data set.
+ * 
+ * Parsed expressions keep internal state like cached property accessors and, if
+ * SpEL compilation has been enabled, compiled byte code that depends on the 
+ * evaluation context being used. As such, each evaluation context type should
+ * use its own cache instance rather than sharing a single global cache.
+ */
+final class SpelExpressionCache {
+    private static final int MAX_SIZE = 1024;
+    private final SpelExpressionParser parser;
+    private final Map<Key, Expression> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Expression> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+    
+    SpelExpressionCache() {
+        this(SpelHelper.getParser());
+    }
+    
+    SpelExpressionCache(SpelExpressionParser parser) {
+        this.parser = parser;
+    }
+    
+    final Expression getExpression(String expression) {
+        return getExpression(expression, null);
+    }
+    
+    final Expression getExpression(String expression, ParserContext parserContext) {
+        var key = new Key(expression, parserContext);
+        Expression result;
+        synchronized (cache) {
+            result = cache.get(key);
+        }
+        if ( result==null ) {
+            // Parse outside of synchronized block; if multiple threads parse the
+            // same expression concurrently, the first one to be stored wins.
+            var parsed = parserContext==null 
+                    ? parser.parseExpression(expression) 
+                    : parser.parseExpression(expression, parserContext);
+            synchronized (cache) {
+                result = cache.putIfAbsent(key, parsed);
+            }
+            if ( result==null ) { result = parsed; }
+        }
+        return result;
+    }
+    
+    private record Key(String expression, boolean template, String prefix, String suffix) {
+        Key(String expression, ParserContext parserContext) {
+            this(expression, 
+                parserContext!=null && parserContext.isTemplate(),
+                parserContext==null ? null : parserContext.getExpressionPrefix(),
+                parserContext==null ? null : parserContext.getExpressionSuffix());
+        }
+    }
+}
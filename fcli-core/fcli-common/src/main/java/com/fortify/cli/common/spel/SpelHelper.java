@@ -14,18 +14,36 @@ package com.fortify.cli.common.spel;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 
 import com.fortify.cli.common.spel.wrapper.SimpleExpression;
 import com.fortify.cli.common.spel.wrapper.TemplateExpression;
+import com.fortify.cli.common.util.EnvHelper;
 
 public final class SpelHelper {
-    private static final SpelExpressionParser parser = new SpelExpressionParser();
+    private static final Logger LOG = LoggerFactory.getLogger(SpelHelper.class);
+    public static final String ENV_SPEL_COMPILER_MODE = "FCLI_SPEL_COMPILER_MODE";
+    private static final SpelExpressionParser parser = createParser();
     private static final TemplateParserContext templateContext = new TemplateParserContext("${","}");
     
+    /**
+     * Get the shared {@link SpelExpressionParser} instance. By default, expressions
+     * are always interpreted; the SpEL compiler mode can be configured through the
+     * FCLI_SPEL_COMPILER_MODE environment variable, for example to have frequently
+     * evaluated expressions compiled to byte code in MIXED mode.
+     */
+    public static final SpelExpressionParser getParser() {
+        return parser;
+    }
+    
     public static final SimpleExpression parseSimpleExpression(String s) {
         return new SimpleExpression(s, parser.parseExpression(s));
     }
@@ -39,4 +57,21 @@ public final class SpelHelper {
             }
         }
     }
+    
+    private static final SpelExpressionParser createParser() {
+        var modeName = EnvHelper.envOrDefault(ENV_SPEL_COMPILER_MODE, SpelCompilerMode.OFF.name());
+        try {
+            var mode = SpelCompilerMode.valueOf(modeName.trim().toUpperCase());
+            // Native images don't support defining classes at runtime, so we always
+            // interpret expressions if running as a native image.
+            if ( System.getProperty("org.graalvm.nativeimage.imagecode")!=null ) { mode = SpelCompilerMode.OFF; }
+            return new SpelExpressionParser(new SpelParserConfiguration(mode, SpelHelper.class.getClassLoader()));
+        } catch ( IllegalArgumentException e ) {
+            // Parser is created during class initialization, so we log a warning
+            // rather than throwing an exception.
+            LOG.warn("WARN: Ignoring invalid {} value {}; allowed values: {}", 
+                    ENV_SPEL_COMPILER_MODE, modeName, Arrays.toString(SpelCompilerMode.values()));
+            return new SpelExpressionParser();
+        }
+    }
 }
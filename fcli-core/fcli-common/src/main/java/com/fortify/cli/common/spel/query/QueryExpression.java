@@ -12,6 +12,9 @@
  */
 package com.fortify.cli.common.spel.query;
 
+import java.util.Optional;
+import java.util.Set;
+
 import org.springframework.expression.Expression;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -25,6 +28,8 @@ import lombok.ToString;
 @RequiredArgsConstructor @ToString
 public class QueryExpression {
     @Getter private final Expression expression;
+    /** Top-level record properties referenced by this expression, or empty if these cannot be determined */
+    @ToString.Exclude @Getter(lazy = true) private final Optional<Set<String>> referencedProperties = QueryExpressionPropertyCollector.collect(expression);
 
     public boolean matches(JsonNode record) {
         try {
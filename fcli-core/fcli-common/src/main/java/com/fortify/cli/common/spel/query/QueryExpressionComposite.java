@@ -19,6 +19,7 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 import com.fortify.cli.common.exception.FcliBugException;
+import com.fortify.cli.common.spel.SpelHelper;
 
 import lombok.Getter;
 import lombok.ToString;
@@ -40,7 +41,7 @@ public class QueryExpressionComposite extends QueryExpression {
     @Getter private final List<QueryExpression> children;
     @Getter private final LogicalOperator operator;
 
-    private static final SpelExpressionParser parser = new SpelExpressionParser();
+    private static final SpelExpressionParser parser = SpelHelper.getParser();
 
     private QueryExpressionComposite(Expression expression, List<QueryExpression> children, LogicalOperator operator) {
         super(expression);
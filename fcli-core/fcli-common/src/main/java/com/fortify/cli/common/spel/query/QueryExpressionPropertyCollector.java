@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel.query;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.Indexer;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.Projection;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.Selection;
+import org.springframework.expression.spel.ast.StringLiteral;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+
+/**
+ * This class collects the names of all top-level record properties referenced by 
+ * a query expression. Property references are only collected if they are evaluated 
+ * against the record itself; for example, for {@code a.b=='x' && c.?[d==1].size()>0}, 
+ * only {@code a} and {@code c} are collected. If the set of referenced properties
+ * cannot be reliably determined, for example because the expression references 
+ * {@code #root} or invokes methods on the record, {@link #collect(Expression)}
+ * returns an empty {@link Optional}.
+ */
+final class QueryExpressionPropertyCollector {
+    private final Set<String> properties = new HashSet<>();
+    private boolean unknown = false;
+    
+    static final Optional<Set<String>> collect(Expression expression) {
+        if ( !(expression instanceof SpelExpression) ) { return Optional.empty(); }
+        var collector = new QueryExpressionPropertyCollector();
+        collector.visit(((SpelExpression)expression).getAST(), true, true);
+        return collector.unknown 
+                ? Optional.empty() 
+                : Optional.of(Collections.unmodifiableSet(collector.properties));
+    }
+    
+    /**
+     * Visit the given node. The activeIsRoot parameter indicates whether the
+     * given node is evaluated against the record itself, whereas scopeIsRoot
+     * indicates whether method and indexer arguments are evaluated against 
+     * the record; within selections and projections, these are evaluated 
+     * against the current collection element instead. 
+     */
+    private void visit(SpelNode node, boolean activeIsRoot, boolean scopeIsRoot) {
+        if ( unknown ) { return; }
+        if ( node instanceof PropertyOrFieldReference p ) {
+            if ( activeIsRoot ) { properties.add(p.getName()); }
+        } else if ( node instanceof VariableReference ) {
+            var ast = node.toStringAST();
+            if ( "#root".equals(ast) || (activeIsRoot && "#this".equals(ast)) ) { unknown = true; }
+        } else if ( node instanceof CompoundExpression ) {
+            for ( int i=0 ; i<node.getChildCount() ; i++ ) {
+                visit(node.getChild(i), i==0 && activeIsRoot, scopeIsRoot);
+            }
+        } else if ( node instanceof MethodReference ) {
+            if ( activeIsRoot ) { unknown = true; }
+            visitChildren(node, scopeIsRoot, scopeIsRoot);
+        } else if ( node instanceof Indexer ) {
+            if ( activeIsRoot ) {
+                if ( node.getChildCount()==1 && node.getChild(0) instanceof StringLiteral s ) {
+                    properties.add((String)s.getLiteralValue().getValue());
+                } else {
+                    unknown = true;
+                }
+            }
+            visitChildren(node, scopeIsRoot, scopeIsRoot);
+        } else if ( node instanceof Selection || node instanceof Projection ) {
+            if ( activeIsRoot ) { unknown = true; }
+            visitChildren(node, false, false);
+        } else {
+            visitChildren(node, activeIsRoot, scopeIsRoot);
+        }
+    }
+    
+    private void visitChildren(SpelNode node, boolean activeIsRoot, boolean scopeIsRoot) {
+        for ( int i=0 ; i<node.getChildCount() ; i++ ) {
+            visit(node.getChild(i), activeIsRoot, scopeIsRoot);
+        }
+    }
+}
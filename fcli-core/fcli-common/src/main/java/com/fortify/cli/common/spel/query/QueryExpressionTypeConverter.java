@@ -17,12 +17,13 @@ import org.springframework.expression.spel.SpelNode;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.spel.SpelHelper;
 import com.fortify.cli.common.spel.validator.AbstractSimpleSpelNodeValidator;
 
 import picocli.CommandLine.ITypeConverter;
 
 public class QueryExpressionTypeConverter implements ITypeConverter<QueryExpression> {
-    private static final SpelExpressionParser parser = new SpelExpressionParser();
+    private static final SpelExpressionParser parser = SpelHelper.getParser();
     
     @Override
     public QueryExpression convert(String value) throws Exception {
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.formkiq.graalvm.annotations.Reflectable;
+import com.fortify.cli.common.spel.SpelHelper;
 
 /**
  * This Jackson deserializer allows for parsing String values into 
@@ -30,7 +31,7 @@ import com.formkiq.graalvm.annotations.Reflectable;
 @Reflectable
 public final class SimpleExpressionDeserializer extends StdDeserializer<SimpleExpression> {
     private static final long serialVersionUID = 1L;
-    private static final SpelExpressionParser parser = new SpelExpressionParser();
+    private static final SpelExpressionParser parser = SpelHelper.getParser();
     public SimpleExpressionDeserializer() { this(null); } 
     public SimpleExpressionDeserializer(Class<?> vc) { super(vc); }
 
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ThreadFactory} implementation for background worker threads. Threads are named
+ * {@code <prefix>-<n>}, and are created as daemon threads to allow the JVM to exit even 
+ * if the executor using this factory wasn't shut down.
+ */
+public final class DaemonThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private final String threadNamePrefix;
+    
+    public DaemonThreadFactory(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+    
+    @Override
+    public Thread newThread(Runnable r) {
+        var t = new Thread(r, threadNamePrefix+"-"+threadCounter.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    }
+}
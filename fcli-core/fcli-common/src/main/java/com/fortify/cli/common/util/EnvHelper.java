@@ -20,6 +20,13 @@ import com.fortify.cli.common.exception.FcliSimpleException;
 
 public final class EnvHelper {
     private static final String PFX = "FCLI";
+    /**
+     * System property value that can be used to indicate that an environment variable 
+     * should be treated as undefined by {@link #env(String)}, even if defined for the 
+     * current process. This allows for explicitly unsetting environment variables through 
+     * 'fcli.env.VAR_NAME' system properties, for example for daemon requests.
+     */
+    public static final String UNSET_VALUE = "\u0000fcli.env.unset";
     private EnvHelper() {}
     
     public static final String getUserHome() {
@@ -83,10 +90,12 @@ public final class EnvHelper {
      * This method allows environment variables to be overridden through
      * system properties named 'fcli.env.VAR_NAME', which is mainly 
      * useful for unit/functional testing, but may also be useful for
-     * other purposes.
+     * other purposes. If the system property value equals {@link #UNSET_VALUE},
+     * this method returns null.
      */
     public static final String env(String name) {
-        return System.getProperty(envSystemPropertyName(name), System.getenv(name));
+        var value = System.getProperty(envSystemPropertyName(name), System.getenv(name));
+        return UNSET_VALUE.equals(value) ? null : value;
     }
 
     public static String envSystemPropertyName(String envName) {
@@ -104,4 +113,19 @@ public final class EnvHelper {
     public static final Integer asInteger(String s) {
         return s==null ? null : Integer.parseInt(s);
     }
+    
+    /**
+     * Get the integer value of the environment variable with the given name, or the 
+     * given default value if the environment variable is not set.
+     * @throws FcliSimpleException if the environment variable value is not a valid integer
+     */
+    public static final int envAsInt(String name, int defaultValue) {
+        var value = env(name);
+        if ( StringUtils.isBlank(value) ) { return defaultValue; }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch ( NumberFormatException e ) {
+            throw new FcliSimpleException("Environment variable "+name+" must be an integer, got: "+value);
+        }
+    }
 }
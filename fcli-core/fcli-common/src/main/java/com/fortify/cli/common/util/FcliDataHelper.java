@@ -16,6 +16,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
@@ -76,31 +77,64 @@ public class FcliDataHelper {
                 : getFcliHomePath().resolve(DEFAULT_FCLI_STATE_DIR_NAME).toAbsolutePath();
     }
     
+    /**
+     * Save the given contents to an encrypted file. Contents are serialized and encrypted
+     * in a streaming fashion, so no intermediate String representation of the serialized
+     * or encrypted contents is created.
+     */
     public static final void saveSecuredFile(Path relativePath, Object contents, boolean failOnError) {
         if ( contents == null ) {
             throwOrLog("Contents may not be null", null, failOnError);
         }
-        try {
-            String stringContents = contents instanceof String 
-                    ? (String)contents
-                    : objectMapper.writeValueAsString(contents);
-            saveFile(relativePath, EncryptionHelper.encrypt(stringContents), failOnError);
+        final Path filePath = resolveFcliHomePath(relativePath);
+        createParentDirectories(filePath, failOnError);
+        try ( var os = createEncryptingFileWithOwnerOnlyPermissions(filePath) ) {
+            if ( contents instanceof String ) {
+                os.write(((String)contents).getBytes(StandardCharsets.UTF_8));
+            } else {
+                objectMapper.writeValue(os, contents);
+            }
         } catch (JsonProcessingException e) {
             throwOrLog("Error serializing contents as String for class "+contents.getClass().getName(), e, failOnError);
+        } catch ( IOException e ) {
+            throwOrLog("Error writing file "+filePath, e, failOnError);
         }
     }
     
+    /**
+     * Create (or truncate) an encrypted file that is only accessible by the current user,
+     * returning an {@link OutputStream} that encrypts contents while they are being written.
+     * Contents can be read through {@link #readSecuredFile(Path, Class, boolean)}. The 
+     * caller is responsible for closing the returned {@link OutputStream}.
+     */
+    public static final OutputStream createSecuredFile(Path relativePath) throws IOException {
+        final Path filePath = resolveFcliHomePath(relativePath);
+        Files.createDirectories(filePath.getParent());
+        return createEncryptingFileWithOwnerOnlyPermissions(filePath);
+    }
+    
     public static final String readSecuredFile(Path relativePath, boolean failOnError) {
         return readSecuredFile(relativePath, String.class, failOnError);
     }
     
-    
+    /**
+     * Read and decrypt a file written by {@link #saveSecuredFile(Path, Object, boolean)}; 
+     * this supports both the current streaming encryption format and the legacy format
+     * used by older fcli versions.
+     */
     @SuppressWarnings("unchecked")
     public static final <T> T readSecuredFile(Path relativePath, Class<T> returnType, boolean failOnError) {
-        String contents = EncryptionHelper.decrypt(readFile(relativePath, failOnError));
-        return String.class.isAssignableFrom(returnType) 
-                ? (T)contents 
-                : JsonHelper.jsonStringToValue(readSecuredFile(relativePath, failOnError), returnType);
+        final Path filePath = resolveFcliHomePath(relativePath);
+        try ( var is = EncryptionHelper.decryptingInputStream(Files.newInputStream(filePath)) ) {
+            if ( String.class.isAssignableFrom(returnType) ) {
+                return (T)new String(is.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            var tree = objectMapper.readTree(is);
+            return tree==null || tree.isMissingNode() ? null : JsonHelper.treeToValue(tree, returnType);
+        } catch ( IOException e ) {
+            throwOrLog("Error reading file "+filePath, e, failOnError);
+            return null;
+        }
     }
     
     public static final void saveFile(Path relativePath, Object contents, boolean failOnError) {
@@ -112,23 +146,50 @@ public class FcliDataHelper {
                     ? (String)contents
                     : objectMapper.writeValueAsString(contents);
             final Path filePath = resolveFcliHomePath(relativePath);
-            final Path parentDir = filePath.getParent();
-            if (!Files.exists(parentDir)) {
-                try {
-                    Files.createDirectories(parentDir);
-                } catch ( IOException e ) {
-                    throwOrLog("Error creating parent directories for "+filePath, e, failOnError);
-                }
-            }
+            createParentDirectories(filePath, failOnError);
             writeFileWithOwnerOnlyPermissions(filePath, stringContents, failOnError);
         } catch (JsonProcessingException e ) {
             throwOrLog("Error serializing contents as String for class "+contents.getClass().getName(), e, failOnError);
         }
     }
 
+    private static void createParentDirectories(final Path filePath, boolean failOnError) {
+        final Path parentDir = filePath.getParent();
+        if (!Files.exists(parentDir)) {
+            try {
+                Files.createDirectories(parentDir);
+            } catch ( IOException e ) {
+                throwOrLog("Error creating parent directories for "+filePath, e, failOnError);
+            }
+        }
+    }
+
     private static void writeFileWithOwnerOnlyPermissions(final Path filePath, final String contents, boolean failOnError) {
-        try (var fos = new FileOutputStream(filePath.toString()); var osw = new OutputStreamWriter(fos, "UTF-8"); BufferedWriter  writer = new BufferedWriter(osw); ){
-            writer.write("");
+        try (var fos = createFileWithOwnerOnlyPermissions(filePath); var osw = new OutputStreamWriter(fos, "UTF-8"); BufferedWriter  writer = new BufferedWriter(osw); ){
+        writer.write(contents);
+        writer.close();
+        } catch ( IOException e ) {
+            throwOrLog("Error writing file "+filePath, e, failOnError);
+        }
+    }
+    
+    private static OutputStream createEncryptingFileWithOwnerOnlyPermissions(final Path filePath) throws IOException {
+        var os = createFileWithOwnerOnlyPermissions(filePath);
+        try {
+            return EncryptionHelper.encryptingOutputStream(os);
+        } catch ( IOException | RuntimeException e ) {
+            os.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Create (or truncate) the given file, restrict permissions to the current
+     * user, and return an {@link OutputStream} for writing file contents.
+     */
+    private static OutputStream createFileWithOwnerOnlyPermissions(final Path filePath) throws IOException {
+        var fos = new FileOutputStream(filePath.toString());
+        try {
             if ( FileSystems.getDefault().supportedFileAttributeViews().contains("posix") ) {
                 Files.setPosixFilePermissions(filePath, PosixFilePermissions.fromString("rw-------"));
             } else {
@@ -137,10 +198,10 @@ public class FcliDataHelper {
                 file.setReadable(true, true);
                 file.setWritable(true, true);
             }
-        writer.write(contents);
-        writer.close();
-        } catch ( IOException e ) {
-            throwOrLog("Error writing file "+filePath, e, failOnError);
+            return fos;
+        } catch ( IOException | RuntimeException e ) {
+            fos.close();
+            throw e;
         }
     }
     
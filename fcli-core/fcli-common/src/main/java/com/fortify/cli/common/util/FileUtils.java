@@ -14,6 +14,7 @@ package com.fortify.cli.common.util;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -172,7 +173,18 @@ public final class FileUtils {
     
     @SneakyThrows
     public static final void extractZip(File zipFile, Function<Path, Path> extractPathResolver) {
-        try (FileInputStream fis = new FileInputStream(zipFile); ZipInputStream zipIn = new ZipInputStream(fis)) {
+        try (FileInputStream fis = new FileInputStream(zipFile)) {
+            extractZip(fis, extractPathResolver);
+        }
+    }
+    
+    /**
+     * Extract the zip contents read from the given {@link InputStream}. The given
+     * stream will not be closed, and may not be fully consumed.
+     */
+    @SneakyThrows
+    public static final void extractZip(InputStream is, Function<Path, Path> extractPathResolver) {
+        try (ZipInputStream zipIn = new ZipInputStream(nonClosing(is))) {
             for (ZipEntry ze; (ze = zipIn.getNextEntry()) != null; ) {
                 Path resolvedPath = extractPathResolver.apply(Path.of(ze.getName())).normalize();
                 if (ze.isDirectory()) {
@@ -192,10 +204,19 @@ public final class FileUtils {
     
     @SneakyThrows
     public static final void extractTarGZ(File tgzFile, Function<Path,Path> extractPathResolver) {
-        try (InputStream source = Files.newInputStream(tgzFile.toPath());
-                GZIPInputStream gzip = new GZIPInputStream(source);
+        try (InputStream source = Files.newInputStream(tgzFile.toPath())) {
+            extractTarGZ(source, extractPathResolver);
+        }
+    }
+    
+    /**
+     * Extract the tar.gz contents read from the given {@link InputStream}. The given
+     * stream will not be closed, and may not be fully consumed.
+     */
+    @SneakyThrows
+    public static final void extractTarGZ(InputStream is, Function<Path,Path> extractPathResolver) {
+        try (GZIPInputStream gzip = new GZIPInputStream(nonClosing(is));
                 TarArchiveInputStream tar = new TarArchiveInputStream(gzip)) {
-
             TarArchiveEntry entry;
             while ((entry = tar.getNextEntry()) != null) {
                 Path extractTo = extractPathResolver.apply(Path.of(entry.getName()));
@@ -208,6 +229,14 @@ public final class FileUtils {
         }
     }
     
+    /** Prevent wrapping streams from closing the given {@link InputStream} */
+    private static final InputStream nonClosing(InputStream is) {
+        return new FilterInputStream(is) {
+            @Override
+            public void close() {}
+        };
+    }
+    
     /**
      * Recursively delete the given path. As a best practice, this method should
      * only be invoked if {@link #isDirPathInUse(Path)} returns false. The
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.util;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.fortify.cli.common.exception.FcliTechnicalException;
+
+/**
+ * This class allows for running a given task for a sequence of inputs on a bounded number 
+ * of background threads, while passing the task results to a consumer on the calling thread,
+ * in the same order as the inputs. This is useful for running potentially slow operations
+ * like independent REST requests concurrently, while keeping result processing single-threaded 
+ * and deterministic.
+ * <p>
+ * At most {@code window} tasks are submitted ahead of the result currently being consumed, so 
+ * memory usage for results is bounded independent of the number of inputs. If a task throws an
+ * exception, that exception is rethrown on the calling thread once the consumer reaches the 
+ * corresponding input; remaining tasks are cancelled. 
+ * <p>
+ * With a concurrency of 1, tasks are run directly on the calling thread without creating any
+ * background threads. Instances should be closed after use to release background threads.
+ */
+public final class OrderedParallelProcessor implements AutoCloseable {
+    private final int concurrency;
+    private final ExecutorService executor;
+    
+    public OrderedParallelProcessor(String threadNamePrefix, int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+        this.executor = this.concurrency==1 ? null : Executors.newFixedThreadPool(this.concurrency, new DaemonThreadFactory(threadNamePrefix));
+    }
+    
+    public int getConcurrency() {
+        return concurrency;
+    }
+    
+    /**
+     * Process the given inputs, using the configured concurrency as window size. 
+     */
+    public <T,R> void process(Iterable<T> inputs, Function<? super T, ? extends R> task, BiConsumer<? super T, ? super R> consumer) {
+        process(inputs.iterator(), concurrency, task, consumer);
+    }
+    
+    /**
+     * Process the inputs provided by the given iterator, running the given task for each input
+     * on background threads, and passing each input together with its result to the given 
+     * consumer on the calling thread, in input order.
+     * @param inputs Inputs to be processed; the iterator is only accessed from the calling thread
+     * @param window Maximum number of tasks submitted ahead of the result being consumed;
+     *               values lower than the configured concurrency are increased to that concurrency
+     * @param task Task to be run for each input
+     * @param consumer Consumer for each input and corresponding task result
+     */
+    public <T,R> void process(Iterator<T> inputs, int window, Function<? super T, ? extends R> task, BiConsumer<? super T, ? super R> consumer) {
+        if ( executor==null ) {
+            inputs.forEachRemaining(input->consumer.accept(input, task.apply(input)));
+        } else {
+            processParallel(inputs, Math.max(window, concurrency), task, consumer);
+        }
+    }
+
+    private <T,R> void processParallel(Iterator<T> inputs, int window, Function<? super T, ? extends R> task, BiConsumer<? super T, ? super R> consumer) {
+        var inFlight = new ArrayDeque<InFlight<T,R>>(window);
+        try {
+            fillWindow(inputs, window, task, inFlight);
+            while ( !inFlight.isEmpty() ) {
+                var current = inFlight.poll();
+                var result = await(current.future());
+                fillWindow(inputs, window, task, inFlight);
+                consumer.accept(current.input(), result);
+            }
+        } finally {
+            inFlight.forEach(f->f.future().cancel(true));
+        }
+    }
+
+    private <T,R> void fillWindow(Iterator<T> inputs, int window, Function<? super T, ? extends R> task, ArrayDeque<InFlight<T,R>> inFlight) {
+        while ( inFlight.size()<window && inputs.hasNext() ) {
+            var input = inputs.next();
+            Callable<R> callable = ()->task.apply(input);
+            inFlight.add(new InFlight<>(input, executor.submit(callable)));
+        }
+    }
+    
+    private static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new FcliTechnicalException("Interrupted while waiting for task completion", e);
+        } catch ( ExecutionException e ) {
+            var cause = e.getCause();
+            if ( cause instanceof RuntimeException re ) { throw re; }
+            if ( cause instanceof Error err ) { throw err; }
+            throw new FcliTechnicalException("Error executing task", cause);
+        }
+    }
+    
+    @Override
+    public void close() {
+        if ( executor!=null ) { executor.shutdownNow(); }
+    }
+    
+    private record InFlight<T,R>(T input, Future<R> future) {}
+}
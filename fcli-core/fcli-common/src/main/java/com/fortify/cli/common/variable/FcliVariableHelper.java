@@ -12,10 +12,20 @@
  */
 package com.fortify.cli.common.variable;
 
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -23,11 +33,17 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.formkiq.graalvm.annotations.Reflectable;
 import com.fortify.cli.common.crypto.helper.EncryptionHelper;
 import com.fortify.cli.common.exception.FcliSimpleException;
@@ -44,7 +60,14 @@ import lombok.SneakyThrows;
 
 // TODO This class could probably use some cleanup
 public final class FcliVariableHelper {
+    private static final Logger LOG = LoggerFactory.getLogger(FcliVariableHelper.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    // Limits for the index of top-level property values stored in the variable descriptor
+    private static final int MAX_INDEX_ENTRIES = 100;
+    private static final int MAX_INDEX_VALUE_LENGTH = 256;
+    // Variables accessed by this process, for which the accessed date will be updated on exit
+    private static final Set<String> accessedVariableNames = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean accessedUpdateRegistered = new AtomicBoolean(false);
     private static final Pattern variableNamePattern = Pattern.compile("^[a-zA-Z0-9_]+$");
     private static final Pattern variableReferencePattern = Pattern.compile("^(-{1,2}[\\-_a-zA-Z0-9]{1,}=){0,1}::([a-zA-Z0-9_]+)::(.*)$");
     private FcliVariableHelper() {}
@@ -60,6 +83,18 @@ public final class FcliVariableHelper {
         private String defaultPropertyName; 
         private boolean singular;
         private boolean encrypted;
+        // Top-level and default property values for unencrypted variables, allowing 
+        // variable references to be resolved without reading the variable contents.
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private ObjectNode index;
+        
+        @Override @JsonIgnore
+        public JsonNode asJsonNode() {
+            // The index is an implementation detail, so we don't include it in command output
+            var result = super.asJsonNode();
+            if ( result instanceof ObjectNode objectNode ) { objectNode.remove("index"); }
+            return result;
+        }
     }
     
     public static final Path getVariablesPath() {
@@ -81,19 +116,20 @@ public final class FcliVariableHelper {
         }
     }
     
-    @SneakyThrows // TODO Do we want to use SneakyThrows?
     public static final JsonNode getVariableContents(String variableName, boolean failIfUnavailable) {
         VariableDescriptor descriptor = getVariableDescriptor(variableName, failIfUnavailable);
         if ( descriptor==null ) { return null; }
-        descriptor.setAccessed(new Date());
-        Path variablePath = getVariableContentsPathIfExists(variableName, failIfUnavailable);
-        try {
-            String variableContents = FcliDataHelper.readFile(variablePath, failIfUnavailable);
-            if ( descriptor.encrypted ) {
-                variableContents = EncryptionHelper.decrypt(variableContents);
-            }
-            saveVariableDescriptor(descriptor);
-            return variableContents==null ? null : objectMapper.readValue(variableContents, JsonNode.class);
+        markAccessed(variableName);
+        return readVariableContents(descriptor, failIfUnavailable);
+    }
+    
+    @SneakyThrows // TODO Do we want to use SneakyThrows?
+    private static final JsonNode readVariableContents(VariableDescriptor descriptor, boolean failIfUnavailable) {
+        Path variablePath = getVariableContentsPathIfExists(descriptor.getName(), failIfUnavailable);
+        if ( !FcliDataHelper.isReadable(variablePath) ) { return null; }
+        try ( var is = openVariableContents(descriptor) ) {
+            JsonNode variableContents = objectMapper.readTree(is);
+            return variableContents==null || variableContents.isMissingNode() ? null : variableContents;
         } catch ( Exception e ) {
             FcliDataHelper.deleteDir(variablePath.getParent(), true);
             conditionalThrow(failIfUnavailable, ()->new IllegalStateException("Error reading variable descriptor or contents, data has been deleted", e));
@@ -106,6 +142,7 @@ public final class FcliVariableHelper {
         checkVariableName(variableName);
         VariableDescriptor descriptor = createVariableDescriptor(variableName, defaultPropertyName, singular, encrypt);
         saveVariableContents(descriptor, variableContents);
+        if ( !encrypt ) { descriptor.setIndex(createIndex(variableContents, defaultPropertyName)); }
         return saveVariableDescriptor(descriptor);
     }
     
@@ -114,34 +151,214 @@ public final class FcliVariableHelper {
         checkVariableName(variableName);
         VariableDescriptor descriptor = createVariableDescriptor(variableName, defaultPropertyName, singular, encrypt);
         saveVariableDescriptor(descriptor);
-        VariableContentsWriter vcw = new VariableContentsWriter(getVariableContentsAbsolutePath(variableName).toString());
-        return encrypt ? new EncryptionHelper.EncryptWriter(vcw) : vcw;
+        return encrypt 
+                ? new VariableContentsWriter(FcliDataHelper.createSecuredFile(getVariableContentsRelativePath(variableName)))
+                : new IndexingContentsWriter(new VariableContentsWriter(getVariableContentsAbsolutePath(variableName).toString()), descriptor);
     }
     
+    /**
+     * Resolve all variable references in the given arguments. Variable descriptors, 
+     * contents and property values are memoized for the duration of this call, so
+     * multiple references to the same variable only read the variable once.
+     */
     public static final String[] resolveVariables(String[] args) {
-        return Stream.of(args).map(FcliVariableHelper::resolveVariable).toArray(String[]::new);
+        var resolver = new VariableReferenceResolver();
+        return Stream.of(args).map(resolver::resolve).toArray(String[]::new);
     }
     
     public static final String resolveVariable(String arg) {
-        Matcher matcher = variableReferencePattern.matcher(arg);
-        if (matcher.matches()) {
-            String variableName = matcher.group(2);
-            String propertyPath = getVariablePropertyPathOrDefault(variableName, matcher.group(3));
-            JsonNode contents = getVariableContents(variableName, true);
-            String value = JsonHelper.evaluateSpelExpression(contents, propertyPath, String.class);
-            if ( value==null ) {
-                throw new FcliSimpleException(String.format("Property path '%s' for variable '%s' resolves to null", propertyPath, variableName));
-            }
-            return matcher.group(1)!=null ? matcher.group(1)+value : value;
-        }
-        return arg;
+        return new VariableReferenceResolver().resolve(arg);
     }
     
-    private static final String getVariablePropertyPathOrDefault(String variableName, String propertyPath) {
+    private static final String getVariablePropertyPathOrDefault(VariableDescriptor descriptor, String propertyPath) {
         if ( StringUtils.isNotBlank(propertyPath) ) { return propertyPath; }
-        String defaultPropertyName = getVariableDescriptor(variableName, true).getDefaultPropertyName();
+        String defaultPropertyName = descriptor.getDefaultPropertyName();
         if ( StringUtils.isNotBlank(defaultPropertyName) ) { return defaultPropertyName; }
-        throw new FcliSimpleException("No property name specified for variable "+variableName+", and no default property name available");
+        throw new FcliSimpleException("No property name specified for variable "+descriptor.getName()+", and no default property name available");
+    }
+    
+    /**
+     * Resolves variable references for a single fcli invocation. Property values are 
+     * looked up in the descriptor index if available, or otherwise streamed from the
+     * variable contents if the property path is supported by {@link VariablePropertyPath}.
+     * Only if neither is possible, the full variable contents are parsed (once) and the
+     * property path is evaluated as a SpEL expression.
+     */
+    private static final class VariableReferenceResolver {
+        private final Map<String, VariableDescriptor> descriptors = new HashMap<>();
+        private final Map<String, JsonNode> contents = new HashMap<>();
+        private final Map<String, String> values = new HashMap<>();
+        
+        private String resolve(String arg) {
+            Matcher matcher = variableReferencePattern.matcher(arg);
+            if (matcher.matches()) {
+                String variableName = matcher.group(2);
+                VariableDescriptor descriptor = descriptors.computeIfAbsent(variableName, n->getVariableDescriptor(n, true));
+                String propertyPath = getVariablePropertyPathOrDefault(descriptor, matcher.group(3));
+                String value = values.computeIfAbsent(variableName+"::"+propertyPath, k->getValue(descriptor, propertyPath));
+                if ( value==null ) {
+                    throw new FcliSimpleException(String.format("Property path '%s' for variable '%s' resolves to null", propertyPath, variableName));
+                }
+                return matcher.group(1)!=null ? matcher.group(1)+value : value;
+            }
+            return arg;
+        }
+        
+        private String getValue(VariableDescriptor descriptor, String propertyPath) {
+            String variableName = descriptor.getName();
+            markAccessed(variableName);
+            JsonNode variableContents = contents.get(variableName);
+            if ( variableContents==null ) {
+                JsonNode value = getIndexedOrStreamedValue(descriptor, propertyPath);
+                if ( value!=null ) { return asString(value); }
+                variableContents = readVariableContents(descriptor, true);
+                contents.put(variableName, variableContents);
+            }
+            return JsonHelper.evaluateSpelExpression(variableContents, propertyPath, String.class);
+        }
+        
+        private JsonNode getIndexedOrStreamedValue(VariableDescriptor descriptor, String propertyPath) {
+            var index = descriptor.getIndex();
+            if ( index!=null && index.hasNonNull(propertyPath) ) { return index.get(propertyPath); }
+            var path = VariablePropertyPath.parse(propertyPath);
+            if ( path==null ) { return null; }
+            try ( var is = openVariableContents(descriptor); var parser = objectMapper.createParser(is) ) {
+                var value = path.extract(parser);
+                // Container values are handled through SpEL to guarantee consistent conversion to String
+                return value!=null && value.isValueNode() ? value : null;
+            } catch ( Exception e ) {
+                // Fall back to reading full contents, which handles any errors consistently 
+                LOG.debug("Error streaming property path {} from variable {}", propertyPath, descriptor.getName(), e);
+                return null;
+            }
+        }
+        
+        private static final String asString(JsonNode value) {
+            // Evaluate through SpEL to apply the same conversions as for property paths 
+            // evaluated against the full variable contents
+            return JsonHelper.evaluateSpelExpression(objectMapper.createObjectNode().set("value", value), "value", String.class);
+        }
+    }
+    
+    /**
+     * Register the given variable as accessed by this process. Rather than rewriting 
+     * the variable descriptor on every access, the accessed date of all variables
+     * accessed by this process is updated once, when the process exits.
+     */
+    private static final void markAccessed(String variableName) {
+        accessedVariableNames.add(variableName);
+        if ( accessedUpdateRegistered.compareAndSet(false, true) ) {
+            Runtime.getRuntime().addShutdownHook(new Thread(FcliVariableHelper::updateAccessed, "fcli-var-accessed"));
+        }
+    }
+    
+    private static final void updateAccessed() {
+        Date accessed = new Date();
+        for ( var variableName : accessedVariableNames ) {
+            try {
+                // Skip variables that have been deleted after being accessed
+                if ( FcliDataHelper.isReadable(getVariableDescriptorRelativePath(variableName)) ) {
+                    VariableDescriptor descriptor = getVariableDescriptor(variableName, false);
+                    if ( descriptor!=null ) {
+                        descriptor.setAccessed(accessed);
+                        saveVariableDescriptor(descriptor);
+                    }
+                }
+            } catch ( Exception e ) {
+                LOG.debug("Error updating accessed date for variable {}", variableName, e);
+            }
+        }
+    }
+    
+    /**
+     * Create an index of top-level property values and the value of the default 
+     * property path (if any), if the given contents represent a single record.
+     */
+    private static final ObjectNode createIndex(JsonNode contents, String defaultPropertyName) {
+        if ( contents==null || !contents.isObject() ) { return null; }
+        var index = objectMapper.createObjectNode();
+        contents.fields().forEachRemaining(e->addTopLevelToIndex(index, e.getKey(), e.getValue()));
+        var defaultPath = VariablePropertyPath.parse(defaultPropertyName);
+        if ( defaultPath!=null && !defaultPath.isTopLevelProperty() ) {
+            addToIndex(index, defaultPropertyName, defaultPath.extract(contents));
+        }
+        return index;
+    }
+    
+    /**
+     * Same as {@link #createIndex(JsonNode, String)}, but streaming top-level property 
+     * values from the contents file written by {@link #getVariableContentsWriter(String, String, boolean, boolean)},
+     * thereby avoiding having to parse potentially large nested objects or arrays.
+     */
+    private static final ObjectNode createIndex(Path contentsPath, String defaultPropertyName) throws IOException {
+        var absolutePath = FcliDataHelper.resolveFcliHomePath(contentsPath);
+        var index = objectMapper.createObjectNode();
+        try ( var parser = objectMapper.createParser(Files.newBufferedReader(absolutePath, StandardCharsets.UTF_8)) ) {
+            if ( parser.nextToken()!=JsonToken.START_OBJECT ) { return null; }
+            while ( parser.nextToken()==JsonToken.FIELD_NAME ) {
+                var name = parser.currentName();
+                if ( parser.nextToken().isScalarValue() ) {
+                    addTopLevelToIndex(index, name, parser.readValueAsTree());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        var defaultPath = VariablePropertyPath.parse(defaultPropertyName);
+        if ( defaultPath!=null && !defaultPath.isTopLevelProperty() ) {
+            try ( var parser = objectMapper.createParser(Files.newBufferedReader(absolutePath, StandardCharsets.UTF_8)) ) {
+                addToIndex(index, defaultPropertyName, defaultPath.extract(parser));
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Add the given top-level property to the index, but only if the property name,
+     * when used as a property path, refers to that same top-level property. For example,
+     * a top-level 'a.b' property must not be returned for property path 'a.b', which 
+     * refers to the nested 'b' property of top-level property 'a'.
+     */
+    private static final void addTopLevelToIndex(ObjectNode index, String name, JsonNode value) {
+        var path = VariablePropertyPath.parse(name);
+        if ( path!=null && path.isTopLevelProperty() ) {
+            addToIndex(index, name, value);
+        }
+    }
+    
+    private static final void addToIndex(ObjectNode index, String propertyPath, JsonNode value) {
+        if ( value!=null && value.isValueNode() && !value.isNull() && index.size()<MAX_INDEX_ENTRIES 
+                && value.asText().length()<=MAX_INDEX_VALUE_LENGTH && VariablePropertyPath.parse(propertyPath)!=null ) {
+            index.set(propertyPath, value);
+        }
+    }
+    
+    /**
+     * Writer that adds an index to the variable descriptor once the variable contents
+     * have been fully written.
+     */
+    private static final class IndexingContentsWriter extends FilterWriter {
+        private final VariableDescriptor descriptor;
+        private boolean closed = false;
+        
+        private IndexingContentsWriter(Writer out, VariableDescriptor descriptor) {
+            super(out);
+            this.descriptor = descriptor;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            if ( closed ) { return; }
+            closed = true;
+            super.close();
+            try {
+                descriptor.setIndex(createIndex(getVariableContentsRelativePath(descriptor.getName()), descriptor.getDefaultPropertyName()));
+                saveVariableDescriptor(descriptor);
+            } catch ( Exception e ) {
+                // Variable references can still be resolved from the variable contents
+                LOG.debug("Error indexing contents of variable {}", descriptor.getName(), e);
+            }
+        }
     }
     
     private static final void checkVariableName(String variableName) {
@@ -171,11 +388,23 @@ public final class FcliVariableHelper {
     
     @SneakyThrows // TODO Do we want to use SneakyThrows?
     private static void saveVariableContents(VariableDescriptor descriptor, JsonNode variableContents) {
-        String variableContentsString = objectMapper.writeValueAsString(variableContents);
         if ( descriptor.encrypted ) {
-            variableContentsString = EncryptionHelper.encrypt(variableContentsString);
+            try ( var os = FcliDataHelper.createSecuredFile(getVariableContentsRelativePath(descriptor.getName())) ) {
+                objectMapper.writeValue(os, variableContents);
+            }
+        } else {
+            String variableContentsString = objectMapper.writeValueAsString(variableContents);
+            FcliDataHelper.saveFile(getVariableContentsRelativePath(descriptor.getName()), variableContentsString, true);
         }
-        FcliDataHelper.saveFile(getVariableContentsRelativePath(descriptor.getName()), variableContentsString, true);
+    }
+    
+    /**
+     * Open the contents of the given variable for reading, decrypting the 
+     * contents on the fly if the variable is encrypted.
+     */
+    private static final InputStream openVariableContents(VariableDescriptor descriptor) throws IOException {
+        var is = Files.newInputStream(FcliDataHelper.resolveFcliHomePath(getVariableContentsRelativePath(descriptor.getName())));
+        return descriptor.isEncrypted() ? EncryptionHelper.decryptingInputStream(is) : is;
     }
 
     @SneakyThrows // TODO Do we want to use SneakyThrows?
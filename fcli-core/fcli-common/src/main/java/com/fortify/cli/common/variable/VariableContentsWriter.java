@@ -15,19 +15,24 @@ package com.fortify.cli.common.variable;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 
 public class VariableContentsWriter extends Writer{
-    private FileOutputStream fos;
+    private OutputStream fos;
     private OutputStreamWriter osw;
     private PrintWriter pw;
     
     
     public VariableContentsWriter(String filePath) throws FileNotFoundException{
-        fos = new FileOutputStream(filePath);
+        this(new FileOutputStream(filePath));
+    }
+    
+    public VariableContentsWriter(OutputStream os) {
+        fos = os;
         osw =  new OutputStreamWriter(fos, StandardCharsets.UTF_8);
         pw = new PrintWriter(osw);
     }
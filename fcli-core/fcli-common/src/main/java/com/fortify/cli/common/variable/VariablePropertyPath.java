@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.variable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * <p>This class represents a simple variable property path like {@code id}, 
+ * {@code application.name}, {@code get(0).id} or {@code items[2].name}, allowing
+ * the value at that path to be extracted from a JSON stream without parsing the full
+ * variable contents into a tree. Only the (nested) objects and arrays on the path to 
+ * the requested value are inspected; any other values are skipped at the token level.</p>
+ * 
+ * <p>Any property paths that use other SpEL features, like operators, method calls or
+ * property names that represent SpEL keywords, are not supported; {@link #parse(String)}
+ * returns null for such paths, in which case callers should evaluate the property path 
+ * as a SpEL expression against the full variable contents. Similarly, the extract methods
+ * return null if the path cannot be resolved to a non-null value, allowing callers to 
+ * fall back to SpEL evaluation to get consistent error handling.</p>
+ *
+ * @author Ruud Senden
+ */
+final class VariablePropertyPath {
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile(
+            "\\G(?:(\\.)?(?:get\\((\\d{1,9})\\)|([A-Za-z_$][A-Za-z0-9_$]*))|\\[(\\d{1,9})\\])");
+    private static final Set<String> RESERVED_NAMES = Set.of(
+            "true", "false", "null", "and", "or", "not", "div", "mod", "eq", "ne", 
+            "lt", "le", "gt", "ge", "matches", "between", "instanceof", "new", "t");
+    // Segments are either String (property name) or Integer (array index) instances
+    private final List<Object> segments;
+    
+    private VariablePropertyPath(List<Object> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+    }
+    
+    /**
+     * Parse the given property path, returning null if the given property
+     * path is not supported.
+     */
+    static final VariablePropertyPath parse(String propertyPath) {
+        if ( propertyPath==null || propertyPath.isEmpty() ) { return null; }
+        var matcher = SEGMENT_PATTERN.matcher(propertyPath);
+        var segments = new ArrayList<Object>();
+        int end = 0;
+        while ( end<propertyPath.length() && matcher.find() ) {
+            var hasDot = matcher.group(1)!=null;
+            if ( matcher.group(4)!=null ) {
+                if ( segments.isEmpty() ) { return null; }
+                segments.add(Integer.valueOf(matcher.group(4)));
+            } else {
+                // Property names and get(n) must be preceded by a dot, unless they're the first segment
+                if ( hasDot==segments.isEmpty() ) { return null; }
+                if ( matcher.group(2)!=null ) {
+                    segments.add(Integer.valueOf(matcher.group(2)));
+                } else if ( RESERVED_NAMES.contains(matcher.group(3).toLowerCase(Locale.ROOT)) ) {
+                    return null;
+                } else {
+                    segments.add(matcher.group(3));
+                }
+            }
+            end = matcher.end();
+        }
+        // A root-level get(n) returns an unwrapped JsonNode element, which SpEL converts
+        // differently from the wrapped values returned for any other path segments
+        if ( end<propertyPath.length() || (segments.size()==1 && segments.get(0) instanceof Integer) ) { return null; }
+        return new VariablePropertyPath(segments);
+    }
+    
+    /**
+     * @return true if this property path consists of a single property name
+     */
+    final boolean isTopLevelProperty() {
+        return segments.size()==1 && segments.get(0) instanceof String;
+    }
+    
+    /**
+     * Extract the value at this property path from the given {@link JsonNode}, 
+     * returning null if the value doesn't exist or is a JSON null value.
+     */
+    final JsonNode extract(JsonNode node) {
+        for ( var segment : segments ) {
+            if ( node==null ) { return null; }
+            if ( segment instanceof String name ) {
+                node = node.isObject() ? node.get(name) : null;
+            } else {
+                node = node.isArray() ? node.get((Integer)segment) : null;
+            }
+        }
+        return node==null || node.isNull() ? null : node;
+    }
+    
+    /**
+     * Extract the value at this property path from the given {@link JsonParser},
+     * which must be positioned before the first token of the JSON document, and 
+     * must have an object codec configured. Returns null if the value doesn't exist 
+     * or is a JSON null value. 
+     */
+    final JsonNode extract(JsonParser parser) throws IOException {
+        var token = parser.nextToken();
+        for ( var segment : segments ) {
+            token = segment instanceof String name 
+                    ? moveToProperty(parser, token, name)
+                    : moveToElement(parser, token, (Integer)segment);
+            if ( token==null ) { return null; }
+        }
+        return token==JsonToken.VALUE_NULL ? null : parser.readValueAsTree();
+    }
+    
+    private static final JsonToken moveToProperty(JsonParser parser, JsonToken token, String name) throws IOException {
+        if ( token!=JsonToken.START_OBJECT ) { return null; }
+        while ( parser.nextToken()==JsonToken.FIELD_NAME ) {
+            var fieldName = parser.currentName();
+            var valueToken = parser.nextToken();
+            if ( name.equals(fieldName) ) { return valueToken; }
+            parser.skipChildren();
+        }
+        return null;
+    }
+    
+    private static final JsonToken moveToElement(JsonParser parser, JsonToken token, int index) throws IOException {
+        if ( token!=JsonToken.START_ARRAY ) { return null; }
+        for ( int i=0 ; ; i++ ) {
+            var valueToken = parser.nextToken();
+            if ( valueToken==null || valueToken==JsonToken.END_ARRAY ) { return null; }
+            if ( i==index ) { return valueToken; }
+            parser.skipChildren();
+        }
+    }
+}
@@ -20,10 +20,13 @@ import java.io.IOException;
 import java.util.AbstractList;
 import java.util.Iterator;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.AccessException;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
+import org.springframework.expression.spel.CompilablePropertyAccessor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -32,6 +35,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.POJONode;
 
 /**
@@ -47,7 +51,10 @@ import com.fasterxml.jackson.databind.node.POJONode;
  *
  * @since 3.0
  */
-public class JsonPropertyAccessor implements PropertyAccessor {
+// CHANGED: Compared to original version, this class now implements CompilablePropertyAccessor
+//          instead of PropertyAccessor, to allow SpEL expressions to be compiled if enabled
+//          through the SpEL compiler mode.
+public class JsonPropertyAccessor implements CompilablePropertyAccessor {
 
 	/**
 	 * The kind of types this can work with.
@@ -59,7 +66,13 @@ public class JsonPropertyAccessor implements PropertyAccessor {
 					JsonNode.class
 			};
 
-	private ObjectMapper objectMapper = new ObjectMapper();
+	// CHANGED: Compared to original version, the default ObjectMapper is now shared, allowing
+	//          compiled expressions to use the same ObjectMapper for reading String targets.
+	private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper();
+
+	private static final String COMPILED_READ_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/String;)Ljava/lang/Object;";
+
+	private ObjectMapper objectMapper = DEFAULT_OBJECT_MAPPER;
 
 	public void setObjectMapper(ObjectMapper objectMapper) {
 		Assert.notNull(objectMapper, "'objectMapper' cannot be null");
@@ -89,6 +102,10 @@ public class JsonPropertyAccessor implements PropertyAccessor {
 	}
 
 	private JsonNode asJson(Object target) throws AccessException {
+		return asJson(this.objectMapper, target);
+	}
+
+	private static JsonNode asJson(ObjectMapper objectMapper, Object target) throws AccessException {
 		if (target instanceof JsonNode) {
 			return (JsonNode) target;
 		}
@@ -97,7 +114,7 @@ public class JsonPropertyAccessor implements PropertyAccessor {
 		}
 		else if (target instanceof String) {
 			try {
-				return this.objectMapper.readTree((String) target);
+				return objectMapper.readTree((String) target);
 			}
 			catch (JsonProcessingException e) {
 				throw new AccessException("Exception while trying to deserialize String", e);
@@ -135,6 +152,66 @@ public class JsonPropertyAccessor implements PropertyAccessor {
 		}
 	}
 
+	// CHANGED: Compared to original version, the methods below were added to implement
+	//          CompilablePropertyAccessor. Compiled expressions invoke the static
+	//          compiledRead or compiledReadExisting methods, which throw an exception
+	//          in any situation where canRead would have returned false; in MIXED
+	//          compiler mode, this causes SpEL to fall back to interpreted mode.
+	@Override
+	public boolean isCompilable() {
+		return this.objectMapper == DEFAULT_OBJECT_MAPPER;
+	}
+
+	@Override
+	public Class<?> getPropertyType() {
+		return Object.class;
+	}
+
+	@Override
+	public void generateCode(String propertyName, MethodVisitor mv, CodeFlow cf) {
+		if (cf.lastDescriptor() == null) {
+			cf.loadTarget(mv);
+		}
+		mv.visitLdcInsn(propertyName);
+		String methodName = isExistingPropertyRequired() ? "compiledReadExisting" : "compiledRead";
+		mv.visitMethodInsn(INVOKESTATIC, "org/springframework/integration/json/JsonPropertyAccessor",
+				methodName, COMPILED_READ_DESCRIPTOR, false);
+	}
+
+	/**
+	 * Indicates whether compiled expressions should fail if the target object doesn't
+	 * have the given property; subclasses that override {@link #canRead(EvaluationContext, Object, String)}
+	 * to return false for non-existing properties should override this method to return true.
+	 */
+	protected boolean isExistingPropertyRequired() {
+		return false;
+	}
+
+	public static Object compiledRead(Object target, String name) throws AccessException {
+		return compiledRead(target, name, false);
+	}
+
+	public static Object compiledReadExisting(Object target, String name) throws AccessException {
+		return compiledRead(target, name, true);
+	}
+
+	private static Object compiledRead(Object target, String name, boolean existingPropertyRequired) throws AccessException {
+		JsonNode node = asJson(DEFAULT_OBJECT_MAPPER, target);
+		Integer index = maybeIndex(name);
+		if (node instanceof ArrayNode && index == null) {
+			throw new IllegalStateException("Can't read non-index property " + name + " from array");
+		}
+		if (existingPropertyRequired && target instanceof ObjectNode && !node.has(name)) {
+			throw new IllegalStateException("Property " + name + " doesn't exist");
+		}
+		if (index != null && node.has(index)) {
+			return typedValue(node.get(index)).getValue();
+		}
+		else {
+			return typedValue(node.get(name)).getValue();
+		}
+	}
+
 	@Override
 	public boolean canWrite(EvaluationContext context, Object target, String name) {
 		return false;
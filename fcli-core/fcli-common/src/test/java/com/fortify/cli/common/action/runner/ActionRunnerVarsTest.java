@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.action.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fortify.cli.common.json.JsonHelper;
+
+public class ActionRunnerVarsTest {
+    private static ActionRunnerVars createRoot() {
+        return new ActionRunnerVars(null, JsonHelper.getObjectMapper().createObjectNode());
+    }
+    
+    @Test
+    public void testChildResolvesParentVars() {
+        var root = createRoot();
+        root.set("a", "rootA");
+        var child = root.createChild();
+        var grandChild = child.createChild();
+        assertEquals("rootA", grandChild.get("a").asText());
+        assertTrue(grandChild.getValues().has("a"));
+        assertTrue(grandChild.getValues().has("cli"));
+        assertNull(grandChild.get("nonExisting"));
+    }
+    
+    @Test
+    public void testSetLocalOnlyAffectsChild() {
+        var root = createRoot();
+        root.set("a", "rootA");
+        var child = root.createChild();
+        child.setLocal("a", new TextNode("childA"));
+        child.setLocal("b", new TextNode("childB"));
+        assertEquals("childA", child.get("a").asText());
+        assertEquals("childB", child.get("b").asText());
+        assertEquals("rootA", root.get("a").asText());
+        assertNull(root.get("b"));
+    }
+    
+    @Test
+    public void testSetAndRmPropagateToParents() {
+        var root = createRoot();
+        var child = root.createChild();
+        var grandChild = child.createChild();
+        grandChild.set("a", "value");
+        assertEquals("value", root.get("a").asText());
+        assertEquals("value", child.get("a").asText());
+        grandChild.setLocal("b", new TextNode("local"));
+        root.set("b", "rootB");
+        grandChild.rm("b");
+        assertNull(grandChild.get("b"));
+        assertNull(root.get("b"));
+        grandChild.rm("a");
+        assertNull(grandChild.get("a"));
+        assertNull(root.get("a"));
+    }
+    
+    @Test
+    public void testAppendAndPropertyUpdatesOnParentVars() {
+        var root = createRoot();
+        root.set("arr..", new IntNode(1));
+        root.set("obj.x", new IntNode(1));
+        var child = root.createChild();
+        child.set("arr..", new IntNode(2));
+        child.set("obj.y", new IntNode(2));
+        assertEquals(2, root.get("arr").size());
+        assertEquals(1, root.get("obj").get("x").asInt());
+        assertEquals(2, root.get("obj").get("y").asInt());
+    }
+    
+    @Test
+    public void testMergedView() {
+        var root = createRoot();
+        root.set("a", "rootA");
+        root.set("b", "rootB");
+        var child = root.createChild();
+        child.setLocal("b", new TextNode("childB"));
+        child.setLocal("c", new TextNode("childC"));
+        var values = child.getValues();
+        var names = new ArrayList<String>();
+        values.fieldNames().forEachRemaining(names::add);
+        assertEquals(List.of("global", "cli", "a", "b", "c"), names);
+        assertEquals(5, values.size());
+        assertFalse(values.isEmpty());
+        var copy = values.deepCopy();
+        assertEquals("childB", copy.get("b").asText());
+        assertEquals(values, copy);
+        assertEquals(copy.toString(), values.toString());
+    }
+}
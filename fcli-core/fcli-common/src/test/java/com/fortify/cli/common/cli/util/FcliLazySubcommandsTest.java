@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.cli.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fortify.cli.common.cli.cmd.AbstractContainerCommand;
+import com.fortify.cli.common.cli.cmd.AbstractRunnableCommand;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+
+/**
+ * Tests for {@link FcliLazySubcommands} and the lazy root command line 
+ * handling in {@link FcliCommandSpecHelper}.
+ */
+class FcliLazySubcommandsTest {
+    @Command(name="root") static class RootCommand extends AbstractContainerCommand {}
+    @Command(name="mod1", subcommands = {ListCommand.class}) static class Module1Commands extends AbstractContainerCommand {}
+    @Command(name="mod2", aliases = {"m2"}, subcommands = {ListCommand.class}) static class Module2Commands extends AbstractContainerCommand {}
+    @Command(name="mod3", subcommands = {ListCommand.class}) static class Module3Commands extends AbstractContainerCommand {}
+    @Command(name="list") static class ListCommand extends AbstractRunnableCommand {
+        @Override public Integer call() { return 0; }
+    }
+    
+    private final AtomicInteger configureCount = new AtomicInteger();
+    
+    private FcliLazySubcommands createSubcommands() {
+        return new FcliLazySubcommands(new CommandLine(RootCommand.class), cl->configureCount.incrementAndGet(),
+                Module1Commands.class, Module2Commands.class, Module3Commands.class);
+    }
+    
+    @AfterEach
+    void resetRootCommandLine() {
+        FcliCommandSpecHelper.setRootCommandLine(null);
+    }
+    
+    @Test
+    void testRegisterSingleSubcommand() {
+        var subcommands = createSubcommands();
+        assertTrue(subcommands.register("m2", "list"));
+        assertTrue(subcommands.register("mod2", "list"));
+        assertEquals(List.of("mod2", "m2"), List.copyOf(subcommands.getCommandLine().getSubcommands().keySet()));
+        assertEquals(1, configureCount.get());
+    }
+    
+    @Test
+    void testRegisterUnknownSubcommand() {
+        var subcommands = createSubcommands();
+        assertFalse(subcommands.register("-h"));
+        assertFalse(subcommands.register());
+        assertTrue(subcommands.getCommandLine().getSubcommands().isEmpty());
+        assertEquals(0, configureCount.get());
+    }
+    
+    @Test
+    void testRegisterAllPreservesOrderAndInstances() {
+        var subcommands = createSubcommands();
+        subcommands.register("mod3");
+        var mod3 = subcommands.getCommandLine().getSubcommands().get("mod3");
+        subcommands.registerAll();
+        var registered = subcommands.getCommandLine().getSubcommands();
+        assertEquals(List.of("mod1", "mod2", "m2", "mod3"), List.copyOf(registered.keySet()));
+        assertSame(mod3, registered.get("mod3"));
+        assertSame(subcommands.getCommandLine().getCommandSpec(), mod3.getCommandSpec().parent());
+        assertTrue(subcommands.register("unknown"));
+        assertEquals(2, configureCount.get());
+    }
+    
+    @Test
+    void testRootCommandLineLookups() {
+        var subcommands = createSubcommands();
+        FcliCommandSpecHelper.setLazyRootCommandLine(subcommands);
+        var leafSpec = FcliCommandSpecHelper.findLeafCommandSpec(new String[] {"mod1", "list", "--help"});
+        assertEquals("root mod1 list", leafSpec.qualifiedName(" "));
+        assertEquals(1, subcommands.getCommandLine().getSubcommands().size());
+        assertNull(FcliCommandSpecHelper.findLeafCommandSpec(new String[] {"mod1"}));
+        assertNull(FcliCommandSpecHelper.findLeafCommandSpec(new String[] {"mod1", "get"}));
+        
+        var replicatedSpec = FcliCommandSpecHelper.replicateLeafCommandSpecWithParents(leafSpec);
+        assertEquals("root mod1 list", replicatedSpec.qualifiedName(" "));
+        assertNotSame(leafSpec.userObject(), replicatedSpec.userObject());
+        
+        FcliCommandSpecHelper.getRootCommandLine();
+        assertEquals(4, subcommands.getCommandLine().getSubcommands().size());
+    }
+}
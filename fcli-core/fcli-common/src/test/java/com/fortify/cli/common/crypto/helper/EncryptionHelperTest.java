@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.crypto.helper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class EncryptionHelperTest {
+    // Header consists of magic (12 bytes), salt (16 bytes) and nonce prefix (8 bytes)
+    private static final int HEADER_LENGTH = 36;
+    private static final int CHUNK_SIZE = 64*1024;
+    
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, CHUNK_SIZE-1, CHUNK_SIZE, CHUNK_SIZE+1, 3*CHUNK_SIZE+17})
+    public void testStreamingRoundTrip(int size) throws Exception {
+        var plain = randomBytes(size);
+        var encrypted = encrypt(plain);
+        assertArrayEquals(plain, decrypt(encrypted));
+    }
+    
+    @Test
+    public void testStreamingRoundTripSingleBytes() throws Exception {
+        var plain = randomBytes(CHUNK_SIZE+10);
+        var bos = new ByteArrayOutputStream();
+        try ( var os = EncryptionHelper.encryptingOutputStream(bos) ) {
+            for ( var b : plain ) { os.write(b); }
+        }
+        var result = new ByteArrayOutputStream();
+        try ( var is = EncryptionHelper.decryptingInputStream(new ByteArrayInputStream(bos.toByteArray())) ) {
+            int b;
+            while ( (b=is.read())!=-1 ) { result.write(b); }
+        }
+        assertArrayEquals(plain, result.toByteArray());
+    }
+    
+    @Test
+    public void testLegacyContents() throws Exception {
+        var plain = "{\"token\":\"abc\"}";
+        var legacy = EncryptionHelper.encrypt(plain).getBytes(StandardCharsets.UTF_8);
+        assertEquals(plain, new String(decrypt(legacy), StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    public void testModifiedContents() throws Exception {
+        var encrypted = encrypt(randomBytes(1000));
+        encrypted[encrypted.length-1] ^= 1;
+        assertThrows(IOException.class, ()->decrypt(encrypted));
+    }
+    
+    @Test
+    public void testTruncatedContents() throws Exception {
+        var encrypted = encrypt(randomBytes(CHUNK_SIZE+1));
+        // Remove final chunk, leaving only header and first (full) chunk
+        var truncated = Arrays.copyOf(encrypted, HEADER_LENGTH+1+4+CHUNK_SIZE+16);
+        assertThrows(IOException.class, ()->decrypt(truncated));
+    }
+    
+    @Test
+    public void testTrailingData() throws Exception {
+        var encrypted = encrypt(randomBytes(10));
+        var extended = Arrays.copyOf(encrypted, encrypted.length+1);
+        assertThrows(IOException.class, ()->decrypt(extended));
+    }
+    
+    private static final byte[] randomBytes(int size) {
+        var result = new byte[size];
+        new Random(size).nextBytes(result);
+        return result;
+    }
+    
+    private static final byte[] encrypt(byte[] plain) throws IOException {
+        var bos = new ByteArrayOutputStream();
+        try ( var os = EncryptionHelper.encryptingOutputStream(bos) ) {
+            os.write(plain);
+        }
+        return bos.toByteArray();
+    }
+    
+    private static final byte[] decrypt(byte[] encrypted) throws IOException {
+        try ( var is = EncryptionHelper.decryptingInputStream(new ByteArrayInputStream(encrypted)) ) {
+            return is.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json.producer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortify.cli.common.util.Break;
+
+/**
+ * Verifies that streaming input processing produces the same records as regular 
+ * processing, and returns the remaining input for use by paging.
+ */
+public class AbstractObjectNodeProducerStreamingTest {
+    private final ObjectMapper om = new ObjectMapper();
+    
+    @Test
+    void testStreamRecordsProperty() throws Exception {
+        var records = new ArrayList<String>();
+        var remaining = processStreaming(itemsProducer(), "{\"offset\":0,\"items\":[{\"id\":1},null,{\"id\":2}],\"totalCount\":2}", records, -1);
+        assertEquals(List.of("1", "2"), records);
+        assertEquals(om.readTree("{\"offset\":0,\"items\":[],\"totalCount\":2}"), remaining);
+    }
+    
+    @Test
+    void testStreamRootArray() throws Exception {
+        var records = new ArrayList<String>();
+        processStreaming(itemsProducer(), "[{\"id\":1},{\"id\":2}]", records, -1);
+        assertEquals(List.of("1", "2"), records);
+    }
+    
+    @Test
+    void testObjectWithoutRecordsProperty() throws Exception {
+        var records = new ArrayList<String>();
+        var remaining = processStreaming(itemsProducer(), "{\"id\":1}", records, -1);
+        assertEquals(List.of("1"), records);
+        assertEquals(om.readTree("{\"id\":1}"), remaining);
+    }
+    
+    @Test
+    void testBreakReadsRemainingInput() throws Exception {
+        var records = new ArrayList<String>();
+        var remaining = processStreaming(itemsProducer(), "{\"items\":[{\"id\":1},{\"id\":2}],\"totalCount\":2}", records, 1);
+        assertEquals(List.of("1"), records);
+        assertEquals(2, remaining.get("totalCount").asInt());
+    }
+    
+    @Test
+    void testStreamingNotSupportedWithMultipleInputTransformers() {
+        var producer = SimpleObjectNodeProducer.builder()
+                .inputTransformer(RecordsPropertyInputTransformer.of("items", n->n))
+                .inputTransformer(n->n)
+                .build();
+        assertFalse(producer.isStreamingInputSupported());
+    }
+    
+    private SimpleObjectNodeProducer itemsProducer() {
+        var producer = SimpleObjectNodeProducer.builder()
+                .inputTransformer(RecordsPropertyInputTransformer.of("items", n->n.has("items") ? n.get("items") : n))
+                .build();
+        assertTrue(producer.isStreamingInputSupported());
+        return producer;
+    }
+    
+    private JsonNode processStreaming(AbstractObjectNodeProducer producer, String json, List<String> records, int breakAfter) throws Exception {
+        try ( var parser = om.createParser(json) ) {
+            return producer.processStreaming(parser, n -> {
+                records.add(n.get("id").asText());
+                return records.size()==breakAfter ? Break.TRUE : Break.FALSE;
+            });
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.json.producer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.util.Break;
+
+/**
+ * Verifies that the query expression is evaluated as early as possible, such that
+ * subsequent property-modifying transformers are only invoked for matching records,
+ * while still producing the same results as evaluating the query last.
+ */
+public class RecordProcessingPlanTest {
+    private final ObjectMapper om = new ObjectMapper();
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    
+    private QueryExpression qe(String spel) { return new QueryExpression(parser.parseExpression(spel)); }
+    
+    @Test
+    void testReferencedProperties() {
+        assertEquals(Set.of("a", "c"), qe("a.b=='x' && c.?[d==1].size()>0").getReferencedProperties().orElseThrow());
+        assertEquals(Set.of("a", "b"), qe("a.startsWith(b)").getReferencedProperties().orElseThrow());
+        assertEquals(Set.of("a"), qe("['a']==1").getReferencedProperties().orElseThrow());
+        assertTrue(qe("#root.a==1").getReferencedProperties().isEmpty());
+        assertTrue(qe("get('a')==1").getReferencedProperties().isEmpty());
+    }
+    
+    @Test
+    void testQueryEvaluatedBeforeUnreferencedTransformer() throws Exception {
+        var invocations = new AtomicInteger();
+        var results = run(qe("a==2"), PropertyModifyingRecordTransformer.of(Set.of("b"), n -> {
+            invocations.incrementAndGet();
+            return ((ObjectNode)n).put("b", "added");
+        }));
+        assertEquals(1, invocations.get());
+        assertEquals(1, results.size());
+        assertEquals("added", results.get(0).get("b").asText());
+    }
+    
+    @Test
+    void testQueryEvaluatedAfterReferencedTransformer() throws Exception {
+        var invocations = new AtomicInteger();
+        var results = run(qe("b=='added2'"), PropertyModifyingRecordTransformer.of(Set.of("b"), n -> {
+            invocations.incrementAndGet();
+            return ((ObjectNode)n).put("b", "added"+n.get("a").asInt());
+        }));
+        assertEquals(3, invocations.get());
+        assertEquals(1, results.size());
+        assertEquals(2, results.get(0).get("a").asInt());
+    }
+    
+    @Test
+    void testQueryEvaluatedAfterOpaqueTransformer() throws Exception {
+        var invocations = new AtomicInteger();
+        var results = run(qe("a==2"), n -> { invocations.incrementAndGet(); return n; });
+        assertEquals(3, invocations.get());
+        assertEquals(1, results.size());
+    }
+    
+    @Test
+    void testWindowedTransformerPreservesOrder() throws Exception {
+        var windowSizes = new ArrayList<Integer>();
+        var results = run(5, null, WindowedRecordTransformer.of(2, records -> {
+            windowSizes.add(records.size());
+            return records.stream()
+                    .map(n -> n.get("a").asInt()==3 ? null : (JsonNode)((ObjectNode)n).put("b", "added"))
+                    .toList();
+        }));
+        assertEquals(List.of(2, 2, 1), windowSizes);
+        assertEquals(List.of(1, 2, 4, 5), results.stream().map(n -> n.get("a").asInt()).toList());
+        assertTrue(results.stream().allMatch(n -> n.has("b")));
+    }
+    
+    @Test
+    void testWindowedTransformerWithQuery() throws Exception {
+        var transformed = new ArrayList<Integer>();
+        var results = run(5, qe("a!=2"), WindowedRecordTransformer.of(3, recording(transformed)));
+        assertEquals(List.of(1, 2, 3, 4, 5), transformed);
+        assertEquals(List.of(1, 3, 4, 5), results.stream().map(n -> n.get("a").asInt()).toList());
+    }
+    
+    @Test
+    void testWindowedTransformerBreak() throws Exception {
+        var transformed = new ArrayList<Integer>();
+        var producer = SimpleObjectNodeProducer.builder()
+                .source(source(10))
+                .recordTransformer(WindowedRecordTransformer.of(4, recording(transformed)))
+                .build();
+        var result = new ArrayList<Integer>();
+        producer.forEach(n -> { result.add(n.get("a").asInt()); return result.size()==2 ? Break.TRUE : Break.FALSE; });
+        assertEquals(List.of(1, 2), result);
+        assertEquals(List.of(1, 2, 3, 4), transformed);
+    }
+    
+    private List<ObjectNode> run(QueryExpression queryExpression, UnaryOperator<JsonNode> transformer) throws Exception {
+        return run(3, queryExpression, transformer);
+    }
+    
+    private List<ObjectNode> run(int count, QueryExpression queryExpression, UnaryOperator<JsonNode> transformer) throws Exception {
+        var producer = SimpleObjectNodeProducer.builder()
+                .source(source(count))
+                .recordTransformer(transformer)
+                .queryExpression(queryExpression)
+                .build();
+        var result = new ArrayList<ObjectNode>();
+        producer.forEach(n -> { result.add(n); return Break.FALSE; });
+        return result;
+    }
+    
+    private UnaryOperator<List<JsonNode>> recording(List<Integer> transformed) {
+        return records -> { records.forEach(n -> transformed.add(n.get("a").asInt())); return records; };
+    }
+    
+    private JsonNode source(int count) {
+        var result = om.createArrayNode();
+        for ( int i=1 ; i<=count ; i++ ) { result.addObject().put("a", i); }
+        return result;
+    }
+}
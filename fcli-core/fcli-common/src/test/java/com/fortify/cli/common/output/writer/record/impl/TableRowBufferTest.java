@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.output.writer.record.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Verifies that {@link TableRowBuffer} returns rows in insertion order and in the requested
+ * batch sizes, both when rows are kept in memory and when rows have been spilled to disk.
+ */
+public class TableRowBufferTest {
+    @ParameterizedTest
+    @ValueSource(longs = {1_000L, 100_000_000L})
+    void testDrainBatches(long memoryLimitBytes) {
+        try ( var buffer = new TableRowBuffer(2, memoryLimitBytes) ) {
+            for ( int i=0; i<250; i++ ) { buffer.add(new String[] {"row"+i, "ü€"+i}); }
+            assertEquals(memoryLimitBytes<100_000, buffer.isSpilled());
+            List<String> firstColumn = new ArrayList<>();
+            List<Integer> batchSizes = new ArrayList<>();
+            List<Boolean> lastBatchFlags = new ArrayList<>();
+            buffer.drain(100, (batch, isLastBatch)->{
+                batch.forEach(row->firstColumn.add(row[0]));
+                batchSizes.add(batch.size());
+                lastBatchFlags.add(isLastBatch);
+                assertTrue(batch.stream().allMatch(row->row[1].startsWith("ü€")), "Non-ASCII data must be preserved");
+            });
+            assertEquals(List.of(100, 100, 50), batchSizes);
+            assertEquals(List.of(false, false, true), lastBatchFlags);
+            assertEquals("row0", firstColumn.get(0));
+            assertEquals("row249", firstColumn.get(249));
+            assertTrue(buffer.isEmpty());
+            assertFalse(buffer.isSpilled());
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(longs = {1_000L, 100_000_000L})
+    void testDrainSingleBatch(long memoryLimitBytes) {
+        try ( var buffer = new TableRowBuffer(1, memoryLimitBytes) ) {
+            for ( int i=0; i<50; i++ ) { buffer.add(new String[] {"row"+i}); }
+            List<Integer> batchSizes = new ArrayList<>();
+            buffer.drain(Integer.MAX_VALUE, (batch, isLastBatch)->batchSizes.add(batch.size()));
+            assertEquals(List.of(50), batchSizes);
+        }
+    }
+}
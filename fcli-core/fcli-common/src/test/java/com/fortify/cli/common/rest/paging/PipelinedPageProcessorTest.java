@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Verifies that {@link PipelinedPageProcessor} delivers pages in order, both when following
+ * next-page requests and when loading remaining pages in parallel, and that failures
+ * are propagated to the caller.
+ */
+@Timeout(value = 10)
+public class PipelinedPageProcessorTest {
+    private static final int LAST_PAGE = 25;
+    
+    @ParameterizedTest
+    @CsvSource({"1,1,false", "3,1,false", "1,4,true", "3,4,true", "2,8,false"})
+    void testPageOrder(int lookahead, int parallelism, boolean fanOut) {
+        List<Integer> received = new ArrayList<>();
+        processor(new PagingPipelineConfig(lookahead, parallelism), fanOut, p->p).process(0, received::add);
+        assertEquals(IntStream.rangeClosed(0, LAST_PAGE).boxed().toList(), received);
+    }
+    
+    @ParameterizedTest
+    @CsvSource({"1,1,false", "2,4,true"})
+    void testLookaheadIsBounded(int lookahead, int parallelism, boolean fanOut) {
+        var loaded = new AtomicInteger();
+        var window = Math.max(lookahead, parallelism);
+        processor(new PagingPipelineConfig(lookahead, parallelism), fanOut, p->{ loaded.incrementAndGet(); return p; })
+            .process(0, p->{
+                sleep(2);
+                // Loaded pages: all consumed pages, plus pages buffered, plus one page potentially being loaded 
+                assertTrue(loaded.get() <= p+1+window+1, "Too many pages loaded ahead of consumer");
+            });
+    }
+    
+    @ParameterizedTest
+    @CsvSource({"1,1,false", "2,4,true"})
+    void testLoadFailure(int lookahead, int parallelism, boolean fanOut) {
+        var processor = processor(new PagingPipelineConfig(lookahead, parallelism), fanOut, p->{ 
+            if ( p==7 ) { throw new IllegalStateException("Page 7 failed"); }
+            return p; 
+        });
+        List<Integer> received = new ArrayList<>();
+        var e = assertThrows(IllegalStateException.class, ()->processor.process(0, received::add));
+        assertEquals("Page 7 failed", e.getMessage());
+        assertEquals(IntStream.range(0, 7).boxed().toList(), received);
+    }
+    
+    @ParameterizedTest
+    @CsvSource({"1,1,false", "2,4,true"})
+    void testConsumerFailure(int lookahead, int parallelism, boolean fanOut) {
+        var processor = processor(new PagingPipelineConfig(lookahead, parallelism), fanOut, p->p);
+        assertThrows(IllegalArgumentException.class, ()->processor.process(0, p->{
+            if ( p==3 ) { throw new IllegalArgumentException(); }
+        }));
+    }
+    
+    private static PipelinedPageProcessor<Integer, Integer> processor(PagingPipelineConfig config, boolean fanOut, Function<Integer,Integer> loader) {
+        Function<Integer,Integer> delayedLoader = p->{ sleep(1); return loader.apply(p); };
+        Function<Integer,List<Integer>> remaining = fanOut 
+                ? p->IntStream.rangeClosed(p+1, LAST_PAGE).boxed().toList()
+                : null;
+        return new PipelinedPageProcessor<>(config, delayedLoader, p->p<LAST_PAGE ? p+1 : null, remaining);
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
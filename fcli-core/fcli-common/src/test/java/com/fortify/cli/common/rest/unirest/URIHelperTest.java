@@ -13,9 +13,11 @@
 package com.fortify.cli.common.rest.unirest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  *
@@ -42,4 +44,21 @@ public class URIHelperTest {
         var actual = URIHelper.addOrReplaceParam(BASE_URI+input, "o", "10");
         assertEquals(BASE_URI+expected, actual);
     }
+    
+    @ParameterizedTest
+    @CsvSource({
+        "?o=10,10", 
+        "?a=b&o=10,10", 
+        "?oo=5&o=10&o=20,10",
+        "?o=a%20b,a b",
+    })
+    public void testGetParam(String input, String expected) throws Exception {
+        assertEquals(expected, URIHelper.getParam(BASE_URI+input, "o"));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"", "?oo=5", "?a=o"})
+    public void testGetMissingParam(String input) throws Exception {
+        assertNull(URIHelper.getParam(BASE_URI+input, "o"));
+    }
 }
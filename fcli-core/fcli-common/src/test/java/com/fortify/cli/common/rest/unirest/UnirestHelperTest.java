@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.rest.unirest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fortify.cli.common.exception.FcliSimpleException;
+import com.sun.net.httpserver.HttpServer;
+
+class UnirestHelperTest {
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/ok", exchange->{
+            var body = "artifact-contents".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try ( var os = exchange.getResponseBody() ) { os.write(body); }
+        });
+        server.createContext("/missing", exchange->{
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://"+server.getAddress().getHostString()+":"+server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void downloadPassesBodyToProcessor() {
+        var result = UnirestHelper.download("test", baseUrl+"/ok", is->{
+            try {
+                return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+            } catch ( IOException e ) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        assertEquals("artifact-contents", result);
+    }
+
+    @Test
+    void downloadRethrowsErrorStatus() {
+        var e = assertThrows(FcliSimpleException.class, ()->UnirestHelper.download("test", baseUrl+"/missing", is->"unexpected"));
+        assertTrue(e.getMessage().contains("404"), e.getMessage());
+    }
+
+    @Test
+    void downloadRethrowsProcessorException() {
+        var expected = new IllegalStateException("processing failed");
+        var actual = assertThrows(IllegalStateException.class, ()->UnirestHelper.download("test", baseUrl+"/ok", is->{ throw expected; }));
+        assertSame(expected, actual);
+    }
+}
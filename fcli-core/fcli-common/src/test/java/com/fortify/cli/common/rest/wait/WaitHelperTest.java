@@ -12,12 +12,59 @@
  */
 package com.fortify.cli.common.rest.wait;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortify.cli.common.rest.wait.WaitHelper.WaitStatus;
+import com.fortify.cli.common.rest.wait.WaitType.AnyOrAll;
+import com.fortify.cli.common.rest.wait.WaitType.LoopType;
+
+import kong.unirest.UnirestInstance;
+
 // TODO Add multithreaded tests that emulate actual state changes
 @Timeout(value = 5)
 public class WaitHelperTest {
-    //private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    public void testTerminalRecordsNotPolledAgain() {
+        var completedCount = new AtomicInteger();
+        var processingCount = new AtomicInteger();
+        List<Function<UnirestInstance, JsonNode>> recordSuppliers = List.of(
+            u->createRecord(1, completedCount.incrementAndGet()<1 ? "running" : "done"),
+            u->createRecord(2, processingCount.incrementAndGet()<2 ? "running" : "done"));
+        var result = WaitHelper.builder()
+            .recordSuppliers(recordSuppliers)
+            .currentStateProperty("state")
+            .knownStates("running", "done")
+            .terminalStates("done")
+            .matchStates(Set.of("done"))
+            .waitType(new WaitType(LoopType.Until, AnyOrAll.all_match))
+            .intervalPeriod("1s")
+            .timeoutPeriod("4s")
+            .build()
+            .wait(null)
+            .getResult();
+        assertEquals(1, completedCount.get(), "Record in terminal state was polled again");
+        assertEquals(2, processingCount.get(), "Unexpected number of polls for record in non-terminal state");
+        assertEquals(2, result.size(), "Result doesn't match expected number of records");
+        assertTrue(result.values().stream().allMatch(WaitStatus.WAIT_COMPLETE::equals), "Not all records completed");
+    }
+    
+    private static final JsonNode createRecord(int id, String state) {
+        return objectMapper.createObjectNode().put("id", id).put("state", state);
+    }
+    
     /*
     @Test
     public void testNoRequests() {
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.spel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.integration.json.JsonPropertyAccessor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class SpelExpressionCacheTest {
+    private final ObjectMapper om = new ObjectMapper();
+    
+    private ObjectNode record(String json) throws Exception { return (ObjectNode)om.readTree(json); }
+    
+    @Test
+    public void testSameExpressionReturnsCachedInstance() {
+        var cache = new SpelExpressionCache();
+        assertSame(cache.getExpression("a.b"), cache.getExpression("a.b"));
+        assertNotSame(cache.getExpression("a.b"), cache.getExpression("a.c"));
+    }
+    
+    @Test
+    public void testTemplateAndPlainExpressionsCachedSeparately() {
+        var cache = new SpelExpressionCache();
+        var template = cache.getExpression("a.b", new TemplateParserContext("${","}"));
+        var plain = cache.getExpression("a.b");
+        assertNotSame(template, plain);
+        assertSame(template, cache.getExpression("a.b", new TemplateParserContext("${","}")));
+        assertNotSame(template, cache.getExpression("a.b", new TemplateParserContext("{","}")));
+    }
+    
+    @Test
+    public void testEvaluateCachedExpression() throws Exception {
+        var node = record("{\"a\":{\"b\":\"x\"}}");
+        assertEquals("x", SpelEvaluator.JSON_GENERIC.evaluate("a.b", node, String.class));
+        assertEquals("x", SpelEvaluator.JSON_GENERIC.evaluate("a.b", node, String.class));
+    }
+    
+    @Test
+    public void testCompiledJsonPropertyAccess() throws Exception {
+        var parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader()));
+        var cache = new SpelExpressionCache(parser);
+        var context = SimpleEvaluationContext.forPropertyAccessors(new JsonPropertyAccessor()).build();
+        var expression = (SpelExpression)cache.getExpression("a.b");
+        var node1 = record("{\"a\":{\"b\":\"x\"}}");
+        var node2 = record("{\"a\":{\"b\":\"y\"}}");
+        var node3 = record("{\"a\":{}}");
+        // Interpreted evaluation caches the property accessor, required for compilation
+        assertEquals("x", expression.getValue(context, node1));
+        assertTrue(expression.compileExpression());
+        assertEquals("x", expression.getValue(context, node1));
+        assertEquals("y", expression.getValue(context, node2));
+        assertNull(expression.getValue(context, node3));
+    }
+}
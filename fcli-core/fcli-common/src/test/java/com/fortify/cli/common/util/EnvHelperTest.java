@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ruud Senden
+ */
+public class EnvHelperTest {
+    private static final String NAME = "FCLI_ENV_HELPER_TEST";
+    
+    @AfterEach
+    public void clear() {
+        System.clearProperty(EnvHelper.envSystemPropertyName(NAME));
+        System.clearProperty(EnvHelper.envSystemPropertyName("PATH"));
+    }
+    
+    @Test
+    public void envReturnsSystemPropertyOverride() {
+        System.setProperty(EnvHelper.envSystemPropertyName(NAME), "value");
+        assertEquals("value", EnvHelper.env(NAME));
+    }
+    
+    @Test
+    public void envReturnsNullForUnsetValue() {
+        System.setProperty(EnvHelper.envSystemPropertyName(NAME), EnvHelper.UNSET_VALUE);
+        assertNull(EnvHelper.env(NAME));
+        assertEquals("default", EnvHelper.envOrDefault(NAME, "default"));
+        // Unset value must also hide environment variables defined for the current process
+        System.setProperty(EnvHelper.envSystemPropertyName("PATH"), EnvHelper.UNSET_VALUE);
+        assertNull(EnvHelper.env("PATH"));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ruud Senden
+ */
+public class OrderedParallelProcessorTest {
+    private static final List<Integer> INPUTS = IntStream.range(0, 50).boxed().toList();
+    
+    @Test
+    public void resultsAreConsumedInInputOrderOnCallingThread() {
+        var callingThread = Thread.currentThread();
+        var taskThreads = new AtomicInteger();
+        var results = new ArrayList<String>();
+        try ( var processor = new OrderedParallelProcessor("test", 4) ) {
+            processor.process(INPUTS, i->{
+                if ( Thread.currentThread()!=callingThread ) { taskThreads.incrementAndGet(); }
+                // Later inputs complete earlier
+                sleep(INPUTS.size()-i);
+                return "result-"+i;
+            }, (i,r)->{
+                assertSame(callingThread, Thread.currentThread());
+                assertEquals("result-"+i, r);
+                results.add(r);
+            });
+        }
+        assertEquals(INPUTS.stream().map(i->"result-"+i).toList(), results);
+        assertEquals(INPUTS.size(), taskThreads.get());
+    }
+    
+    @Test
+    public void inputsAreRequestedWithinWindow() {
+        int window = 3;
+        var callingThread = Thread.currentThread();
+        var requested = new AtomicInteger();
+        var consumed = new AtomicInteger();
+        var inputs = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() { return requested.get()<INPUTS.size(); }
+            @Override
+            public Integer next() {
+                assertSame(callingThread, Thread.currentThread());
+                return requested.getAndIncrement();
+            }
+        };
+        try ( var processor = new OrderedParallelProcessor("test", 2) ) {
+            processor.process(inputs, window, i->i, (i,r)->{
+                // Current input plus at most window inputs ahead of it
+                assertTrue(requested.get()<=consumed.get()+1+window, "Too many inputs requested: "+requested.get());
+                assertEquals(consumed.getAndIncrement(), r.intValue());
+            });
+        }
+        assertEquals(INPUTS.size(), consumed.get());
+    }
+    
+    @Test
+    public void taskExceptionIsRethrownAndRemainingTasksCancelled() throws Exception {
+        var expected = new IllegalStateException("Task failed");
+        var running = new CountDownLatch(3);
+        var interrupted = new CountDownLatch(1);
+        var consumed = new ArrayList<Integer>();
+        try ( var processor = new OrderedParallelProcessor("test", 3) ) {
+            var actual = assertThrows(IllegalStateException.class, ()->processor.process(List.of(0, 1, 2, 3), i->{
+                running.countDown();
+                await(running);
+                if ( i==1 ) { throw expected; }
+                if ( i>1 ) {
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    } catch ( InterruptedException e ) {
+                        interrupted.countDown();
+                    }
+                }
+                return i;
+            }, (i,r)->consumed.add(r)));
+            assertSame(expected, actual);
+            assertTrue(interrupted.await(10, TimeUnit.SECONDS), "In-flight task wasn't cancelled");
+        }
+        assertEquals(List.of(0), consumed);
+    }
+    
+    @Test
+    public void concurrencyOneRunsTasksOnCallingThread() {
+        var callingThread = Thread.currentThread();
+        var results = new ArrayList<Integer>();
+        var expected = new IllegalStateException("Task failed");
+        try ( var processor = new OrderedParallelProcessor("test", 0) ) {
+            assertEquals(1, processor.getConcurrency());
+            processor.process(INPUTS, i->{
+                assertSame(callingThread, Thread.currentThread());
+                return i*2;
+            }, (i,r)->results.add(r));
+            var actual = assertThrows(IllegalStateException.class, ()->processor.process(INPUTS, i->{ throw expected; }, (i,r)->{}));
+            assertSame(expected, actual);
+        }
+        assertEquals(INPUTS.stream().map(i->i*2).toList(), results);
+    }
+    
+    private static final void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static final void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.variable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortify.cli.common.util.EnvHelper;
+
+/**
+ * Tests that encrypted variable contents are only accessible by the current user,
+ * independent of whether contents are saved at once or written through a writer,
+ * and that indexed property values are consistent with the variable contents.
+ *
+ * @author Ruud Senden
+ */
+public class FcliVariableHelperTest {
+    private static final String ENV_STATE_DIR = "FCLI_STATE_DIR";
+    private static final String JSON = "[{\"id\":1,\"name\":\"first\"},{\"id\":2,\"name\":\"second\"}]";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    @TempDir Path tempDir;
+    
+    @BeforeEach
+    public void setStateDir() {
+        System.setProperty(EnvHelper.envSystemPropertyName(ENV_STATE_DIR), tempDir.toString());
+    }
+    
+    @AfterEach
+    public void clearStateDir() {
+        System.clearProperty(EnvHelper.envSystemPropertyName(ENV_STATE_DIR));
+    }
+    
+    @Test
+    public void testSaveEncryptedContentsOwnerOnly() throws Exception {
+        var contents = objectMapper.readTree(JSON);
+        FcliVariableHelper.save("saved", "id", contents, false, true);
+        assertOwnerOnly("saved");
+        assertEquals(contents, FcliVariableHelper.getVariableContents("saved", true));
+    }
+    
+    @Test
+    public void testWriteEncryptedContentsOwnerOnly() throws Exception {
+        try ( var writer = FcliVariableHelper.getVariableContentsWriter("written", "id", false, true) ) {
+            writer.write(JSON);
+        }
+        assertOwnerOnly("written");
+        assertEquals(objectMapper.readTree(JSON), FcliVariableHelper.getVariableContents("written", true));
+    }
+    
+    @Test
+    public void testTopLevelPropertyNamesDontShadowNestedPropertyPaths() throws Exception {
+        var json = "{\"a.b\":\"top\",\"x[0]\":\"topx\",\"a\":{\"b\":\"nested\"},\"x\":[\"nestedx\"],\"id\":\"1\"}";
+        FcliVariableHelper.save("saved", "id", objectMapper.readTree(json), true, false);
+        try ( var writer = FcliVariableHelper.getVariableContentsWriter("written", "id", true, false) ) {
+            writer.write(json);
+        }
+        for ( var variableName : new String[] {"saved", "written"} ) {
+            var index = FcliVariableHelper.getVariableDescriptor(variableName, true).getIndex();
+            assertFalse(index.has("a.b"));
+            assertFalse(index.has("x[0]"));
+            assertEquals("nested", FcliVariableHelper.resolveVariable("::"+variableName+"::a.b"));
+            assertEquals("nestedx", FcliVariableHelper.resolveVariable("::"+variableName+"::x[0]"));
+            assertEquals("1", FcliVariableHelper.resolveVariable("::"+variableName+"::id"));
+        }
+    }
+    
+    private static final void assertOwnerOnly(String variableName) throws Exception {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        var contentsPath = FcliVariableHelper.getVariablesPath().resolve(variableName).resolve("contents.json");
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(contentsPath)));
+    }
+}
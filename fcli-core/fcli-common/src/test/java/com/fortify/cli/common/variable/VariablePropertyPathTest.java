@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.common.variable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class VariablePropertyPathTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String JSON = """
+            {"id":12, "name":"app", "nested":{"skip":[1,2,{"x":3}], "name":"nestedName"}, 
+             "items":[{"id":1},{"id":2,"tags":["a","b"]}], "empty":null, "flag":true}""";
+    
+    @Test
+    public void testParseSupportedPaths() {
+        assertTrue(VariablePropertyPath.parse("id").isTopLevelProperty());
+        assertFalse(VariablePropertyPath.parse("nested.name").isTopLevelProperty());
+        assertNotNull(VariablePropertyPath.parse("items[1].tags[0]"));
+        assertNotNull(VariablePropertyPath.parse("get(0).id"));
+        assertNotNull(VariablePropertyPath.parse("items.get(1).id"));
+    }
+    
+    @Test
+    public void testParseUnsupportedPaths() {
+        assertNull(VariablePropertyPath.parse(null));
+        assertNull(VariablePropertyPath.parse(""));
+        assertNull(VariablePropertyPath.parse("id+1"));
+        assertNull(VariablePropertyPath.parse("name.toUpperCase()"));
+        assertNull(VariablePropertyPath.parse("a..b"));
+        assertNull(VariablePropertyPath.parse(".a"));
+        assertNull(VariablePropertyPath.parse("[0].id"));
+        assertNull(VariablePropertyPath.parse("get(0)"));
+        assertNull(VariablePropertyPath.parse("null"));
+        assertNull(VariablePropertyPath.parse("a.TRUE"));
+        assertNull(VariablePropertyPath.parse("items[?(id==1)]"));
+    }
+    
+    @Test
+    public void testExtractMatchesTree() throws Exception {
+        var tree = objectMapper.readTree(JSON);
+        for ( var path : new String[] {"id", "name", "nested.name", "items[1].id", "items.get(1).tags[1]", "flag"} ) {
+            var expected = VariablePropertyPath.parse(path).extract(tree);
+            assertNotNull(expected, path);
+            assertEquals(expected, stream(path), path);
+        }
+    }
+    
+    @Test
+    public void testExtractMissingOrNull() throws Exception {
+        var tree = objectMapper.readTree(JSON);
+        for ( var path : new String[] {"missing", "empty", "items[5].id", "name.x", "id[0]", "nested.skip.x"} ) {
+            assertNull(VariablePropertyPath.parse(path).extract(tree), path);
+            assertNull(stream(path), path);
+        }
+    }
+    
+    @Test
+    public void testExtractFromArray() throws Exception {
+        assertEquals("b", stream("[{\"id\":\"a\"},{\"id\":\"b\"}]", "get(1).id").asText());
+    }
+    
+    private static final JsonNode stream(String path) throws Exception {
+        return stream(JSON, path);
+    }
+    
+    private static final JsonNode stream(String json, String path) throws Exception {
+        try ( var parser = objectMapper.createParser(json) ) {
+            return VariablePropertyPath.parse(path).extract(parser);
+        }
+    }
+}
@@ -12,9 +12,11 @@
  */
 package com.fortify.cli.fod._common.cli.mixin;
 
+import java.util.List;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fortify.cli.common.cli.mixin.CommandHelperMixin;
-import com.fortify.cli.common.output.transform.IRecordTransformer;
+import com.fortify.cli.common.output.transform.IWindowedRecordTransformer;
 import com.fortify.cli.common.rest.unirest.IUnirestInstanceSupplier;
 import com.fortify.cli.fod._common.rest.embed.FoDEmbedder;
 import com.fortify.cli.fod._common.rest.embed.IFoDEntityEmbedderSupplier;
@@ -22,18 +24,26 @@ import com.fortify.cli.fod._common.rest.embed.IFoDEntityEmbedderSupplier;
 import kong.unirest.UnirestInstance;
 import picocli.CommandLine.Mixin;
 
-public abstract class AbstractFoDEmbedMixin implements IRecordTransformer {
+public abstract class AbstractFoDEmbedMixin implements IWindowedRecordTransformer {
     @Mixin private CommandHelperMixin commandHelper;
     private FoDEmbedder embedder;
     
     @Override
-    public final JsonNode transformRecord(JsonNode record) {
-        if ( embedder==null ) { embedder = new FoDEmbedder(getEmbedSuppliers()); }
+    public final int getWindowSize() {
+        return getEmbedder().getWindowSize();
+    }
+    
+    @Override
+    public final List<JsonNode> transformRecords(List<JsonNode> records) {
         UnirestInstance unirest = commandHelper
                 .getCommandAs(IUnirestInstanceSupplier.class)
                 .orElseThrow().getUnirestInstance();
-        embedder.transformRecord(unirest, record);
-        return record;
+        return getEmbedder().transformRecords(unirest, records);
+    }
+    
+    private synchronized FoDEmbedder getEmbedder() {
+        if ( embedder==null ) { embedder = new FoDEmbedder(getEmbedSuppliers()); }
+        return embedder;
     }
     
     protected abstract IFoDEntityEmbedderSupplier[] getEmbedSuppliers();
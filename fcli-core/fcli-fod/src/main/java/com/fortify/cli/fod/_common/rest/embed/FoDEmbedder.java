@@ -12,41 +12,182 @@
  */
 package com.fortify.cli.fod._common.rest.embed;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.exception.FcliBugException;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.common.util.OrderedParallelProcessor;
 
+import kong.unirest.HttpRequest;
 import kong.unirest.UnirestInstance;
 
 /**
  * This class takes zero or more {@link IFoDEntityEmbedderSupplier} instances
  * as constructor argument(s), storing the {@link IFoDEntityEmbedder} instances
- * generated by these suppliers, to provide the {@link #transformRecord(UnirestInstance, JsonNode)}
- * method that embeds the requested data into a given record.
+ * generated by these suppliers, to provide the {@link #transformRecords(UnirestInstance, List)}
+ * method that embeds the requested data into a given window of records.
+ * <p>
+ * For all records in a window, requests are executed concurrently on the number
+ * of threads configured through {@value #ENV_PARALLELISM}; FoD rate limits are respected by the
+ * rate limiter configured on the FoD {@link UnirestInstance}. For 
+ * {@link IFoDEntityLookupEmbedder} instances, identical lookup requests, 
+ * both within a window and for recently processed records, are executed 
+ * only once, and lookup responses are embedded into the records on the 
+ * calling thread, in record order. Other {@link IFoDEntityEmbedder} 
+ * implementations are invoked directly on the worker threads, concurrently
+ * for different records, so these must be thread-safe.
  *  
  * @author rsenden
  *
  */
 public class FoDEmbedder {
-    private final Collection<IFoDEntityEmbedder> embedders;
+    public static final String ENV_PARALLELISM = "FCLI_FOD_EMBED_PARALLELISM";
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final int MIN_WINDOW_SIZE = 100;
+    private static final int MAX_CACHED_LOOKUPS = 1000;
+    private final List<IFoDEntityEmbedder> embedders;
+    private final int parallelism;
+    // Synchronized, as a single instance may be used by multiple producers running concurrently
+    private final Map<String, JsonNode> lookupCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JsonNode> eldest) {
+            return size()>MAX_CACHED_LOOKUPS;
+        }
+    });
     
     public FoDEmbedder(IFoDEntityEmbedderSupplier... suppliers) {
+        this(EnvHelper.envAsInt(ENV_PARALLELISM, DEFAULT_PARALLELISM), suppliers);
+    }
+    
+    public FoDEmbedder(int parallelism, IFoDEntityEmbedderSupplier... suppliers) {
+        this.parallelism = Math.max(1, parallelism);
         this.embedders = suppliers==null ? null : Stream.of(suppliers)
                 .map(IFoDEntityEmbedderSupplier::createEntityEmbedder)
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Get the number of records that should be passed to {@link #transformRecords(UnirestInstance, List)}
+     * at once; if there's nothing to embed or parallelism is disabled, records are processed one by one.
+     */
+    public int getWindowSize() {
+        return embedders==null || embedders.isEmpty() || parallelism==1 ? 1 : Math.max(MIN_WINDOW_SIZE, parallelism);
+    }
+    
     public JsonNode transformRecord(UnirestInstance unirest, JsonNode record) {
-        if ( embedders!=null ) {
-            if ( !(record instanceof ObjectNode) ) {
-                throw new FcliBugException("Can't embed data in records of type "+record.getNodeType());
+        return transformRecords(unirest, List.of(record)).get(0);
+    }
+    
+    public List<JsonNode> transformRecords(UnirestInstance unirest, List<JsonNode> records) {
+        if ( embedders!=null && !embedders.isEmpty() && !records.isEmpty() ) {
+            var objectRecords = records.stream().map(FoDEmbedder::asObjectNode).toList();
+            new WindowEmbedder(unirest, objectRecords).embed();
+        }
+        return records;
+    }
+    
+    private static final ObjectNode asObjectNode(JsonNode record) {
+        if ( !(record instanceof ObjectNode) ) {
+            throw new FcliBugException("Can't embed data in records of type "+record.getNodeType());
+        }
+        return (ObjectNode)record;
+    }
+    
+    /**
+     * This class embeds data into a single window of records. Lookup requests are
+     * collected first, such that each unique request is executed only once, after
+     * which all lookup requests and any other embedders are run concurrently. Once
+     * all requests have completed, lookup responses are embedded into the records.
+     */
+    private final class WindowEmbedder {
+        private final UnirestInstance unirest;
+        private final List<ObjectNode> records;
+        private final List<String[]> lookupUrls = new ArrayList<>();
+        private final Map<String, HttpRequest<?>> pendingLookups = new LinkedHashMap<>();
+        private final Map<String, JsonNode> responses = new HashMap<>();
+        private final Set<String> unusedResponses = new HashSet<>();
+        
+        private WindowEmbedder(UnirestInstance unirest, List<ObjectNode> records) {
+            this.unirest = unirest;
+            this.records = records;
+        }
+        
+        private void embed() {
+            var tasks = new ArrayList<Task>();
+            var hasDirectEmbedders = embedders.stream().anyMatch(e->!(e instanceof IFoDEntityLookupEmbedder));
+            for ( var record : records ) {
+                lookupUrls.add(collectLookups(record));
+                if ( hasDirectEmbedders ) {
+                    tasks.add(new Task(null, ()->embedDirectly(record)));
+                }
+            }
+            pendingLookups.forEach((url, request)->
+                tasks.add(new Task(url, ()->request.asObject(JsonNode.class).getBody())));
+            try ( var processor = new OrderedParallelProcessor("fcli-fod-embed", parallelism) ) {
+                processor.process(tasks, t->t.supplier().get(), this::addResponse);
+            }
+            for ( int i=0 ; i<records.size() ; i++ ) {
+                embedLookupResponses(records.get(i), lookupUrls.get(i));
+            }
+        }
+        
+        private String[] collectLookups(ObjectNode record) {
+            var result = new String[embedders.size()];
+            for ( int i=0 ; i<result.length ; i++ ) {
+                if ( embedders.get(i) instanceof IFoDEntityLookupEmbedder e ) {
+                    var request = e.getLookupRequest(unirest, record);
+                    var url = request.getUrl();
+                    var cached = lookupCache.get(url);
+                    if ( cached!=null ) {
+                        responses.put(url, cached);
+                    } else if ( !responses.containsKey(url) ) {
+                        pendingLookups.putIfAbsent(url, request);
+                    }
+                    result[i] = url;
+                }
+            }
+            return result;
+        }
+        
+        private JsonNode embedDirectly(ObjectNode record) {
+            embedders.stream().filter(e->!(e instanceof IFoDEntityLookupEmbedder))
+                .forEach(e->e.embed(unirest, record));
+            return null;
+        }
+        
+        private void addResponse(Task task, JsonNode response) {
+            if ( task.lookupUrl()!=null ) {
+                responses.put(task.lookupUrl(), response);
+                unusedResponses.add(task.lookupUrl());
+                // The cache holds its own copy, as the response itself may be embedded as-is
+                if ( response!=null ) { lookupCache.put(task.lookupUrl(), response.deepCopy()); }
+            }
+        }
+        
+        private void embedLookupResponses(ObjectNode record, String[] urls) {
+            for ( int i=0 ; i<urls.length ; i++ ) {
+                if ( urls[i]!=null ) {
+                    var response = responses.get(urls[i]);
+                    // Each record gets its own copy of responses that are embedded into multiple records
+                    var embedded = response==null || unusedResponses.remove(urls[i]) ? response : response.deepCopy();
+                    ((IFoDEntityLookupEmbedder)embedders.get(i)).embed(record, embedded);
+                }
             }
-            embedders.forEach(e->e.embed(unirest, (ObjectNode)record));
         }
-        return record;
     }
+    
+    private record Task(String lookupUrl, Supplier<JsonNode> supplier) {}
 }
@@ -18,7 +18,9 @@ import kong.unirest.UnirestInstance;
 
 /**
  * Interface for executing one or more requests and adding the response data
- * as embedded properties to a given record.
+ * as embedded properties to a given record. As {@link FoDEmbedder} may invoke
+ * this method concurrently for different records, implementations must be 
+ * thread-safe.
  * 
  * @author rsenden
  */
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod._common.rest.embed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import kong.unirest.HttpRequest;
+import kong.unirest.UnirestInstance;
+
+/**
+ * {@link IFoDEntityEmbedder} that embeds the response of a single lookup request
+ * into a given record. Separating request creation from embedding the response
+ * allows {@link FoDEmbedder} to execute the lookup requests for multiple records
+ * concurrently, and to execute identical lookup requests only once.
+ * 
+ * @author rsenden
+ */
+public interface IFoDEntityLookupEmbedder extends IFoDEntityEmbedder {
+    HttpRequest<?> getLookupRequest(UnirestInstance unirest, ObjectNode record);
+    void embed(ObjectNode record, JsonNode response);
+    
+    @Override
+    default void embed(UnirestInstance unirest, ObjectNode record) {
+        embed(record, getLookupRequest(unirest, record).asObject(JsonNode.class).getBody());
+    }
+}
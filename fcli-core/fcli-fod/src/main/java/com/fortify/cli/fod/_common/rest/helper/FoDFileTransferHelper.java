@@ -12,17 +12,28 @@
  */
 package com.fortify.cli.fod._common.rest.helper;
 
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.progress.helper.IProgressWriter;
 import com.fortify.cli.common.rest.unirest.URIHelper;
+import com.fortify.cli.common.rest.unirest.UnexpectedHttpResponseException;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.common.util.OrderedParallelProcessor;
 import com.fortify.cli.fod._common.util.FoDConstants;
 
 import kong.unirest.HttpRequest;
@@ -36,6 +47,9 @@ import lombok.SneakyThrows;
 //      generic class in fcli-common.
 public final class FoDFileTransferHelper {
 
+    public static final String ENV_UPLOAD_PARALLELISM = "FCLI_FOD_UPLOAD_PARALLELISM";
+    private static final Logger LOG = LoggerFactory.getLogger(FoDFileTransferHelper.class);
+    private static final int MAX_FRAGMENT_ATTEMPTS = 3;
     private static int chunkSize = FoDConstants.DEFAULT_CHUNK_SIZE;
     public static void setChunkSize(int chunkSize) { FoDFileTransferHelper.chunkSize = chunkSize; }
 
@@ -59,42 +73,23 @@ public final class FoDFileTransferHelper {
         return new ObjectMapper().readTree(body);
     }
 
+    /**
+     * Upload the given file in fragments of the configured chunk size. Fragments are read
+     * using positional NIO reads, and if the {@value #ENV_UPLOAD_PARALLELISM} environment 
+     * variable is set to a value larger than 1, up to that number of fragments are uploaded 
+     * concurrently. The last fragment is always uploaded after all other fragments have been 
+     * uploaded successfully, as this fragment finalizes the upload on the FoD side. Failed 
+     * fragments are retried from their own offset, without restarting the whole upload.
+     */
     @SneakyThrows
     public static final JsonNode uploadChunked(UnirestInstance unirest, HttpRequest<?> baseRequest, File f, IProgressWriter progressWriter) {
         if (!f.exists() || !f.canRead()) {
             throw new FcliSimpleException("Could not read file: " + f.getPath());
         }
-        long fileLen = f.length();
         String lastBody = null;
-        try (var fs = new FileInputStream(f); var progressMonitor = new FoDProgressMonitor(progressWriter, "Upload"); ) {
-            byte[] readByteArray = new byte[chunkSize];
-            byte[] sendByteArray;
-            int fragmentNumber = 0;
-            int byteCount;
-            long offset = 0;
-
-            // loop through chunks
-            while ((byteCount = fs.read(readByteArray)) != -1) {
-
-                if (byteCount < chunkSize) {
-                    sendByteArray = Arrays.copyOf(readByteArray, byteCount);
-                    fragmentNumber = -1;
-                } else {
-                    sendByteArray = readByteArray;
-                }
-
-                lastBody = unirest.request(
-                                String.valueOf(baseRequest.getHttpMethod()),
-                                getUri(baseRequest, fragmentNumber++, offset))
-                        .contentType("application/octet-stream")
-                        .header("Accept", "application/json")
-                        .body(sendByteArray)
-                        .asString()
-                        .getBody();
-                progressMonitor.accept(baseRequest.getUrl(), f.getName(), offset, fileLen);
-                offset += byteCount;
-            }
-            progressMonitor.accept(baseRequest.getUrl(), f.getName(), offset, fileLen);
+        try (var channel = FileChannel.open(f.toPath(), StandardOpenOption.READ); var progressMonitor = new FoDProgressMonitor(progressWriter, "Upload"); ) {
+            var upload = new ChunkedUpload(unirest, baseRequest, f.getName(), channel, progressMonitor, chunkSize);
+            lastBody = upload.run(EnvHelper.envAsInt(ENV_UPLOAD_PARALLELISM, 1));
         } catch (Exception e) {
             throw new FcliSimpleException("Error uploading file", e);
         }
@@ -109,6 +104,91 @@ public final class FoDFileTransferHelper {
         return uri.toString();
     }
 
+    /**
+     * Single chunked upload. Fragments are numbered sequentially; the fragment that is shorter
+     * than the chunk size (if any) is the last fragment and is sent with fragment number -1.
+     * Only one fragment buffer per in-flight fragment is held in memory at any time. Empty files
+     * are rejected without sending any fragment requests.
+     */
+    @RequiredArgsConstructor
+    private static final class ChunkedUpload {
+        private final UnirestInstance unirest;
+        private final HttpRequest<?> baseRequest;
+        private final String fileName;
+        private final FileChannel channel;
+        private final FoDProgressMonitor progressMonitor;
+        private final int chunkSize;
+        private final AtomicLong bytesUploaded = new AtomicLong();
+
+        String run(int parallelism) throws IOException {
+            long fileLen = channel.size();
+            int fragmentCount = (int)((fileLen+chunkSize-1)/chunkSize);
+            if ( fragmentCount==0 ) { throw new FcliSimpleException("Cannot upload empty file "+fileName); }
+            int lastFragmentIndex = fragmentCount-1;
+            reportProgress(fileLen);
+            // Upload all but the last fragment, keeping at most parallelism fragments in flight 
+            // to bound memory usage; with parallelism 1, fragments are uploaded on this thread.
+            try ( var processor = new OrderedParallelProcessor("fcli-fod-upload", parallelism) ) {
+                processor.process(IntStream.range(0, lastFragmentIndex).boxed().toList(), 
+                        i->uploadFragment(i, fileLen), (i,body)->reportProgress(fileLen));
+            }
+            var result = uploadFragment(lastFragmentIndex, fileLen);
+            reportProgress(fileLen);
+            return result;
+        }
+
+        @SneakyThrows
+        private String uploadFragment(int fragmentIndex, long fileLen) {
+            long offset = (long)fragmentIndex*chunkSize;
+            int length = (int)Math.min(chunkSize, fileLen-offset);
+            int fragmentNumber = length<chunkSize ? -1 : fragmentIndex;
+            for ( int attempt=1; ; attempt++ ) {
+                try {
+                    var body = unirest.request(
+                                    String.valueOf(baseRequest.getHttpMethod()),
+                                    getUri(baseRequest, fragmentNumber, offset))
+                            .contentType("application/octet-stream")
+                            .header("Accept", "application/json")
+                            .body(readFragment(offset, length))
+                            .asString()
+                            .getBody();
+                    bytesUploaded.addAndGet(length);
+                    return body;
+                } catch ( Exception e ) {
+                    if ( attempt>=MAX_FRAGMENT_ATTEMPTS || !isRetryable(e) ) { throw e; }
+                    LOG.debug("Error uploading fragment at offset {} of {} (attempt {} of {}), retrying", offset, fileName, attempt, MAX_FRAGMENT_ATTEMPTS, e);
+                    Thread.sleep(1000L*attempt);
+                }
+            }
+        }
+
+        private byte[] readFragment(long offset, int length) throws IOException {
+            var result = new byte[length];
+            var buffer = ByteBuffer.wrap(result);
+            while ( buffer.hasRemaining() ) {
+                if ( channel.read(buffer, offset+buffer.position())<0 ) {
+                    throw new EOFException("Unexpected end of file at offset "+(offset+buffer.position())+" of "+fileName);
+                }
+            }
+            return result;
+        }
+
+        private void reportProgress(long fileLen) {
+            progressMonitor.accept(baseRequest.getUrl(), fileName, bytesUploaded.get(), fileLen);
+        }
+
+        /**
+         * Client errors other than 429 (which is already handled by {@link FoDRetryStrategy}) 
+         * indicate a problem with the request itself, so there's no point in retrying these.
+         */
+        private static boolean isRetryable(Exception e) {
+            if ( e instanceof UnexpectedHttpResponseException ue ) {
+                return ue.getStatus()<400 || ue.getStatus()>=500;
+            }
+            return true;
+        }
+    }
+
     @RequiredArgsConstructor
     private static final class FoDProgressMonitor implements ProgressMonitor, AutoCloseable {
         private final IProgressWriter progressWriter;
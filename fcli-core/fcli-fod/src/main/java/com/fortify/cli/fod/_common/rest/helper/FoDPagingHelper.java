@@ -12,12 +12,17 @@
  */
 package com.fortify.cli.fod._common.rest.helper;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
+import com.fortify.cli.common.rest.paging.IRemainingPageUrlsProducer;
 import com.fortify.cli.common.rest.paging.PagingHelper;
 import com.fortify.cli.common.rest.unirest.URIHelper;
 
 import kong.unirest.HttpRequest;
+import kong.unirest.HttpResponse;
 import kong.unirest.PagedList;
 
 public class FoDPagingHelper {
@@ -25,9 +30,21 @@ public class FoDPagingHelper {
         return PagingHelper.pagedRequest(request, nextPageUrlProducer());
     }
     public static final INextPageUrlProducer nextPageUrlProducer() {
-        return (req,resp) -> {
+        return FoDNextPageUrlProducer.INSTANCE;
+    }
+    
+    /**
+     * FoD uses offset-based paging, so besides calculating the next page URL, we can
+     * also calculate the URLs for all remaining pages once the first page has been 
+     * loaded, allowing these pages to be loaded in parallel.
+     */
+    private static final class FoDNextPageUrlProducer implements INextPageUrlProducer, IRemainingPageUrlsProducer {
+        private static final FoDNextPageUrlProducer INSTANCE = new FoDNextPageUrlProducer();
+        
+        @Override
+        public String getNextPageUrl(HttpRequest<?> req, HttpResponse<? extends JsonNode> resp) {
             JsonNode body = resp.getBody();
-            if ( body.has("offset") && body.has("totalCount") && body.has("limit") ) {
+            if ( hasPagingData(body) ) {
                 int offset = body.get("offset").asInt();
                 int totalCount = body.get("totalCount").asInt();
                 int limit = body.get("limit").asInt();
@@ -38,6 +55,24 @@ public class FoDPagingHelper {
                 return null;
             }
             return null;
-        };
+        }
+        
+        @Override
+        public List<String> getRemainingPageUrls(HttpRequest<?> req, HttpResponse<? extends JsonNode> firstResponse) {
+            JsonNode body = firstResponse.getBody();
+            if ( !hasPagingData(body) ) { return List.of(); }
+            int limit = body.get("limit").asInt();
+            if ( limit<=0 ) { return null; }
+            int totalCount = body.get("totalCount").asInt();
+            var result = new ArrayList<String>();
+            for ( int offset = body.get("offset").asInt()+limit; offset < totalCount; offset += limit ) {
+                result.add(URIHelper.addOrReplaceParam(req.getUrl(), "offset", offset));
+            }
+            return result;
+        }
+        
+        private static final boolean hasPagingData(JsonNode body) {
+            return body!=null && body.has("offset") && body.has("totalCount") && body.has("limit");
+        }
     }
 }
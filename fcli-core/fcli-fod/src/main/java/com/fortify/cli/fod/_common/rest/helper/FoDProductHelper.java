@@ -18,7 +18,7 @@ import java.net.URL;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.output.product.IProductHelper;
-import com.fortify.cli.common.output.transform.IInputTransformer;
+import com.fortify.cli.common.output.transform.IRecordsPropertyInputTransformer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducerSupplier;
 
@@ -26,7 +26,7 @@ import lombok.SneakyThrows;
 
 // IMPORTANT: When updating/adding any methods in this class, FoDRestCallCommand
 // also likely needs to be updated
-public class FoDProductHelper implements IProductHelper, IInputTransformer, INextPageUrlProducerSupplier 
+public class FoDProductHelper implements IProductHelper, IRecordsPropertyInputTransformer, INextPageUrlProducerSupplier 
 {
     public static final FoDProductHelper INSTANCE = new FoDProductHelper(); 
     private FoDProductHelper() {}
@@ -35,6 +35,11 @@ public class FoDProductHelper implements IProductHelper, IInputTransformer, INex
         return FoDPagingHelper.nextPageUrlProducer();
     }
     
+    @Override
+    public String getRecordsProperty() {
+        return "items";
+    }
+    
     @Override
     public JsonNode transformInput(JsonNode input) {
         return FoDInputTransformer.getItems(input);
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod._common.rest.helper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+import org.apache.http.Header;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fortify.cli.common.exception.FcliTechnicalException;
+
+/**
+ * Client-side token-bucket rate limiter for FoD requests. Rather than only reacting to 
+ * HTTP 429 responses (see {@link FoDRetryStrategy}), this class learns the tenant's rate
+ * limit from the X-Rate-Limit-* response headers and paces requests ahead of time, 
+ * allowing bursts while sufficient quota is left, and spreading requests evenly over 
+ * the rate limit window once the quota runs low.
+ * <p>
+ * As the remaining quota reported by FoD takes into account requests from other clients
+ * using the same tenant, like other pipelines, each response corrects the local token 
+ * count. Instances are shared by all threads and {@link kong.unirest.UnirestInstance}s 
+ * within the same fcli process that access the same FoD URL; use {@link #forUrl(String)}
+ * to get the shared instance for a given URL, and {@link #requestInterceptor()} and 
+ * {@link #responseInterceptor()} to attach the rate limiter to an Apache HttpClient. 
+ */
+public final class FoDRateLimiter {
+    private static final Logger LOG = LoggerFactory.getLogger(FoDRateLimiter.class);
+    private static final Map<String, FoDRateLimiter> INSTANCES = new ConcurrentHashMap<>();
+    private static final String HEADER_LIMIT = "X-Rate-Limit-Limit";
+    private static final String HEADER_REMAINING = "X-Rate-Limit-Remaining";
+    private static final String HEADER_RESET = "X-Rate-Limit-Reset";
+    private static final Pattern PERIOD_PATTERN = Pattern.compile("(\\d+)([smhd])");
+    private static final long DEFAULT_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long NO_RESET = Long.MIN_VALUE;
+    private final LongSupplier nanoClock;
+    // Learned rate limit state; capacity<=0 means that no rate limit headers have been seen yet
+    private long capacity = 0;
+    private long windowNanos = DEFAULT_WINDOW_NANOS;
+    private double tokens = 0;
+    private long lastRefillNanos;
+    private long resetAtNanos = NO_RESET;
+    // Statistics
+    private long requestCount = 0;
+    private long throttledCount = 0;
+    private long throttledNanos = 0;
+    private long rateLimitedCount = 0;
+    
+    FoDRateLimiter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+    
+    /**
+     * Get the rate limiter shared by all requests to the given FoD URL within 
+     * the current fcli process.
+     */
+    public static final FoDRateLimiter forUrl(String url) {
+        return INSTANCES.computeIfAbsent(url, u->new FoDRateLimiter(System::nanoTime));
+    }
+    
+    public final HttpRequestInterceptor requestInterceptor() {
+        return (request, context)->acquire();
+    }
+    
+    public final HttpResponseInterceptor responseInterceptor() {
+        return (response, context)->update(response);
+    }
+    
+    /**
+     * Wait until a request may be sent without exceeding the learned rate limit.
+     */
+    public final void acquire() {
+        long waitNanos = reserve();
+        if ( waitNanos>0 ) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw new FcliTechnicalException("Interrupted while waiting for FoD rate limit", e);
+            }
+        }
+    }
+    
+    /**
+     * Reserve a token for a single request, returning the number of nanoseconds
+     * that the caller needs to wait before sending the request. 
+     */
+    final synchronized long reserve() {
+        requestCount++;
+        long now = nanoClock.getAsLong();
+        long waitNanos = capacity<=0 ? getUnknownLimitWaitNanos(now) : getWaitNanos(now);
+        if ( waitNanos<=0 ) { return 0; }
+        throttledCount++;
+        throttledNanos += waitNanos;
+        LOG.debug("Throttling FoD request for {} ms (limit: {}, throttled {} of {} requests, total wait time {} ms, rate-limited responses: {})", 
+                TimeUnit.NANOSECONDS.toMillis(waitNanos), capacity, throttledCount, requestCount, 
+                TimeUnit.NANOSECONDS.toMillis(throttledNanos), rateLimitedCount);
+        return waitNanos;
+    }
+    
+    private long getWaitNanos(long now) {
+        refill(now);
+        tokens--;
+        if ( tokens>=0 ) { return 0; }
+        // Tokens are reserved ahead of time, so a negative token count determines
+        // how long to wait until this request's token has been refilled.
+        long waitNanos = (long)(-tokens*windowNanos/capacity);
+        return resetAtNanos>now ? Math.min(waitNanos, resetAtNanos-now) : waitNanos;
+    }
+    
+    private long getUnknownLimitWaitNanos(long now) {
+        // If we don't know the rate limit, we only wait after a 429 response until the 
+        // rate limit window resets.
+        return resetAtNanos>now ? resetAtNanos-now : 0;
+    }
+    
+    /**
+     * Update the learned rate limit state based on the X-Rate-Limit-* headers
+     * from the given response.
+     */
+    final void update(HttpResponse response) {
+        update(response.getStatusLine().getStatusCode(), 
+                getHeaderValue(response, HEADER_LIMIT), 
+                getHeaderValue(response, HEADER_REMAINING), 
+                getHeaderValue(response, HEADER_RESET));
+    }
+    
+    final synchronized void update(int statusCode, String limitHeader, String remainingHeader, String resetHeader) {
+        long now = nanoClock.getAsLong();
+        updateLimit(limitHeader);
+        Long remaining = parseLong(remainingHeader);
+        Long resetSeconds = parseLong(resetHeader);
+        if ( remaining!=null && capacity<=0 ) {
+            // No limit header, estimate capacity from remaining requests
+            capacity = remaining+1;
+            tokens = remaining;
+            lastRefillNanos = now;
+        }
+        if ( statusCode==429 ) {
+            rateLimitedCount++;
+            remaining = 0L;
+        }
+        if ( resetSeconds!=null && resetSeconds>=0 ) {
+            long resetNanos = TimeUnit.SECONDS.toNanos(resetSeconds);
+            resetAtNanos = now + resetNanos;
+            // The largest reset period that we've seen gives an estimate of the window length
+            if ( resetNanos>windowNanos ) { windowNanos = resetNanos; }
+        }
+        if ( remaining!=null && capacity>0 ) {
+            refill(now);
+            // Server may report fewer remaining requests than we expect, for example if other
+            // clients are using the same tenant. Note that tokens may be negative if requests 
+            // are waiting for tokens to be refilled.
+            tokens = Math.min(tokens, remaining);
+        }
+    }
+    
+    private void updateLimit(String limitHeader) {
+        if ( limitHeader==null ) { return; }
+        Long limit = parseLong(limitHeader);
+        if ( limit!=null && limit>0 ) {
+            if ( capacity<=0 ) { tokens = limit; lastRefillNanos = nanoClock.getAsLong(); }
+            capacity = limit;
+        } else {
+            // Some rate limiting implementations report the window period in this header, like '1m'
+            var matcher = PERIOD_PATTERN.matcher(limitHeader.trim());
+            if ( matcher.matches() ) {
+                var unit = switch (matcher.group(2)) {
+                    case "s" -> TimeUnit.SECONDS;
+                    case "m" -> TimeUnit.MINUTES;
+                    case "h" -> TimeUnit.HOURS;
+                    default -> TimeUnit.DAYS;
+                };
+                windowNanos = unit.toNanos(Long.parseLong(matcher.group(1)));
+            }
+        }
+    }
+    
+    private void refill(long now) {
+        if ( resetAtNanos!=NO_RESET && now>=resetAtNanos ) {
+            // New rate limit window has started; restore full capacity, minus any 
+            // requests that are currently waiting for a token.
+            tokens = Math.min(tokens, 0)+capacity;
+            resetAtNanos = NO_RESET;
+        } else {
+            tokens = Math.min(capacity, tokens + (double)(now-lastRefillNanos)*capacity/windowNanos);
+        }
+        lastRefillNanos = now;
+    }
+    
+    private static final String getHeaderValue(HttpResponse response, String name) {
+        Header header = response.getFirstHeader(name);
+        return header==null ? null : header.getValue();
+    }
+    
+    private static final Long parseLong(String value) {
+        if ( value==null ) { return null; }
+        try {
+            return Long.parseLong(value.trim());
+        } catch ( NumberFormatException e ) {
+            return null;
+        }
+    }
+}
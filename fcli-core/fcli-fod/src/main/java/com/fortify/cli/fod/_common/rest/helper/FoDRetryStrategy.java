@@ -21,32 +21,40 @@ import org.slf4j.LoggerFactory;
 /**
  * This class implements an Apache HttpClient 4.x {@link ServiceUnavailableRetryStrategy}
  * that will retry a request if the server responds with an HTTP 429 (TOO_MANY_REQUESTS)
- * response.
+ * response. Note that requests are usually paced ahead of time by {@link FoDRateLimiter}
+ * to avoid such responses; rate-limited requests are retried more often than other
+ * failed requests, as the rate limiter will delay retried requests until the rate limit
+ * window resets.
  */
 public final class FoDRetryStrategy implements ServiceUnavailableRetryStrategy {
     private static final Logger LOG = LoggerFactory.getLogger(FoDRetryStrategy.class);
     private final String HEADER_NAME = "X-Rate-Limit-Reset";
     private int maxRetries = 2;
+    private int maxRateLimitRetries = 10;
     private final ThreadLocal<Long> interval = new ThreadLocal<Long>();
     
     public FoDRetryStrategy maxRetries(int maxRetries) {
         this.maxRetries = maxRetries;
         return this;
     }
+    
+    public FoDRetryStrategy maxRateLimitRetries(int maxRateLimitRetries) {
+        this.maxRateLimitRetries = maxRateLimitRetries;
+        return this;
+    }
 
     public boolean retryRequest(HttpResponse response, int executionCount, HttpContext context) {
-        if ( executionCount < maxRetries+1 ) {
-            if ( response.getStatusLine().getStatusCode()==404 ) {
-                // Sometimes it can take a bit of time for FoD to properly register a scan request and
-                // possibly other newly created resources, hence we also retry on 404 errors.
-                interval.set((long)5000);
-                return true;
-            } else if ( response.getStatusLine().getStatusCode()==429 ) {
-                int retrySeconds = Integer.parseInt(response.getFirstHeader(HEADER_NAME).getValue());
-                LOG.debug("Rate-limited request will be retried after "+retrySeconds+" seconds");
-                interval.set((long)retrySeconds*1000);
-                return true;
-            }
+        int statusCode = response.getStatusLine().getStatusCode();
+        if ( statusCode==404 && executionCount < maxRetries+1 ) {
+            // Sometimes it can take a bit of time for FoD to properly register a scan request and
+            // possibly other newly created resources, hence we also retry on 404 errors.
+            interval.set((long)5000);
+            return true;
+        } else if ( statusCode==429 && executionCount < maxRateLimitRetries+1 ) {
+            int retrySeconds = getRetrySeconds(response);
+            LOG.debug("Rate-limited request will be retried after "+retrySeconds+" seconds");
+            interval.set((long)retrySeconds*1000);
+            return true;
         }
         return false;
     }
@@ -55,4 +63,14 @@ public final class FoDRetryStrategy implements ServiceUnavailableRetryStrategy {
         Long result = interval.get();
         return result==null ? -1 : result;
     }
+    
+    private int getRetrySeconds(HttpResponse response) {
+        var header = response.getFirstHeader(HEADER_NAME);
+        try {
+            return header==null ? 1 : Integer.parseInt(header.getValue().trim());
+        } catch ( NumberFormatException e ) {
+            LOG.debug("Invalid "+HEADER_NAME+" header value: "+header.getValue());
+            return 1;
+        }
+    }
 }
@@ -43,11 +43,12 @@ public abstract class AbstractFoDScanWaitForCommand extends AbstractWaitForComma
     @Override
     protected final WaitHelperBuilder configure(UnirestInstance unirest, WaitHelperBuilder builder) {
         return builder
-                .recordsSupplier(scansResolver::getScanDescriptorJsonNodes)
+                .recordSuppliers(scansResolver.getScanDescriptorJsonNodeSuppliers())
                 .recordTransformer(this::transformRecord)
                 .currentStateProperty("analysisStatusType")
                 .knownStates(FoDScanStatus.getKnownStateNames())
                 .failureStates(FoDScanStatus.getFailureStateNames())
+                .terminalStates(FoDScanStatus.getTerminalStateNames())
                 .matchStates(states);
     }
     
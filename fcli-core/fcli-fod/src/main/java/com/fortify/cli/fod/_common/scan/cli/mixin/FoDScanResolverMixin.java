@@ -14,6 +14,8 @@ package com.fortify.cli.fod._common.scan.cli.mixin;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -84,6 +86,12 @@ public class FoDScanResolverMixin {
         public Collection<JsonNode> getScanDescriptorJsonNodes(UnirestInstance unirest) {
             return Stream.of(getScanDescriptors(unirest)).map(FoDScanDescriptor::asJsonNode).collect(Collectors.toList());
         }
+        
+        public List<Function<UnirestInstance, JsonNode>> getScanDescriptorJsonNodeSuppliers() {
+            return Stream.of(getReleaseQualifiedScanOrIds())
+                    .<Function<UnirestInstance, JsonNode>>map(id->unirest->FoDScanHelper.getScanDescriptor(unirest, id, getDelimiter()).asJsonNode())
+                    .toList();
+        }
 
         public String[] getScanIds(UnirestInstance unirest) {
             return Stream.of(getScanDescriptors(unirest)).map(FoDScanDescriptor::getScanId).toArray(String[]::new);
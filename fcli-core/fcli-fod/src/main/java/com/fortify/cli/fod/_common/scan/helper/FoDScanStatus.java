@@ -50,6 +50,10 @@ public enum FoDScanStatus {
         return new FoDScanStatus[]{ Canceled };
     }
 
+    public static final FoDScanStatus[] getTerminalStates() {
+        return new FoDScanStatus[]{ Completed, Canceled };
+    }
+    
     public static final FoDScanStatus[] getKnownStates() {
         return FoDScanStatus.values();
     }
@@ -62,6 +66,10 @@ public enum FoDScanStatus {
         return Stream.of(getFailureStates()).map(FoDScanStatus::name).toArray(String[]::new);
     }
 
+    public static final String[] getTerminalStateNames() {
+        return Stream.of(getTerminalStates()).map(FoDScanStatus::name).toArray(String[]::new);
+    }
+    
     public static final String[] getKnownStateNames() {
         return Stream.of(getKnownStates()).map(FoDScanStatus::name).toArray(String[]::new);
     }
@@ -21,6 +21,7 @@ import com.fortify.cli.common.rest.unirest.config.UnirestJsonHeaderConfigurer;
 import com.fortify.cli.common.rest.unirest.config.UnirestUnexpectedHttpResponseConfigurer;
 import com.fortify.cli.common.rest.unirest.config.UnirestUrlConfigConfigurer;
 import com.fortify.cli.common.session.cli.mixin.AbstractSessionDescriptorSupplierMixin;
+import com.fortify.cli.fod._common.rest.helper.FoDRateLimiter;
 import com.fortify.cli.fod._common.rest.helper.FoDRetryStrategy;
 import com.fortify.cli.fod._common.session.helper.FoDSessionDescriptor;
 import com.fortify.cli.fod._common.session.helper.FoDSessionHelper;
@@ -59,9 +60,11 @@ public final class FoDUnirestInstanceSupplierMixin extends AbstractSessionDescri
         // Ideally, we should be able to use unirest::config::retryAfter to handle FoD rate limits,
         // but this is not possible for various reasons (see https://github.com/Kong/unirest-java/issues/491).
         // As such, we use a custom ApacheClient with custom ServiceUnavailableRetryStrategy to handle
-        // rate-limited requests. Note that newer Unirest versions are no longer based on Apache HttpClient,
+        // rate-limited requests, and a shared FoDRateLimiter to pace requests before hitting the rate
+        // limit. Note that newer Unirest versions are no longer based on Apache HttpClient,
         // so we'll likely need to find an alternative approach if we ever wish to upgrade to Unirest 4.x.
-        unirest.config().httpClient(this::createClient);
+        var rateLimiter = FoDRateLimiter.forUrl(sessionDescriptor.getUrlConfig().getUrl());
+        unirest.config().httpClient(config->createClient(config, rateLimiter));
         UnirestUnexpectedHttpResponseConfigurer.configure(unirest);
         UnirestJsonHeaderConfigurer.configure(unirest);
         UnirestUrlConfigConfigurer.configure(unirest, sessionDescriptor.getUrlConfig());
@@ -70,11 +73,13 @@ public final class FoDUnirestInstanceSupplierMixin extends AbstractSessionDescri
         unirest.config().setDefaultHeader("Authorization", authHeader);
     }
     
-    private ApacheClient createClient(Config config) {
-        return new ApacheClient(config, this::configureClient);
+    private ApacheClient createClient(Config config, FoDRateLimiter rateLimiter) {
+        return new ApacheClient(config, cb->configureClient(cb, rateLimiter));
     }
     
-    private void configureClient(HttpClientBuilder cb) {
+    private void configureClient(HttpClientBuilder cb, FoDRateLimiter rateLimiter) {
         cb.setServiceUnavailableRetryStrategy(new FoDRetryStrategy());
+        cb.addInterceptorLast(rateLimiter.requestInterceptor());
+        cb.addInterceptorLast(rateLimiter.responseInterceptor());
     }
 }
\ No newline at end of file
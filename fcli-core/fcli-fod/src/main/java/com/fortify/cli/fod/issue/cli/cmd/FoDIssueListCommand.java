@@ -14,24 +14,27 @@ package com.fortify.cli.fod.issue.cli.cmd;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.exception.FcliSimpleException;
-import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.json.producer.AbstractObjectNodeProducer.AbstractObjectNodeProducerBuilder;
 import com.fortify.cli.common.json.producer.IObjectNodeProducer;
 import com.fortify.cli.common.json.producer.ObjectNodeProducerApplyFrom;
+import com.fortify.cli.common.json.producer.PropertyModifyingRecordTransformer;
 import com.fortify.cli.common.json.producer.SimpleObjectNodeProducer;
 import com.fortify.cli.common.output.cli.mixin.OutputHelperMixins;
 import com.fortify.cli.common.rest.query.IServerSideQueryParamGeneratorSupplier;
 import com.fortify.cli.common.rest.query.IServerSideQueryParamValueGenerator;
 import com.fortify.cli.common.util.Break;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.common.util.OrderedParallelProcessor;
 import com.fortify.cli.fod._common.cli.mixin.FoDDelimiterMixin;
 import com.fortify.cli.fod._common.output.cli.cmd.AbstractFoDOutputCommand;
 import com.fortify.cli.fod._common.rest.FoDUrls;
@@ -42,6 +45,8 @@ import com.fortify.cli.fod.issue.cli.mixin.FoDIssueEmbedMixin;
 import com.fortify.cli.fod.issue.cli.mixin.FoDIssueIncludeMixin;
 import com.fortify.cli.fod.issue.helper.FoDIssueHelper;
 import com.fortify.cli.fod.issue.helper.FoDIssueHelper.IssueAggregationData;
+import com.fortify.cli.fod.issue.helper.FoDIssueMerger;
+import com.fortify.cli.fod.issue.helper.FoDIssueMerger.CompactIssue;
 import com.fortify.cli.fod.release.cli.mixin.FoDReleaseByQualifiedNameOrIdResolverMixin;
 import com.fortify.cli.fod.release.helper.FoDReleaseDescriptor;
 import com.fortify.cli.fod.release.helper.FoDReleaseHelper;
@@ -55,6 +60,8 @@ import picocli.CommandLine.Option;
 
 @Command(name = OutputHelperMixins.List.CMD_NAME)
 public class FoDIssueListCommand extends AbstractFoDOutputCommand implements IServerSideQueryParamGeneratorSupplier {
+    public static final String ENV_RELEASE_PARALLELISM = "FCLI_FOD_ISSUE_RELEASE_PARALLELISM";
+    private static final int DEFAULT_RELEASE_PARALLELISM = 4;
     @Getter @Mixin private OutputHelperMixins.List outputHelper;
     @Mixin private FoDDelimiterMixin delimiterMixin; // injected in resolvers
     @Mixin private FoDAppResolverMixin.OptionalOption appResolver;
@@ -113,23 +120,20 @@ public class FoDIssueListCommand extends AbstractFoDOutputCommand implements ISe
      * @return Producer streaming transformed issue records for the release
      */
     private AbstractObjectNodeProducerBuilder<?,?> singleReleaseProducerBuilder(UnirestInstance unirest, String releaseId) {
-        return releaseIssuesProducerBuilder(unirest, releaseId);
+        FoDReleaseDescriptor releaseDescriptor = FoDReleaseHelper.getReleaseDescriptorFromId(unirest, Integer.parseInt(releaseId), true);
+        return releaseIssuesProducerBuilder(unirest, releaseId, releaseDescriptor.getReleaseName());
     }
 
     /**
-     * Build a producer that lists merged issues across all releases for an application. We aggregate
-     * issues per release first (reusing existing helper logic), then perform merge & stream results.
-     * Streaming begins once all releases have been processed (merging requires full set).
+     * Build a producer that lists merged issues across all releases for an application. Issues
+     * are loaded concurrently for multiple releases, and merged incrementally by {@link FoDIssueMerger}
+     * in release order. Streaming begins once all releases have been processed (merging requires full set).
      *
      * The merge operation combines issues with identical instanceId across releases, adding fields:
      * vulnIds|vulnIdsString, foundInReleases|foundInReleasesString, foundInReleaseIds|foundInReleaseIdsString,
-     * ids|idsString. Ordering is applied by helper (severity desc, category, releaseId).
-     *
-     * NOTE: We currently need all issues loaded before streaming because merge logic correlates
-     * across releases. Future optimization could stream partially if helper supports incremental merging.
+     * ids|idsString. Ordering is applied by the merger (severity desc, category, releaseId).
      *
-     * Server-side filters are computed per release using the same logic as the single-release path,
-     * but we must pass the resulting string explicitly to {@link FoDIssueHelper#getReleaseIssues}.
+     * Server-side filters are applied per release using the same logic as the single-release path.
      *
      * @param unirest FoD REST client
      * @param appId Application identifier
@@ -139,18 +143,18 @@ public class FoDIssueListCommand extends AbstractFoDOutputCommand implements ISe
         var result = isEffectiveFastOutput() 
                 ? fastApplicationProducerBuilder(unirest, appId) 
                 : mergedApplicationProducerBuilder(unirest, appId);
-        return result.recordTransformer(this::removeReleaseProperties);
+        return result.recordTransformer(PropertyModifyingRecordTransformer.of(Set.of("releaseId", "releaseName"), this::removeReleaseProperties));
     }
 
     /** Fast streaming producer for application issues: sequentially streams issues from all releases without merging, de-duplicating on instanceId. */
     private AbstractObjectNodeProducerBuilder<?,?> fastApplicationProducerBuilder(UnirestInstance unirest, String appId) {
-        List<String> releaseIds = loadReleaseIdsForApp(unirest, appId);
-        if ( releaseIds.isEmpty() ) { return SimpleObjectNodeProducer.builder(); }
+        Map<String, String> releaseNamesById = loadReleaseNamesByIdForApp(unirest, appId);
+        if ( releaseNamesById.isEmpty() ) { return SimpleObjectNodeProducer.builder(); }
         Supplier<Stream<ObjectNode>> streamSupplier = () -> {
             Set<String> seenInstanceIds = new HashSet<>();
-            return releaseIds.stream().flatMap(releaseId -> {
+            return releaseNamesById.entrySet().stream().flatMap(release -> {
                 List<ObjectNode> list = new ArrayList<>();
-                releaseIssuesProducerBuilder(unirest, releaseId).build().forEach(node -> {
+                releaseIssuesProducerBuilder(unirest, release.getKey(), release.getValue()).build().forEach(node -> {
                     if ( node instanceof ObjectNode ) {
                         ObjectNode o = (ObjectNode)node;
                         String instanceId = o.has("instanceId") ? o.get("instanceId").asText() : null;
@@ -168,41 +172,64 @@ public class FoDIssueListCommand extends AbstractFoDOutputCommand implements ISe
                 .streamSupplier(streamSupplier);
     }
 
-    /** Merged application producer; loads all issues then performs merge. */
+    /** 
+     * Merged application producer; loads issues for multiple releases concurrently (see {@value #ENV_RELEASE_PARALLELISM}),
+     * merging each release into a {@link FoDIssueMerger} on the calling thread in release order, then streams the
+     * sorted, merged issues.
+     */
     private AbstractObjectNodeProducerBuilder<?,?> mergedApplicationProducerBuilder(UnirestInstance unirest, String appId) {
-        List<String> releaseIds = loadReleaseIdsForApp(unirest, appId);
-        if ( releaseIds.isEmpty() ) { return SimpleObjectNodeProducer.builder(); }
-        ArrayNode aggregated = JsonHelper.getObjectMapper().createArrayNode();
-        for ( String releaseId : releaseIds ) {
-            releaseIssuesProducerBuilder(unirest, releaseId).build()
-                .forEach(node -> { aggregated.add(node); return Break.FALSE; });
+        Map<String, String> releaseNamesById = loadReleaseNamesByIdForApp(unirest, appId);
+        if ( releaseNamesById.isEmpty() ) { return SimpleObjectNodeProducer.builder(); }
+        Supplier<Stream<ObjectNode>> streamSupplier = () -> mergeReleaseIssues(unirest, releaseNamesById).stream();
+        return streamingObjectNodeProducerBuilder(ObjectNodeProducerApplyFrom.SPEC)
+                .streamSupplier(streamSupplier);
+    }
+    
+    private FoDIssueMerger mergeReleaseIssues(UnirestInstance unirest, Map<String, String> releaseNamesById) {
+        var merger = FoDIssueMerger.create();
+        // Producers are built on the calling thread; only loading & compacting issues is done on background threads
+        var producers = releaseNamesById.entrySet().stream()
+                .map(release -> releaseIssuesProducerBuilder(unirest, release.getKey(), release.getValue()).build())
+                .iterator();
+        var parallelism = EnvHelper.envAsInt(ENV_RELEASE_PARALLELISM, DEFAULT_RELEASE_PARALLELISM);
+        try ( var processor = new OrderedParallelProcessor("fcli-fod-issues", parallelism) ) {
+            processor.process(producers, parallelism, this::loadCompactIssues, (producer, issues) -> issues.forEach(merger::add));
+        } catch ( RuntimeException e ) {
+            merger.close();
+            throw e;
         }
-        return simpleObjectNodeProducerBuilder(ObjectNodeProducerApplyFrom.SPEC)
-                .source(FoDIssueHelper.mergeReleaseIssues(aggregated));
+        return merger;
+    }
+    
+    private List<CompactIssue> loadCompactIssues(IObjectNodeProducer producer) {
+        List<CompactIssue> result = new ArrayList<>();
+        producer.forEach(node -> { result.add(FoDIssueMerger.compact(node)); return Break.FALSE; });
+        return result;
     }
 
-    /** Load release ids for given application using requestObjectNodeProducerBuilder(PRODUCT) for paging/product transformations. */
-    private List<String> loadReleaseIdsForApp(UnirestInstance unirest, String appId) {
-        List<String> releaseIds = new ArrayList<>();
+    /** 
+     * Load release ids and names for given application using requestObjectNodeProducerBuilder(PRODUCT) for 
+     * paging/product transformations, preserving the order in which releases are returned by FoD.
+     */
+    private Map<String, String> loadReleaseNamesByIdForApp(UnirestInstance unirest, String appId) {
+        Map<String, String> result = new LinkedHashMap<>();
         var producer = requestObjectNodeProducerBuilder(ObjectNodeProducerApplyFrom.PRODUCT)
                 .baseRequest(unirest.get(FoDUrls.RELEASES).queryString("filters", "applicationId:"+appId))
                 .build();
         producer.forEach(node -> {
             if ( node.has("releaseId") ) {
-                releaseIds.add(node.get("releaseId").asText());
+                result.put(node.get("releaseId").asText(), node.path("releaseName").asText());
             }
             return Break.FALSE; // continue
         });
-        return releaseIds;
+        return result;
     }
 
     @Override
     public boolean isSingular() { return false; }
 
     // Shared per-release issues producer builder
-    private AbstractObjectNodeProducerBuilder<?,?> releaseIssuesProducerBuilder(UnirestInstance unirest, String releaseId) {
-        FoDReleaseDescriptor releaseDescriptor = FoDReleaseHelper.getReleaseDescriptorFromId(unirest, Integer.parseInt(releaseId), true);
-        String releaseName = releaseDescriptor.getReleaseName();
+    private AbstractObjectNodeProducerBuilder<?,?> releaseIssuesProducerBuilder(UnirestInstance unirest, String releaseId, String releaseName) {
         HttpRequest<?> request = unirest.get(FoDUrls.VULNERABILITIES)
                 .routeParam("relId", releaseId)
                 .queryString("orderBy", "severity")
@@ -21,8 +21,10 @@ import com.fortify.cli.common.util.DisableTest.TestType;
 import com.fortify.cli.fod._common.cli.mixin.AbstractFoDEmbedMixin;
 import com.fortify.cli.fod._common.rest.embed.IFoDEntityEmbedder;
 import com.fortify.cli.fod._common.rest.embed.IFoDEntityEmbedderSupplier;
+import com.fortify.cli.fod._common.rest.embed.IFoDEntityLookupEmbedder;
 
 import kong.unirest.GetRequest;
+import kong.unirest.HttpRequest;
 import kong.unirest.UnirestInstance;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -52,17 +54,19 @@ public class FoDIssueEmbedMixin extends AbstractFoDEmbedMixin {
             return supplier.get();
         }
         
-        private static abstract class AbstractFoDIssueEmbedder implements IFoDEntityEmbedder {
+        private static abstract class AbstractFoDIssueEmbedder implements IFoDEntityLookupEmbedder {
             @Override
-            public void embed(UnirestInstance unirest, ObjectNode record) {
+            public HttpRequest<?> getLookupRequest(UnirestInstance unirest, ObjectNode record) {
                 var releaseId = record.get("releaseId").asText();
                 var vulnId = record.get("vulnId").asText();
-                JsonNode response = getBaseRequest(unirest)
+                return getBaseRequest(unirest)
                     .routeParam("releaseId", releaseId)    
                     .routeParam("vulnId", vulnId)
-                    .queryString("limit", "-1")
-                    .asObject(JsonNode.class)
-                    .getBody();
+                    .queryString("limit", "-1");
+            }
+            
+            @Override
+            public void embed(ObjectNode record, JsonNode response) {
                 process(record, response);
             }
 
@@ -12,13 +12,7 @@
  */
 package com.fortify.cli.fod.issue.helper;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -128,54 +122,17 @@ public class FoDIssueHelper {
     }
 
 
+    /**
+     * Merge issues with identical instanceId from the given array of issues from multiple 
+     * releases; see {@link FoDIssueMerger} for details.
+     */
     public static final ArrayNode mergeReleaseIssues(ArrayNode issues) {
-        Map<String, ObjectNode> merged = new HashMap<>();
-        Map<String, Set<String>> releaseNamesByInstance = new HashMap<>();
-        Map<String, Set<String>> releaseIdsByInstance = new HashMap<>();
-        Map<String, Set<String>> idsByInstance = new HashMap<>();
-        Map<String, Set<String>> vulnIdsByInstance = new HashMap<>();
-
-        for (JsonNode record : issues) {
-            if (record instanceof ObjectNode objectNode) {
-                String instanceId = objectNode.get("instanceId").asText();
-                String releaseNameVal = objectNode.get("releaseName").asText();
-                String releaseIdVal = objectNode.get("releaseId").asText();
-                String idVal = objectNode.get("id").asText();
-                String vulnIdVal = objectNode.has("vulnId") ? objectNode.get("vulnId").asText() : "";
-
-                releaseNamesByInstance.computeIfAbsent(instanceId, k -> new HashSet<>()).add(releaseNameVal);
-                releaseIdsByInstance.computeIfAbsent(instanceId, k -> new HashSet<>()).add(releaseIdVal);
-                idsByInstance.computeIfAbsent(instanceId, k -> new HashSet<>()).add(idVal);
-                if (!vulnIdVal.isEmpty()) {
-                    vulnIdsByInstance.computeIfAbsent(instanceId, k -> new HashSet<>()).add(vulnIdVal);
-                }
-
-                merged.putIfAbsent(instanceId, (ObjectNode) objectNode.deepCopy());
-            }
-        }
-
-        List<ObjectNode> sortedRecords = new ArrayList<>(merged.values());
-        sortedRecords.sort(
-                Comparator.comparingInt((ObjectNode n) -> n.get("severity").asInt()).reversed()
-                        .thenComparing(n -> n.get("category").asText())
-                        .thenComparing(n -> n.get("releaseId").asInt())
-        );
-
         ArrayNode result = JsonHelper.getObjectMapper().createArrayNode();
-        for (ObjectNode record : sortedRecords) {
-            String instanceId = record.get("instanceId").asText();
-            Set<String> releaseNames = releaseNamesByInstance.get(instanceId);
-            Set<String> releaseIds = releaseIdsByInstance.get(instanceId);
-            Set<String> issueIds = idsByInstance.get(instanceId);
-            Set<String> vulnIds = vulnIdsByInstance.getOrDefault(instanceId, Collections.emptySet());
-            var data = IssueAggregationData.builder()
-                    .releaseNames(releaseNames)
-                    .releaseIds(releaseIds)
-                    .ids(issueIds)
-                    .vulnIds(vulnIds)
-                    .build();
-            transformRecord(record, data);
-            result.add(record);
+        try ( var merger = FoDIssueMerger.create() ) {
+            for ( JsonNode record : issues ) {
+                if ( record instanceof ObjectNode objectNode ) { merger.add(FoDIssueMerger.compact(objectNode)); }
+            }
+            try ( var stream = merger.stream() ) { stream.forEach(result::add); }
         }
         return result;
     }
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod.issue.helper;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.exception.FcliTechnicalException;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.fod.issue.helper.FoDIssueHelper.IssueAggregationData;
+
+/**
+ * This class incrementally merges issues from multiple releases into a single issue
+ * per instanceId. For every instanceId, only a compact aggregate is kept in memory, 
+ * consisting of the sort properties, the release, issue and vulnerability ids, and 
+ * the serialized representation of the first issue added for that instanceId; issues 
+ * with an already known instanceId only contribute their ids. Serialized issues are 
+ * kept in memory until their total size exceeds the memory limit configured through
+ * {@value #ENV_MEMORY_LIMIT_MB}, after which they are moved to a temporary file.
+ * <p>
+ * Once all issues have been added, {@link #stream()} sorts the aggregates (severity
+ * descending, category, releaseId), and deserializes merged issues one by one, so 
+ * only a single full issue needs to be kept in memory at any time. Issues passed to
+ * {@link #compact(ObjectNode)} must provide instanceId, releaseId, releaseName and 
+ * id properties. 
+ * <p>
+ * {@link #compact(ObjectNode)} may be invoked from any thread, but all other methods
+ * must be invoked from a single thread. Instances must be closed after use to remove 
+ * any temporary file; closing the stream returned by {@link #stream()} closes this 
+ * instance.
+ *
+ * @author rsenden
+ */
+public final class FoDIssueMerger implements Closeable {
+    public static final String ENV_MEMORY_LIMIT_MB = "FCLI_FOD_ISSUE_MERGE_MEMORY_LIMIT_MB";
+    private static final int DEFAULT_MEMORY_LIMIT_MB = 64;
+    private static final Comparator<MergedIssue> COMPARATOR = Comparator
+            .comparingInt(MergedIssue::getSeverity).reversed()
+            .thenComparing(MergedIssue::getCategory)
+            .thenComparingInt(MergedIssue::getReleaseId);
+    private final long memoryLimitBytes;
+    private final Map<String, MergedIssue> mergedIssues = new LinkedHashMap<>();
+    private final Map<String, String> releaseNamesById = new HashMap<>();
+    private long inMemoryBytes = 0;
+    private Path spillFile;
+    private OutputStream spillOut;
+    private long spillFileSize = 0;
+    
+    public FoDIssueMerger(long memoryLimitBytes) {
+        this.memoryLimitBytes = memoryLimitBytes;
+    }
+    
+    public static final FoDIssueMerger create() {
+        return new FoDIssueMerger(EnvHelper.envAsInt(ENV_MEMORY_LIMIT_MB, DEFAULT_MEMORY_LIMIT_MB)*1024L*1024L);
+    }
+    
+    /**
+     * Convert the given issue into its compact representation for passing to 
+     * {@link #add(CompactIssue)}. As this serializes the given issue, callers may 
+     * want to invoke this method on the thread that loaded the issue.
+     */
+    public static final CompactIssue compact(ObjectNode issue) {
+        try {
+            return new CompactIssue(
+                    issue.get("instanceId").asText(),
+                    issue.get("releaseId").asText(),
+                    issue.get("releaseName").asText(),
+                    issue.get("id").asText(),
+                    issue.has("vulnId") ? issue.get("vulnId").asText() : "",
+                    issue.path("severity").asInt(),
+                    issue.path("category").asText(),
+                    JsonHelper.getObjectMapper().writeValueAsBytes(issue));
+        } catch ( IOException e ) {
+            throw new FcliTechnicalException("Error serializing issue", e);
+        }
+    }
+    
+    /**
+     * Merge the given issue into the issues added previously.
+     */
+    public final void add(CompactIssue issue) {
+        releaseNamesById.putIfAbsent(issue.releaseId(), issue.releaseName());
+        var merged = mergedIssues.get(issue.instanceId());
+        if ( merged==null ) {
+            merged = new MergedIssue(issue);
+            mergedIssues.put(issue.instanceId(), merged);
+            store(merged, issue.json());
+        }
+        merged.add(issue.releaseId(), issue.id(), issue.vulnId());
+    }
+    
+    public final int size() {
+        return mergedIssues.size();
+    }
+    
+    public final boolean isSpilled() {
+        return spillFile!=null;
+    }
+    
+    /**
+     * Get a stream of merged issues, sorted by severity (descending), category
+     * and releaseId. Closing the returned stream also closes this instance.
+     */
+    public final Stream<ObjectNode> stream() {
+        var sorted = new ArrayList<>(mergedIssues.values());
+        mergedIssues.clear();
+        sorted.sort(COMPARATOR);
+        var channel = openSpillFile();
+        return sorted.stream()
+                .map(m->toObjectNode(m, channel))
+                .onClose(()->{ closeQuietly(channel); close(); });
+    }
+    
+    private void store(MergedIssue merged, byte[] json) {
+        if ( spillOut!=null ) {
+            write(merged, json);
+        } else {
+            merged.json = json;
+            inMemoryBytes += json.length;
+            if ( inMemoryBytes>memoryLimitBytes ) { spill(); }
+        }
+    }
+    
+    private void spill() {
+        try {
+            spillFile = Files.createTempFile("fcli-fod-issues-", ".tmp");
+            spillFile.toFile().deleteOnExit();
+            spillOut = new BufferedOutputStream(Files.newOutputStream(spillFile));
+        } catch ( IOException e ) {
+            throw new FcliTechnicalException("Error creating temporary file for merging issues", e);
+        }
+        for ( var merged : mergedIssues.values() ) {
+            if ( merged.json!=null ) {
+                var json = merged.json;
+                merged.json = null;
+                write(merged, json);
+            }
+        }
+        inMemoryBytes = 0;
+    }
+    
+    private void write(MergedIssue merged, byte[] json) {
+        try {
+            spillOut.write(json);
+            merged.offset = spillFileSize;
+            merged.length = json.length;
+            spillFileSize += json.length;
+        } catch ( IOException e ) {
+            throw new FcliTechnicalException("Error writing issues to temporary file "+spillFile, e);
+        }
+    }
+    
+    private FileChannel openSpillFile() {
+        if ( spillOut==null ) { return null; }
+        try {
+            spillOut.close();
+            spillOut = null;
+            return FileChannel.open(spillFile, StandardOpenOption.READ);
+        } catch ( IOException e ) {
+            throw new FcliTechnicalException("Error opening temporary file "+spillFile, e);
+        }
+    }
+    
+    private ObjectNode toObjectNode(MergedIssue merged, FileChannel channel) {
+        try {
+            var json = merged.json!=null ? merged.json : read(channel, merged.offset, merged.length);
+            var result = (ObjectNode)JsonHelper.getObjectMapper().readTree(json);
+            return FoDIssueHelper.transformRecord(result, merged.getAggregationData(releaseNamesById));
+        } catch ( IOException e ) {
+            throw new FcliTechnicalException("Error reading merged issue", e);
+        }
+    }
+    
+    private byte[] read(FileChannel channel, long offset, int length) throws IOException {
+        var buffer = ByteBuffer.allocate(length);
+        while ( buffer.hasRemaining() ) {
+            if ( channel.read(buffer, offset+buffer.position())<0 ) {
+                throw new IOException("Unexpected end of file at offset "+(offset+buffer.position())+" of "+spillFile);
+            }
+        }
+        return buffer.array();
+    }
+    
+    @Override
+    public final void close() {
+        mergedIssues.clear();
+        releaseNamesById.clear();
+        inMemoryBytes = 0;
+        if ( spillFile!=null ) {
+            try {
+                if ( spillOut!=null ) { spillOut.close(); }
+                Files.deleteIfExists(spillFile);
+            } catch ( IOException e ) {
+                // Ignore; file is also scheduled for deletion on exit
+            } finally {
+                spillOut = null;
+                spillFile = null;
+                spillFileSize = 0;
+            }
+        }
+    }
+    
+    private static final void closeQuietly(Closeable closeable) {
+        if ( closeable!=null ) {
+            try {
+                closeable.close();
+            } catch ( IOException e ) {
+                // Ignore
+            }
+        }
+    }
+    
+    /**
+     * Compact representation of a single issue, as produced by {@link FoDIssueMerger#compact(ObjectNode)}.
+     */
+    public record CompactIssue(String instanceId, String releaseId, String releaseName, 
+            String id, String vulnId, int severity, String category, byte[] json) {}
+    
+    /**
+     * Aggregate for all issues with the same instanceId. Ids are stored in lists rather 
+     * than sets, as these usually contain only a single or a few entries; release names 
+     * are looked up from the releaseId when the merged issue is produced.
+     */
+    private static final class MergedIssue {
+        private final int severity;
+        private final String category;
+        private final int releaseId;
+        private final List<String> releaseIds = new ArrayList<>(2);
+        private final List<String> ids = new ArrayList<>(2);
+        private final List<String> vulnIds = new ArrayList<>(2);
+        private byte[] json;
+        private long offset;
+        private int length;
+        
+        private MergedIssue(CompactIssue issue) {
+            this.severity = issue.severity();
+            this.category = issue.category();
+            this.releaseId = parseInt(issue.releaseId());
+        }
+        
+        private void add(String releaseId, String id, String vulnId) {
+            addIfAbsent(releaseIds, releaseId);
+            addIfAbsent(ids, id);
+            if ( !vulnId.isEmpty() ) { addIfAbsent(vulnIds, vulnId); }
+        }
+        
+        private int getSeverity() { return severity; }
+        private String getCategory() { return category; }
+        private int getReleaseId() { return releaseId; }
+        
+        private IssueAggregationData getAggregationData(Map<String, String> releaseNamesById) {
+            var releaseNames = new LinkedHashSet<String>();
+            releaseIds.forEach(id->releaseNames.add(releaseNamesById.get(id)));
+            return IssueAggregationData.builder()
+                    .releaseNames(releaseNames)
+                    .releaseIds(new LinkedHashSet<>(releaseIds))
+                    .ids(new LinkedHashSet<>(ids))
+                    .vulnIds(new LinkedHashSet<>(vulnIds))
+                    .build();
+        }
+        
+        private static final void addIfAbsent(List<String> list, String value) {
+            if ( !list.contains(value) ) { list.add(value); }
+        }
+        
+        private static final int parseInt(String value) {
+            try {
+                return Integer.parseInt(value);
+            } catch ( NumberFormatException e ) {
+                return 0;
+            }
+        }
+    }
+}
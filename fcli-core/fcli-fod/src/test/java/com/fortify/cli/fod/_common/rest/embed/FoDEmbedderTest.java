@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod._common.rest.embed;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.rest.unirest.UnirestHelper;
+import com.sun.net.httpserver.HttpServer;
+
+import kong.unirest.HttpRequest;
+import kong.unirest.UnirestInstance;
+
+public class FoDEmbedderTest {
+    private static final int[] REFS = {1, 2, 1, 3, 2, 1, 4, 3, 1, 2};
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private UnirestInstance unirest;
+    private String lookupUrl;
+    
+    @BeforeEach
+    public void setup() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/lookup", exchange->{
+            var id = exchange.getRequestURI().getQuery().replace("id=", "");
+            requestCounts.computeIfAbsent(id, k->new AtomicInteger()).incrementAndGet();
+            var body = ("{\"id\":"+id+",\"name\":\"entity"+id+"\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try ( var os = exchange.getResponseBody() ) { os.write(body); }
+        });
+        server.start();
+        lookupUrl = "http://"+server.getAddress().getHostString()+":"+server.getAddress().getPort()+"/lookup";
+        unirest = UnirestHelper.createUnirestInstance();
+    }
+    
+    @AfterEach
+    public void cleanup() {
+        unirest.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    public void testRecordOrderAndLookupDeduplication(int parallelism) {
+        var embedder = createEmbedder(parallelism);
+        var records = createRecords();
+        var result = embedder.transformRecords(unirest, records);
+        
+        Assertions.assertSame(records, result);
+        for ( int i=0 ; i<REFS.length ; i++ ) {
+            var record = result.get(i);
+            Assertions.assertEquals(i, record.get("idx").asInt());
+            Assertions.assertEquals(i, record.get("direct").asInt());
+            Assertions.assertEquals(REFS[i], record.get("entity").get("id").asInt());
+        }
+        // Each unique lookup request must be executed only once
+        Assertions.assertEquals(4, requestCounts.size());
+        requestCounts.forEach((id,count)->Assertions.assertEquals(1, count.get(), "Request count for id "+id));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    public void testEmbeddedResponsesAreCopiedPerRecord(int parallelism) {
+        var embedder = createEmbedder(parallelism);
+        var first = embedder.transformRecords(unirest, createRecords());
+        assertDistinctEntities(first);
+        
+        // Modifying data embedded in one record must not affect any other records,
+        // including records that are served from the lookup cache
+        first.forEach(r->((ObjectNode)r.get("entity")).put("name", "modified"));
+        var second = embedder.transformRecords(unirest, createRecords());
+        assertDistinctEntities(second);
+        for ( int i=0 ; i<REFS.length ; i++ ) {
+            Assertions.assertEquals("entity"+REFS[i], second.get(i).get("entity").get("name").asText());
+        }
+        requestCounts.forEach((id,count)->Assertions.assertEquals(1, count.get(), "Request count for id "+id));
+    }
+    
+    private FoDEmbedder createEmbedder(int parallelism) {
+        return new FoDEmbedder(parallelism, LookupEmbedder::new, ()->(unirest, record)->record.put("direct", record.get("idx").asInt()));
+    }
+    
+    private static final void assertDistinctEntities(List<JsonNode> records) {
+        var entities = Collections.newSetFromMap(new IdentityHashMap<JsonNode, Boolean>());
+        records.forEach(r->entities.add(r.get("entity")));
+        Assertions.assertEquals(records.size(), entities.size(), "Each record should have its own copy of embedded data");
+    }
+    
+    private static final List<JsonNode> createRecords() {
+        var result = new ArrayList<JsonNode>();
+        for ( int i=0 ; i<REFS.length ; i++ ) {
+            result.add(JsonHelper.getObjectMapper().createObjectNode().put("idx", i).put("ref", REFS[i]));
+        }
+        return result;
+    }
+    
+    private final class LookupEmbedder implements IFoDEntityLookupEmbedder {
+        @Override
+        public HttpRequest<?> getLookupRequest(UnirestInstance unirest, ObjectNode record) {
+            return unirest.get(lookupUrl).queryString("id", record.get("ref").asText());
+        }
+        
+        @Override
+        public void embed(ObjectNode record, JsonNode response) {
+            record.set("entity", response);
+        }
+    }
+}
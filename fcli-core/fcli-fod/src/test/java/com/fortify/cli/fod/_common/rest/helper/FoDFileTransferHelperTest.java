@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod._common.rest.helper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.progress.helper.ProgressWriterType;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.fod._common.util.FoDConstants;
+import com.sun.net.httpserver.HttpServer;
+
+import kong.unirest.Unirest;
+import kong.unirest.UnirestInstance;
+
+public class FoDFileTransferHelperTest {
+    private static final int CHUNK_SIZE = 10;
+    private static final String PARALLELISM_PROPERTY = EnvHelper.envSystemPropertyName(FoDFileTransferHelper.ENV_UPLOAD_PARALLELISM);
+    private final List<Fragment> fragments = new ArrayList<>();
+    @TempDir Path tempDir;
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private UnirestInstance unirest;
+    private String uploadUrl;
+    
+    @BeforeEach
+    public void setup() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/upload", exchange->{
+            var fragment = new Fragment(getParam(exchange.getRequestURI().getQuery(), "fragNo"), 
+                    Long.parseLong(getParam(exchange.getRequestURI().getQuery(), "offset")), 
+                    exchange.getRequestBody().readAllBytes());
+            synchronized (fragments) { fragments.add(fragment); }
+            var body = ("{\"fragNo\":"+fragment.fragNo()+"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try ( var os = exchange.getResponseBody() ) { os.write(body); }
+        });
+        server.start();
+        uploadUrl = "http://"+server.getAddress().getHostString()+":"+server.getAddress().getPort()+"/upload?releaseId=1";
+        unirest = Unirest.spawnInstance();
+        FoDFileTransferHelper.setChunkSize(CHUNK_SIZE);
+    }
+    
+    @AfterEach
+    public void cleanup() {
+        FoDFileTransferHelper.setChunkSize(FoDConstants.DEFAULT_CHUNK_SIZE);
+        System.clearProperty(PARALLELISM_PROPERTY);
+        unirest.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    public void testFragmentsAndOffsets(int parallelism) throws IOException {
+        System.setProperty(PARALLELISM_PROPERTY, String.valueOf(parallelism));
+        var contents = createContents(95);
+        var result = upload(contents);
+        Assertions.assertEquals(-1, result.get("fragNo").asInt(), "Result should be last fragment response");
+        Assertions.assertEquals(10, fragments.size());
+        // Last fragment must be uploaded after all other fragments, with fragment number -1
+        var last = fragments.get(fragments.size()-1);
+        Assertions.assertEquals("-1", last.fragNo());
+        Assertions.assertEquals(90, last.offset());
+        Assertions.assertEquals(5, last.bytes().length);
+        // Other fragments may be received in any order, but must have sequential numbers and matching offsets
+        var sorted = fragments.stream().sorted(Comparator.comparingLong(Fragment::offset)).toList();
+        for ( int i=0 ; i<sorted.size()-1 ; i++ ) {
+            Assertions.assertEquals(String.valueOf(i), sorted.get(i).fragNo());
+            Assertions.assertEquals(i*CHUNK_SIZE, sorted.get(i).offset());
+        }
+        Assertions.assertArrayEquals(contents, concat(sorted));
+    }
+    
+    @Test
+    public void testFileSizeMultipleOfChunkSize() throws IOException {
+        var contents = createContents(30);
+        var result = upload(contents);
+        Assertions.assertEquals(2, result.get("fragNo").asInt());
+        Assertions.assertEquals(List.of("0", "1", "2"), fragments.stream().map(Fragment::fragNo).toList());
+        Assertions.assertArrayEquals(contents, concat(fragments));
+    }
+    
+    @Test
+    public void testEmptyFileSendsNoFragments() throws IOException {
+        Assertions.assertThrows(FcliSimpleException.class, ()->upload(new byte[0]));
+        Assertions.assertTrue(fragments.isEmpty(), "No fragments should be sent for empty file");
+    }
+    
+    private JsonNode upload(byte[] contents) throws IOException {
+        var file = Files.write(tempDir.resolve("upload.zip"), contents).toFile();
+        return FoDFileTransferHelper.uploadChunked(unirest, unirest.put(uploadUrl), file, ProgressWriterType.none.create());
+    }
+    
+    private static final byte[] createContents(int length) {
+        var result = new byte[length];
+        for ( int i=0 ; i<length ; i++ ) { result[i] = (byte)i; }
+        return result;
+    }
+    
+    private static final byte[] concat(List<Fragment> fragments) {
+        var os = new ByteArrayOutputStream();
+        fragments.forEach(f->os.writeBytes(f.bytes()));
+        return os.toByteArray();
+    }
+    
+    private static final String getParam(String query, String name) {
+        for ( var param : query.split("&") ) {
+            var elts = param.split("=", 2);
+            if ( elts[0].equals(name) ) { return elts[1]; }
+        }
+        return null;
+    }
+    
+    private static record Fragment(String fragNo, long offset, byte[] bytes) {}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod._common.rest.helper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FoDRateLimiterTest {
+    private final AtomicLong clock = new AtomicLong(0);
+    private final FoDRateLimiter rateLimiter = new FoDRateLimiter(clock::get);
+    
+    @Test
+    public void testNoPacingWithoutRateLimitHeaders() {
+        for ( int i = 0 ; i < 100 ; i++ ) {
+            Assertions.assertEquals(0, rateLimiter.reserve());
+            rateLimiter.update(200, null, null, null);
+        }
+    }
+    
+    @Test
+    public void testPacingOnceQuotaExhausted() {
+        rateLimiter.update(200, "60", "2", "60");
+        Assertions.assertEquals(0, rateLimiter.reserve());
+        Assertions.assertEquals(0, rateLimiter.reserve());
+        // Quota exhausted; 60 requests per 60 seconds means next token after 1 second
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(1), rateLimiter.reserve());
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(2), rateLimiter.reserve());
+        // Tokens are refilled over time
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Assertions.assertEquals(0, rateLimiter.reserve());
+    }
+    
+    @Test
+    public void testRemainingHeaderLimitsTokens() {
+        rateLimiter.update(200, "100", "100", "60");
+        // Other clients have used up most of the quota
+        rateLimiter.update(200, "100", "1", "30");
+        Assertions.assertEquals(0, rateLimiter.reserve());
+        Assertions.assertTrue(rateLimiter.reserve()>0);
+    }
+    
+    @Test
+    public void testWaitUntilResetAfterRateLimitedResponse() {
+        rateLimiter.update(429, null, null, "5");
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(5), rateLimiter.reserve());
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        Assertions.assertEquals(0, rateLimiter.reserve());
+    }
+    
+    @Test
+    public void testFullCapacityAfterReset() {
+        rateLimiter.update(200, "10", "0", "5");
+        Assertions.assertTrue(rateLimiter.reserve()>0);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        // One token was reserved by the waiting request above
+        for ( int i = 0 ; i < 9 ; i++ ) {
+            Assertions.assertEquals(0, rateLimiter.reserve());
+        }
+        Assertions.assertTrue(rateLimiter.reserve()>0);
+    }
+}
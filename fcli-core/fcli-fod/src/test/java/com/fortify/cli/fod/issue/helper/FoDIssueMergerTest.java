@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.fod.issue.helper;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.JsonHelper;
+
+public class FoDIssueMergerTest {
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1024*1024})
+    public void testMergeAndSort(long memoryLimitBytes) {
+        try ( var merger = new FoDIssueMerger(memoryLimitBytes) ) {
+            merger.add(FoDIssueMerger.compact(issue("i1", 1, "r1", 11, 101, 2, "XSS")));
+            merger.add(FoDIssueMerger.compact(issue("i2", 1, "r1", 12, 102, 4, "SQL Injection")));
+            merger.add(FoDIssueMerger.compact(issue("i3", 1, "r1", 13, 103, 2, "Path Manipulation")));
+            merger.add(FoDIssueMerger.compact(issue("i1", 2, "r2", 21, 201, 2, "XSS")));
+            merger.add(FoDIssueMerger.compact(issue("i4", 2, "r2", 24, 204, 4, "SQL Injection")));
+            Assertions.assertEquals(4, merger.size());
+            Assertions.assertEquals(memoryLimitBytes==0, merger.isSpilled());
+            try ( var stream = merger.stream() ) {
+                var merged = stream.toList();
+                Assertions.assertEquals(List.of("i2", "i4", "i3", "i1"), merged.stream().map(n->n.get("instanceId").asText()).toList());
+                var i1 = merged.get(3);
+                Assertions.assertEquals(11, i1.get("id").asInt(), "First issue for an instanceId should be retained");
+                Assertions.assertEquals("11, 21", i1.get("idsString").asText());
+                Assertions.assertEquals("101, 201", i1.get("vulnIdsString").asText());
+                Assertions.assertEquals("r1, r2", i1.get("foundInReleasesString").asText());
+                Assertions.assertEquals("1, 2", i1.get("foundInReleaseIdsString").asText());
+                Assertions.assertEquals("r2", merged.get(1).get("foundInReleasesString").asText());
+            }
+        }
+    }
+    
+    private static final ObjectNode issue(String instanceId, int releaseId, String releaseName, int id, int vulnId, int severity, String category) {
+        return JsonHelper.getObjectMapper().createObjectNode()
+                .put("instanceId", instanceId)
+                .put("releaseId", releaseId)
+                .put("releaseName", releaseName)
+                .put("id", id)
+                .put("vulnId", String.valueOf(vulnId))
+                .put("severity", severity)
+                .put("category", category);
+    }
+}
@@ -34,4 +34,12 @@ public interface INcdReportRepositoryProcessor {
      * generate commit data for every branch in the given repository. 
      */
     <R extends INcdReportRepositoryDescriptor> void processRepository(INcdReportRepoSelectorConfig repoSelectorConfig, R repoDescriptor, INcdReportBranchCommitGenerator<R> commitGenerator);
+    
+    /**
+     * Repositories passed to {@link #processRepository(INcdReportRepoSelectorConfig, INcdReportRepositoryDescriptor, INcdReportBranchCommitGenerator)}
+     * may be processed asynchronously. This method waits until all previously passed
+     * repositories have been processed, and must be called before closing any resources,
+     * like REST connections, used by the {@link INcdReportBranchCommitGenerator}.
+     */
+    void awaitCompletion();
 }
\ No newline at end of file
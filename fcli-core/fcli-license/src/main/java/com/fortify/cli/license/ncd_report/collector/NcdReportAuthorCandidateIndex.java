@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.license.ncd_report.collector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.OpAnd;
+import org.springframework.expression.spel.ast.OpEQ;
+import org.springframework.expression.spel.ast.OpOr;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.license.ncd_report.descriptor.NcdReportProcessedAuthorDescriptor;
+
+/**
+ * <p>This class indexes authors on the properties compared by a duplicate expression,
+ * allowing {@link NcdReportAuthorDeduplicator} to evaluate the full expression only
+ * against authors that could potentially be considered duplicates, rather than against
+ * every author seen so far.</p>
+ *
+ * <p>An index can only be created for expressions consisting of (nested) disjunctions
+ * of equality comparisons between an {@code a1} and an {@code a2} property, for example
+ * {@code a1.cleanName==a2.cleanName || a1.cleanName==a2.cleanEmailName}. Conjunctions
+ * are supported as long as at least one of their operands is supported, as two authors
+ * can only satisfy {@code x && y} if they satisfy {@code x}. For any other expression,
+ * {@link #getCandidates(NcdReportProcessedAuthorDescriptor)} simply returns all
+ * previously added authors.</p>
+ *
+ * <p>Candidates returned by {@link #getCandidates(NcdReportProcessedAuthorDescriptor)}
+ * are a superset of the actual duplicates; the duplicate expression still needs to be
+ * evaluated against each candidate.</p>
+ *
+ * @author rsenden
+ */
+final class NcdReportAuthorCandidateIndex {
+    private static final String NULL_KEY = "null";
+    private final List<Term> terms;
+    private final Map<String, Map<String, List<NcdReportProcessedAuthorDescriptor>>> index = new HashMap<>();
+    private final List<NcdReportProcessedAuthorDescriptor> unindexed = new ArrayList<>();
+    private final List<NcdReportProcessedAuthorDescriptor> all = new ArrayList<>();
+
+    private NcdReportAuthorCandidateIndex(List<Term> terms) {
+        this.terms = terms;
+        terms.forEach(t->{
+            index.put(t.a1Property(), new HashMap<>());
+            index.put(t.a2Property(), new HashMap<>());
+        });
+    }
+
+    static final NcdReportAuthorCandidateIndex create(Expression expression) {
+        var terms = new ArrayList<Term>();
+        return expression instanceof SpelExpression spelExpression && collectTerms(spelExpression.getAST(), terms)
+                ? new NcdReportAuthorCandidateIndex(terms)
+                : new NcdReportAuthorCandidateIndex(List.of());
+    }
+
+    /**
+     * Add the given descriptor to this index.
+     */
+    final void add(NcdReportProcessedAuthorDescriptor descriptor) {
+        all.add(descriptor);
+        if ( terms.isEmpty() ) { return; }
+        var input = descriptor.getExpressionInput();
+        var keys = new HashMap<String, String>();
+        for ( var property : index.keySet() ) {
+            var key = getKey(input.get(property));
+            if ( key==null ) { unindexed.add(descriptor); return; }
+            keys.put(property, key);
+        }
+        keys.forEach((property, key)->
+            index.get(property).computeIfAbsent(key, k->new ArrayList<>()).add(descriptor));
+    }
+
+    /**
+     * Get all previously added descriptors that may be considered duplicates
+     * of the given descriptor. As the duplicate expression is evaluated with
+     * both a1/a2 orderings, we look up candidates in both directions.
+     */
+    final Collection<NcdReportProcessedAuthorDescriptor> getCandidates(NcdReportProcessedAuthorDescriptor descriptor) {
+        if ( terms.isEmpty() ) { return all; }
+        var input = descriptor.getExpressionInput();
+        var result = Collections.newSetFromMap(new IdentityHashMap<NcdReportProcessedAuthorDescriptor, Boolean>());
+        for ( var term : terms ) {
+            var a1Key = getKey(input.get(term.a1Property()));
+            var a2Key = getKey(input.get(term.a2Property()));
+            if ( a1Key==null || a2Key==null ) { return all; }
+            result.addAll(index.get(term.a2Property()).getOrDefault(a1Key, List.of()));
+            result.addAll(index.get(term.a1Property()).getOrDefault(a2Key, List.of()));
+        }
+        result.addAll(unindexed);
+        return result;
+    }
+
+    /**
+     * Get the index key for the given property value, such that values that are
+     * considered equal by the SpEL equality operator result in the same key. Returns
+     * null for values that cannot be reliably indexed.
+     */
+    private static final String getKey(JsonNode value) {
+        if ( value==null || value.isNull() || value.isMissingNode() ) {
+            return NULL_KEY;
+        } else if ( value.isTextual() ) {
+            return "s:"+value.textValue();
+        } else if ( value.isBoolean() ) {
+            return "b:"+value.booleanValue();
+        } else if ( value.isNumber() ) {
+            return value.isFloatingPointNumber() && !Double.isFinite(value.doubleValue())
+                    ? null
+                    : "n:"+value.decimalValue().stripTrailingZeros().toPlainString();
+        }
+        return null;
+    }
+
+    /**
+     * Collect the equality terms from the given node, returning false if the
+     * given node is not supported for indexing.
+     */
+    private static final boolean collectTerms(SpelNode node, List<Term> terms) {
+        if ( node instanceof OpOr ) {
+            for ( int i=0 ; i<node.getChildCount() ; i++ ) {
+                if ( !collectTerms(node.getChild(i), terms) ) { return false; }
+            }
+            return true;
+        } else if ( node instanceof OpAnd ) {
+            for ( int i=0 ; i<node.getChildCount() ; i++ ) {
+                var childTerms = new ArrayList<Term>();
+                if ( collectTerms(node.getChild(i), childTerms) ) {
+                    terms.addAll(childTerms);
+                    return true;
+                }
+            }
+            return false;
+        } else if ( node instanceof OpEQ && node.getChildCount()==2 ) {
+            var left = getAuthorProperty(node.getChild(0));
+            var right = getAuthorProperty(node.getChild(1));
+            if ( left==null || right==null || left[0].equals(right[0]) ) { return false; }
+            terms.add("a1".equals(left[0]) ? new Term(left[1], right[1]) : new Term(right[1], left[1]));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * If the given node is of the form {@code a1.prop} or {@code a2.prop}, return an
+     * array containing the author variable and property name, otherwise return null.
+     */
+    private static final String[] getAuthorProperty(SpelNode node) {
+        if ( node instanceof CompoundExpression && node.getChildCount()==2
+                && node.getChild(0) instanceof PropertyOrFieldReference author
+                && node.getChild(1) instanceof PropertyOrFieldReference property
+                && ("a1".equals(author.getName()) || "a2".equals(author.getName())) ) {
+            return new String[] {author.getName(), property.getName()};
+        }
+        return null;
+    }
+
+    private record Term(String a1Property, String a2Property) {}
+}
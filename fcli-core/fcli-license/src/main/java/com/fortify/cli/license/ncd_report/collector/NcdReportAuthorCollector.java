@@ -48,6 +48,9 @@ import lombok.SneakyThrows;
  * enumeration. Author counts are then included in the report summary once all
  * authors have been processed.</p>
  * 
+ * <p>As repositories may be processed concurrently, the {@link #reportAuthor(INcdReportAuthorDescriptor)}
+ * method is synchronized.</p>
+ * 
  * @author rsenden
  *
  */
@@ -67,7 +70,7 @@ final class NcdReportAuthorCollector {
         this.deduplicator = new NcdReportAuthorDeduplicator(contributorConfig);
     }
 
-    NcdReportProcessedAuthorDescriptor reportAuthor(INcdReportAuthorDescriptor descriptor) {
+    synchronized NcdReportProcessedAuthorDescriptor reportAuthor(INcdReportAuthorDescriptor descriptor) {
         return processedAuthors.computeIfAbsent(descriptor, this::processAuthorDescriptor);
     }
     
@@ -12,17 +12,20 @@
  */
 package com.fortify.cli.license.ncd_report.collector;
 
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentSkipListMap;
 
 import org.springframework.expression.Expression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.spel.SpelHelper;
 import com.fortify.cli.license.ncd_report.config.NcdReportContributorConfig;
 import com.fortify.cli.license.ncd_report.descriptor.NcdReportProcessedAuthorDescriptor;
 
@@ -55,21 +58,36 @@ import lombok.Getter;
  *  <li>name: 'First Middle Last', email: 'first.last@company.com'</li>
  * </ol>
  * 
+ * <p>To avoid evaluating the de-duplication expression against every author 
+ * seen so far, authors are indexed by {@link NcdReportAuthorCandidateIndex}
+ * on the properties compared by the expression, and we keep track of the 
+ * entry that each author currently belongs to in a union-find structure.</p>
+ * 
+ * <p>This class is public only to allow for benchmarking de-duplication 
+ * performance; within fcli, it's only used by {@link NcdReportAuthorCollector}.</p>
+ * 
  * @author rsenden
  *
  */
-final class NcdReportAuthorDeduplicator {
+public final class NcdReportAuthorDeduplicator {
     private final Optional<Expression> dedupeExpression;
+    private final NcdReportAuthorCandidateIndex candidateIndex;
+    /** Maps author number to parent author; following parents leads to the deduplicatedAuthors key */
+    private final Map<Integer, NcdReportProcessedAuthorDescriptor> parents = new HashMap<>();
+    private final ObjectNode compareNode = JsonHelper.getObjectMapper().createObjectNode();
     @Getter private final ConcurrentSkipListMap<NcdReportProcessedAuthorDescriptor, Set<NcdReportProcessedAuthorDescriptor>> deduplicatedAuthors = new ConcurrentSkipListMap<>(this::compareAuthorIndex);
     
     public NcdReportAuthorDeduplicator(Optional<NcdReportContributorConfig> contributorConfig) {
-        var parser = new SpelExpressionParser();
+        var parser = SpelHelper.getParser();
         this.dedupeExpression = contributorConfig
                 .flatMap(NcdReportContributorConfig::getDuplicateExpression)
                 .map(parser::parseExpression);
+        this.candidateIndex = dedupeExpression
+                .map(NcdReportAuthorCandidateIndex::create)
+                .orElse(null);
     }
     
-    final void addAuthor(NcdReportProcessedAuthorDescriptor descriptor) {
+    public final void addAuthor(NcdReportProcessedAuthorDescriptor descriptor) {
         dedupeExpression
             .ifPresentOrElse(expr->dedupe(descriptor, expr), ()->add(descriptor));
     }
@@ -88,19 +106,33 @@ final class NcdReportAuthorDeduplicator {
      * why we are doing things this way.
      */
     private void dedupe(NcdReportProcessedAuthorDescriptor descriptor, Expression expr) {
-        // Find all entries that contain a duplicate descriptor based on the given expression,
-        // and merge them into the first matching entry. For example, we may have an existing 
-        // entry that matches the current descriptor on name, and another matching on email,
-        // so we combine these into the first entry found while removing all other entries
-        // (in the reduceDuplicates method).
-        var duplicateEntries = deduplicatedAuthors.entrySet().stream()
-            .filter(e->containsDuplicate(e, descriptor, expr))
+        // Find the keys of all entries that contain a duplicate descriptor based on the 
+        // given expression. We only evaluate the expression against candidate descriptors
+        // from the index, skipping candidates that belong to an entry that was already
+        // identified as containing a duplicate.
+        var duplicateKeys = new TreeSet<NcdReportProcessedAuthorDescriptor>(this::compareAuthorIndex);
+        for ( var candidate : candidateIndex.getCandidates(descriptor) ) {
+            var key = findKey(candidate);
+            if ( !duplicateKeys.contains(key) && isDuplicate(descriptor, candidate, expr) ) {
+                duplicateKeys.add(key);
+            }
+        }
+        // Merge all matching entries into the first matching entry. For example, we may have 
+        // an existing entry that matches the current descriptor on name, and another matching 
+        // on email, so we combine these into the first entry found while removing all other 
+        // entries (in the reduceDuplicates method).
+        var duplicateEntries = duplicateKeys.stream()
+            .map(k->Map.entry(k, deduplicatedAuthors.get(k)))
             .reduce(this::reduceDuplicates);
         // If we found a duplicate entry, we add the current descriptor to that entry.
         // Otherwise, we create a new entry with an empty duplicates set.
         duplicateEntries.ifPresentOrElse(
-                s->s.getValue().add(descriptor),
+                s->{
+                    s.getValue().add(descriptor);
+                    parents.put(descriptor.getAuthorNumber(), s.getKey());
+                },
                 ()->add(descriptor));
+        candidateIndex.add(descriptor);
     }
 
     private Entry<NcdReportProcessedAuthorDescriptor, Set<NcdReportProcessedAuthorDescriptor>> reduceDuplicates(
@@ -108,17 +140,23 @@ final class NcdReportAuthorDeduplicator {
             Entry<NcdReportProcessedAuthorDescriptor, Set<NcdReportProcessedAuthorDescriptor>> e2) {
         e1.getValue().add(e2.getKey());
         e1.getValue().addAll(deduplicatedAuthors.remove(e2.getKey())); 
+        parents.put(e2.getKey().getAuthorNumber(), e1.getKey());
         return e1;
     }
 
     /**
-     * Returns true if a duplicate is found in the given entry (either the entry key,
-     * or one of its values) for the given descriptor, based on the given expression.
+     * Returns the key of the deduplicatedAuthors entry that the given descriptor
+     * belongs to, compressing the path from the given descriptor to that key.
      */
-    private boolean containsDuplicate(Entry<NcdReportProcessedAuthorDescriptor, Set<NcdReportProcessedAuthorDescriptor>> e, NcdReportProcessedAuthorDescriptor descriptor, Expression expr) {
-        var result = isDuplicate(descriptor, e.getKey(), expr)
-                || e.getValue().stream().anyMatch(d->isDuplicate(descriptor, d, expr));
-        return result;
+    private NcdReportProcessedAuthorDescriptor findKey(NcdReportProcessedAuthorDescriptor descriptor) {
+        var key = descriptor;
+        for ( var parent = parents.get(key.getAuthorNumber()) ; parent!=null ; parent = parents.get(key.getAuthorNumber()) ) {
+            key = parent;
+        }
+        for ( var current = descriptor ; current!=key ; ) {
+            current = parents.put(current.getAuthorNumber(), key);
+        }
+        return key;
     }
     
     /**
@@ -127,19 +165,19 @@ final class NcdReportAuthorDeduplicator {
      * c2 reversed (for example in contains expressions), we compare both ways. 
      */
     private boolean isDuplicate(NcdReportProcessedAuthorDescriptor d1, NcdReportProcessedAuthorDescriptor d2, Expression expr) {
-        return JsonHelper.evaluateSpelExpression(createCompareNode(d1, d2), expr, Boolean.class)
-                || JsonHelper.evaluateSpelExpression(createCompareNode(d2, d1), expr, Boolean.class);
+        return JsonHelper.evaluateSpelExpression(updateCompareNode(d1, d2), expr, Boolean.class)
+                || JsonHelper.evaluateSpelExpression(updateCompareNode(d2, d1), expr, Boolean.class);
     }
 
     /**
-     * Create an {@link ObjectNode} used as expression input for comparing
-     * two authors 'a1' and 'a2'.
+     * Update the {@link ObjectNode} used as expression input for comparing
+     * two authors 'a1' and 'a2'. We reuse a single node rather than creating
+     * a new node for every comparison.
      */
-    private ObjectNode createCompareNode(NcdReportProcessedAuthorDescriptor d1, NcdReportProcessedAuthorDescriptor d2) {
-        var node = JsonHelper.getObjectMapper().createObjectNode();
-        node.set("a1", d1.getExpressionInput());
-        node.set("a2", d2.getExpressionInput());
-        return node;
+    private ObjectNode updateCompareNode(NcdReportProcessedAuthorDescriptor d1, NcdReportProcessedAuthorDescriptor d2) {
+        compareNode.set("a1", d1.getExpressionInput());
+        compareNode.set("a2", d2.getExpressionInput());
+        return compareNode;
     }
 
     private final void add(NcdReportProcessedAuthorDescriptor descriptor) {
@@ -30,7 +30,9 @@ import lombok.SneakyThrows;
 /**
  * <p>This class is responsible for collecting and outputting 
  * {@link INcdReportRepositoryDescriptor} instances as reported 
- * by {@link NcdReportRepositoryProcessor}.</p>
+ * by {@link NcdReportRepositoryProcessor}. As repositories may be
+ * processed concurrently, all methods that may be invoked during
+ * repository processing are synchronized.</p>
  * 
  * @author rsenden
  *
@@ -44,20 +46,25 @@ final class NcdReportRepositoryCollector {
     private Map<NcdReportRepositoryReportingStatus, Integer> repositoryCountsByStatus = new HashMap<>();
     
     @SneakyThrows
-    void reportRepository(INcdReportRepositoryDescriptor descriptor, NcdReportRepositoryReportingStatus status, String reason) {
+    synchronized void reportRepository(INcdReportRepositoryDescriptor descriptor, NcdReportRepositoryReportingStatus status, String reason) {
         repositories.add(descriptor);
         increaseCountByStatus(status);
         writers.repositoryWriter().writeRepository(descriptor, status, reason);
     }
 
-    void reportRepositoryError(INcdReportRepositoryDescriptor descriptor, Exception e) {
+    synchronized void reportRepositoryError(INcdReportRepositoryDescriptor descriptor, Exception e) {
         // TODO Log error
         writers.logger().error("Error loading repository: "+descriptor.getUrl(), e);
         reportRepository(descriptor, NcdReportRepositoryReportingStatus.error, e.getMessage());
     }
     
-    boolean isPreviouslyReported(INcdReportRepositoryDescriptor descriptor) {
-        return repositories.contains(descriptor);
+    /**
+     * Claim the given repository for processing, returning false if the
+     * repository was claimed before, for example because it's included
+     * in multiple configured organizations or groups.
+     */
+    synchronized boolean claimRepository(INcdReportRepositoryDescriptor descriptor) {
+        return repositories.add(descriptor);
     }
     
     void writeResults() {
@@ -12,10 +12,21 @@
  */
 package com.fortify.cli.license.ncd_report.collector;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
 import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.exception.FcliTechnicalException;
 import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.util.DaemonThreadFactory;
+import com.fortify.cli.common.util.EnvHelper;
 import com.fortify.cli.license.ncd_report.config.INcdReportRepoSelectorConfig;
 import com.fortify.cli.license.ncd_report.config.NcdReportConfig;
 import com.fortify.cli.license.ncd_report.descriptor.INcdReportRepositoryDescriptor;
@@ -35,6 +46,11 @@ import com.fortify.cli.license.ncd_report.writer.NcdReportResultsWriters;
  * which is then further processed using {@link NcdReportRepositoryBranchCommitCollector}
  * and {@link NcdReportAuthorCollector}.
  * 
+ * If the {@value #ENV_PARALLELISM} environment variable is set to a value larger 
+ * than 1, commit data for up to that number of repositories is generated concurrently 
+ * on a bounded worker pool. Source-specific generators must call {@link #awaitCompletion()} 
+ * before closing any resources used by their {@link INcdReportBranchCommitGenerator}.
+ * 
  * TODO: We currently only support a standard include expression for all sources;
  *       potentially we need to have callback functionality to allow each source
  *       to make additional decisions as to what repositories to include or exclude,
@@ -43,12 +59,17 @@ import com.fortify.cli.license.ncd_report.writer.NcdReportResultsWriters;
  *
  */
 final class NcdReportRepositoryProcessor implements INcdReportRepositoryProcessor {
+    public static final String ENV_PARALLELISM = "FCLI_NCD_REPORT_PARALLELISM";
     private final NcdReportConfig reportConfig;
     private final NcdReportResultsWriters writers;
     private final ObjectNode summary;
     private final NcdReportRepositoryCollector repositoryCollector;
     private final NcdReportAuthorCollector authorCollector;
     
+    private final ExecutorService executor;
+    private final Semaphore pendingPermits;
+    private final Queue<Future<?>> pendingRepositories = new ConcurrentLinkedQueue<>();
+    
     private int totalAnalyzedCommitCount = 0;
     
     public NcdReportRepositoryProcessor(NcdReportConfig reportConfig, NcdReportResultsWriters writers, ObjectNode summary) {
@@ -57,6 +78,11 @@ final class NcdReportRepositoryProcessor implements INcdReportRepositoryProcesso
         this.summary = summary;
         this.repositoryCollector = new NcdReportRepositoryCollector(writers, summary);
         this.authorCollector = new NcdReportAuthorCollector(reportConfig, writers, summary);
+        int parallelism = EnvHelper.envAsInt(ENV_PARALLELISM, 1);
+        this.executor = parallelism>1 ? Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("fcli-ncd-report")) : null;
+        // Limit the number of queued repositories, such that source-specific generators 
+        // don't load all repository pages before we can start processing them.
+        this.pendingPermits = new Semaphore(parallelism*2);
     }
     
     @Override
@@ -64,25 +90,74 @@ final class NcdReportRepositoryProcessor implements INcdReportRepositoryProcesso
             INcdReportRepoSelectorConfig repoSelectorConfig, 
             R repoDescriptor, INcdReportBranchCommitGenerator<R> commitGenerator) 
     {
-        if ( !repositoryCollector.isPreviouslyReported(repoDescriptor) ) {
+        if ( repositoryCollector.claimRepository(repoDescriptor) ) {
             try {
                 if ( isExcludedFork(repoDescriptor, reportConfig, repoSelectorConfig) ) {
                     repositoryCollector.reportRepository(repoDescriptor, NcdReportRepositoryReportingStatus.excluded, "Forks not included");
                 } else if ( isExcludedByExpression(repoDescriptor, reportConfig, repoSelectorConfig) ) {
                     repositoryCollector.reportRepository(repoDescriptor, NcdReportRepositoryReportingStatus.excluded, "Doesn't match expression");
-                } else {
+                } else if ( executor==null ) {
                     processRepository(repoDescriptor, commitGenerator);
+                } else {
+                    submitRepository(repoDescriptor, commitGenerator);
                 }
             } catch ( Exception e ) {
                 repositoryCollector.reportRepositoryError(repoDescriptor, e);
             }
         }
     }
+    
+    @Override
+    public void awaitCompletion() {
+        Future<?> future;
+        while ( (future = pendingRepositories.poll())!=null ) {
+            try {
+                future.get();
+            } catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw new FcliTechnicalException("Interrupted while waiting for repository processing", e);
+            } catch ( ExecutionException e ) {
+                throw new FcliTechnicalException("Error processing repository", e.getCause());
+            }
+        }
+    }
+    
+    /**
+     * Submit the given repository for processing on our worker pool, waiting 
+     * for a permit if the maximum number of pending repositories has been reached.
+     */
+    private <R extends INcdReportRepositoryDescriptor> void submitRepository(R repoDescriptor, INcdReportBranchCommitGenerator<R> branchCommitGenerator) throws InterruptedException {
+        pendingPermits.acquire();
+        try {
+            pendingRepositories.add(executor.submit(()->{
+                try {
+                    processRepository(repoDescriptor, branchCommitGenerator);
+                } catch ( Exception e ) {
+                    repositoryCollector.reportRepositoryError(repoDescriptor, e);
+                } finally {
+                    pendingPermits.release();
+                }
+            }));
+        } catch ( RuntimeException e ) {
+            pendingPermits.release();
+            throw e;
+        }
+        // Remove completed futures to avoid keeping references to all processed repositories
+        pendingRepositories.removeIf(Future::isDone);
+    }
 
     private <R extends INcdReportRepositoryDescriptor> void processRepository(R repoDescriptor, INcdReportBranchCommitGenerator<R> branchCommitGenerator) {
         var branchCommitsCollector = new NcdReportRepositoryBranchCommitCollector(authorCollector, repoDescriptor);
         writers.progressWriter().writeI18nProgress("fcli.license.ncd-report.loading.commits", repoDescriptor.getFullName());
         branchCommitGenerator.generateBranchCommitData(repoDescriptor, branchCommitsCollector);
+        reportResults(repoDescriptor, branchCommitsCollector);
+    }
+    
+    /**
+     * Write the results for the given repository; this method is synchronized 
+     * as repositories may be processed concurrently.
+     */
+    private synchronized void reportResults(INcdReportRepositoryDescriptor repoDescriptor, NcdReportRepositoryBranchCommitCollector branchCommitsCollector) {
         if ( branchCommitsCollector.isEmpty() ) {
             repositoryCollector.reportRepository(repoDescriptor, NcdReportRepositoryReportingStatus.empty, "No commits found");
         } else {
@@ -109,6 +184,8 @@ final class NcdReportRepositoryProcessor implements INcdReportRepositoryProcesso
     }
     
     void writeResults() {
+        awaitCompletion();
+        if ( executor!=null ) { executor.shutdown(); }
         repositoryCollector.writeResults();
         summary.set("commitCount", JsonHelper.getObjectMapper().createObjectNode()
                 .put("analyzed", totalAnalyzedCommitCount));
@@ -14,13 +14,17 @@ package com.fortify.cli.license.ncd_report.generator;
 
 import com.fortify.cli.common.report.generator.AbstractReportUnirestResultsGenerator;
 import com.fortify.cli.common.rest.unirest.config.IUrlConfig;
+import com.fortify.cli.license.ncd_report.collector.INcdReportRepositoryProcessor;
 import com.fortify.cli.license.ncd_report.collector.NcdReportResultsCollector;
 
 /**
  * Base class for source-specific unirest-based generator implementations, 
  * providing functionality for storing and accessing the report configuration, 
  * and for creating unirest instances based on connection settings defined in 
- * the configuration file.
+ * the configuration file. As repositories may be processed asynchronously by
+ * {@link INcdReportRepositoryProcessor}, this class waits for all repositories
+ * to be processed after {@link #generateRepositoryResults()} completes, to avoid
+ * the REST connection being closed while repositories are still being processed.
  *  
  * @author rsenden
  */
@@ -28,4 +32,20 @@ public abstract class AbstractNcdReportUnirestResultsGenerator<T extends IUrlCon
     public AbstractNcdReportUnirestResultsGenerator(T sourceConfig, NcdReportResultsCollector resultsCollector) {
         super(sourceConfig, resultsCollector);
     }
+    
+    @Override
+    protected final void generateResults() {
+        try {
+            generateRepositoryResults();
+        } finally {
+            resultsCollector().repositoryProcessor().awaitCompletion();
+        }
+    }
+    
+    /**
+     * Method to be implemented by subclasses to load repositories and pass
+     * them to the {@link INcdReportRepositoryProcessor} provided by our
+     * {@link NcdReportResultsCollector}.
+     */
+    protected abstract void generateRepositoryResults();
 }
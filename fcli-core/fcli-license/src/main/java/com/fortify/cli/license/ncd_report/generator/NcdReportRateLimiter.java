@@ -0,0 +1,216 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.license.ncd_report.generator;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.apache.http.Header;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.ServiceUnavailableRetryStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fortify.cli.common.exception.FcliTechnicalException;
+
+import kong.unirest.UnirestInstance;
+import kong.unirest.apache.ApacheClient;
+
+/**
+ * <p>Rate limiter for GitHub, GitLab and Azure DevOps requests, shared by all threads
+ * that use the same {@link UnirestInstance}. Based on the rate limit headers returned
+ * by these systems, this class pauses all requests until the rate limit window resets
+ * once the remaining quota has been used up, or for the duration indicated by a
+ * Retry-After header. Once the remaining quota runs low, requests are spread evenly
+ * over the remainder of the rate limit window to avoid hitting the rate limit in the
+ * first place.</p>
+ *
+ * <p>Rate-limited requests (HTTP 429, or HTTP 403 with rate limit headers as returned
+ * by GitHub) are retried once the rate limiter allows for sending new requests.</p>
+ *
+ * @author rsenden
+ */
+public final class NcdReportRateLimiter {
+    private static final Logger LOG = LoggerFactory.getLogger(NcdReportRateLimiter.class);
+    private static final String[] HEADERS_REMAINING = {"X-RateLimit-Remaining", "RateLimit-Remaining"};
+    private static final String[] HEADERS_RESET = {"X-RateLimit-Reset", "RateLimit-Reset"};
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+    private static final int MAX_RATE_LIMIT_RETRIES = 10;
+    // Requests are only paced if the remaining quota drops below this number
+    private static final long LOW_REMAINING_THRESHOLD = 100;
+    // Wait time if we get a 429 response without any rate limit headers
+    private static final long DEFAULT_RETRY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long MAX_WAIT_MILLIS = TimeUnit.HOURS.toMillis(1);
+    // Reset header values larger than this represent epoch seconds rather than a number of seconds
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+    private final LongSupplier clock;
+    private long pausedUntilMillis = 0;
+    private long nextRequestMillis = 0;
+    private long intervalMillis = 0;
+
+    NcdReportRateLimiter(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Configure the given {@link UnirestInstance} to use a new rate limiter instance.
+     */
+    public static final void configure(UnirestInstance unirest) {
+        var rateLimiter = new NcdReportRateLimiter(System::currentTimeMillis);
+        unirest.config().httpClient(config->new ApacheClient(config, rateLimiter::configure));
+    }
+
+    private void configure(HttpClientBuilder cb) {
+        cb.setServiceUnavailableRetryStrategy(new RateLimitRetryStrategy());
+        cb.addInterceptorLast((HttpRequestInterceptor)(request, context)->acquire());
+        cb.addInterceptorLast((HttpResponseInterceptor)(response, context)->update(response));
+    }
+
+    /**
+     * Wait until a request may be sent according to the current rate limit state.
+     */
+    final void acquire() {
+        long waitMillis = reserve();
+        if ( waitMillis>0 ) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(waitMillis);
+            } catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw new FcliTechnicalException("Interrupted while waiting for rate limit", e);
+            }
+        }
+    }
+
+    /**
+     * Reserve a slot for a single request, returning the number of milliseconds
+     * that the caller needs to wait before sending the request.
+     */
+    final synchronized long reserve() {
+        long now = clock.getAsLong();
+        long start = Math.max(now, Math.max(pausedUntilMillis, nextRequestMillis));
+        nextRequestMillis = start + intervalMillis;
+        long waitMillis = Math.min(start-now, MAX_WAIT_MILLIS);
+        if ( waitMillis>0 ) {
+            LOG.debug("Throttling request for {} ms due to rate limiting", waitMillis);
+        }
+        return waitMillis;
+    }
+
+    /**
+     * Update the rate limit state based on the headers of the given response.
+     */
+    final void update(HttpResponse response) {
+        update(response.getStatusLine().getStatusCode(),
+                getHeaderValue(response, HEADERS_REMAINING),
+                getHeaderValue(response, HEADERS_RESET),
+                getHeaderValue(response, HEADER_RETRY_AFTER));
+    }
+
+    final synchronized void update(int statusCode, String remainingHeader, String resetHeader, String retryAfterHeader) {
+        long now = clock.getAsLong();
+        Long remaining = parseLong(remainingHeader);
+        Long resetMillis = parseReset(resetHeader, now);
+        Long retryAfterMillis = parseRetryAfter(retryAfterHeader, now);
+        if ( retryAfterMillis!=null ) {
+            pauseUntil(retryAfterMillis);
+        } else if ( remaining!=null && remaining<=0 && resetMillis!=null ) {
+            pauseUntil(resetMillis);
+        } else if ( statusCode==429 ) {
+            pauseUntil(now+DEFAULT_RETRY_MILLIS);
+        }
+        if ( remaining!=null ) {
+            intervalMillis = remaining>0 && remaining<LOW_REMAINING_THRESHOLD && resetMillis!=null
+                    ? Math.max(0, (resetMillis-now)/remaining)
+                    : 0;
+        }
+    }
+
+    private void pauseUntil(long millis) {
+        if ( millis>pausedUntilMillis ) {
+            LOG.debug("Rate limit reached, pausing requests for {} ms", millis-clock.getAsLong());
+            pausedUntilMillis = millis;
+        }
+    }
+
+    private static final boolean isRateLimited(HttpResponse response) {
+        int statusCode = response.getStatusLine().getStatusCode();
+        return statusCode==429 || (statusCode==403 &&
+                (getHeaderValue(response, HEADER_RETRY_AFTER)!=null
+                        || Long.valueOf(0).equals(parseLong(getHeaderValue(response, HEADERS_REMAINING)))));
+    }
+
+    private static final Long parseReset(String value, long now) {
+        Long seconds = parseLong(value);
+        if ( seconds==null ) { return null; }
+        return seconds>EPOCH_SECONDS_THRESHOLD
+                ? TimeUnit.SECONDS.toMillis(seconds)
+                : now+TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+    private static final Long parseRetryAfter(String value, long now) {
+        if ( value==null ) { return null; }
+        Long seconds = parseLong(value);
+        if ( seconds!=null ) { return now+TimeUnit.SECONDS.toMillis(seconds); }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch ( DateTimeParseException e ) {
+            LOG.debug("Invalid {} header value: {}", HEADER_RETRY_AFTER, value);
+            return null;
+        }
+    }
+
+    private static final String getHeaderValue(HttpResponse response, String... names) {
+        for ( var name : names ) {
+            Header header = response.getFirstHeader(name);
+            if ( header!=null ) { return header.getValue(); }
+        }
+        return null;
+    }
+
+    private static final Long parseLong(String value) {
+        if ( value==null ) { return null; }
+        try {
+            return Long.parseLong(value.trim());
+        } catch ( NumberFormatException e ) {
+            return null;
+        }
+    }
+
+    /**
+     * Retry rate-limited requests; we don't specify a retry interval as the
+     * retried request will wait in {@link NcdReportRateLimiter#acquire()}
+     * until the rate limit allows for sending new requests.
+     */
+    private static final class RateLimitRetryStrategy implements ServiceUnavailableRetryStrategy {
+        @Override
+        public boolean retryRequest(HttpResponse response, int executionCount, HttpContext context) {
+            var result = executionCount<=MAX_RATE_LIMIT_RETRIES && isRateLimited(response);
+            if ( result ) {
+                LOG.debug("Rate-limited request will be retried (attempt {} of {})", executionCount, MAX_RATE_LIMIT_RETRIES);
+            }
+            return result;
+        }
+
+        @Override
+        public long getRetryInterval() {
+            return 0;
+        }
+    }
+}
@@ -32,24 +32,22 @@ import com.fortify.cli.license.ncd_report.config.NcdReportAdoSourceConfig;
 import com.fortify.cli.license.ncd_report.config.NcdReportCombinedRepoSelectorConfig;
 import com.fortify.cli.license.ncd_report.descriptor.NcdReportBranchCommitDescriptor;
 import com.fortify.cli.license.ncd_report.generator.AbstractNcdReportUnirestResultsGenerator;
+import com.fortify.cli.license.ncd_report.generator.NcdReportRateLimiter;
 
 import kong.unirest.GetRequest;
 import kong.unirest.UnirestInstance;
 
 public class NcdReportAdoResultsGenerator extends AbstractNcdReportUnirestResultsGenerator<NcdReportAdoSourceConfig> {
-    private String currentOrganization; // Set while processing organization
-    
     public NcdReportAdoResultsGenerator(NcdReportAdoSourceConfig sourceConfig, NcdReportResultsCollector resultsCollector) {
         super(sourceConfig, resultsCollector);
     }
 
     @Override
-    protected void generateResults() {
+    protected void generateRepositoryResults() {
         Stream.of(sourceConfig().getOrganizations()).forEach(this::generateResults);
     }
     
     private void generateResults(NcdReportAdoOrganizationConfig orgConfig) {
-        currentOrganization = orgConfig.getName();
         for ( var projectConfig : orgConfig.getProjects() ) {
             generateResults(orgConfig, projectConfig);
         }
@@ -142,7 +140,7 @@ public class NcdReportAdoResultsGenerator extends AbstractNcdReportUnirestResult
 
     private GetRequest getCommitsRequest(NcdReportAdoRepositoryDescriptor repoDescriptor, NcdReportAdoBranchDescriptor branchDescriptor, int top, String fromDate) {
         GetRequest req = unirest().get("/{organization}/{project}/_apis/git/repositories/{repoId}/commits?searchCriteria.itemVersion.version={branchName}&searchCriteria.itemVersion.versionType=branch&api-version={apiVersion}")
-                .routeParam("organization", currentOrganization)
+                .routeParam("organization", repoDescriptor.getOrganizationName())
                 .routeParam("project", repoDescriptor.getProjectName())
                 .routeParam("repoId", repoDescriptor.getId())
                 .routeParam("branchName", branchDescriptor.getName())
@@ -156,7 +154,7 @@ public class NcdReportAdoResultsGenerator extends AbstractNcdReportUnirestResult
 
     private GetRequest getBranchesRequest(NcdReportAdoRepositoryDescriptor repoDescriptor) {
         return unirest().get("/{organization}/{project}/_apis/git/repositories/{repoId}/refs?filter=heads/&api-version={apiVersion}")
-                .routeParam("organization", currentOrganization)
+                .routeParam("organization", repoDescriptor.getOrganizationName())
                 .routeParam("project", repoDescriptor.getProjectName())
                 .routeParam("repoId", repoDescriptor.getId())
                 .routeParam("apiVersion", sourceConfig().getApiVersion());
@@ -178,6 +176,7 @@ public class NcdReportAdoResultsGenerator extends AbstractNcdReportUnirestResult
                 unirest.config().setDefaultHeader("Authorization", "Basic "+basic);
             }
         }
+        NcdReportRateLimiter.configure(unirest);
     }
 
     @Override
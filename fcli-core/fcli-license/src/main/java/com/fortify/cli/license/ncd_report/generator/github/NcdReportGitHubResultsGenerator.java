@@ -15,6 +15,7 @@ package com.fortify.cli.license.ncd_report.generator.github;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -24,6 +25,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.rest.github.GitHubPagingHelper;
+import com.fortify.cli.common.rest.paging.PagingHelper;
 import com.fortify.cli.license.ncd_report.collector.INcdReportRepositoryBranchCommitCollector;
 import com.fortify.cli.license.ncd_report.collector.INcdReportRepositoryProcessor;
 import com.fortify.cli.license.ncd_report.collector.NcdReportResultsCollector;
@@ -32,6 +34,7 @@ import com.fortify.cli.license.ncd_report.config.NcdReportGitHubOrganizationConf
 import com.fortify.cli.license.ncd_report.config.NcdReportGitHubSourceConfig;
 import com.fortify.cli.license.ncd_report.descriptor.NcdReportBranchCommitDescriptor;
 import com.fortify.cli.license.ncd_report.generator.AbstractNcdReportUnirestResultsGenerator;
+import com.fortify.cli.license.ncd_report.generator.NcdReportRateLimiter;
 
 import kong.unirest.GetRequest;
 import kong.unirest.HttpRequest;
@@ -61,7 +64,7 @@ public class NcdReportGitHubResultsGenerator extends AbstractNcdReportUnirestRes
      * method to load the repositories for that organization.
      */
     @Override
-    protected void generateResults() {
+    protected void generateRepositoryResults() {
         Stream.of(sourceConfig().getOrganizations()).forEach(this::generateResults);
     }
     
@@ -79,8 +82,7 @@ public class NcdReportGitHubResultsGenerator extends AbstractNcdReportUnirestRes
         try {
             resultsCollector().progressWriter().writeI18nProgress("fcli.license.ncd-report.loading.github-repositories", orgName);
             HttpRequest<?> req = unirest().get("/orgs/{org}/repos?type=all&per_page=100").routeParam("org", orgName);
-            GitHubPagingHelper.pagedRequest(req, ArrayNode.class)
-                .ifSuccess(r->r.getBody().forEach(repo->
+            PagingHelper.processPages(unirest(), req, GitHubPagingHelper.nextPageUrlProducer(), r->r.getBody().forEach(repo->
                     resultsCollector().repositoryProcessor().processRepository(new NcdReportCombinedRepoSelectorConfig(sourceConfig(), orgConfig), getRepoDescriptor(repo), this::generateCommitData)));
         } catch ( Exception e ) {
             resultsCollector().logger().error(String.format("Error processing organization: %s (%s)", orgName, sourceConfig().getApiUrl()), e);
@@ -134,21 +136,18 @@ public class NcdReportGitHubResultsGenerator extends AbstractNcdReportUnirestRes
     private boolean generateCommitDataForBranches(INcdReportRepositoryBranchCommitCollector branchCommitCollector, NcdReportGitHubRepositoryDescriptor repoDescriptor, List<NcdReportGitHubBranchDescriptor> branchDescriptors) {
         String since = resultsCollector().reportConfig().getCommitOffsetDateTime()
                 .format(DateTimeFormatter.ISO_INSTANT);
-        boolean commitsFound = false;
+        var commitsFound = new AtomicBoolean(false);
         for ( var branchDescriptor : branchDescriptors ) {
             resultsCollector().progressWriter().writeI18nProgress("fcli.license.ncd-report.loading.branch-commits", repoDescriptor.getFullName(), branchDescriptor.getName());
             HttpRequest<?> req = getCommitsRequest(repoDescriptor, branchDescriptor, 100)
                     .queryString("since", since);
-            
-            List<ArrayNode> bodies = GitHubPagingHelper.pagedRequest(req, ArrayNode.class).getBodies();
-            for ( ArrayNode body : bodies ) {
-                for ( JsonNode commit : body ) {
-                    commitsFound = true;
-                    addCommit(branchCommitCollector, repoDescriptor, branchDescriptor, commit);
-                }
-            }
+            // Process each page as soon as it has been loaded, rather than collecting all pages in memory
+            PagingHelper.processPages(unirest(), req, GitHubPagingHelper.nextPageUrlProducer(), r->r.getBody().forEach(commit->{
+                commitsFound.set(true);
+                addCommit(branchCommitCollector, repoDescriptor, branchDescriptor, commit);
+            }));
         }
-        return commitsFound;
+        return commitsFound.get();
     }
     
     /**
@@ -220,6 +219,7 @@ public class NcdReportGitHubResultsGenerator extends AbstractNcdReportUnirestRes
                 unirest.config().setDefaultHeader("Authorization", "Bearer "+token);
             }
         }
+        NcdReportRateLimiter.configure(unirest);
     }
     
     /**
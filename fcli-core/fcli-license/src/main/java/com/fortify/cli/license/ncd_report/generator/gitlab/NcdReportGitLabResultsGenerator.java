@@ -15,6 +15,7 @@ package com.fortify.cli.license.ncd_report.generator.gitlab;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -25,6 +26,7 @@ import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.rest.github.GitHubPagingHelper;
 import com.fortify.cli.common.rest.gitlab.GitLabPagingHelper;
+import com.fortify.cli.common.rest.paging.PagingHelper;
 import com.fortify.cli.license.ncd_report.collector.INcdReportRepositoryBranchCommitCollector;
 import com.fortify.cli.license.ncd_report.collector.INcdReportRepositoryProcessor;
 import com.fortify.cli.license.ncd_report.collector.NcdReportResultsCollector;
@@ -33,6 +35,7 @@ import com.fortify.cli.license.ncd_report.config.NcdReportGitLabGroupConfig;
 import com.fortify.cli.license.ncd_report.config.NcdReportGitLabSourceConfig;
 import com.fortify.cli.license.ncd_report.descriptor.NcdReportBranchCommitDescriptor;
 import com.fortify.cli.license.ncd_report.generator.AbstractNcdReportUnirestResultsGenerator;
+import com.fortify.cli.license.ncd_report.generator.NcdReportRateLimiter;
 
 import kong.unirest.GetRequest;
 import kong.unirest.HttpRequest;
@@ -63,7 +66,7 @@ public class NcdReportGitLabResultsGenerator extends AbstractNcdReportUnirestRes
      * sub-groups.
      */
     @Override
-    protected void generateResults() {
+    protected void generateRepositoryResults() {
         Stream.of(sourceConfig().getGroups()).forEach(this::generateResults);
     }
     
@@ -85,8 +88,7 @@ public class NcdReportGitLabResultsGenerator extends AbstractNcdReportUnirestRes
             HttpRequest<?> req = unirest().get("/api/v4/groups/{id}/projects?per_page=100")
                     .routeParam("id", groupId)
                     .queryString("include_subgroups", includeSubgroups);
-            GitLabPagingHelper.pagedRequest(req, ArrayNode.class)
-                .ifSuccess(r->r.getBody().forEach(project->
+            PagingHelper.processPages(unirest(), req, GitLabPagingHelper.nextPageUrlProducer(), r->r.getBody().forEach(project->
                     resultsCollector().repositoryProcessor().processRepository(new NcdReportCombinedRepoSelectorConfig(sourceConfig(), groupConfig), getRepoDescriptor(project), this::generateCommitData)));
         } catch ( Exception e ) {
             resultsCollector().logger().error(String.format("Error processing group: %s (%s)", groupId, sourceConfig().getBaseUrl()), e);
@@ -140,21 +142,18 @@ public class NcdReportGitLabResultsGenerator extends AbstractNcdReportUnirestRes
     private boolean generateCommitDataForBranches(INcdReportRepositoryBranchCommitCollector branchCommitCollector, NcdReportGitLabRepositoryDescriptor repoDescriptor, List<NcdReportGitLabBranchDescriptor> branchDescriptors) {
         String since = resultsCollector().reportConfig().getCommitOffsetDateTime()
                 .format(DateTimeFormatter.ISO_INSTANT);
-        boolean commitsFound = false;
+        var commitsFound = new AtomicBoolean(false);
         for ( var branchDescriptor : branchDescriptors ) {
             resultsCollector().progressWriter().writeI18nProgress("fcli.license.ncd-report.loading.branch-commits", repoDescriptor.getFullName(), branchDescriptor.getName());
             HttpRequest<?> req = getCommitsRequest(repoDescriptor, branchDescriptor, 100)
                     .queryString("since", since);
-            
-            List<ArrayNode> bodies = GitHubPagingHelper.pagedRequest(req, ArrayNode.class).getBodies();
-            for ( ArrayNode body : bodies ) {
-                for ( JsonNode commit : body ) {
-                    commitsFound = true;
-                    addCommit(branchCommitCollector, repoDescriptor, branchDescriptor, commit);
-                }
-            }
+            // Process each page as soon as it has been loaded, rather than collecting all pages in memory
+            PagingHelper.processPages(unirest(), req, GitHubPagingHelper.nextPageUrlProducer(), r->r.getBody().forEach(commit->{
+                commitsFound.set(true);
+                addCommit(branchCommitCollector, repoDescriptor, branchDescriptor, commit);
+            }));
         }
-        return commitsFound;
+        return commitsFound.get();
     }
     
     /**
@@ -223,6 +222,7 @@ public class NcdReportGitLabResultsGenerator extends AbstractNcdReportUnirestRes
                 unirest.config().setDefaultHeader("PRIVATE-TOKEN", token);
             }
         }
+        NcdReportRateLimiter.configure(unirest);
     }
     
     /**
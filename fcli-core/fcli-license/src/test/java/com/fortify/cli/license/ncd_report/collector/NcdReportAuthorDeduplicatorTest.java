@@ -12,13 +12,20 @@
  */
 package com.fortify.cli.license.ncd_report.collector;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.license.ncd_report.config.NcdReportContributorConfig;
@@ -55,6 +62,72 @@ public class NcdReportAuthorDeduplicatorTest {
         deduplicatedAuthors.values().forEach(s->Assertions.assertEquals(descriptors.length-1, s.size(), "Unexpected size for duplicates set"));
     }
     
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "a1.name==a2.name || a1.email==a2.email",
+        "a1.name==a2.email || (a1.email==a2.email && a1.name!=null)",
+        "a1.email==a2.email && a1.name.length()==a2.name.length()",
+        "a1.name.toLowerCase()==a2.name.toLowerCase() || a1.email==a2.email"
+    })
+    public void testSyntheticAuthorsMatchFullComparison(String expression) {
+        var random = new Random(expression.hashCode());
+        var descriptors = new ArrayList<NcdReportProcessedAuthorDescriptor>();
+        for ( int i=1 ; i<=600 ; i++ ) {
+            var name = random.nextInt(10)==0 ? "n"+random.nextInt(250)+"@example.com" : "Name "+random.nextInt(200);
+            var email = random.nextInt(20)==0 ? null : "n"+random.nextInt(250)+"@example.com";
+            descriptors.add(get(new AuthorDescriptor(name, email), i));
+        }
+        var config = getConfig(expression);
+        var expected = getFullComparisonDeduplicatedAuthors(expression, descriptors);
+        var actual = getDeduplicatedAuthors(config, descriptors.toArray(NcdReportProcessedAuthorDescriptor[]::new));
+        Assertions.assertEquals(toAuthorNumbers(expected), toAuthorNumbers(actual), "De-duplicated authors differ from full comparison");
+    }
+    
+    private Map<Integer, List<Integer>> toAuthorNumbers(Map<NcdReportProcessedAuthorDescriptor, Set<NcdReportProcessedAuthorDescriptor>> deduplicatedAuthors) {
+        var result = new TreeMap<Integer, List<Integer>>();
+        deduplicatedAuthors.forEach((k,v)->result.put(k.getAuthorNumber(), v.stream().map(NcdReportProcessedAuthorDescriptor::getAuthorNumber).toList()));
+        return result;
+    }
+    
+    /**
+     * Straightforward de-duplication that compares every author against all previously 
+     * seen authors, used to verify that {@link NcdReportAuthorDeduplicator} produces 
+     * identical results (including ordering).
+     */
+    private Map<NcdReportProcessedAuthorDescriptor, Set<NcdReportProcessedAuthorDescriptor>> getFullComparisonDeduplicatedAuthors(String expression, List<NcdReportProcessedAuthorDescriptor> descriptors) {
+        var result = new TreeMap<NcdReportProcessedAuthorDescriptor, Set<NcdReportProcessedAuthorDescriptor>>((d1,d2)->Integer.compare(d1.getAuthorNumber(), d2.getAuthorNumber()));
+        for ( var descriptor : descriptors ) {
+            Map.Entry<NcdReportProcessedAuthorDescriptor, Set<NcdReportProcessedAuthorDescriptor>> target = null;
+            for ( var entry : new ArrayList<>(result.entrySet()) ) {
+                var containsDuplicate = Stream.concat(Stream.of(entry.getKey()), entry.getValue().stream())
+                        .anyMatch(d->isDuplicate(expression, descriptor, d));
+                if ( containsDuplicate && target==null ) {
+                    target = entry;
+                } else if ( containsDuplicate ) {
+                    target.getValue().add(entry.getKey());
+                    target.getValue().addAll(result.remove(entry.getKey()));
+                }
+            }
+            if ( target!=null ) {
+                target.getValue().add(descriptor);
+            } else {
+                result.put(descriptor, new LinkedHashSet<>());
+            }
+        }
+        return result;
+    }
+    
+    private boolean isDuplicate(String expression, NcdReportProcessedAuthorDescriptor d1, NcdReportProcessedAuthorDescriptor d2) {
+        return isDuplicateOneWay(expression, d1, d2) || isDuplicateOneWay(expression, d2, d1);
+    }
+    
+    private boolean isDuplicateOneWay(String expression, NcdReportProcessedAuthorDescriptor d1, NcdReportProcessedAuthorDescriptor d2) {
+        var node = JsonHelper.getObjectMapper().createObjectNode();
+        node.set("a1", d1.getExpressionInput());
+        node.set("a2", d2.getExpressionInput());
+        return JsonHelper.evaluateSpelExpression(node, expression, Boolean.class);
+    }
+    
     private Map<NcdReportProcessedAuthorDescriptor, Set<NcdReportProcessedAuthorDescriptor>> getDeduplicatedAuthors(Optional<NcdReportContributorConfig> config, NcdReportProcessedAuthorDescriptor[] descriptors) {
         NcdReportAuthorDeduplicator deduplicator = new NcdReportAuthorDeduplicator(config);
         Stream.of(descriptors).forEach(deduplicator::addAuthor);
@@ -78,8 +151,12 @@ public class NcdReportAuthorDeduplicatorTest {
     }
     
     private Optional<NcdReportContributorConfig> getDedupeConfig() {
+        return getConfig("a1.name==a2.name || a1.email==a2.email");
+    }
+    
+    private Optional<NcdReportContributorConfig> getConfig(String duplicateExpression) {
         NcdReportContributorConfig config = new NcdReportContributorConfig();
-        config.setDuplicateExpression(Optional.of("a1.name==a2.name || a1.email==a2.email"));
+        config.setDuplicateExpression(Optional.of(duplicateExpression));
         return Optional.of(config);
     }
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.license.ncd_report.generator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NcdReportRateLimiterTest {
+    private static final long NOW = TimeUnit.SECONDS.toMillis(1_700_000_000L);
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final NcdReportRateLimiter rateLimiter = new NcdReportRateLimiter(clock::get);
+    
+    @Test
+    public void testNoWaitWithoutRateLimitHeaders() {
+        for ( int i = 0 ; i < 100 ; i++ ) {
+            Assertions.assertEquals(0, rateLimiter.reserve());
+            rateLimiter.update(200, null, null, null);
+        }
+    }
+    
+    @Test
+    public void testNoWaitWithSufficientRemainingQuota() {
+        rateLimiter.update(200, "4000", String.valueOf(TimeUnit.MILLISECONDS.toSeconds(NOW)+3600), null);
+        for ( int i = 0 ; i < 100 ; i++ ) {
+            Assertions.assertEquals(0, rateLimiter.reserve());
+        }
+    }
+    
+    @Test
+    public void testPauseUntilEpochResetOnceQuotaExhausted() {
+        // GitHub reports reset time in epoch seconds
+        rateLimiter.update(403, "0", String.valueOf(TimeUnit.MILLISECONDS.toSeconds(NOW)+30), null);
+        Assertions.assertEquals(TimeUnit.SECONDS.toMillis(30), rateLimiter.reserve());
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(30));
+        Assertions.assertEquals(0, rateLimiter.reserve());
+    }
+    
+    @Test
+    public void testPauseForRetryAfter() {
+        rateLimiter.update(429, null, null, "5");
+        Assertions.assertEquals(TimeUnit.SECONDS.toMillis(5), rateLimiter.reserve());
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(5));
+        Assertions.assertEquals(0, rateLimiter.reserve());
+    }
+    
+    @Test
+    public void testPacingOnceRemainingQuotaRunsLow() {
+        // 10 requests left for the next 10 seconds; requests should be spaced 1 second apart
+        rateLimiter.update(200, "10", "10", null);
+        Assertions.assertEquals(0, rateLimiter.reserve());
+        Assertions.assertEquals(TimeUnit.SECONDS.toMillis(1), rateLimiter.reserve());
+        Assertions.assertEquals(TimeUnit.SECONDS.toMillis(2), rateLimiter.reserve());
+    }
+}
@@ -12,15 +12,23 @@
  */
 package com.fortify.cli.ssc._common.rest.ssc.helper;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
+import org.apache.commons.lang3.StringUtils;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fortify.cli.common.json.JsonHelper;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
+import com.fortify.cli.common.rest.paging.IRemainingPageUrlsProducer;
 import com.fortify.cli.common.rest.paging.PagingHelper;
+import com.fortify.cli.common.rest.unirest.URIHelper;
 
 import kong.unirest.HttpRequest;
+import kong.unirest.HttpResponse;
 import kong.unirest.PagedList;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 public class SSCPagingHelper {
@@ -35,7 +43,21 @@ public class SSCPagingHelper {
         return nextPageUrlProducer(continueNextPageSupplier);
     }
     public static final INextPageUrlProducer nextPageUrlProducer(Supplier<Boolean> continueSupplier) {
-        return (req,resp) -> {
+        return new SSCNextPageUrlProducer(continueSupplier);
+    }
+    
+    /**
+     * SSC returns a next page link in every page response, but as paging is based on 
+     * start/limit request parameters, we can also calculate the URLs for all remaining
+     * pages from the next page link and total record count returned in the first page,
+     * allowing these pages to be loaded in parallel.
+     */
+    @RequiredArgsConstructor
+    private static final class SSCNextPageUrlProducer implements INextPageUrlProducer, IRemainingPageUrlsProducer {
+        private final Supplier<Boolean> continueSupplier;
+        
+        @Override
+        public String getNextPageUrl(HttpRequest<?> req, HttpResponse<? extends JsonNode> resp) {
             if ( continueSupplier.get() ) {
                 JsonNode body = resp.getBody();
                 try {
@@ -43,8 +65,27 @@ public class SSCPagingHelper {
                 } catch ( Exception e ) {} // TODO will JsonHelper.evaluatePath throw an exception if path not found?
             }
             return null;
-        };
+        }
+        
+        @Override
+        public List<String> getRemainingPageUrls(HttpRequest<?> req, HttpResponse<? extends JsonNode> firstResponse) {
+            var nextPageUrl = getNextPageUrl(req, firstResponse);
+            if ( StringUtils.isBlank(nextPageUrl) ) { return List.of(); }
+            var body = firstResponse.getBody();
+            var start = URIHelper.getParam(nextPageUrl, "start");
+            var limit = URIHelper.getParam(nextPageUrl, "limit");
+            if ( body==null || !body.has("count") || !StringUtils.isNumeric(start) || !StringUtils.isNumeric(limit) ) { return null; }
+            int count = body.get("count").asInt();
+            int limitValue = Integer.parseInt(limit);
+            if ( limitValue<=0 ) { return null; }
+            var result = new ArrayList<String>();
+            for ( int startValue = Integer.parseInt(start); startValue < count; startValue += limitValue ) {
+                result.add(URIHelper.addOrReplaceParam(nextPageUrl, "start", startValue));
+            }
+            return result;
+        }
     }
+    
     public static final class SSCContinueNextPageSupplier implements Supplier<Boolean> {
         @Setter private boolean loadNextPage = true;
         @Override
@@ -14,13 +14,13 @@ package com.fortify.cli.ssc._common.rest.ssc.helper;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fortify.cli.common.output.product.IProductHelper;
-import com.fortify.cli.common.output.transform.IInputTransformer;
+import com.fortify.cli.common.output.transform.IRecordsPropertyInputTransformer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
 import com.fortify.cli.common.rest.paging.INextPageUrlProducerSupplier;
 
 //IMPORTANT: When updating/adding any methods in this class, SSCRestCallCommand
 //also likely needs to be updated
-public class SSCProductHelper implements IProductHelper, IInputTransformer, INextPageUrlProducerSupplier
+public class SSCProductHelper implements IProductHelper, IRecordsPropertyInputTransformer, INextPageUrlProducerSupplier
 {
     public static final SSCProductHelper INSTANCE = new SSCProductHelper();
     private SSCProductHelper() {}
@@ -29,6 +29,11 @@ public class SSCProductHelper implements IProductHelper, IInputTransformer, INex
         return SSCPagingHelper.nextPageUrlProducer();
     }
     
+    @Override
+    public String getRecordsProperty() {
+        return "data";
+    }
+    
     @Override
     public JsonNode transformInput(JsonNode input) {
         return SSCInputTransformer.getDataOrSelf(input);
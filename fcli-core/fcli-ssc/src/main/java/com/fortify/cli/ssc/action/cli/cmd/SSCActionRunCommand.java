@@ -78,6 +78,12 @@ public class SSCActionRunCommand extends AbstractActionRunCommand {
             }
         }
         
+        @Override
+        public void executeSimpleRequests(List<ActionRequestDescriptor> requestDescriptors, int concurrency) {
+            // SSC bulk requests already combine all simple requests into a single HTTP request
+            executeSimpleRequests(requestDescriptors);
+        }
+        
         private HttpRequest<?> createRequest(ActionRequestDescriptor requestDescriptor) {
             var request = getUnirestInstance().request(requestDescriptor.getMethod(), requestDescriptor.getUri())
                     .queryString(requestDescriptor.getQueryParams());
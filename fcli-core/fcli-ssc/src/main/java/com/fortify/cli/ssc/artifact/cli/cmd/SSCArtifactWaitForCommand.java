@@ -39,11 +39,12 @@ public class SSCArtifactWaitForCommand extends AbstractWaitForCommand {
     @Override
     protected WaitHelperBuilder configure(UnirestInstance unirest, WaitHelperBuilder builder) {
         return builder
-                .recordsSupplier(artifactsResolver::getArtifactDescriptorJsonNodes)
+                .recordSuppliers(artifactsResolver.getArtifactDescriptorJsonNodeSuppliers())
                 .recordTransformer(SSCArtifactHelper::addScanTypes)
                 .currentStateProperty("status")
                 .knownStates(SSCArtifactStatus.getKnownStateNames())
                 .failureStates(SSCArtifactStatus.getFailureStateNames())
+                .terminalStates(SSCArtifactStatus.getTerminalStateNames())
                 .matchStates(states);
     }
 }
@@ -13,6 +13,8 @@
 package com.fortify.cli.ssc.artifact.cli.mixin;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,6 +52,12 @@ public class SSCArtifactResolverMixin {
             return Stream.of(getArtifactDescriptors(unirest)).map(SSCArtifactDescriptor::asJsonNode).collect(Collectors.toList());
         }
         
+        public List<Function<UnirestInstance, JsonNode>> getArtifactDescriptorJsonNodeSuppliers() {
+            return Stream.of(getArtifactIds()).filter(s->!s.contains("SKIP"))
+                    .<Function<UnirestInstance, JsonNode>>map(id->unirest->SSCArtifactHelper.getArtifactDescriptor(unirest, id).asJsonNode())
+                    .toList();
+        }
+        
         public String[] getArtifactIds(UnirestInstance unirest) {
             return Stream.of(getArtifactDescriptors(unirest)).map(SSCArtifactDescriptor::getId).toArray(String[]::new);
         }
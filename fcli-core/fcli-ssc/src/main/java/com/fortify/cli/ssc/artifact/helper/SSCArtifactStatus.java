@@ -48,6 +48,10 @@ public enum SSCArtifactStatus {
         };
     }
     
+    public static final SSCArtifactStatus[] getTerminalStates() {
+        return new SSCArtifactStatus[]{ PROCESS_COMPLETE, ERROR_PROCESSING, AUTH_DENIED, DELETED, PURGED };
+    }
+    
     public static final SSCArtifactStatus[] getKnownStates() {
         return SSCArtifactStatus.values();
     }
@@ -60,6 +64,10 @@ public enum SSCArtifactStatus {
         return Stream.of(getFailureStates()).map(SSCArtifactStatus::name).toArray(String[]::new);
     }
     
+    public static final String[] getTerminalStateNames() {
+        return Stream.of(getTerminalStates()).map(SSCArtifactStatus::name).toArray(String[]::new);
+    }
+    
     public static final String[] getKnownStateNames() {
         return Stream.of(getKnownStates()).map(SSCArtifactStatus::name).toArray(String[]::new);
     }
@@ -15,11 +15,13 @@ package com.fortify.cli.ssc.issue.cli.cmd;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fortify.cli.common.json.producer.IObjectNodeProducer;
 import com.fortify.cli.common.json.producer.ObjectNodeProducerApplyFrom;
+import com.fortify.cli.common.json.producer.PropertyModifyingRecordTransformer;
 import com.fortify.cli.common.output.cli.mixin.OutputHelperMixins;
 import com.fortify.cli.common.rest.query.IServerSideQueryParamGeneratorSupplier;
 import com.fortify.cli.common.rest.query.IServerSideQueryParamValueGenerator;
@@ -65,7 +67,7 @@ public class SSCIssueListCommand extends AbstractSSCOutputCommand implements ISe
         Map<String, String> folderNameByGuid = getFolderNameByGuid(filterSetDescriptor);
     return requestObjectNodeProducerBuilder(ObjectNodeProducerApplyFrom.SPEC)
                 .baseRequest(getBaseRequest(unirest, appVersionId, filterSetDescriptor))
-                .recordTransformer(n -> addFolderName(n, folderNameByGuid))
+                .recordTransformer(PropertyModifyingRecordTransformer.of(Set.of("folderName"), n -> addFolderName(n, folderNameByGuid)))
                 .build();
     }
     
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.tool._common.helper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.input.TeeInputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fortify.cli.common.crypto.helper.SignatureHelper.SignatureStatus;
+import com.fortify.cli.common.util.EnvHelper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Content-addressed cache for downloaded tool artifacts, allowing repeated installations
+ * of the same tool artifact, for example by multiple pipeline jobs running on the same 
+ * host, to be served from local disk instead of downloading the artifact again. Entries 
+ * are keyed by the artifact signature (rsa_sha256) listed in the tool definitions, and 
+ * are only added after the signature has been verified.
+ * <p>
+ * The cache is stored in the fcli state directory by default, but can be configured to 
+ * use a shared directory, like a mounted volume, through the {@value #ENV_CACHE_DIR} 
+ * environment variable. Total cache size is bounded by {@value #ENV_MAX_SIZE_MB}, evicting
+ * least recently used entries once exceeded; a value of 0 disables the cache. Entries are 
+ * written to temporary files and atomically renamed, and eviction is guarded by a file 
+ * lock, so the cache can be safely used by concurrent fcli processes. Temporary files
+ * left behind by fcli processes that were terminated while downloading an artifact are
+ * removed once they're older than {@value #STALE_TEMP_FILE_HOURS} hours.
+ * <p>
+ * Cache failures never fail a tool installation; see {@link #process(String, IArtifactHandler)}.
+ */
+@RequiredArgsConstructor
+public final class ToolArtifactCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ToolArtifactCache.class);
+    public static final String ENV_CACHE_DIR = "FCLI_TOOL_CACHE_DIR";
+    public static final String ENV_MAX_SIZE_MB = "FCLI_TOOL_CACHE_MAX_SIZE_MB";
+    private static final int DEFAULT_MAX_SIZE_MB = 2048;
+    private static final String ENTRY_SUFFIX = ".artifact";
+    private static final String TEMP_PREFIX = "download-";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long STALE_TEMP_FILE_HOURS = 24;
+    private static final String LOCK_FILE_NAME = ".lock";
+    @Getter private final Path cacheDir;
+    private final long maxSizeBytes;
+    
+    /**
+     * Create a {@link ToolArtifactCache} instance based on the {@value #ENV_CACHE_DIR} and
+     * {@value #ENV_MAX_SIZE_MB} environment variables.
+     */
+    public static final ToolArtifactCache fromEnv() {
+        var cacheDir = EnvHelper.env(ENV_CACHE_DIR);
+        return new ToolArtifactCache(
+                StringUtils.isBlank(cacheDir) 
+                    ? ToolInstallationHelper.getToolsStatePath().resolve("artifact-cache") 
+                    : Path.of(cacheDir),
+                EnvHelper.envAsInt(ENV_MAX_SIZE_MB, DEFAULT_MAX_SIZE_MB)*1024L*1024L);
+    }
+    
+    public final boolean isEnabled() {
+        return maxSizeBytes>0;
+    }
+    
+    /**
+     * Get the cached artifact for the given artifact signature, or null if not cached.
+     * This marks the entry as recently used.
+     */
+    public final Path get(String rsaSha256) {
+        if ( !isEnabled() || StringUtils.isBlank(rsaSha256) ) { return null; }
+        var entryPath = getEntryPath(rsaSha256);
+        if ( !Files.isRegularFile(entryPath) ) { return null; }
+        try {
+            Files.setLastModifiedTime(entryPath, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch ( IOException e ) {
+            // Entry may have been evicted by another process
+            LOG.debug("Error updating last-modified time for cached artifact {}", entryPath, e);
+            return Files.isRegularFile(entryPath) ? entryPath : null;
+        }
+        LOG.debug("Using cached artifact {}", entryPath);
+        return entryPath;
+    }
+    
+    /**
+     * Pass the contents of the artifact identified by the given signature to the given handler,
+     * either from the cache if available, or by having the handler download the artifact. 
+     * Downloaded artifacts are written to the cache while being processed, and added to the 
+     * cache only if the handler reports a valid signature. If a cached artifact doesn't have
+     * a valid signature, for example because the cache entry got corrupted, the entry is 
+     * removed, the handler is reset, and the artifact is downloaded again. If the cache 
+     * directory cannot be written, the artifact is downloaded without caching.
+     */
+    public final SignatureStatus process(String rsaSha256, IArtifactHandler handler) throws IOException {
+        var cachedArtifact = get(rsaSha256);
+        if ( cachedArtifact!=null ) {
+            var status = processCached(cachedArtifact, handler);
+            if ( status==SignatureStatus.VALID ) { return status; }
+            LOG.warn("Removing invalid cached artifact {} (signature status: {})", cachedArtifact, status);
+            remove(cachedArtifact);
+            handler.reset();
+        }
+        Function<InputStream, SignatureStatus> processor = is->handler.process(is, false);
+        var tempFile = isEnabled() && StringUtils.isNotBlank(rsaSha256) ? createTempFile() : null;
+        if ( tempFile==null ) { return handler.download(processor); }
+        try ( var os = new CacheOutputStream(tempFile) ) {
+            var result = handler.download(is->processor.apply(new TeeInputStream(is, os)));
+            os.close();
+            if ( result==SignatureStatus.VALID && !os.isFailed() ) { put(rsaSha256, tempFile); }
+            return result;
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+    
+    private final SignatureStatus processCached(Path cachedArtifact, IArtifactHandler handler) {
+        try ( var is = Files.newInputStream(cachedArtifact) ) {
+            return handler.process(is, true);
+        } catch ( IOException e ) {
+            // Entry may have been evicted by another process
+            LOG.debug("Error reading cached artifact {}", cachedArtifact, e);
+            return SignatureStatus.NOT_VERIFIED;
+        }
+    }
+    
+    /**
+     * Create a temporary file in the cache directory, to be passed to {@link #put(String, Path)}
+     * once the artifact has been fully written and verified, or null if the cache directory
+     * isn't writable. Callers must delete the temporary file if it's not added to the cache.
+     */
+    final Path createTempFile() {
+        try {
+            Files.createDirectories(cacheDir);
+            removeStaleTempFiles();
+            return Files.createTempFile(cacheDir, TEMP_PREFIX, TEMP_SUFFIX);
+        } catch ( IOException e ) {
+            LOG.warn("Unable to write to tool artifact cache {}, downloading without cache", cacheDir, e);
+            return null;
+        }
+    }
+    
+    /**
+     * Add the given verified artifact to the cache, and evict least recently used entries 
+     * if the maximum cache size has been exceeded. Any errors are logged and ignored, as 
+     * failing to cache an artifact shouldn't fail the tool installation.
+     */
+    final void put(String rsaSha256, Path tempFile) {
+        if ( !isEnabled() || StringUtils.isBlank(rsaSha256) ) { return; }
+        try {
+            var entryPath = getEntryPath(rsaSha256);
+            try {
+                Files.move(tempFile, entryPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch ( IOException e ) {
+                // Target may already exist on Windows if another process added the same entry
+                if ( !Files.isRegularFile(entryPath) ) { throw e; }
+            }
+            evict();
+        } catch ( IOException e ) {
+            LOG.warn("Error adding artifact to cache {}", cacheDir, e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+    
+    private final void remove(Path entryPath) {
+        try ( var lockChannel = FileChannel.open(cacheDir.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+              var lock = lockChannel.lock() ) {
+            Files.deleteIfExists(entryPath);
+        } catch ( IOException e ) {
+            LOG.warn("Error removing cached artifact {}", entryPath, e);
+        }
+    }
+    
+    /**
+     * Remove temporary files that are too old to belong to a download in progress, 
+     * for example because the fcli process was killed while downloading.
+     */
+    private final void removeStaleTempFiles() throws IOException {
+        var staleBefore = System.currentTimeMillis()-TimeUnit.HOURS.toMillis(STALE_TEMP_FILE_HOURS);
+        try ( var ls = Files.list(cacheDir) ) {
+            ls.filter(ToolArtifactCache::isTempFile)
+              .filter(p->isLastModifiedBefore(p, staleBefore))
+              .forEach(ToolArtifactCache::deleteQuietly);
+        }
+    }
+    
+    private static final boolean isTempFile(Path path) {
+        var fileName = path.getFileName().toString();
+        return fileName.startsWith(TEMP_PREFIX) && fileName.endsWith(TEMP_SUFFIX);
+    }
+    
+    private static final boolean isLastModifiedBefore(Path path, long millis) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis()<millis;
+        } catch ( IOException e ) {
+            return false; // File was likely removed by another process
+        }
+    }
+    
+    private static final void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch ( IOException e ) {
+            LOG.debug("Error deleting temporary file {}", path, e);
+        }
+    }
+    
+    private final void evict() throws IOException {
+        try ( var lockChannel = FileChannel.open(cacheDir.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+              var lock = lockChannel.lock() ) {
+            var entries = listEntries();
+            long totalSize = entries.stream().mapToLong(CacheEntry::size).sum();
+            for ( var entry : entries ) {
+                if ( totalSize<=maxSizeBytes ) { break; }
+                try {
+                    Files.deleteIfExists(entry.path());
+                    totalSize -= entry.size();
+                    LOG.debug("Evicted cached artifact {}", entry.path());
+                } catch ( IOException e ) {
+                    // Entry may be in use by another process on Windows; try again on next eviction
+                    LOG.debug("Error evicting cached artifact {}", entry.path(), e);
+                }
+            }
+        }
+    }
+    
+    /** List cache entries, least recently used first */
+    private final List<CacheEntry> listEntries() throws IOException {
+        try ( var ls = Files.list(cacheDir) ) {
+            return ls.filter(p->p.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                    .map(CacheEntry::of)
+                    .filter(e->e!=null)
+                    .sorted(Comparator.comparing(CacheEntry::lastModified))
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    /**
+     * The rsa_sha256 signature is Base64-encoded and too long to be used as a file name
+     * directly, so we use the SHA-256 hash of the signature as the cache key.
+     */
+    @SneakyThrows
+    private final Path getEntryPath(String rsaSha256) {
+        var hash = MessageDigest.getInstance("SHA-256").digest(rsaSha256.trim().getBytes(StandardCharsets.US_ASCII));
+        return cacheDir.resolve(String.format("%064x", new BigInteger(1, hash))+ENTRY_SUFFIX);
+    }
+    
+    private static record CacheEntry(Path path, long size, FileTime lastModified) {
+        static CacheEntry of(Path path) {
+            try {
+                return new CacheEntry(path, Files.size(path), Files.getLastModifiedTime(path));
+            } catch ( IOException e ) {
+                // Entry was likely evicted by another process
+                return null;
+            }
+        }
+    }
+    
+    /**
+     * Handler for artifact contents passed by {@link ToolArtifactCache#process(String, IArtifactHandler)}.
+     */
+    public static interface IArtifactHandler {
+        /** Process the given artifact contents, returning the artifact signature status */
+        SignatureStatus process(InputStream is, boolean cached);
+        /** Download the artifact, passing the response body to the given processor */
+        SignatureStatus download(Function<InputStream, SignatureStatus> processor);
+        /** Discard any output from a previous {@link #process(InputStream, boolean)} invocation */
+        void reset() throws IOException;
+    }
+    
+    /**
+     * Output stream for writing downloaded artifacts to a cache file; any write errors,
+     * for example because the disk is full, are logged and disable further writes rather
+     * than failing the download.
+     */
+    private static final class CacheOutputStream extends OutputStream {
+        private final Path file;
+        private OutputStream os;
+        @Getter private boolean failed;
+        
+        CacheOutputStream(Path file) {
+            this.file = file;
+            try {
+                this.os = Files.newOutputStream(file);
+            } catch ( IOException e ) {
+                fail(e);
+            }
+        }
+        
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte)b}, 0, 1);
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if ( failed ) { return; }
+            try {
+                os.write(b, off, len);
+            } catch ( IOException e ) {
+                fail(e);
+            }
+        }
+        
+        @Override
+        public void close() {
+            if ( os==null ) { return; }
+            try {
+                os.close();
+            } catch ( IOException e ) {
+                fail(e);
+            } finally {
+                os = null;
+            }
+        }
+        
+        private void fail(IOException e) {
+            if ( !failed ) { LOG.warn("Error writing artifact to cache file {}, continuing without cache", file, e); }
+            failed = true;
+        }
+    }
+}
@@ -12,8 +12,8 @@
  */
 package com.fortify.cli.tool._common.helper;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -29,6 +29,7 @@ import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
 
 import com.fortify.cli.common.crypto.helper.SignatureHelper;
+import com.fortify.cli.common.crypto.helper.SignatureHelper.SignatureStatus;
 import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.progress.helper.IProgressWriterI18n;
 import com.fortify.cli.common.rest.unirest.UnirestHelper;
@@ -213,35 +214,91 @@ public final class ToolInstaller {
     }
 
     private void downloadAndExtract(ToolDefinitionArtifactDescriptor artifactDescriptor) throws IOException {
-        progressWriter.writeProgress("Downloading tool binaries");
-        File downloadedFile = download(artifactDescriptor);
-        progressWriter.writeProgress("Verifying signature");
-        SignatureHelper.fortifySignatureVerifier()
-            .verify(downloadedFile, artifactDescriptor.getRsa_sha256())
-            .throwIfNotValid(onDigestMismatch == DigestMismatchAction.fail);
-        progressWriter.writeProgress("Installing tool binaries");
-        copyOrExtract(artifactDescriptor, downloadedFile);
+        downloadAndExtract(artifactDescriptor, getTargetPath(), null);
     }
     
-    private static final File download(ToolDefinitionArtifactDescriptor artifactDescriptor) throws IOException {
-        File tempDownloadFile = File.createTempFile("fcli-tool-download", null);
-        tempDownloadFile.deleteOnExit();
-        UnirestHelper.download("tool", artifactDescriptor.getDownloadUrl(), tempDownloadFile);
-        return tempDownloadFile;
+    /**
+     * Download the given artifact and extract it to a staging directory in a single pass, 
+     * verifying the artifact signature while the artifact is being downloaded. The staging 
+     * directory is promoted to the given target path only if the signature is valid (or if
+     * {@link #onDigestMismatch} is set to {@link DigestMismatchAction#warn}), so we never 
+     * leave a partially extracted or unverified installation in the target directory. 
+     * @param artifactDescriptor Artifact to be downloaded
+     * @param targetPath Target directory, which must either not exist or be empty
+     * @param sourcePathRewriter Optional function for rewriting archive entry paths
+     */
+    public final void downloadAndExtract(ToolDefinitionArtifactDescriptor artifactDescriptor, Path targetPath, Function<Path,Path> sourcePathRewriter) throws IOException {
+        targetPath = targetPath.toAbsolutePath().normalize();
+        Files.createDirectories(targetPath.getParent());
+        var stagingPath = Files.createTempDirectory(targetPath.getParent(), "."+targetPath.getFileName()+"-staging-");
+        try {
+            var extractPathResolver = FileUtils.defaultExtractPathResolver(stagingPath, sourcePathRewriter);
+            var signatureStatus = processArtifact(artifactDescriptor, stagingPath,
+                    is->copyOrExtract(artifactDescriptor, is, stagingPath, extractPathResolver));
+            progressWriter.writeProgress("Verifying signature");
+            signatureStatus.throwIfNotValid(onDigestMismatch == DigestMismatchAction.fail);
+            progressWriter.writeProgress("Installing %s", artifactDescriptor.getName());
+            promote(stagingPath, targetPath);
+        } finally {
+            if ( Files.exists(stagingPath) ) { FileUtils.deleteRecursive(stagingPath); }
+        }
     }
     
-    private final void copyOrExtract(ToolDefinitionArtifactDescriptor artifactDescriptor, File downloadedFile) throws IOException {
-        Path targetPath = getTargetPath();
-        Files.createDirectories(targetPath);
+    /**
+     * Pass the contents of the given artifact to the given processor, either from the 
+     * {@link ToolArtifactCache} if available, or by downloading the artifact. If the
+     * cached artifact turns out to be invalid, the staging directory is cleared before
+     * downloading the artifact again.
+     */
+    private final SignatureStatus processArtifact(ToolDefinitionArtifactDescriptor artifactDescriptor, Path stagingPath, Function<InputStream, SignatureStatus> processor) throws IOException {
+        return ToolArtifactCache.fromEnv().process(artifactDescriptor.getRsa_sha256(), new ToolArtifactCache.IArtifactHandler() {
+            @Override
+            public SignatureStatus process(InputStream is, boolean cached) {
+                progressWriter.writeProgress(cached ? "Extracting cached %s" : "Downloading and extracting %s", artifactDescriptor.getName());
+                return processor.apply(is);
+            }
+            
+            @Override
+            public SignatureStatus download(Function<InputStream, SignatureStatus> processor) {
+                return UnirestHelper.download("tool", artifactDescriptor.getDownloadUrl(), processor);
+            }
+            
+            @Override
+            public void reset() throws IOException {
+                FileUtils.deleteRecursive(stagingPath);
+                Files.createDirectories(stagingPath);
+            }
+        });
+    }
+    
+    @SneakyThrows
+    private static final SignatureStatus copyOrExtract(ToolDefinitionArtifactDescriptor artifactDescriptor, InputStream is, Path stagingPath, Function<Path,Path> extractPathResolver) {
+        var verifyingInputStream = SignatureHelper.fortifySignatureVerifier()
+                .verifyingInputStream(is, artifactDescriptor.getRsa_sha256());
         var artifactName = artifactDescriptor.getName();
         if (artifactName.endsWith("gz") || artifactName.endsWith(".tar.gz")) {
-            FileUtils.extractTarGZ(downloadedFile, targetPath);
-        } else if (artifactDescriptor.getName().endsWith("zip")) {
-            FileUtils.extractZip(downloadedFile, targetPath); 
+            FileUtils.extractTarGZ(verifyingInputStream, extractPathResolver);
+        } else if (artifactName.endsWith("zip")) {
+            FileUtils.extractZip(verifyingInputStream, extractPathResolver); 
         } else {
-            Files.copy(downloadedFile.toPath(), targetPath.resolve(artifactDescriptor.getName()), StandardCopyOption.REPLACE_EXISTING);
+            Files.copy(verifyingInputStream, stagingPath.resolve(artifactName), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return verifyingInputStream.verify();
+    }
+    
+    /**
+     * Move the given staging directory to the given target path. Target path is either 
+     * non-existing or empty (see {@link #checkEmptyTargetPath()}), so we can simply replace
+     * it with an atomic rename. If that fails, for example because the target directory is 
+     * a mount point, we fall back to moving the individual staging directory entries. 
+     */
+    private static final void promote(Path stagingPath, Path targetPath) {
+        try {
+            Files.deleteIfExists(targetPath);
+            Files.move(stagingPath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch ( IOException e ) {
+            FileUtils.moveFiles(stagingPath, targetPath, ".*");
         }
-        downloadedFile.delete();
     }
     
     private final ToolInstallationDescriptor createAndSaveInstallationDescriptor() {
@@ -12,7 +12,6 @@
  */
 package com.fortify.cli.tool.sc_client.cli.cmd;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -21,15 +20,12 @@ import java.nio.file.StandardOpenOption;
 
 import org.apache.commons.lang3.StringUtils;
 
-import com.fortify.cli.common.crypto.helper.SignatureHelper;
 import com.fortify.cli.common.exception.FcliSimpleException;
 import com.fortify.cli.common.output.cli.mixin.OutputHelperMixins;
-import com.fortify.cli.common.rest.unirest.UnirestHelper;
 import com.fortify.cli.common.util.FileUtils;
 import com.fortify.cli.tool._common.cli.cmd.AbstractToolInstallCommand;
 import com.fortify.cli.tool._common.helper.ToolInstaller;
 import com.fortify.cli.tool._common.helper.ToolInstaller.BinScriptType;
-import com.fortify.cli.tool._common.helper.ToolInstaller.DigestMismatchAction;
 import com.fortify.cli.tool._common.helper.ToolInstaller.ToolInstallationResult;
 import com.fortify.cli.tool._common.helper.ToolPlatformHelper;
 import com.fortify.cli.tool.definitions.helper.ToolDefinitionArtifactDescriptor;
@@ -104,33 +100,7 @@ public class ToolSCClientInstallCommand extends AbstractToolInstallCommand {
         }
         
         private void downloadAndExtractJre(ToolDefinitionArtifactDescriptor jreArtifactDescriptor) throws IOException {
-            scClientInstaller.getProgressWriter().writeProgress("Downloading ScanCentral Client JRE");
-            File downloadedFile = downloadJre(jreArtifactDescriptor);
-            scClientInstaller.getProgressWriter().writeProgress("Verifying JRE signature");
-            SignatureHelper.fortifySignatureVerifier()
-                .verify(downloadedFile, jreArtifactDescriptor.getRsa_sha256())
-                .throwIfNotValid(scClientInstaller.getOnDigestMismatch() == DigestMismatchAction.fail);
-            scClientInstaller.getProgressWriter().writeProgress("Installing JRE binaries");
-            extractJre(jreArtifactDescriptor, downloadedFile);
-        }
-        
-        private static final File downloadJre(ToolDefinitionArtifactDescriptor jreArtifactDescriptor) throws IOException {
-            File tempDownloadFile = File.createTempFile("fcli-tool-download", null);
-            tempDownloadFile.deleteOnExit();
-            UnirestHelper.download("tool", jreArtifactDescriptor.getDownloadUrl(), tempDownloadFile);
-            return tempDownloadFile;
-        }
-        
-        private final void extractJre(ToolDefinitionArtifactDescriptor jreArtifactDescriptor, File downloadedFile) throws IOException {
-            Path targetPath = getJreTargetPath();
-            Files.createDirectories(targetPath);
-            var artifactName = jreArtifactDescriptor.getName();
-            if (artifactName.endsWith("gz") || artifactName.endsWith(".tar.gz")) {
-                FileUtils.extractTarGZ(downloadedFile, FileUtils.defaultExtractPathResolver(targetPath, this::rewriteExtractSourcePath));
-            } else if (artifactName.endsWith("zip")) {
-                FileUtils.extractZip(downloadedFile, FileUtils.defaultExtractPathResolver(targetPath, this::rewriteExtractSourcePath)); 
-            }
-            downloadedFile.delete();
+            scClientInstaller.downloadAndExtract(jreArtifactDescriptor, getJreTargetPath(), this::rewriteExtractSourcePath);
         }
         
         private final Path rewriteExtractSourcePath(Path p) {
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.tool._common.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fortify.cli.common.crypto.helper.SignatureHelper.SignatureStatus;
+
+public class ToolArtifactCacheTest {
+    private static final String SIGNATURE = "dGVzdC1zaWduYXR1cmU=";
+    private static final String CONTENTS = "artifact-contents";
+    @TempDir Path tempDir;
+    
+    @Test
+    public void testDownloadedArtifactIsCached() throws Exception {
+        var cache = new ToolArtifactCache(tempDir, 1024*1024);
+        var first = new RecordingHandler(CONTENTS);
+        assertEquals(SignatureStatus.VALID, cache.process(SIGNATURE, first));
+        assertEquals(List.of("download", "process:false"), first.events);
+        var second = new RecordingHandler(CONTENTS);
+        assertEquals(SignatureStatus.VALID, cache.process(SIGNATURE, second));
+        assertEquals(List.of("process:true"), second.events);
+        assertEquals(1, listFiles(".artifact").size());
+        assertEquals(0, listFiles(".tmp").size());
+    }
+    
+    @Test
+    public void testInvalidDownloadIsNotCached() throws Exception {
+        var cache = new ToolArtifactCache(tempDir, 1024*1024);
+        assertEquals(SignatureStatus.MISMATCH, cache.process(SIGNATURE, new RecordingHandler("corrupted")));
+        assertEquals(0, listFiles(".artifact").size());
+        assertEquals(0, listFiles(".tmp").size());
+    }
+    
+    @Test
+    public void testInvalidCachedArtifactIsEvictedAndDownloadedAgain() throws Exception {
+        var cache = new ToolArtifactCache(tempDir, 1024*1024);
+        cache.process(SIGNATURE, new RecordingHandler(CONTENTS));
+        var entry = listFiles(".artifact").get(0);
+        Files.writeString(entry, "corrupted");
+        var handler = new RecordingHandler(CONTENTS);
+        assertEquals(SignatureStatus.VALID, cache.process(SIGNATURE, handler));
+        assertEquals(List.of("process:true", "reset", "download", "process:false"), handler.events);
+        assertEquals(CONTENTS, Files.readString(entry));
+    }
+    
+    @Test
+    public void testUnwritableCacheFallsBackToUncachedDownload() throws Exception {
+        var cacheDir = Files.writeString(tempDir.resolve("not-a-directory"), "");
+        var cache = new ToolArtifactCache(cacheDir, 1024*1024);
+        var handler = new RecordingHandler(CONTENTS);
+        assertEquals(SignatureStatus.VALID, cache.process(SIGNATURE, handler));
+        assertEquals(List.of("download", "process:false"), handler.events);
+    }
+    
+    @Test
+    public void testDisabledCacheDownloadsWithoutCaching() throws Exception {
+        var cache = new ToolArtifactCache(tempDir, 0);
+        var handler = new RecordingHandler(CONTENTS);
+        assertEquals(SignatureStatus.VALID, cache.process(SIGNATURE, handler));
+        assertEquals(List.of("download", "process:false"), handler.events);
+        assertEquals(0, listFiles(".artifact").size());
+    }
+    
+    @Test
+    public void testStaleTempFilesAreRemoved() throws Exception {
+        var stale = Files.writeString(tempDir.resolve("download-stale.tmp"), "partial");
+        Files.setLastModifiedTime(stale, FileTime.fromMillis(System.currentTimeMillis()-TimeUnit.DAYS.toMillis(2)));
+        var recent = Files.writeString(tempDir.resolve("download-recent.tmp"), "partial");
+        new ToolArtifactCache(tempDir, 1024*1024).process(SIGNATURE, new RecordingHandler(CONTENTS));
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(recent));
+    }
+    
+    private List<Path> listFiles(String suffix) throws IOException {
+        try ( var ls = Files.list(tempDir) ) {
+            return ls.filter(p->p.getFileName().toString().endsWith(suffix)).toList();
+        }
+    }
+    
+    /**
+     * Handler that 'downloads' the given contents, reporting a valid signature only
+     * if the processed contents match the expected artifact contents.
+     */
+    private static final class RecordingHandler implements ToolArtifactCache.IArtifactHandler {
+        private final String downloadContents;
+        private final List<String> events = new ArrayList<>();
+        
+        private RecordingHandler(String downloadContents) {
+            this.downloadContents = downloadContents;
+        }
+        
+        @Override
+        public SignatureStatus process(InputStream is, boolean cached) {
+            events.add("process:"+cached);
+            try {
+                var contents = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+                return CONTENTS.equals(contents) ? SignatureStatus.VALID : SignatureStatus.MISMATCH;
+            } catch ( IOException e ) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        @Override
+        public SignatureStatus download(Function<InputStream, SignatureStatus> processor) {
+            events.add("download");
+            return processor.apply(new ByteArrayInputStream(downloadContents.getBytes(StandardCharsets.UTF_8)));
+        }
+        
+        @Override
+        public void reset() {
+            events.add("reset");
+        }
+    }
+}
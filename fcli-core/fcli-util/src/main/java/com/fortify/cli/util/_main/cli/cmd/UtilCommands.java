@@ -16,6 +16,7 @@ import com.fortify.cli.common.cli.cmd.AbstractContainerCommand;
 import com.fortify.cli.util.all_commands.cli.cmd.AllCommandsCommands;
 import com.fortify.cli.util.autocomplete.cli.cmd.AutoCompleteCommands;
 import com.fortify.cli.util.crypto.cli.cmd.CryptoCommands;
+import com.fortify.cli.util.daemon.cli.cmd.DaemonCommands;
 import com.fortify.cli.util.mcp_server.cli.cmd.MCPServerCommands;
 import com.fortify.cli.util.sample_data.cli.cmd.SampleDataCommands;
 import com.fortify.cli.util.state.cli.cmd.StateCommands;
@@ -30,6 +31,7 @@ import picocli.CommandLine.Command;
             AllCommandsCommands.class,
             AutoCompleteCommands.class,
             CryptoCommands.class,
+            DaemonCommands.class,
             MCPServerCommands.class,
             SampleDataCommands.class,
             StateCommands.class,
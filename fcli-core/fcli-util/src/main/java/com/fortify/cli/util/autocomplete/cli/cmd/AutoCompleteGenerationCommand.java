@@ -13,6 +13,7 @@
 package com.fortify.cli.util.autocomplete.cli.cmd;
 
 import com.fortify.cli.common.cli.cmd.AbstractRunnableCommand;
+import com.fortify.cli.common.cli.util.FcliCommandSpecHelper;
 
 import picocli.AutoComplete;
 import picocli.CommandLine.Command;
@@ -31,7 +32,8 @@ public final class AutoCompleteGenerationCommand extends AbstractRunnableCommand
     @Spec CommandSpec spec;
 
     public Integer call() {
-        String script = AutoComplete.bash(spec.root().name(), spec.root().commandLine());
+        var rootCommandLine = FcliCommandSpecHelper.getRootCommandLine();
+        String script = AutoComplete.bash(rootCommandLine.getCommandName(), rootCommandLine);
         // not PrintWriter.println: scripts with Windows line separators fail in strange
         // ways!
         spec.commandLine().getOut().print(script);
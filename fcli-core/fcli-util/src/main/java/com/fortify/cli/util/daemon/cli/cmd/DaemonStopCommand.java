@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.util.daemon.cli.cmd;
+
+import java.io.IOException;
+
+import com.fortify.cli.common.cli.cmd.AbstractRunnableCommand;
+import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.mcp.MCPExclude;
+import com.fortify.cli.util.daemon.helper.DaemonHelper;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(name = "stop")
+@MCPExclude
+public class DaemonStopCommand extends AbstractRunnableCommand {
+    @Option(names={"--socket"}) private String socket;
+
+    @Override
+    public Integer call() {
+        var socketPath = DaemonHelper.getSocketPath(socket);
+        try {
+            DaemonHelper.stop(socketPath);
+        } catch ( IOException e ) {
+            throw new FcliSimpleException("No fcli daemon running on "+socketPath, e);
+        }
+        return 0;
+    }
+}
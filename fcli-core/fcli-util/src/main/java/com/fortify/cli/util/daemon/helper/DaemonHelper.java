@@ -0,0 +1,191 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.util.daemon.helper;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.formkiq.graalvm.annotations.Reflectable;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.common.util.FcliDataHelper;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>This class provides the client side and wire protocol of the fcli daemon. If the 
+ * {@value #ENV_DAEMON_SOCKET} environment variable points to the Unix domain socket of 
+ * a running fcli daemon, {@link #forward(String[])} sends the given arguments, together
+ * with the current environment and working directory, to the daemon, and writes the 
+ * stdout and stderr output produced by the daemon to the stdout and stderr streams of
+ * the current process.</p>
+ * 
+ * <p>Requests are sent as a length-prefixed JSON-serialized {@link DaemonRequest}; 
+ * responses consist of a sequence of frames, each consisting of a single-byte frame
+ * type, an integer length, and the frame contents. The response ends with either an
+ * exit code frame, or an unsupported frame if the request cannot be handled by the
+ * daemon, in which case the client runs the command in-process instead.</p>
+ * 
+ * @author Ruud Senden
+ */
+public final class DaemonHelper {
+    public static final String ENV_DAEMON_SOCKET = "FCLI_DAEMON_SOCKET";
+    static final byte FRAME_STDOUT = 1;
+    static final byte FRAME_STDERR = 2;
+    static final byte FRAME_EXIT_CODE = 3;
+    static final byte FRAME_UNSUPPORTED = 4;
+    private static final ObjectMapper objectMapper = JsonHelper.getObjectMapper();
+    private DaemonHelper() {}
+    
+    /**
+     * Get the socket path to be used by the daemon start and stop commands; if no 
+     * explicit socket path is given, this returns the value of the {@value #ENV_DAEMON_SOCKET}
+     * environment variable if set, or a default path in the fcli state directory otherwise.
+     */
+    public static final Path getSocketPath(String socket) {
+        var result = StringUtils.isNotBlank(socket) ? socket : EnvHelper.env(ENV_DAEMON_SOCKET);
+        return StringUtils.isNotBlank(result) 
+                ? Path.of(result).toAbsolutePath()
+                : FcliDataHelper.getFcliStatePath().resolve("daemon").resolve("fcli.sock");
+    }
+    
+    /**
+     * If the {@value #ENV_DAEMON_SOCKET} environment variable points to a running fcli 
+     * daemon, have the daemon execute the given fcli arguments and return the exit code.
+     * This method returns null if no daemon is configured or available, or if the daemon 
+     * cannot handle the given arguments, in which case the caller should execute the
+     * command in-process. Once the daemon has accepted the request, any communication 
+     * errors result in a non-zero exit code rather than in-process execution, to avoid 
+     * the command being executed twice.
+     */
+    public static final Integer forward(String[] args) {
+        var socket = EnvHelper.env(ENV_DAEMON_SOCKET);
+        if ( StringUtils.isBlank(socket) || !Files.exists(Path.of(socket)) || isDaemonCommand(args) ) {
+            return null;
+        }
+        SocketChannel channel;
+        try {
+            channel = connect(Path.of(socket));
+        } catch ( IOException e ) {
+            // Daemon not running; run in-process instead
+            return null;
+        }
+        try ( channel ) {
+            var request = new DaemonRequest(DaemonRequest.TYPE_RUN, args, System.getenv(), Path.of("").toAbsolutePath().toString());
+            return send(channel, request, System.out, System.err);
+        } catch ( IOException e ) {
+            // The daemon may already have (partially) executed the command, so we
+            // must not run it again in-process.
+            System.err.println("Error communicating with fcli daemon on "+socket+": "+e.getMessage());
+            return 1;
+        }
+    }
+    
+    /**
+     * Send a stop request to the daemon listening on the given socket path.
+     */
+    public static final void stop(Path socketPath) throws IOException {
+        try ( var channel = connect(socketPath) ) {
+            send(channel, new DaemonRequest(DaemonRequest.TYPE_STOP, new String[0], Map.of(), null), System.out, System.err);
+        }
+    }
+    
+    static final SocketChannel connect(Path socketPath) throws IOException {
+        var channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            return channel;
+        } catch ( IOException e ) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    private static final Integer send(SocketChannel channel, DaemonRequest request, OutputStream stdout, OutputStream stderr) throws IOException {
+        var out = new DataOutputStream(Channels.newOutputStream(channel));
+        writeBytes(out, objectMapper.writeValueAsBytes(request));
+        out.flush();
+        var in = new DataInputStream(Channels.newInputStream(channel));
+        for ( var firstFrame=true ; ; firstFrame=false ) {
+            var type = in.readByte();
+            var data = readBytes(in);
+            switch ( type ) {
+            case FRAME_STDOUT: stdout.write(data); stdout.flush(); break;
+            case FRAME_STDERR: stderr.write(data); stderr.flush(); break;
+            case FRAME_EXIT_CODE: return Integer.valueOf(new String(data, StandardCharsets.UTF_8));
+            case FRAME_UNSUPPORTED: 
+                if ( firstFrame ) { return null; }
+                throw new IOException("Unexpected unsupported frame after fcli daemon accepted request");
+            default: throw new IOException("Unknown fcli daemon frame type: "+type);
+            }
+        }
+    }
+    
+    static final DaemonRequest readRequest(DataInputStream in) throws IOException {
+        return objectMapper.readValue(readBytes(in), DaemonRequest.class);
+    }
+    
+    static final void writeFrame(DataOutputStream out, byte type, byte[] data, int offset, int length) throws IOException {
+        out.writeByte(type);
+        out.writeInt(length);
+        out.write(data, offset, length);
+    }
+    
+    static final void writeFrame(DataOutputStream out, byte type, String data) throws IOException {
+        var bytes = data.getBytes(StandardCharsets.UTF_8);
+        writeFrame(out, type, bytes, 0, bytes.length);
+        out.flush();
+    }
+    
+    private static final void writeBytes(DataOutputStream out, byte[] data) throws IOException {
+        out.writeInt(data.length);
+        out.write(data);
+    }
+    
+    private static final byte[] readBytes(DataInputStream in) throws IOException {
+        var data = new byte[in.readInt()];
+        in.readFully(data);
+        return data;
+    }
+    
+    private static final boolean isDaemonCommand(String[] args) {
+        var argsWithoutFcli = args.length>0 && "fcli".equalsIgnoreCase(args[0]) ? Arrays.copyOfRange(args, 1, args.length) : args;
+        return argsWithoutFcli.length>1 && "util".equals(argsWithoutFcli[0]) && "daemon".equals(argsWithoutFcli[1]);
+    }
+    
+    @Data @Reflectable @NoArgsConstructor @AllArgsConstructor
+    public static final class DaemonRequest {
+        public static final String TYPE_RUN = "run";
+        public static final String TYPE_STOP = "stop";
+        private String type;
+        private String[] args;
+        private Map<String, String> env;
+        private String cwd;
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.util.daemon.helper;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fortify.cli.common.cli.util.FcliCommandSpecHelper;
+import com.fortify.cli.common.cli.util.FcliExecutionStrategyFactory;
+import com.fortify.cli.common.exception.FcliExecutionExceptionHandler;
+import com.fortify.cli.common.exception.FcliSimpleException;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.common.util.FileUtils;
+import com.fortify.cli.common.variable.FcliVariableHelper;
+import com.fortify.cli.util.daemon.helper.DaemonHelper.DaemonRequest;
+
+import jdk.net.ExtendedSocketOptions;
+import lombok.extern.slf4j.Slf4j;
+import picocli.CommandLine;
+import picocli.CommandLine.Model.OptionSpec;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.ParseResult;
+
+/**
+ * <p>This class implements the fcli daemon, listening on a Unix domain socket for 
+ * requests sent by {@link DaemonHelper#forward(String[])}. The daemon reuses the
+ * already initialized fcli command tree to parse the requested arguments, and then 
+ * executes a replicated copy of the leaf command, similar to how fcli commands are
+ * executed from fcli actions.</p>
+ * 
+ * <p>As stdout/stderr streams and environment variable overrides are JVM-wide, requests
+ * are processed one at a time. For every request, stdout and stderr are redirected to
+ * the client, and the client environment is applied through the 'fcli.env.*' system
+ * properties supported by {@link EnvHelper}. Requests from a working directory other 
+ * than the daemon working directory, or with trust store or encryption key environment 
+ * variables that differ from the daemon environment, are rejected, causing the client to 
+ * execute the command in-process, as the JVM working directory, trust store configuration
+ * and encryption key cannot be changed.</p>
+ * 
+ * <p>The daemon socket is only accessible by the current user, and requests from peers 
+ * running as a different user are rejected.</p>
+ * 
+ * @author Ruud Senden
+ */
+@Slf4j
+public final class DaemonServer {
+    private static final Set<PosixFilePermission> DIR_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> SOCKET_PERMISSIONS = PosixFilePermissions.fromString("rw-------");
+    // Generic options that are only applied on fcli startup, see FortifyCLIDynamicInitializer
+    private static final List<String> STARTUP_OPTION_NAMES = List.of("--env-prefix", "--log-file", "--log-level", "--log-mask", "--debug");
+    private static final List<String> JVM_ENV_NAMES = List.of("FCLI_TRUSTSTORE", "FCLI_TRUSTSTORE_TYPE", "FCLI_TRUSTSTORE_PWD", "FCLI_ENCRYPT_KEY");
+    private final Path socketPath;
+    private final Path workDir = Path.of("").toAbsolutePath().normalize();
+    
+    public DaemonServer(Path socketPath) {
+        this.socketPath = socketPath;
+    }
+    
+    /**
+     * Listen for requests until a stop request is received. The socket is bound in a 
+     * private temporary directory and moved into place only after its permissions have 
+     * been restricted to the current user, such that it's never accessible by other 
+     * users. The daemon refuses to start if permissions cannot be restricted.
+     */
+    public final void run() throws IOException {
+        var socketDir = createPrivateDirectory(socketPath.getParent());
+        deleteStaleSocket();
+        try ( var server = ServerSocketChannel.open(StandardProtocolFamily.UNIX) ) {
+            bind(server, socketDir);
+            var owner = Files.getOwner(socketPath);
+            log.info("Fcli daemon listening on {}; run 'fcli util daemon stop' to exit", socketPath);
+            var stopRequested = false;
+            while ( !stopRequested ) {
+                try ( var channel = server.accept() ) {
+                    stopRequested = isOwner(channel, owner) && handle(channel);
+                } catch ( IOException e ) {
+                    log.warn("Error handling fcli daemon request", e);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(socketPath);
+        }
+    }
+    
+    private static final Path createPrivateDirectory(Path dir) {
+        try {
+            Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(DIR_PERMISSIONS));
+            Files.setPosixFilePermissions(dir, DIR_PERMISSIONS);
+            return dir;
+        } catch ( UnsupportedOperationException | IOException e ) {
+            throw new FcliSimpleException("Unable to restrict permissions on fcli daemon directory "+dir, e);
+        }
+    }
+    
+    private void bind(ServerSocketChannel server, Path socketDir) throws IOException {
+        Path bindDir = null;
+        try {
+            bindDir = Files.createTempDirectory(socketDir, ".fcli-daemon-", PosixFilePermissions.asFileAttribute(DIR_PERMISSIONS));
+            var bindPath = bindDir.resolve(socketPath.getFileName());
+            server.bind(UnixDomainSocketAddress.of(bindPath));
+            Files.setPosixFilePermissions(bindPath, SOCKET_PERMISSIONS);
+            Files.move(bindPath, socketPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch ( UnsupportedOperationException | IOException e ) {
+            throw new FcliSimpleException("Unable to create fcli daemon socket with restricted permissions on "+socketPath, e);
+        } finally {
+            if ( bindDir!=null ) { FileUtils.deleteRecursive(bindDir); }
+        }
+    }
+    
+    /**
+     * Check whether the peer connected to the given channel runs as the same user
+     * as the daemon socket owner. Requests from other users, or requests for which
+     * peer credentials cannot be determined, are rejected without any response.
+     */
+    private boolean isOwner(SocketChannel channel, UserPrincipal owner) {
+        try {
+            var peer = channel.getOption(ExtendedSocketOptions.SO_PEERCRED);
+            if ( peer!=null && owner.equals(peer.user()) ) { return true; }
+            log.warn("Rejecting fcli daemon request from user {}", peer==null ? null : peer.user());
+        } catch ( UnsupportedOperationException | IOException e ) {
+            log.warn("Rejecting fcli daemon request, unable to determine peer credentials", e);
+        }
+        return false;
+    }
+    
+    private void deleteStaleSocket() throws IOException {
+        if ( Files.exists(socketPath) ) {
+            if ( isRunning() ) {
+                throw new FcliSimpleException("Fcli daemon already running on "+socketPath);
+            }
+            log.debug("Deleting stale fcli daemon socket {}", socketPath);
+            Files.delete(socketPath);
+        }
+    }
+    
+    private boolean isRunning() {
+        try ( var channel = DaemonHelper.connect(socketPath) ) {
+            return true;
+        } catch ( IOException e ) {
+            return false;
+        }
+    }
+
+    /**
+     * Handle a single request, returning true if the daemon should stop.
+     */
+    private boolean handle(SocketChannel channel) throws IOException {
+        var in = new DataInputStream(Channels.newInputStream(channel));
+        var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+        var request = DaemonHelper.readRequest(in);
+        if ( DaemonRequest.TYPE_STOP.equals(request.getType()) ) {
+            DaemonHelper.writeFrame(out, DaemonHelper.FRAME_STDERR, "Fcli daemon stopped\n");
+            DaemonHelper.writeFrame(out, DaemonHelper.FRAME_EXIT_CODE, "0");
+            return true;
+        } else if ( !DaemonRequest.TYPE_RUN.equals(request.getType()) ) {
+            DaemonHelper.writeFrame(out, DaemonHelper.FRAME_UNSUPPORTED, "Unsupported request type: "+request.getType());
+        } else if ( request.getCwd()==null || !workDir.equals(Path.of(request.getCwd()).toAbsolutePath().normalize()) ) {
+            DaemonHelper.writeFrame(out, DaemonHelper.FRAME_UNSUPPORTED, "Working directory doesn't match daemon working directory");
+        } else if ( !hasDaemonJvmEnv(request.getEnv()) ) {
+            DaemonHelper.writeFrame(out, DaemonHelper.FRAME_UNSUPPORTED, "Trust store or encryption key environment variables don't match daemon environment");
+        } else {
+            var exitCode = run(request, out);
+            if ( exitCode==null ) {
+                DaemonHelper.writeFrame(out, DaemonHelper.FRAME_UNSUPPORTED, "Generic options like --log-level and --env-prefix are not supported by fcli daemon");
+            } else {
+                DaemonHelper.writeFrame(out, DaemonHelper.FRAME_EXIT_CODE, String.valueOf(exitCode));
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Run the given request, returning the exit code, or null if the request 
+     * cannot be handled by the daemon. In the latter case, no output will have
+     * been sent to the client.
+     */
+    private Integer run(DaemonRequest request, DataOutputStream out) {
+        var orgIn = System.in;
+        var orgOut = System.out;
+        var orgErr = System.err;
+        var orgEnvProperties = applyEnv(request.getEnv());
+        try ( var stdout = new PrintStream(new BufferedOutputStream(new FrameOutputStream(out, DaemonHelper.FRAME_STDOUT)), true, StandardCharsets.UTF_8);
+              var stderr = new PrintStream(new BufferedOutputStream(new FrameOutputStream(out, DaemonHelper.FRAME_STDERR)), true, StandardCharsets.UTF_8) ) {
+            System.setIn(new ByteArrayInputStream(new byte[0]));
+            System.setOut(stdout);
+            System.setErr(stderr);
+            var rootCommandLine = FcliCommandSpecHelper.getRootCommandLine();
+            rootCommandLine.setOut(new PrintWriter(stdout, true));
+            rootCommandLine.setErr(new PrintWriter(stderr, true));
+            try {
+                return execute(request.getArgs());
+            } catch ( Exception e ) {
+                return FcliExecutionExceptionHandler.INSTANCE.handleException(e, rootCommandLine);
+            } finally {
+                stdout.flush();
+                stderr.flush();
+            }
+        } finally {
+            System.setIn(orgIn);
+            System.setOut(orgOut);
+            System.setErr(orgErr);
+            restoreEnv(orgEnvProperties);
+        }
+    }
+    
+    private Integer execute(String[] args) throws Exception {
+        if ( args.length>0 && "fcli".equalsIgnoreCase(args[0]) ) {
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+        var resolvedArgs = FcliVariableHelper.resolveVariables(args);
+        var rootCommandLine = FcliCommandSpecHelper.getRootCommandLine();
+        ParseResult parseResult;
+        try {
+            parseResult = rootCommandLine.parseArgs(resolvedArgs);
+        } catch ( ParameterException e ) {
+            return rootCommandLine.getParameterExceptionHandler().handleParseException(e, resolvedArgs);
+        }
+        if ( hasStartupOptions(parseResult) ) {
+            return null;
+        }
+        var spec = FcliCommandSpecHelper.replicateLeafCommandSpecWithParents(parseResult);
+        var cl = new CommandLine(spec.root());
+        cl.setExecutionExceptionHandler(rootCommandLine.getExecutionExceptionHandler());
+        cl.setDefaultValueProvider(rootCommandLine.getDefaultValueProvider());
+        cl.setHelpFactory(rootCommandLine.getHelpFactory());
+        FcliExecutionStrategyFactory.configureCommandLine(cl);
+        return cl.execute(resolvedArgs);
+    }
+    
+    /**
+     * Check whether any of the parsed commands has non-default values for generic options
+     * that are only applied on fcli startup, like logging options, either specified 
+     * explicitly or through default values provided by environment variables. The daemon
+     * cannot apply these options per request, so such requests are executed in-process.
+     */
+    private static final boolean hasStartupOptions(ParseResult parseResult) {
+        for ( var pr=parseResult ; pr!=null ; pr=pr.subcommand() ) {
+            var spec = pr.commandSpec();
+            if ( STARTUP_OPTION_NAMES.stream().map(spec::findOption).anyMatch(DaemonServer::hasNonDefaultValue) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static final boolean hasNonDefaultValue(OptionSpec option) {
+        if ( option==null ) { return false; }
+        var value = option.getValue();
+        return value!=null && !Boolean.FALSE.equals(value) && !String.valueOf(value).equals(option.defaultValue());
+    }
+    
+    /**
+     * Check whether the client environment matches the daemon environment for all
+     * environment variables that are only applied once on JVM startup, like trust
+     * store configuration and the encryption key used for fcli state data.
+     */
+    private static final boolean hasDaemonJvmEnv(Map<String, String> clientEnv) {
+        return JVM_ENV_NAMES.stream().allMatch(name->
+            Objects.equals(EnvHelper.env(name), clientEnv==null ? null : clientEnv.get(name)));
+    }
+    
+    /**
+     * Override all daemon environment variables with the client environment, returning 
+     * the original 'fcli.env.*' system property values. Environment variables that are 
+     * defined for the daemon but not for the client are overridden with 
+     * {@link EnvHelper#UNSET_VALUE}, causing {@link EnvHelper#env(String)} to return null.
+     */
+    private static final Map<String, String> applyEnv(Map<String, String> clientEnv) {
+        var env = new HashMap<String, String>();
+        System.getenv().keySet().forEach(name->env.put(name, EnvHelper.UNSET_VALUE));
+        if ( clientEnv!=null ) { env.putAll(clientEnv); }
+        var orgProperties = new HashMap<String, String>();
+        env.forEach((name, value)->{
+            var property = EnvHelper.envSystemPropertyName(name);
+            orgProperties.put(property, System.getProperty(property));
+            System.setProperty(property, value);
+        });
+        return orgProperties;
+    }
+    
+    private static final void restoreEnv(Map<String, String> orgProperties) {
+        orgProperties.forEach((property, value)->{
+            if ( value==null ) {
+                System.clearProperty(property);
+            } else {
+                System.setProperty(property, value);
+            }
+        });
+    }
+    
+    /**
+     * {@link OutputStream} implementation that sends all data as frames of the 
+     * given type; frames are written while holding a lock on the underlying 
+     * stream, as both stdout and stderr may be written from multiple threads.
+     */
+    private static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte type;
+        
+        private FrameOutputStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte)b}, 0, 1);
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if ( len>0 ) {
+                synchronized (out) {
+                    DaemonHelper.writeFrame(out, type, b, off, len);
+                }
+            }
+        }
+        
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+}
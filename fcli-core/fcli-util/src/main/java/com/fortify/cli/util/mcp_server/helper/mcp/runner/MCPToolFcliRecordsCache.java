@@ -12,6 +12,17 @@
  */
 package com.fortify.cli.util.mcp_server.helper.mcp.runner;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,23 +33,43 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.util.LRUMap;
+import com.fortify.cli.common.exception.FcliTechnicalException;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.common.util.FcliDataHelper;
 import com.fortify.cli.util.mcp_server.helper.mcp.MCPJobManager;
 
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import picocli.CommandLine.Model.CommandSpec;
 
 /**
  * Cache for fcli record-collecting MCP tools. A single instance is owned by {@link MCPJobManager}
  * and constructed with a mandatory {@link MCPJobManager} reference so background collection jobs
  * are always tracked (job manager integration is no longer optional).
+ * <p>
+ * Cache size is bounded by the estimated heap size of cached records rather than by number of 
+ * entries. Once the {@value #ENV_MEMORY_LIMIT_MB} limit is exceeded, least recently used entries 
+ * are spilled to compact files in the fcli state directory, from which individual pages are read 
+ * directly without loading the full record set. Once spilled entries exceed the 
+ * {@value #ENV_DISK_LIMIT_MB} limit, least recently used entries are evicted.
  */
+@Slf4j
 public class MCPToolFcliRecordsCache {
+    public static final String ENV_MEMORY_LIMIT_MB = "FCLI_MCP_CACHE_MEMORY_LIMIT_MB";
+    public static final String ENV_DISK_LIMIT_MB = "FCLI_MCP_CACHE_DISK_LIMIT_MB";
     private static final long TTL = 10*60*1000; // 10 minutes in milliseconds
-    private static final int MAX_CACHE_ENTRIES = 5; // Keep small; large sets expensive
+    private static final int DEFAULT_MEMORY_LIMIT_MB = 256;
+    private static final int DEFAULT_DISK_LIMIT_MB = 4096;
     private static final int BG_THREADS = 2; // Single-threaded background collection
-    private final LRUMap<String, CacheEntry> cache = new LRUMap<>(0, MAX_CACHE_ENTRIES);
+    // Access-ordered, so iteration starts at least recently used entry; guarded by synchronized(cache)
+    private final LinkedHashMap<String, CachedResult> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final long memoryLimitBytes;
+    private final long diskLimitBytes;
+    private long memoryBytes = 0;
+    private long diskBytes = 0;
+    private Path spillDir;
     private final Map<String, InProgressEntry> inProgress = new ConcurrentHashMap<>();
     private final ExecutorService backgroundExecutor = Executors.newFixedThreadPool(BG_THREADS, r->{
         var t = new Thread(r, "fcli-mcp-cache-loader");
@@ -49,6 +80,8 @@ public class MCPToolFcliRecordsCache {
 
     public MCPToolFcliRecordsCache(MCPJobManager jobManager) {
         this.jobManager = jobManager;
+        this.memoryLimitBytes = EnvHelper.envAsInt(ENV_MEMORY_LIMIT_MB, DEFAULT_MEMORY_LIMIT_MB)*1024L*1024L;
+        this.diskLimitBytes = EnvHelper.envAsInt(ENV_DISK_LIMIT_MB, DEFAULT_DISK_LIMIT_MB)*1024L*1024L;
     }
 
     /**
@@ -110,7 +143,7 @@ public class MCPToolFcliRecordsCache {
         return (result, throwable) -> {
             entry.setCompleted(true);
             captureExecutionResult(entry, result, throwable);
-            cleanupFailedCollection(entry, fullCmd);
+            cleanupCollection(entry, fullCmd);
         };
     }
     
@@ -127,10 +160,15 @@ public class MCPToolFcliRecordsCache {
         }
     }
     
-    private void cleanupFailedCollection(InProgressEntry entry, String fullCmd) {
-        if (entry.getExitCode() != 0) {
-            inProgress.remove(fullCmd);
-        }
+    /**
+     * Failed collections are removed to allow for retries. Successful collections are 
+     * removed as well, as the full result has been added to the cache before the future
+     * completes, and we don't want the in-progress entry to keep all records in memory.
+     * Spilling a cached result never makes it unavailable; if spilling fails, records
+     * are kept in memory, and a newly spilled result is never evicted immediately.
+     */
+    private void cleanupCollection(InProgressEntry entry, String fullCmd) {
+        inProgress.remove(fullCmd, entry);
     }
     
     private String trackCollectionJob(InProgressEntry entry, CompletableFuture<MCPToolResult> future) {
@@ -141,16 +179,114 @@ public class MCPToolFcliRecordsCache {
         if ( records==null ) {
             return;
         }
+        var entry = new CachedResult(records);
+        var toSpill = new ArrayList<CachedResult>();
+        var toDiscard = new ArrayList<CachedResult>();
         synchronized(cache) {
-            cache.put(fullCmd, new CacheEntry(records));
+            var old = cache.put(fullCmd, entry);
+            if ( old!=null ) { toDiscard.add(removeAccounting(old)); }
+            removeExpired(toDiscard);
+            memoryBytes += entry.getEstimatedBytes();
+            for ( var e : cache.values() ) {
+                if ( memoryBytes<=memoryLimitBytes ) { break; }
+                if ( !e.isSpillPending() ) {
+                    e.setSpillPending(true);
+                    memoryBytes -= e.getEstimatedBytes();
+                    toSpill.add(e);
+                }
+            }
         }
+        toDiscard.forEach(CachedResult::discard);
+        toSpill.forEach(this::spill);
     }
     
-    public final MCPToolResult getCached(String fullCmd) {
+    /**
+     * Return cached full result if present and not expired, or null otherwise. 
+     */
+    public final CachedResult getCached(String fullCmd) {
+        CachedResult expired = null;
         synchronized(cache) {
             var entry = cache.get(fullCmd);
-            return entry==null || entry.isExpired() ? null : entry.getFullResult();
+            if ( entry==null || !entry.isExpired() ) { return entry; }
+            cache.remove(fullCmd);
+            expired = removeAccounting(entry);
         }
+        expired.discard();
+        return null;
+    }
+    
+    private void spill(CachedResult entry) {
+        try {
+            var size = entry.spill(getSpillDir());
+            var toDiscard = new ArrayList<CachedResult>();
+            synchronized(cache) {
+                if ( !cache.containsValue(entry) ) {
+                    toDiscard.add(entry); // Removed while spilling
+                } else {
+                    entry.setDiskAccounted(true);
+                    diskBytes += size;
+                    evictSpilled(toDiscard, entry);
+                }
+            }
+            toDiscard.forEach(CachedResult::discard);
+        } catch ( IOException | RuntimeException e ) {
+            // Keep records in memory rather than losing a completed result; spilling
+            // will be retried once the memory limit is exceeded again.
+            log.warn("Error spilling cached records to disk; keeping records in memory", e);
+            boolean removed;
+            synchronized(cache) {
+                removed = !cache.containsValue(entry);
+                if ( !removed ) {
+                    entry.setSpillPending(false);
+                    memoryBytes += entry.getEstimatedBytes();
+                }
+            }
+            if ( removed ) { entry.discard(); }
+        }
+    }
+    
+    /** 
+     * Evict least recently used spilled entries until the disk limit is no longer exceeded. 
+     * The given entry that was just spilled is never evicted, such that a newly added 
+     * result remains available even if it exceeds the disk limit by itself.
+     */
+    private void evictSpilled(List<CachedResult> toDiscard, CachedResult spilled) {
+        for ( Iterator<CachedResult> it = cache.values().iterator(); it.hasNext() && diskBytes>diskLimitBytes; ) {
+            var e = it.next();
+            if ( e!=spilled && e.isDiskAccounted() ) {
+                it.remove();
+                toDiscard.add(removeAccounting(e));
+            }
+        }
+    }
+    
+    private void removeExpired(List<CachedResult> toDiscard) {
+        for ( Iterator<CachedResult> it = cache.values().iterator(); it.hasNext(); ) {
+            var e = it.next();
+            if ( e.isExpired() ) {
+                it.remove();
+                toDiscard.add(removeAccounting(e));
+            }
+        }
+    }
+    
+    private CachedResult removeAccounting(CachedResult e) {
+        if ( !e.isSpillPending() ) {
+            memoryBytes -= e.getEstimatedBytes();
+        } else if ( e.isDiskAccounted() ) {
+            diskBytes -= e.getSpillFileSize();
+        }
+        return e;
+    }
+    
+    private synchronized Path getSpillDir() throws IOException {
+        if ( spillDir==null ) {
+            var parent = FcliDataHelper.getFcliStatePath().resolve("mcp-cache");
+            Files.createDirectories(parent);
+            spillDir = Files.createTempDirectory(parent, "records-");
+            spillDir.toFile().deleteOnExit();
+        }
+        return spillDir;
     }
 
     /** Cancel a background collection if running. */
@@ -161,7 +297,7 @@ public class MCPToolFcliRecordsCache {
         }
     }
 
-    /** Shutdown background executor gracefully. */
+    /** Shutdown background executor gracefully, and remove any spilled cache entries. */
     public final void shutdown() {
         backgroundExecutor.shutdown();
         try {
@@ -170,6 +306,14 @@ public class MCPToolFcliRecordsCache {
             Thread.currentThread().interrupt();
         }
         backgroundExecutor.shutdownNow();
+        List<CachedResult> entries;
+        synchronized(cache) {
+            entries = new ArrayList<>(cache.values());
+            cache.clear();
+            memoryBytes = 0;
+            diskBytes = 0;
+        }
+        entries.forEach(CachedResult::discard);
     }
 
     /** In-progress tracking entry giving access to partial records list. */
@@ -207,14 +351,148 @@ public class MCPToolFcliRecordsCache {
         }
     }
     
-    @Data
-    @RequiredArgsConstructor
-    private static final class CacheEntry {
-        private final MCPToolResult fullResult;
+    /**
+     * Cached full result, holding records either in memory or in a spill file. Spill files 
+     * contain the compact JSON representation of each record, with an in-memory index of 
+     * record offsets, allowing a single page of records to be read without loading other 
+     * records.
+     */
+    public static final class CachedResult {
+        private final Integer exitCode;
+        private final String stderr;
+        @Getter private final int totalRecords;
+        @Getter private final long estimatedBytes;
         private final long created = System.currentTimeMillis();
+        private volatile List<JsonNode> records;
+        private volatile Path spillFile;
+        private long[] spillOffsets;
+        @Getter private long spillFileSize;
+        // Spill state for cache accounting; guarded by synchronized(cache)
+        private boolean spillPending;
+        private boolean diskAccounted;
+        private boolean discarded;
+        
+        private CachedResult(MCPToolResult result) {
+            this.exitCode = result.getExitCode();
+            this.stderr = result.getStderr();
+            this.records = result.getRecords()==null ? List.of() : result.getRecords();
+            this.totalRecords = records.size();
+            this.estimatedBytes = records.stream().mapToLong(CachedResult::estimateSize).sum();
+        }
         
         public final boolean isExpired() {
             return System.currentTimeMillis() > created + TTL;
         }
+        
+        /**
+         * Get an {@link MCPToolResult} containing the given page of records, together with 
+         * pagination data.
+         */
+        public final MCPToolResult getPagedResult(int offset, int limit) {
+            return MCPToolResult.fromCompletedPagedResult(exitCode, stderr, totalRecords, getRecords(offset, limit), offset, limit);
+        }
+        
+        private List<JsonNode> getRecords(int offset, int limit) {
+            var endIndexExclusive = Math.min(offset+limit, totalRecords);
+            if ( offset>=endIndexExclusive ) { return List.of(); }
+            var inMemory = records;
+            return inMemory!=null ? inMemory.subList(offset, endIndexExclusive) : readRecords(offset, endIndexExclusive);
+        }
+        
+        private synchronized List<JsonNode> readRecords(int startIndex, int endIndexExclusive) {
+            if ( discarded ) { throw new FcliTechnicalException("Cached records are no longer available"); }
+            var startOffset = spillOffsets[startIndex];
+            var buffer = ByteBuffer.allocate((int)(spillOffsets[endIndexExclusive]-startOffset));
+            try ( var channel = FileChannel.open(spillFile, StandardOpenOption.READ) ) {
+                while ( buffer.hasRemaining() && channel.read(buffer, startOffset+buffer.position())>=0 ) {}
+                var result = new ArrayList<JsonNode>(endIndexExclusive-startIndex);
+                var bytes = buffer.array();
+                for ( int i=startIndex; i<endIndexExclusive; i++ ) {
+                    var off = (int)(spillOffsets[i]-startOffset);
+                    var len = (int)(spillOffsets[i+1]-spillOffsets[i]);
+                    result.add(JsonHelper.getObjectMapper().readTree(bytes, off, len));
+                }
+                return result;
+            } catch ( IOException e ) {
+                throw new FcliTechnicalException("Error reading cached records from "+spillFile, e);
+            }
+        }
+        
+        private boolean isSpillPending() {
+            return spillPending;
+        }
+        
+        private void setSpillPending(boolean spillPending) {
+            this.spillPending = spillPending;
+        }
+        
+        private boolean isDiskAccounted() {
+            return diskAccounted;
+        }
+        
+        private void setDiskAccounted(boolean diskAccounted) {
+            this.diskAccounted = diskAccounted;
+        }
+        
+        /** Write records to a spill file and release in-memory records, returning spill file size */
+        private synchronized long spill(Path dir) throws IOException {
+            if ( discarded || records==null ) { return 0; }
+            var file = Files.createTempFile(dir, "records-", ".json");
+            file.toFile().deleteOnExit();
+            var offsets = new long[totalRecords+1];
+            var mapper = JsonHelper.getObjectMapper();
+            try ( var out = new BufferedOutputStream(Files.newOutputStream(file)) ) {
+                long offset = 0;
+                for ( int i=0; i<totalRecords; i++ ) {
+                    offsets[i] = offset;
+                    var bytes = mapper.writeValueAsBytes(records.get(i));
+                    out.write(bytes);
+                    offset += bytes.length;
+                }
+                offsets[totalRecords] = offset;
+            } catch ( IOException e ) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            this.spillOffsets = offsets;
+            this.spillFileSize = offsets[totalRecords];
+            this.spillFile = file;
+            this.records = null;
+            return spillFileSize;
+        }
+        
+        private synchronized void discard() {
+            discarded = true;
+            if ( spillFile!=null ) {
+                try {
+                    Files.deleteIfExists(spillFile);
+                } catch ( IOException e ) {
+                    // Ignore; file is also scheduled for deletion on exit
+                }
+                spillFile = null;
+                spillOffsets = null;
+            }
+        }
+        
+        /** Rough estimate of the heap size occupied by the given {@link JsonNode} */
+        private static long estimateSize(JsonNode node) {
+            if ( node==null ) { return 0; }
+            if ( node.isObject() ) {
+                long result = 64;
+                for ( var it = node.fields(); it.hasNext(); ) {
+                    var field = it.next();
+                    result += 72 + 2L*field.getKey().length() + estimateSize(field.getValue());
+                }
+                return result;
+            } else if ( node.isArray() ) {
+                long result = 40 + 8L*node.size();
+                for ( var child : node ) { result += estimateSize(child); }
+                return result;
+            } else if ( node.isTextual() ) {
+                return 56 + 2L*node.textValue().length();
+            } else {
+                return 24;
+            }
+        }
     }
 }
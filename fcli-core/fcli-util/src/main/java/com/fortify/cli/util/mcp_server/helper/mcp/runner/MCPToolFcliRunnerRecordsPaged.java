@@ -73,8 +73,8 @@ public final class MCPToolFcliRunnerRecordsPaged extends AbstractMCPToolFcliRunn
         return Optional.ofNullable(jobManager.getRecordsCache().getCached(fullCmd))
             .map(cached -> {
                 log.debug("Cache hit cmd='{}' offset={} limit={} total={}", 
-                    fullCmd, params.offset, params.limit, cached.getRecords().size());
-                return MCPToolResult.fromCompletedPagedResult(cached, params.offset, params.limit).asCallToolResult();
+                    fullCmd, params.offset, params.limit, cached.getTotalRecords());
+                return cached.getPagedResult(params.offset, params.limit).asCallToolResult();
             });
     }
     
@@ -95,7 +95,7 @@ public final class MCPToolFcliRunnerRecordsPaged extends AbstractMCPToolFcliRunn
     
     private Optional<CallToolResult> handleSyncCollectionCompleted(String fullCmd, PageParams params) {
         return Optional.ofNullable(jobManager.getRecordsCache().getCached(fullCmd))
-            .map(cached -> MCPToolResult.fromCompletedPagedResult(cached, params.offset, params.limit).asCallToolResult())
+            .map(cached -> cached.getPagedResult(params.offset, params.limit).asCallToolResult())
             .or(() -> Optional.of(MCPToolResult.fromError("Collection completed but no cached result found").asCallToolResult()));
     }
     
@@ -133,8 +133,8 @@ public final class MCPToolFcliRunnerRecordsPaged extends AbstractMCPToolFcliRunn
         return Optional.ofNullable(jobManager.getRecordsCache().getCached(fullCmd))
             .map(cached -> {
                 log.debug("Returning COMPLETE paged result cmd='{}' offset={} limit={} loaded={} total={}",
-                    fullCmd, params.offset, params.limit, inProgress.getRecords().size(), cached.getRecords().size());
-                return MCPToolResult.fromCompletedPagedResult(cached, params.offset, params.limit).asCallToolResult();
+                    fullCmd, params.offset, params.limit, inProgress.getRecords().size(), cached.getTotalRecords());
+                return cached.getPagedResult(params.offset, params.limit).asCallToolResult();
             })
             .or(() -> {
                 log.warn("Background collection completed without cache entry cmd='{}'", fullCmd);
@@ -106,6 +106,19 @@ public class MCPToolResult {
             .build();
     }
     
+    /**
+     * Create complete paged result for the given page of records, for cached results 
+     * that don't hold all records in memory.
+     */
+    public static MCPToolResult fromCompletedPagedResult(Integer exitCode, String stderr, int totalRecords, List<JsonNode> pageRecords, int offset, int limit) {
+        return builder()
+            .exitCode(exitCode)
+            .stderr(stderr)
+            .records(pageRecords)
+            .pagination(PageInfo.complete(totalRecords, offset, limit))
+            .build();
+    }
+    
     /**
      * Create partial paged result while background collection is still running.
      */
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.util.daemon.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fortify.cli.common.cli.util.FcliCommandSpecHelper;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.util.daemon.helper.DaemonHelper;
+import com.fortify.cli.util.daemon.helper.DaemonServer;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Unit tests for {@link DaemonServer} and {@link DaemonHelper}, verifying that 
+ * forwarded commands produce the expected output and exit code.
+ *
+ * @author Ruud Senden
+ */
+class DaemonServerTest {
+    private static final String SOCKET_PROPERTY = EnvHelper.envSystemPropertyName(DaemonHelper.ENV_DAEMON_SOCKET);
+    @TempDir Path tempDir;
+    private Path socketPath;
+    private CompletableFuture<Void> server;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        FcliCommandSpecHelper.setRootCommandLine(new CommandLine(TestRootCommand.class));
+        socketPath = tempDir.resolve("fcli.sock");
+        System.setProperty(SOCKET_PROPERTY, socketPath.toString());
+        server = CompletableFuture.runAsync(()->{
+            try {
+                new DaemonServer(socketPath).run();
+            } catch ( Exception e ) {
+                throw new RuntimeException(e);
+            }
+        });
+        for ( int i=0 ; i<100 && !Files.exists(socketPath) ; i++ ) {
+            Thread.sleep(50);
+        }
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        try {
+            DaemonHelper.stop(socketPath);
+            server.get(5, TimeUnit.SECONDS);
+        } finally {
+            System.clearProperty(SOCKET_PROPERTY);
+            FcliCommandSpecHelper.setRootCommandLine(null);
+        }
+    }
+    
+    @Test
+    void shouldForwardOutputAndExitCode() throws Exception {
+        var out = new ByteArrayOutputStream();
+        var orgOut = System.out;
+        Integer exitCode;
+        try {
+            System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+            exitCode = DaemonHelper.forward(new String[] {"fcli", "echo", "--text", "hello", "--exit-code", "3"});
+        } finally {
+            System.setOut(orgOut);
+        }
+        assertEquals(3, exitCode);
+        assertEquals("hello", out.toString(StandardCharsets.UTF_8).trim());
+    }
+    
+    @Test
+    void shouldNotForwardDaemonCommands() {
+        assertNull(DaemonHelper.forward(new String[] {"util", "daemon", "stop"}));
+    }
+    
+    @Test
+    void shouldRejectRequestsWithStartupOptions() {
+        var out = new ByteArrayOutputStream();
+        var orgOut = System.out;
+        try {
+            System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+            assertNull(DaemonHelper.forward(new String[] {"fcli", "echo", "--text", "hello", "--log-level", "DEBUG"}));
+        } finally {
+            System.setOut(orgOut);
+        }
+        assertEquals("", out.toString(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void shouldRejectRequestsWithDifferentEncryptionKey() {
+        // EnvHelper on the daemon side sees this override, whereas the client sends its actual environment
+        var property = EnvHelper.envSystemPropertyName("FCLI_ENCRYPT_KEY");
+        System.setProperty(property, "daemon-key-"+System.nanoTime());
+        try {
+            assertNull(DaemonHelper.forward(new String[] {"fcli", "echo", "--text", "hello"}));
+        } finally {
+            System.clearProperty(property);
+        }
+    }
+    
+    @Test
+    void shouldNotRunInProcessAfterDaemonAcceptedRequest() throws Exception {
+        // Simulate a daemon that terminates unexpectedly after producing some output
+        var brokenSocketPath = tempDir.resolve("broken.sock");
+        var out = new ByteArrayOutputStream();
+        var orgOut = System.out;
+        var orgErr = System.err;
+        Integer exitCode;
+        try ( var brokenServer = ServerSocketChannel.open(StandardProtocolFamily.UNIX) ) {
+            brokenServer.bind(UnixDomainSocketAddress.of(brokenSocketPath));
+            var brokenDaemon = CompletableFuture.runAsync(()->{
+                try ( var channel = brokenServer.accept() ) {
+                    var in = new DataInputStream(Channels.newInputStream(channel));
+                    in.readFully(new byte[in.readInt()]);
+                    var output = "partial".getBytes(StandardCharsets.UTF_8);
+                    var dos = new DataOutputStream(Channels.newOutputStream(channel));
+                    dos.writeByte(1); // stdout frame
+                    dos.writeInt(output.length);
+                    dos.write(output);
+                    dos.flush();
+                } catch ( IOException e ) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            System.setProperty(SOCKET_PROPERTY, brokenSocketPath.toString());
+            System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+            System.setErr(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+            exitCode = DaemonHelper.forward(new String[] {"fcli", "echo", "--text", "hello"});
+            brokenDaemon.get(5, TimeUnit.SECONDS);
+        } finally {
+            System.setOut(orgOut);
+            System.setErr(orgErr);
+            System.setProperty(SOCKET_PROPERTY, socketPath.toString());
+        }
+        assertNotNull(exitCode);
+        assertNotEquals(0, exitCode.intValue());
+        assertEquals("partial", out.toString(StandardCharsets.UTF_8));
+    }
+    
+    @Command(name = "fcli", subcommands = {TestEchoCommand.class})
+    public static final class TestRootCommand {}
+    
+    @Command(name = "echo")
+    public static final class TestEchoCommand implements Callable<Integer> {
+        @Option(names = "--text") private String text;
+        @Option(names = "--exit-code") private int exitCode;
+        @Option(names = "--log-level") private String logLevel;
+        
+        @Override
+        public Integer call() {
+            System.out.println(text);
+            return exitCode;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.util.mcp_server.unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.util.EnvHelper;
+import com.fortify.cli.util.mcp_server.helper.mcp.MCPJobManager;
+import com.fortify.cli.util.mcp_server.helper.mcp.runner.MCPToolFcliRecordsCache;
+import com.fortify.cli.util.mcp_server.helper.mcp.runner.MCPToolFcliRecordsCache.CachedResult;
+import com.fortify.cli.util.mcp_server.helper.mcp.runner.MCPToolResult;
+
+/**
+ * Unit tests for {@link MCPToolFcliRecordsCache}, verifying that cached results remain
+ * available for paging when they are spilled to disk, when spilling fails, and when
+ * spilled entries are evicted because the disk limit is exceeded. Memory and disk
+ * limits are configured through system property overrides for the corresponding
+ * environment variables; each record has an estimated heap size of about 4KB and
+ * a spilled size of about 2KB.
+ *
+ * @author Ruud Senden
+ */
+class MCPToolFcliRecordsCacheTest {
+    private static final String VALUE = "x".repeat(2000);
+    @TempDir Path tempDir;
+    private MCPToolFcliRecordsCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        setEnv(MCPToolFcliRecordsCache.ENV_MEMORY_LIMIT_MB, "1");
+        setEnv(MCPToolFcliRecordsCache.ENV_DISK_LIMIT_MB, "1");
+        setEnv("FCLI_STATE_DIR", tempDir.resolve("state").toString());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if ( cache!=null ) { cache.shutdown(); }
+        clearEnv(MCPToolFcliRecordsCache.ENV_MEMORY_LIMIT_MB);
+        clearEnv(MCPToolFcliRecordsCache.ENV_DISK_LIMIT_MB);
+        clearEnv("FCLI_STATE_DIR");
+    }
+    
+    @Test
+    void shouldReturnPagesFromMemory() {
+        cache = createCache();
+        cache.put("a", result("a", 100));
+        
+        var cached = cache.getCached("a");
+        assertNotNull(cached);
+        assertEquals(100, cached.getTotalRecords());
+        assertPage(cached, "a", 0, 10, 0, 10);
+        assertPage(cached, "a", 95, 10, 95, 100);
+        assertPage(cached, "a", 100, 10, 0, 0);
+        assertNull(cache.getCached("b"));
+    }
+    
+    @Test
+    void shouldReturnPagesFromSpilledEntries() {
+        cache = createCache();
+        cache.put("a", result("a", 200));
+        cache.put("b", result("b", 200)); // Exceeds memory limit, spilling a
+        
+        assertTrue(Files.exists(tempDir.resolve("state").resolve("mcp-cache")));
+        assertPage(cache.getCached("a"), "a", 0, 50, 0, 50);
+        assertPage(cache.getCached("a"), "a", 150, 100, 150, 200);
+        assertPage(cache.getCached("b"), "b", 10, 20, 10, 30);
+    }
+    
+    @Test
+    void shouldEvictLeastRecentlyUsedSpilledEntries() {
+        cache = createCache();
+        cache.put("a", result("a", 200));
+        cache.put("b", result("b", 200)); // Spills a
+        cache.put("c", result("c", 200)); // Spills b
+        cache.put("d", result("d", 200)); // Spills c, exceeding disk limit and evicting a
+        
+        assertNull(cache.getCached("a"));
+        assertPage(cache.getCached("b"), "b", 0, 200, 0, 200);
+        assertPage(cache.getCached("c"), "c", 190, 20, 190, 200);
+        assertPage(cache.getCached("d"), "d", 0, 5, 0, 5);
+    }
+    
+    @Test
+    void shouldKeepSpilledEntryExceedingDiskLimit() {
+        cache = createCache();
+        cache.put("a", result("a", 600)); // Exceeds both memory and disk limit by itself
+        
+        var cached = cache.getCached("a");
+        assertNotNull(cached);
+        assertEquals(600, cached.getTotalRecords());
+        assertPage(cached, "a", 0, 10, 0, 10);
+        assertPage(cached, "a", 590, 20, 590, 600);
+        
+        cache.put("b", result("b", 10));
+        assertPage(cache.getCached("a"), "a", 300, 10, 300, 310);
+    }
+    
+    @Test
+    void shouldKeepEntryInMemoryIfSpillFails() throws Exception {
+        // State directory is a regular file, so spill directory can't be created
+        var stateFile = Files.createFile(tempDir.resolve("state-file"));
+        setEnv("FCLI_STATE_DIR", stateFile.toString());
+        cache = createCache();
+        cache.put("a", result("a", 200));
+        cache.put("b", result("b", 200)); // Spilling a fails
+        
+        assertPage(cache.getCached("a"), "a", 0, 200, 0, 200);
+        assertPage(cache.getCached("b"), "b", 100, 50, 100, 150);
+        
+        // Spilling is retried once memory limit is exceeded again
+        Files.delete(stateFile);
+        setEnv("FCLI_STATE_DIR", tempDir.resolve("state").toString());
+        cache.put("c", result("c", 200));
+        assertTrue(Files.exists(tempDir.resolve("state").resolve("mcp-cache")));
+        assertPage(cache.getCached("a"), "a", 50, 10, 50, 60);
+        assertPage(cache.getCached("b"), "b", 0, 10, 0, 10);
+        assertPage(cache.getCached("c"), "c", 0, 10, 0, 10);
+    }
+    
+    private static MCPToolFcliRecordsCache createCache() {
+        return new MCPToolFcliRecordsCache(new MCPJobManager("test", 2, 1, 500, 100));
+    }
+    
+    private static void assertPage(CachedResult cached, String prefix, int offset, int limit, int expectedStart, int expectedEnd) {
+        assertNotNull(cached);
+        var page = cached.getPagedResult(offset, limit);
+        assertEquals(0, page.getExitCode().intValue());
+        assertTrue(page.getPagination().isComplete());
+        var expectedIds = IntStream.range(expectedStart, expectedEnd).mapToObj(i->prefix+i).toList();
+        var actualIds = page.getRecords().stream().map(r->r.get("id").asText()).toList();
+        assertEquals(expectedIds, actualIds);
+        page.getRecords().forEach(r->assertEquals(VALUE, r.get("value").asText()));
+    }
+    
+    private static MCPToolResult result(String prefix, int count) {
+        var records = new ArrayList<JsonNode>(count);
+        for ( int i=0; i<count; i++ ) {
+            records.add(JsonHelper.getObjectMapper().createObjectNode().put("id", prefix+i).put("value", VALUE));
+        }
+        return MCPToolResult.builder().exitCode(0).stderr("").records(List.copyOf(records)).build();
+    }
+    
+    private static void setEnv(String name, String value) {
+        System.setProperty(EnvHelper.envSystemPropertyName(name), value);
+    }
+    
+    private static void clearEnv(String name) {
+        System.clearProperty(EnvHelper.envSystemPropertyName(name));
+    }
+}
@@ -0,0 +1,36 @@
+plugins { id("fcli.module-conventions") }
+
+// JMH microbenchmarks for fcli hot paths. Benchmarks can be run using:
+//   ./gradlew :fcli-other:fcli-benchmark:jmh [-Pjmh.includes=<regex>] [-Pjmh.args="<additional JMH args>"]
+// For example, -Pjmh.includes=RecordWriter -Pjmh.args="-p recordCount=1000 -f 1" runs the record
+// writer benchmarks for 1k records only. Results are written in JMH JSON format to
+// build/reports/jmh/results.json, allowing for regressions to be tracked by comparing
+// results between builds.
+
+dependencies {
+    val appRef = project.findProperty("fcliAppRef") as String
+    val aviatorCommonRef = project.findProperty("fcliAviatorCommonRef") as String
+    val licenseRef = project.findProperty("fcliLicenseRef") as String
+    implementation(project(appRef))
+    implementation(project(aviatorCommonRef))
+    implementation(project(licenseRef))
+    implementation("org.openjdk.jmh:jmh-core")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess")
+}
+
+val jmhResultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Run JMH benchmarks, writing results to build/reports/jmh/results.json"
+    dependsOn("classes")
+    classpath(sourceSets.main.get().runtimeClasspath)
+    mainClass.set("org.openjdk.jmh.Main")
+    val includes = project.findProperty("jmh.includes") as String?
+    val extraArgs = (project.findProperty("jmh.args") as String?)?.trim()?.split(Regex("\\s+"))?.filter { it.isNotEmpty() } ?: emptyList()
+    val resultsFile = jmhResultsFile.get().asFile
+    outputs.file(resultsFile)
+    outputs.upToDateWhen { false }
+    args(listOfNotNull(includes) + listOf("-rf", "json", "-rff", resultsFile.absolutePath) + extraArgs)
+    doFirst { resultsFile.parentFile.mkdirs() }
+}
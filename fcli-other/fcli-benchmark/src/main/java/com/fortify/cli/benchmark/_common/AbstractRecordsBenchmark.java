@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark._common;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Base class for benchmarks that process a number of synthetic records, as configured
+ * through the {@code recordCount} and {@code recordShape} benchmark parameters. To avoid 
+ * benchmarks at larger scales being dominated by memory usage and garbage collection, 
+ * at most {@value #MAX_POOL_SIZE} distinct records are generated, which are repeatedly 
+ * processed until the requested number of records has been reached. 
+ *
+ * @author Ruud Senden
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractRecordsBenchmark {
+    public static final int MAX_POOL_SIZE = 10_000;
+    @Param({"1000", "100000", "1000000"}) public int recordCount;
+    @Param({"ssc", "fod"}) public String recordShape;
+    private List<ObjectNode> recordPool;
+    
+    @Setup(Level.Trial)
+    public void setupRecords() {
+        recordPool = SyntheticRecords.valueOf(recordShape).createRecords(Math.min(recordCount, MAX_POOL_SIZE));
+    }
+    
+    protected final List<ObjectNode> getRecordPool() {
+        return recordPool;
+    }
+    
+    protected final void forEachRecord(Consumer<ObjectNode> consumer) {
+        var poolSize = recordPool.size();
+        for ( int i=0 ; i<recordCount ; i++ ) {
+            consumer.accept(recordPool.get(i%poolSize));
+        }
+    }
+}
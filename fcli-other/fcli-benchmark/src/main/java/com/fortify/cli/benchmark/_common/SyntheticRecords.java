@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark._common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fortify.cli.common.json.JsonHelper;
+
+/**
+ * This enum generates synthetic SSC issue and FoD vulnerability records, roughly 
+ * matching the structure and value distribution of the records returned by the 
+ * corresponding REST endpoints. Both record shapes share the {@code id}, {@code severity},
+ * {@code category}, {@code primaryLocation}, {@code lineNumber} and {@code suppressed}
+ * properties, allowing benchmarks to use the same expressions for either shape. Records 
+ * are generated using a fixed seed, so benchmark runs always process the same data.
+ *
+ * @author Ruud Senden
+ */
+public enum SyntheticRecords {
+    ssc {
+        @Override
+        protected ObjectNode createRecord(Random random, int index) {
+            var category = pick(random, CATEGORIES);
+            var file = pick(random, FILES);
+            var severity = random.nextInt(5)+1;
+            var record = JsonHelper.getObjectMapper().createObjectNode()
+                .put("id", 1_000_000L+index)
+                .put("projectVersionId", 10_001)
+                .put("issueInstanceId", Long.toHexString(random.nextLong()).toUpperCase())
+                .put("issueName", category)
+                .put("category", category)
+                .put("primaryLocation", file.substring(file.lastIndexOf('/')+1))
+                .put("fullFileName", file)
+                .put("lineNumber", random.nextInt(2000)+1)
+                .put("severity", (double)severity)
+                .put("likelihood", random.nextDouble()*5)
+                .put("impact", random.nextDouble()*5)
+                .put("friority", pick(random, FRIORITIES))
+                .put("kingdom", pick(random, KINGDOMS))
+                .put("engineType", "SCA")
+                .put("analyzer", pick(random, ANALYZERS))
+                .put("primaryTag", random.nextInt(4)==0 ? "Exploitable" : null)
+                .put("hidden", false)
+                .put("removed", random.nextInt(20)==0)
+                .put("suppressed", random.nextInt(10)==0)
+                .put("foundDate", "2025-0"+(random.nextInt(9)+1)+"-1"+random.nextInt(10)+"T10:15:30.000+0000")
+                .put("primaryRuleGuid", UUID.nameUUIDFromBytes(category.getBytes()).toString())
+                .put("_href", "https://ssc.example.com/ssc/api/v1/issues/"+(1_000_000L+index));
+            record.putObject("issueStatus")
+                .put("reviewed", random.nextBoolean())
+                .put("auditorStatus", pick(random, AUDITOR_STATUSES));
+            return record;
+        }
+    },
+    fod {
+        @Override
+        protected ObjectNode createRecord(Random random, int index) {
+            var category = pick(random, CATEGORIES);
+            var file = pick(random, FILES);
+            var severity = random.nextInt(4)+1;
+            var record = JsonHelper.getObjectMapper().createObjectNode()
+                .put("id", 5_000_000L+index)
+                .put("releaseId", 200_001)
+                .put("vulnId", new UUID(random.nextLong(), random.nextLong()).toString())
+                .put("severity", severity)
+                .put("severityString", SEVERITY_STRINGS[severity-1])
+                .put("category", category)
+                .put("kingdom", pick(random, KINGDOMS))
+                .put("primaryLocation", file.substring(file.lastIndexOf('/')+1))
+                .put("primaryLocationFull", file)
+                .put("lineNumber", random.nextInt(2000)+1)
+                .put("scantype", pick(random, SCAN_TYPES))
+                .put("status", pick(random, STATUSES))
+                .put("developerStatus", "Open")
+                .put("auditorStatus", pick(random, AUDITOR_STATUSES))
+                .put("suppressed", random.nextInt(10)==0)
+                .put("isSuppressed", false)
+                .put("hasAttachments", random.nextInt(50)==0)
+                .put("checkId", UUID.nameUUIDFromBytes(category.getBytes()).toString())
+                .put("introducedDate", "2025-0"+(random.nextInt(9)+1)+"-1"+random.nextInt(10)+"T10:15:30");
+            record.putArray("instanceIds")
+                .add(Long.toHexString(random.nextLong()));
+            record.putObject("application")
+                .put("id", 100_001)
+                .put("name", "Benchmark Application");
+            return record;
+        }
+    };
+    
+    private static final long SEED = 20251017L;
+    private static final String[] CATEGORIES = {
+        "SQL Injection", "Cross-Site Scripting: Reflected", "Cross-Site Scripting: Persistent",
+        "Path Manipulation", "Command Injection", "Password Management: Hardcoded Password",
+        "Privacy Violation", "Log Forging", "Insecure Randomness", "Weak Cryptographic Hash",
+        "Unreleased Resource: Streams", "Null Dereference", "Poor Error Handling: Empty Catch Block",
+        "Header Manipulation", "Open Redirect", "XML External Entity Injection",
+        "Access Control: Database", "Dead Code: Unused Method", "Code Correctness: Erroneous String Compare",
+        "Denial of Service: Regular Expression"
+    };
+    private static final String[] FILES = {
+        "src/main/java/com/example/web/LoginController.java", "src/main/java/com/example/web/SearchController.java",
+        "src/main/java/com/example/dao/UserDao.java", "src/main/java/com/example/dao/OrderDao.java",
+        "src/main/java/com/example/service/PaymentService.java", "src/main/java/com/example/util/FileUtil.java",
+        "src/main/webapp/js/app.js", "src/main/webapp/WEB-INF/views/search.jsp",
+        "src/main/resources/application.properties", "pom.xml"
+    };
+    private static final String[] FRIORITIES = {"Critical", "High", "Medium", "Low"};
+    private static final String[] SEVERITY_STRINGS = {"Low", "Medium", "High", "Critical"};
+    private static final String[] KINGDOMS = {"Input Validation and Representation", "Security Features", "Encapsulation", "Code Quality", "Errors", "API Abuse"};
+    private static final String[] ANALYZERS = {"dataflow", "controlflow", "structural", "semantic", "configuration"};
+    private static final String[] AUDITOR_STATUSES = {"Pending Review", "Remediation Required", "Risk Accepted", "Not an Issue"};
+    private static final String[] SCAN_TYPES = {"Static", "Dynamic", "Mobile"};
+    private static final String[] STATUSES = {"New", "Existing", "Reopen"};
+    
+    /**
+     * Create the given number of records, using a fixed seed.
+     */
+    public final List<ObjectNode> createRecords(int count) {
+        var random = new Random(SEED);
+        var result = new ArrayList<ObjectNode>(count);
+        for ( int i=0 ; i<count ; i++ ) {
+            result.add(createRecord(random, i));
+        }
+        return result;
+    }
+    
+    protected abstract ObjectNode createRecord(Random random, int index);
+    
+    private static final String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
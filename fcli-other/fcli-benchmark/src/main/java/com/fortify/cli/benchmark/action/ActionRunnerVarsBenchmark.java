@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.action;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.expression.Expression;
+
+import com.fortify.cli.benchmark._common.AbstractRecordsBenchmark;
+import com.fortify.cli.common.action.runner.ActionRunnerVars;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.spel.SpelEvaluator;
+import com.fortify.cli.common.spel.SpelHelper;
+
+/**
+ * Benchmark for evaluating action expressions on individual records, similar to 
+ * what happens for records.for-each steps. The {@link #evalInChildScope(Blackhole)} 
+ * benchmark creates a child scope for every record like the action runner does, 
+ * allowing the overhead of variable scoping to be compared against evaluating 
+ * the same expression directly in the root scope. The root scope contains a number
+ * of variables to reflect the typical number of variables defined by actions.
+ *
+ * @author Ruud Senden
+ */
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class ActionRunnerVarsBenchmark extends AbstractRecordsBenchmark {
+    private static final int ROOT_VAR_COUNT = 50;
+    private static final Expression EXPRESSION = SpelHelper.getParser()
+            .parseExpression("record.severity>=3 && !record.suppressed ? record.category+' ('+record.primaryLocation+':'+record.lineNumber+')' : null");
+    private ActionRunnerVars rootVars;
+    
+    @Setup(Level.Trial)
+    public void setupVars() {
+        var cliOptions = JsonHelper.getObjectMapper().createObjectNode()
+                .put("appversion", "Benchmark:1.0")
+                .put("file", "output.json");
+        rootVars = new ActionRunnerVars(SpelEvaluator.JSON_GENERIC.copy(), cliOptions);
+        for ( int i=0 ; i<ROOT_VAR_COUNT ; i++ ) {
+            rootVars.set("var"+i, "value"+i);
+        }
+    }
+    
+    @Benchmark
+    public void evalInChildScope(Blackhole bh) {
+        forEachRecord(r->{
+            var vars = rootVars.createChild();
+            vars.setLocal("record", r);
+            bh.consume(vars.eval(EXPRESSION, String.class));
+        });
+    }
+    
+    @Benchmark
+    public void evalInRootScope(Blackhole bh) {
+        forEachRecord(r->{
+            rootVars.setLocal("record", r);
+            bh.consume(rootVars.eval(EXPRESSION, String.class));
+        });
+    }
+}
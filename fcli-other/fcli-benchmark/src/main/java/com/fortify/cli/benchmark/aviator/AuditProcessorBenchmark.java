@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.aviator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import com.fortify.cli.aviator._common.config.AviatorConfigManager;
+import com.fortify.cli.aviator.audit.model.AuditResponse;
+import com.fortify.cli.aviator.audit.model.AuditResult;
+import com.fortify.cli.aviator.config.TagMappingConfig;
+import com.fortify.cli.aviator.fpr.processor.AuditProcessor;
+import com.fortify.cli.aviator.util.Constants;
+import com.fortify.cli.aviator.util.FprHandle;
+
+/**
+ * Benchmark for looking up audit.xml issue elements by instance id, as done by 
+ * {@link AuditProcessor} for every Aviator audit response. The {@link #indexed()}
+ * benchmark uses {@link AuditProcessor#findIssueElement(String)}, whereas the 
+ * {@link #linearScan()} benchmark replicates the former implementation that scanned
+ * all audit.xml issue elements for every lookup. The {@link #load()} benchmark
+ * measures loading audit.xml, including building the instance id index, and the
+ * {@link #updateAndSave(UpdateState)} benchmark measures applying Aviator audit 
+ * responses for 10% of the issues (plus some issues not yet present in audit.xml),
+ * and writing the updated FPR.
+ *
+ * @author Ruud Senden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class AuditProcessorBenchmark {
+    private static final String AUDIT_NAMESPACE_URI = "xmlns://www.fortify.com/schema/audit";
+    private static final int LOOKUP_COUNT = 1000;
+    private static final int NEW_ISSUE_COUNT = 100;
+    
+    @Param({"1000", "10000", "100000"}) public int issueCount;
+    private Path fprPath;
+    private FprHandle fprHandle;
+    private AuditProcessor processor;
+    private Document auditDoc;
+    private String[] lookupIds;
+    private Map<String, AuditResponse> auditResponses;
+    private TagMappingConfig tagMappingConfig;
+    
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        fprPath = Files.createTempFile("fcli-benchmark", ".fpr");
+        try ( var zos = new ZipOutputStream(Files.newOutputStream(fprPath)) ) {
+            zos.putNextEntry(new ZipEntry("audit.xml"));
+            zos.write(createAuditXml(issueCount).getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+        }
+        fprHandle = new FprHandle(fprPath);
+        processor = new AuditProcessor(fprHandle);
+        processor.processAuditXML();
+        try ( InputStream is = Files.newInputStream(fprHandle.getPath("/audit.xml")) ) {
+            var factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            auditDoc = factory.newDocumentBuilder().parse(is);
+        }
+        var random = new Random(0);
+        lookupIds = new String[LOOKUP_COUNT];
+        for ( int i=0 ; i<LOOKUP_COUNT ; i++ ) {
+            lookupIds[i] = instanceId(random.nextInt(issueCount));
+        }
+        auditResponses = createAuditResponses(issueCount);
+        tagMappingConfig = AviatorConfigManager.getInstance().getDefaultTagMappingConfig();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fprHandle.close();
+        Files.deleteIfExists(fprPath);
+    }
+    
+    @Benchmark
+    public int indexed() {
+        int count = 0;
+        for ( var id : lookupIds ) {
+            if ( processor.findIssueElement(id)!=null ) { count++; }
+        }
+        return count;
+    }
+    
+    @Benchmark
+    public int linearScan() {
+        int count = 0;
+        for ( var id : lookupIds ) {
+            if ( scan(id)!=null ) { count++; }
+        }
+        return count;
+    }
+    
+    @Benchmark
+    public int load() {
+        return new AuditProcessor(fprHandle).processAuditXML().size();
+    }
+    
+    /**
+     * Update audit.xml based on the Aviator audit responses, and save the FPR. As the
+     * zip file system only writes the FPR when closed, closing the FPR is included in
+     * the measurement.
+     */
+    @Benchmark
+    public File updateAndSave(UpdateState state) throws IOException {
+        var result = state.processor.updateAndSaveAuditAndRemediationsXml(auditResponses, tagMappingConfig, null, null);
+        state.fprHandle.close();
+        return result;
+    }
+    
+    /**
+     * As {@link #updateAndSave(UpdateState)} modifies both the audit.xml document
+     * and the FPR, every invocation operates on a fresh copy of the FPR. 
+     */
+    @State(Scope.Thread)
+    public static class UpdateState {
+        private Path fprPath;
+        private FprHandle fprHandle;
+        private AuditProcessor processor;
+        
+        @Setup(Level.Invocation)
+        public void setup(AuditProcessorBenchmark benchmark) throws IOException {
+            fprPath = Files.createTempFile("fcli-benchmark", ".fpr");
+            Files.copy(benchmark.fprPath, fprPath, StandardCopyOption.REPLACE_EXISTING);
+            fprHandle = new FprHandle(fprPath);
+            processor = new AuditProcessor(fprHandle);
+            processor.processAuditXML();
+        }
+        
+        @TearDown(Level.Invocation)
+        public void tearDown() throws IOException {
+            fprHandle.close();
+            Files.deleteIfExists(fprPath);
+        }
+    }
+    
+    private Element scan(String instanceId) {
+        var issueNodes = auditDoc.getElementsByTagNameNS(AUDIT_NAMESPACE_URI, "Issue");
+        for ( int i=0 ; i<issueNodes.getLength() ; i++ ) {
+            var issueElement = (Element)issueNodes.item(i);
+            if ( issueElement.getAttribute("instanceId").equals(instanceId) ) {
+                return issueElement;
+            }
+        }
+        return null;
+    }
+    
+    private static final String createAuditXml(int issueCount) {
+        var sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<ns2:Audit xmlns:ns2=\"").append(AUDIT_NAMESPACE_URI).append("\" version=\"4.4\"><ns2:IssueList>");
+        for ( int i=0 ; i<issueCount ; i++ ) {
+            sb.append("<ns2:Issue instanceId=\"").append(instanceId(i)).append("\" revision=\"1\" suppressed=\"false\">")
+              .append("<ns2:Tag id=\"87f2364f-dcd4-49e6-861d-f8d3f351686b\"><ns2:Value>Not an Issue</ns2:Value></ns2:Tag>")
+              .append("<ns2:ThreadedComments><ns2:Comment><ns2:Content>Reviewed</ns2:Content><ns2:Username>auditor</ns2:Username>")
+              .append("<ns2:Timestamp>2025-01-01T00:00:00.000Z</ns2:Timestamp></ns2:Comment></ns2:ThreadedComments>")
+              .append("</ns2:Issue>");
+        }
+        return sb.append("</ns2:IssueList></ns2:Audit>").toString();
+    }
+    
+    private static final Map<String, AuditResponse> createAuditResponses(int issueCount) {
+        var result = new LinkedHashMap<String, AuditResponse>();
+        String[] tagValues = {Constants.NOT_AN_ISSUE, Constants.EXPLOITABLE, Constants.UNSURE};
+        for ( int i=0 ; i<issueCount+NEW_ISSUE_COUNT*10 ; i+=10 ) {
+            var instanceId = instanceId(i);
+            var auditResult = AuditResult.builder()
+                    .tagValue(tagValues[(i/10)%tagValues.length])
+                    .comment("Aviator comment for "+instanceId)
+                    .build();
+            result.put(instanceId, AuditResponse.builder()
+                    .auditResult(auditResult)
+                    .status("SUCCESS")
+                    .issueId(instanceId)
+                    .tier(i%20==0 ? "GOLD" : "SILVER")
+                    .build());
+        }
+        return result;
+    }
+    
+    private static final String instanceId(int index) {
+        return String.format("%032X", index);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.aviator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fortify.cli.aviator.audit.model.File;
+import com.fortify.cli.aviator.audit.model.StackTraceElement;
+import com.fortify.cli.aviator.fpr.Vulnerability;
+import com.fortify.cli.aviator.fpr.filter.SearchTree;
+import com.fortify.cli.aviator.fpr.filter.engine.CompiledFilterSet;
+import com.fortify.cli.aviator.fpr.filter.engine.FilterParser;
+import com.fortify.cli.aviator.fpr.filter.engine.VulnerabilityEvaluator;
+
+/**
+ * Benchmark for applying an FPR filter set to vulnerabilities, comparing per-filter 
+ * {@link SearchTree} evaluation through {@link VulnerabilityEvaluator} against 
+ * {@link CompiledFilterSet}. The filter set resembles the default Fortify 'Security
+ * Auditor View' filter template, extended with some typical hide filters, and is 
+ * applied the same way as when selecting issues for an Aviator audit: a vulnerability
+ * is assigned to the first matching folder, unless matched by any hide filter. The
+ * {@code parallelism} parameter only applies to the {@link #compiled()} benchmark.
+ *
+ * @author Ruud Senden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class FilterSetBenchmark {
+    private static final String[] FOLDER_QUERIES = {
+        "[fortify priority order]:critical",
+        "[fortify priority order]:high",
+        "[fortify priority order]:medium",
+        "[fortify priority order]:low",
+    };
+    private static final String[] HIDE_QUERIES = {
+        "category:\"Poor Error Handling: Empty Catch Block\" OR category:\"Poor Error Handling: Overly Broad Catch\" "
+            + "OR category:\"Poor Logging Practice: Use of a System Output Stream\" OR category:\"J2EE Bad Practices: Leftover Debug Code\" "
+            + "OR category:\"Code Correctness: Erroneous String Compare\" OR category:\"Dead Code: Unused Method\" "
+            + "OR category:\"Poor Style: Value Never Read\" OR category:\"Unreleased Resource: Streams\"",
+        "analyzer:structural AND confidence:[0,2.5]",
+        "file:test OR file:mock",
+        "status:removed",
+    };
+    private static final String[] CATEGORIES = {
+        "SQL Injection", "Cross-Site Scripting: Reflected", "Cross-Site Scripting: Persistent", "Path Manipulation",
+        "Command Injection", "Log Forging", "Privacy Violation", "Password Management: Hardcoded Password",
+        "Insecure Randomness", "Weak Cryptographic Hash", "Poor Error Handling: Empty Catch Block",
+        "Poor Error Handling: Overly Broad Catch", "Poor Logging Practice: Use of a System Output Stream",
+        "J2EE Bad Practices: Leftover Debug Code", "Code Correctness: Erroneous String Compare",
+        "Dead Code: Unused Method", "Poor Style: Value Never Read", "Unreleased Resource: Streams",
+        "Null Dereference", "Missing Check against Null", "Open Redirect", "XML External Entity Injection",
+    };
+    private static final String[] PRIORITIES = {"Critical", "High", "Medium", "Low"};
+    private static final String[] ANALYZERS = {"dataflow", "controlflow", "structural", "semantic", "configuration"};
+    private static final String[] FILE_NAMES = {"src/main/java/com/acme/web/OrderController.java", "src/main/java/com/acme/dao/OrderDao.java", 
+        "src/main/java/com/acme/util/StringUtils.java", "src/test/java/com/acme/web/OrderControllerTest.java", "src/main/resources/application.yml"};
+    
+    @Param({"1000", "50000"}) public int vulnerabilityCount;
+    @Param({"1", "4"}) public int parallelism;
+    private List<Vulnerability> vulnerabilities;
+    private List<SearchTree> trees;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new Random(0);
+        vulnerabilities = new ArrayList<>(vulnerabilityCount);
+        for ( int i=0 ; i<vulnerabilityCount ; i++ ) {
+            vulnerabilities.add(createVulnerability(random, i));
+        }
+        trees = new ArrayList<>();
+        for ( var query : FOLDER_QUERIES ) { trees.add(parse(query)); }
+        for ( var query : HIDE_QUERIES ) { trees.add(parse(query)); }
+    }
+    
+    @Benchmark
+    public int evaluator() {
+        int count = 0;
+        for ( var vuln : vulnerabilities ) {
+            for ( int i=0 ; i<FOLDER_QUERIES.length ; i++ ) {
+                if ( VulnerabilityEvaluator.evaluate(trees.get(i), vuln) ) {
+                    if ( !isHidden(vuln) ) { count++; }
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+    
+    @Benchmark
+    public int compiled() {
+        var filterSet = CompiledFilterSet.compile(trees, parallelism);
+        return filterSet.filter(vulnerabilities, evaluation->{
+            for ( int i=0 ; i<FOLDER_QUERIES.length ; i++ ) {
+                if ( evaluation.matches(i) ) {
+                    for ( int j=FOLDER_QUERIES.length ; j<filterSet.size() ; j++ ) {
+                        if ( evaluation.matches(j) ) { return false; }
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }).size();
+    }
+    
+    private boolean isHidden(Vulnerability vuln) {
+        for ( int i=FOLDER_QUERIES.length ; i<trees.size() ; i++ ) {
+            if ( VulnerabilityEvaluator.evaluate(trees.get(i), vuln) ) { return true; }
+        }
+        return false;
+    }
+    
+    private static final SearchTree parse(String query) {
+        return query.matches("(?i).*\\b(AND|OR)\\b.*") ? FilterParser.parse(query) : FilterParser.parseLegacy(query);
+    }
+    
+    private static final Vulnerability createVulnerability(Random random, int index) {
+        var fileName = FILE_NAMES[random.nextInt(FILE_NAMES.length)];
+        var file = new File();
+        file.setName(fileName);
+        return Vulnerability.builder()
+                .instanceID(String.format("%032X", index))
+                .classID(String.format("%08X-0000-4000-8000-%012X", random.nextInt(500), random.nextInt(500)))
+                .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                .analyzerName(ANALYZERS[random.nextInt(ANALYZERS.length)])
+                .confidence(random.nextInt(11)/2.0)
+                .instanceSeverity(random.nextInt(6))
+                .kingdom("Input Validation and Representation")
+                .source(new StackTraceElement(fileName, random.nextInt(500), "", "", null, "", ""))
+                .files(new ArrayList<>(List.of(file)))
+                .knowledge(Map.of("Accuracy", "4.0", "Impact", "3.0", "Probability", "2.5", "Kingdom", "Input Validation and Representation"))
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.cli;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fortify.cli.app._main.cli.cmd.FCLIRootCommands;
+import com.fortify.cli.app._main.cli.cmd.FCLIRootCommandsBase;
+import com.fortify.cli.common.cli.util.FcliCommandSpecHelper;
+import com.fortify.cli.common.cli.util.FcliLazySubcommands;
+
+import picocli.CommandLine;
+import picocli.CommandLine.Model.CommandSpec;
+
+/**
+ * Benchmark for fcli command line initialization and for preparing the execution
+ * of fcli commands from action steps. This allows for comparing the cost of creating
+ * the full fcli command tree against lazily registering only the module being invoked,
+ * and the cost of parsing the full command line against looking up the leaf command
+ * by name. Note that the first invocation within a JVM is usually dominated by class 
+ * loading, which is not reflected in these (warmed up) results; use single-shot mode 
+ * ({@code -Pjmh.args="-bm ss -wi 0 -i 1 -f 10"}) to measure cold start behavior.
+ *
+ * @author Ruud Senden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class CommandLineBenchmark {
+    private static final String[] ARGS = {"util", "all-commands", "list", "--query", "hidden==false"};
+    
+    @Setup(Level.Trial)
+    public void setupRootCommandLine() {
+        FcliCommandSpecHelper.setRootCommandLine(new CommandLine(FCLIRootCommands.class));
+    }
+    
+    @Benchmark
+    public CommandLine createFullRootCommandLine() {
+        return new CommandLine(FCLIRootCommands.class);
+    }
+    
+    @Benchmark
+    public CommandLine createLazyRootCommandLine() {
+        var subcommands = new FcliLazySubcommands(new CommandLine(new FCLIRootCommandsBase()), 
+                cl->{}, FCLIRootCommands.getModuleCommandClasses());
+        subcommands.register(ARGS);
+        return subcommands.getCommandLine();
+    }
+    
+    @Benchmark
+    public CommandSpec parseAndReplicateLeafCommand() {
+        var parseResult = FcliCommandSpecHelper.getRootCommandLine().parseArgs(ARGS);
+        return FcliCommandSpecHelper.replicateLeafCommandSpecWithParents(parseResult);
+    }
+    
+    @Benchmark
+    public CommandSpec lookupAndReplicateLeafCommand() {
+        return FcliCommandSpecHelper.replicateLeafCommandSpecWithParents(FcliCommandSpecHelper.findLeafCommandSpec(ARGS));
+    }
+}
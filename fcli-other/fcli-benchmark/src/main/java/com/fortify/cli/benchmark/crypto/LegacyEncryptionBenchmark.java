@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.crypto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fortify.cli.common.crypto.helper.EncryptionHelper;
+
+/**
+ * Benchmark for the legacy, String-based encryption that was used for encrypted 
+ * variables and fcli session data, for comparison with {@link StreamingEncryptionBenchmark}.
+ * As this requires multiple in-memory copies of the payload, this benchmark is limited 
+ * to smaller payload sizes and runs with a larger heap.
+ *
+ * @author Ruud Senden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g") @Warmup(iterations = 1) @Measurement(iterations = 3)
+public class LegacyEncryptionBenchmark {
+    @Param({"16", "128"}) public int payloadMb;
+    private String payload;
+    private String encrypted;
+    
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        var bos = new ByteArrayOutputStream();
+        StreamingEncryptionBenchmark.writePayload(bos, StreamingEncryptionBenchmark.createPayloadBlock(), payloadMb);
+        payload = bos.toString(StandardCharsets.UTF_8);
+        encrypted = EncryptionHelper.encrypt(payload);
+    }
+    
+    @Benchmark
+    public String encrypt() {
+        return EncryptionHelper.encrypt(payload);
+    }
+    
+    @Benchmark
+    public String decrypt() {
+        return EncryptionHelper.decrypt(encrypted);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.crypto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fortify.cli.benchmark._common.SyntheticRecords;
+import com.fortify.cli.common.crypto.helper.EncryptionHelper;
+import com.fortify.cli.common.json.JsonHelper;
+
+/**
+ * Benchmark for the streaming encryption used for encrypted variables and fcli
+ * session data. The JVM is started with a small heap to demonstrate that even 
+ * 1GB payloads are encrypted and decrypted using a constant-size buffer. See 
+ * {@link LegacyEncryptionBenchmark} for comparing against the legacy, 
+ * String-based encryption.
+ *
+ * @author Ruud Senden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m") @Warmup(iterations = 1) @Measurement(iterations = 3)
+public class StreamingEncryptionBenchmark {
+    @Param({"16", "1024"}) public int payloadMb;
+    private byte[] block;
+    private Path encryptedFile;
+    
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        block = createPayloadBlock();
+        encryptedFile = Files.createTempFile("fcli-benchmark", ".enc");
+        try ( var os = EncryptionHelper.encryptingOutputStream(Files.newOutputStream(encryptedFile)) ) {
+            writePayload(os, block, payloadMb);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(encryptedFile);
+    }
+    
+    @Benchmark
+    public void encrypt() throws IOException {
+        try ( var os = EncryptionHelper.encryptingOutputStream(OutputStream.nullOutputStream()) ) {
+            writePayload(os, block, payloadMb);
+        }
+    }
+    
+    @Benchmark
+    public long decrypt() throws IOException {
+        try ( var is = EncryptionHelper.decryptingInputStream(Files.newInputStream(encryptedFile)) ) {
+            return is.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+    
+    /**
+     * Create a block of JSON data similar to encrypted variable contents.
+     */
+    static final byte[] createPayloadBlock() {
+        var records = JsonHelper.getObjectMapper().createArrayNode().addAll(SyntheticRecords.ssc.createRecords(1000));
+        return records.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Write the given block repeatedly until the given payload size has been reached.
+     */
+    static final void writePayload(OutputStream os, byte[] block, int payloadMb) throws IOException {
+        long remaining = payloadMb*1024L*1024L;
+        while ( remaining>0 ) {
+            int n = (int)Math.min(block.length, remaining);
+            os.write(block, 0, n);
+            remaining -= n;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.json;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fortify.cli.benchmark._common.AbstractRecordsBenchmark;
+import com.fortify.cli.common.json.JsonHelper;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Benchmark for the {@link JsonHelper} methods used for converting between JSON 
+ * representations and descriptor objects, and for copying records. 
+ *
+ * @author Ruud Senden
+ */
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class JsonHelperBenchmark extends AbstractRecordsBenchmark {
+    private List<String> jsonStrings;
+    
+    @Setup(Level.Trial)
+    public void setupJsonStrings() {
+        jsonStrings = getRecordPool().stream().map(Object::toString).toList();
+    }
+    
+    @Benchmark
+    public void treeToValue(Blackhole bh) {
+        forEachRecord(r->bh.consume(JsonHelper.treeToValue(r, RecordDescriptor.class)));
+    }
+    
+    @Benchmark
+    public void jsonStringToValue(Blackhole bh) {
+        var poolSize = jsonStrings.size();
+        for ( int i=0 ; i<recordCount ; i++ ) {
+            bh.consume(JsonHelper.jsonStringToValue(jsonStrings.get(i%poolSize), RecordDescriptor.class));
+        }
+    }
+    
+    @Benchmark
+    public void shallowCopy(Blackhole bh) {
+        forEachRecord(r->bh.consume(JsonHelper.shallowCopy(r)));
+    }
+    
+    @Data @NoArgsConstructor @JsonIgnoreProperties(ignoreUnknown = true)
+    public static final class RecordDescriptor {
+        private long id;
+        private String category;
+        private String primaryLocation;
+        private int lineNumber;
+        private double severity;
+        private boolean suppressed;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.json;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fortify.cli.benchmark._common.AbstractRecordsBenchmark;
+import com.fortify.cli.common.json.transform.fields.SelectedFieldsTransformer;
+import com.fortify.cli.common.json.transform.flatten.FlattenTransformer;
+
+/**
+ * Benchmark for the JSON transformations applied to every record by the fcli output 
+ * framework, i.e., flattening for the csv and table output formats, and selecting 
+ * fields for the --output format arguments.
+ *
+ * @author Ruud Senden
+ */
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class JsonTransformerBenchmark extends AbstractRecordsBenchmark {
+    private static final FlattenTransformer FLATTEN = new FlattenTransformer(Function.identity(), ".", false);
+    private static final SelectedFieldsTransformer SELECTED_FIELDS = new SelectedFieldsTransformer("id,category:Category,primaryLocation:File,lineNumber:Line,severity", false);
+    
+    @Benchmark
+    public void flatten(Blackhole bh) {
+        forEachRecord(r->bh.consume(FLATTEN.transformObjectNode(r)));
+    }
+    
+    @Benchmark
+    public void selectFields(Blackhole bh) {
+        forEachRecord(r->bh.consume(SELECTED_FIELDS.transformObjectNode(r)));
+    }
+}
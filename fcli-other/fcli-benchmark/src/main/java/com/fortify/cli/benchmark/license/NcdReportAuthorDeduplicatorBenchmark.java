@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.license;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fortify.cli.license.ncd_report.collector.NcdReportAuthorDeduplicator;
+import com.fortify.cli.license.ncd_report.config.NcdReportContributorConfig;
+import com.fortify.cli.license.ncd_report.descriptor.INcdReportAuthorDescriptor;
+import com.fortify.cli.license.ncd_report.descriptor.NcdReportProcessedAuthorDescriptor;
+import com.fortify.cli.license.ncd_report.descriptor.NcdReportProcessedAuthorDescriptor.NcdReportProcessedAuthorState;
+
+/**
+ * Benchmark for de-duplicating NCD report authors through {@link NcdReportAuthorDeduplicator}.
+ * The 'indexed' expression is the default duplicate expression from the NCD report 
+ * configuration, allowing authors to be indexed on the compared properties. The 'full' 
+ * expression is logically equivalent, but cannot be indexed, so every author is compared
+ * against all authors seen so far.
+ *
+ * @author Ruud Senden
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class NcdReportAuthorDeduplicatorBenchmark {
+    private static final String INDEXED_EXPRESSION = 
+            "a1.cleanName==a2.cleanName || a1.cleanEmailName==a2.cleanEmailName || a1.cleanName==a2.cleanEmailName";
+    private static final String FULL_EXPRESSION = 
+            "!(a1.cleanName!=a2.cleanName && a1.cleanEmailName!=a2.cleanEmailName && a1.cleanName!=a2.cleanEmailName)";
+    
+    @Param({"1000", "5000"}) public int authorCount;
+    @Param({"indexed", "full"}) public String expression;
+    private List<NcdReportProcessedAuthorDescriptor> authors;
+    private Optional<NcdReportContributorConfig> config;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new Random(0);
+        authors = new ArrayList<>(authorCount);
+        // Roughly 1 out of 3 authors is a duplicate of another author, either on name or email
+        var personCount = Math.max(1, authorCount*2/3);
+        for ( int i=1 ; i<=authorCount ; i++ ) {
+            var person = random.nextInt(personCount);
+            var name = random.nextBoolean() ? "First"+person+" Last"+person : "flast"+person;
+            var email = random.nextInt(4)==0 
+                    ? String.format("%d+user%d@users.noreply.github.com", 1000000+person, person)
+                    : String.format("first.last%d@company.com", person);
+            var author = new Author(name, email);
+            authors.add(new NcdReportProcessedAuthorDescriptor(author, NcdReportProcessedAuthorState.processed, i, author.toExpressionInput()));
+        }
+        var contributorConfig = new NcdReportContributorConfig();
+        contributorConfig.setDuplicateExpression(Optional.of("indexed".equals(expression) ? INDEXED_EXPRESSION : FULL_EXPRESSION));
+        config = Optional.of(contributorConfig);
+    }
+    
+    @Benchmark
+    public int deduplicate() {
+        var deduplicator = new NcdReportAuthorDeduplicator(config);
+        authors.forEach(deduplicator::addAuthor);
+        return deduplicator.getDeduplicatedAuthors().size();
+    }
+    
+    private static final class Author implements INcdReportAuthorDescriptor {
+        private final String name;
+        private final String email;
+        
+        private Author(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+        
+        @Override
+        public String getName() { return name; }
+        @Override
+        public String getEmail() { return email; }
+    }
+}
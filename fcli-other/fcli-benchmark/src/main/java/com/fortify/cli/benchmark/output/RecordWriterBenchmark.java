@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.output;
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fortify.cli.benchmark._common.AbstractRecordsBenchmark;
+import com.fortify.cli.common.output.writer.record.RecordWriterConfig;
+import com.fortify.cli.common.output.writer.record.RecordWriterFactory;
+import com.fortify.cli.common.output.writer.record.RecordWriterStyle;
+
+/**
+ * Benchmark for writing records in the various fcli output formats. Output is written to
+ * a null writer, so this benchmark measures record formatting only, not any I/O.
+ *
+ * @author Ruud Senden
+ */
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class RecordWriterBenchmark extends AbstractRecordsBenchmark {
+    @Param({"csv", "json", "table", "xml", "yaml"}) public String writer;
+    
+    @Benchmark
+    public void write() {
+        var config = RecordWriterConfig.builder()
+                .writerSupplier(Writer::nullWriter)
+                .style(RecordWriterStyle.none())
+                .args(null)
+                .build();
+        var recordWriter = RecordWriterFactory.valueOf(writer).createWriter(config);
+        try {
+            forEachRecord(recordWriter::append);
+        } finally {
+            recordWriter.close();
+        }
+    }
+}
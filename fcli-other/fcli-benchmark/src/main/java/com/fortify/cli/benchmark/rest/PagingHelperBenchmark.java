@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.rest;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fortify.cli.benchmark._common.AbstractRecordsBenchmark;
+import com.fortify.cli.common.json.JsonHelper;
+import com.fortify.cli.common.rest.paging.INextPageUrlProducer;
+import com.fortify.cli.common.rest.paging.LinkHeaderNextPageUrlProducerFactory;
+import com.fortify.cli.common.rest.paging.PagingHelper;
+import com.fortify.cli.common.rest.paging.PagingPipelineConfig;
+import com.fortify.cli.common.rest.unirest.UnirestHelper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import kong.unirest.UnirestInstance;
+
+/**
+ * Benchmark for loading and processing paged REST responses through {@link PagingHelper}, 
+ * comparing sequential paging against pipelined paging. Pages are served by a local
+ * HTTP server, with each page containing {@value #PAGE_SIZE} records and a Link header 
+ * pointing to the next page, similar to GitHub and GitLab REST APIs. As the local
+ * server responds almost instantly, this benchmark mostly measures client-side overhead
+ * and the overlap between JSON parsing and record processing; actual gains for remote
+ * systems are likely to be larger.
+ *
+ * @author Ruud Senden
+ */
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class PagingHelperBenchmark extends AbstractRecordsBenchmark {
+    private static final int PAGE_SIZE = 1000;
+    private static final INextPageUrlProducer NEXT_PAGE_URL_PRODUCER = LinkHeaderNextPageUrlProducerFactory.nextPageUrlProducer("Link", "next");
+    @Param({"0", "4"}) public int lookahead;
+    private final List<byte[]> pageContents = new ArrayList<>();
+    private int pageCount;
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private UnirestInstance unirest;
+    private String baseUrl;
+    
+    @Setup(Level.Trial)
+    public void setupServer() throws IOException {
+        var pool = getRecordPool();
+        for ( int i=0 ; i<pool.size() ; i+=PAGE_SIZE ) {
+            var page = JsonHelper.getObjectMapper().createObjectNode();
+            page.putArray("data").addAll(pool.subList(i, Math.min(i+PAGE_SIZE, pool.size())));
+            pageContents.add(page.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        pageCount = Math.max(1, (recordCount+PAGE_SIZE-1)/PAGE_SIZE);
+        serverExecutor = Executors.newFixedThreadPool(8, r->{
+            var t = new Thread(r, "fcli-benchmark-http");
+            t.setDaemon(true);
+            return t;
+        });
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/records", this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:"+server.getAddress().getPort()+"/records";
+        unirest = UnirestHelper.createUnirestInstance();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDownServer() {
+        if ( unirest!=null ) { unirest.close(); }
+        if ( server!=null ) { server.stop(0); }
+        if ( serverExecutor!=null ) { serverExecutor.shutdownNow(); }
+    }
+    
+    @Benchmark
+    public void processPages(Blackhole bh) {
+        var config = lookahead==0 ? PagingPipelineConfig.DISABLED : new PagingPipelineConfig(lookahead, 1);
+        PagingHelper.processPages(unirest, unirest.get(baseUrl+"?page=0"), NEXT_PAGE_URL_PRODUCER, 
+                r->processPage(bh, r.getBody()), config);
+    }
+    
+    private void processPage(Blackhole bh, JsonNode body) {
+        for ( var record : body.get("data") ) {
+            bh.consume(record.get("category").asText());
+        }
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try ( exchange ) {
+            var query = exchange.getRequestURI().getQuery();
+            var page = query==null ? 0 : Integer.parseInt(query.replaceAll(".*page=(\\d+).*", "$1"));
+            var content = pageContents.get(page%pageContents.size());
+            var headers = exchange.getResponseHeaders();
+            headers.add("Content-Type", "application/json");
+            // LinkHeaderNextPageUrlProducerFactory expects a Link header to be present on every page
+            headers.add("Link", page+1<pageCount 
+                    ? String.format("<%s?page=%d>; rel=\"next\"", baseUrl, page+1)
+                    : String.format("<%s?page=0>; rel=\"first\"", baseUrl));
+            exchange.sendResponseHeaders(200, content.length);
+            exchange.getResponseBody().write(content);
+        }
+    }
+}
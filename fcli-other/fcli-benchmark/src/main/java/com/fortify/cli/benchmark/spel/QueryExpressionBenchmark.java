@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021-2025 Open Text.
+ *
+ * The only warranties for products and services of Open Text
+ * and its affiliates and licensors ("Open Text") are as may
+ * be set forth in the express warranty statements accompanying
+ * such products and services. Nothing herein should be construed
+ * as constituting an additional warranty. Open Text shall not be
+ * liable for technical or editorial errors or omissions contained
+ * herein. The information contained herein is subject to change
+ * without notice.
+ */
+package com.fortify.cli.benchmark.spel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fortify.cli.benchmark._common.AbstractRecordsBenchmark;
+import com.fortify.cli.common.spel.query.QueryExpression;
+import com.fortify.cli.common.spel.query.QueryExpressionTypeConverter;
+
+/**
+ * Benchmark for evaluating --query expressions against records. Results depend
+ * on the {@code FCLI_SPEL_COMPILER_MODE} environment variable, allowing for 
+ * comparing interpreted and compiled SpEL evaluation.
+ *
+ * @author Ruud Senden
+ */
+@BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1) @Warmup(iterations = 2) @Measurement(iterations = 3)
+public class QueryExpressionBenchmark extends AbstractRecordsBenchmark {
+    @Param({"severity>=3 && !suppressed", "category matches '.*Injection.*'", "lineNumber<100 || primaryLocation=='pom.xml'"}) 
+    public String query;
+    private QueryExpression queryExpression;
+    
+    @Setup(Level.Trial)
+    public void setupQueryExpression() throws Exception {
+        queryExpression = new QueryExpressionTypeConverter().convert(query);
+    }
+    
+    @Benchmark
+    public void matches(Blackhole bh) {
+        forEachRecord(r->bh.consume(queryExpression.matches(r)));
+    }
+}
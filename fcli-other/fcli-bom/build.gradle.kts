@@ -28,6 +28,8 @@ dependencies {
         api("org.junit.jupiter:junit-jupiter-api:5.13.4")
         api("org.junit.jupiter:junit-jupiter-params:5.13.4")
         api("org.junit.jupiter:junit-jupiter-engine:5.13.4")
+        api("org.openjdk.jmh:jmh-core:1.37")
+        api("org.openjdk.jmh:jmh-generator-annprocess:1.37")
         api("org.apache.commons:commons-lang3:3.19.0")
         api("org.apache.commons:commons-compress:1.28.0")
         api("org.jsoup:jsoup:1.21.2")